@@ -0,0 +1,73 @@
+package com.duckblade.osrs.sailing.features.barracudatrials;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import net.runelite.api.coords.WorldArea;
+import net.runelite.api.coords.WorldPoint;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BarracudaTrialBenchmark
+{
+
+	private static final int POINT_COUNT = 1024;
+
+	private WorldPoint[] inTrials;
+	private WorldPoint[] outsideTrials;
+	private int next;
+
+	@Setup
+	public void setUp()
+	{
+		Random random = new Random(0);
+		BarracudaTrial[] trials = BarracudaTrial.values();
+		inTrials = new WorldPoint[POINT_COUNT];
+		outsideTrials = new WorldPoint[POINT_COUNT];
+		for (int i = 0; i < POINT_COUNT; i++)
+		{
+			WorldArea area = trials[random.nextInt(trials.length)].getArea();
+			inTrials[i] = new WorldPoint(area.getX() + random.nextInt(area.getWidth()), area.getY() + random.nextInt(area.getHeight()), 0);
+
+			WorldPoint wp;
+			do
+			{
+				wp = new WorldPoint(1000 + random.nextInt(2500), 2000 + random.nextInt(2000), 0);
+			}
+			while (BarracudaTrial.byLocation(wp) != null);
+			outsideTrials[i] = wp;
+		}
+	}
+
+	@Benchmark
+	public BarracudaTrial byLocationInTrial()
+	{
+		return BarracudaTrial.byLocation(inTrials[nextIndex()]);
+	}
+
+	@Benchmark
+	public BarracudaTrial byLocationOutsideTrials()
+	{
+		return BarracudaTrial.byLocation(outsideTrials[nextIndex()]);
+	}
+
+	private int nextIndex()
+	{
+		next = (next + 1) & (POINT_COUNT - 1);
+		return next;
+	}
+
+}
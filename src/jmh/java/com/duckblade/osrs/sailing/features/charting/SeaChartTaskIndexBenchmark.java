@@ -0,0 +1,94 @@
+package com.duckblade.osrs.sailing.features.charting;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import net.runelite.api.coords.WorldPoint;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Nearby task searches, as done for every chartable object/NPC spawn that isn't an exact location match.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SeaChartTaskIndexBenchmark
+{
+
+	private static final int POINT_COUNT = 1024;
+
+	@Param({"1", "5"})
+	public int distance;
+
+	private final SeaChartTaskIndex index = new SeaChartTaskIndex();
+
+	private WorldPoint[] nearTasks;
+	private WorldPoint[] openSea;
+	private int next;
+
+	@Setup
+	public void setUp()
+	{
+		index.startUp();
+
+		List<WorldPoint> locations = new ArrayList<>();
+		for (SeaChartTask task : SeaChartTask.values())
+		{
+			if (task.getLocation() != null)
+			{
+				locations.add(task.getLocation());
+			}
+		}
+
+		Random random = new Random(0);
+		nearTasks = new WorldPoint[POINT_COUNT];
+		openSea = new WorldPoint[POINT_COUNT];
+		for (int i = 0; i < POINT_COUNT; i++)
+		{
+			WorldPoint wp = locations.get(random.nextInt(locations.size()));
+			nearTasks[i] = wp.dx(random.nextInt(2 * distance + 1) - distance).dy(random.nextInt(2 * distance + 1) - distance);
+			openSea[i] = new WorldPoint(1000 + random.nextInt(2500), 2000 + random.nextInt(2000), 0);
+		}
+	}
+
+	@Benchmark
+	public SeaChartTask findNearTask()
+	{
+		return index.findTask(nearTasks[nextIndex()], distance, t -> true);
+	}
+
+	@Benchmark
+	public SeaChartTask findNearTaskFiltered()
+	{
+		Predicate<SeaChartTask> filter = t -> t.getObjectId() != -1;
+		return index.findTask(nearTasks[nextIndex()], distance, filter);
+	}
+
+	@Benchmark
+	public SeaChartTask findOpenSea()
+	{
+		return index.findTask(openSea[nextIndex()], distance, t -> true);
+	}
+
+	private int nextIndex()
+	{
+		next = (next + 1) & (POINT_COUNT - 1);
+		return next;
+	}
+
+}
@@ -0,0 +1,73 @@
+package com.duckblade.osrs.sailing.features.facilities;
+
+import com.google.common.collect.HashMultiset;
+import com.google.common.collect.Multiset;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Inventory snapshot diffing applied to the cargo hold after a withdraw/deposit click.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CargoHoldDeltaBenchmark
+{
+
+	private static final int INVENTORY_SIZE = 28;
+
+	// number of inventory slots that change between snapshots
+	@Param({"1", "14", "28"})
+	public int changedSlots;
+
+	private Multiset<Integer> oldInventory;
+	private Multiset<Integer> newInventory;
+	private Multiset<Integer> cargoHold;
+
+	@Setup
+	public void setUp()
+	{
+		Random random = new Random(0);
+		oldInventory = HashMultiset.create();
+		newInventory = HashMultiset.create();
+		for (int i = 0; i < INVENTORY_SIZE; i++)
+		{
+			int item = 32000 + random.nextInt(8);
+			oldInventory.add(item);
+			newInventory.add(i < changedSlots ? 33000 + random.nextInt(8) : item);
+		}
+		cargoHold = HashMultiset.create(newInventory);
+	}
+
+	/**
+	 * Baseline for {@link #applyInventoryDelta()}, which must copy the hold to keep it from drifting between invocations.
+	 */
+	@Benchmark
+	public Multiset<Integer> copyCargoHold()
+	{
+		return HashMultiset.create(cargoHold);
+	}
+
+	@Benchmark
+	public Multiset<Integer> applyInventoryDelta()
+	{
+		Multiset<Integer> hold = HashMultiset.create(cargoHold);
+		CargoHoldTracker.applyInventoryDelta(hold, oldInventory, newInventory);
+		return hold;
+	}
+
+}
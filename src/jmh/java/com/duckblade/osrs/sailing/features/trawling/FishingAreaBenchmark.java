@@ -0,0 +1,97 @@
+package com.duckblade.osrs.sailing.features.trawling;
+
+import com.duckblade.osrs.sailing.model.FishingAreaType;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import net.runelite.api.coords.WorldArea;
+import net.runelite.api.coords.WorldPoint;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Location -> fishing area lookups, done by the trawling components every tick and frame while sailing.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FishingAreaBenchmark
+{
+
+	private static final int POINT_COUNT = 1024;
+
+	private WorldPoint[] inAreas;
+	private WorldPoint[] outsideAreas;
+	private int next;
+
+	@Setup
+	public void setUp()
+	{
+		Random random = new Random(0);
+		inAreas = new WorldPoint[POINT_COUNT];
+		outsideAreas = new WorldPoint[POINT_COUNT];
+		for (int i = 0; i < POINT_COUNT; i++)
+		{
+			WorldArea area = ShoalFishingArea.AREAS[random.nextInt(ShoalFishingArea.AREAS.length)].getArea();
+			inAreas[i] = new WorldPoint(area.getX() + random.nextInt(area.getWidth()), area.getY() + random.nextInt(area.getHeight()), 0);
+
+			WorldPoint wp;
+			do
+			{
+				wp = new WorldPoint(1000 + random.nextInt(2500), 2000 + random.nextInt(2000), 0);
+			}
+			while (TrawlingData.FishingAreas.getFishingAreaType(wp) != null);
+			outsideAreas[i] = wp;
+		}
+	}
+
+	@Benchmark
+	public FishingAreaType areaTypeInArea()
+	{
+		return TrawlingData.FishingAreas.getFishingAreaType(inAreas[nextIndex()]);
+	}
+
+	@Benchmark
+	public FishingAreaType areaTypeOutsideAreas()
+	{
+		return TrawlingData.FishingAreas.getFishingAreaType(outsideAreas[nextIndex()]);
+	}
+
+	@Benchmark
+	public int stopDurationInArea()
+	{
+		return TrawlingData.FishingAreas.getStopDurationForLocation(inAreas[nextIndex()]);
+	}
+
+	@Benchmark
+	public ShoalFishingArea linearScanOutsideAreas()
+	{
+		// the lookup before FishingAreaIndex, for comparison
+		WorldPoint wp = outsideAreas[nextIndex()];
+		for (ShoalFishingArea area : ShoalFishingArea.AREAS)
+		{
+			if (area.contains(wp))
+			{
+				return area;
+			}
+		}
+		return null;
+	}
+
+	private int nextIndex()
+	{
+		next = (next + 1) & (POINT_COUNT - 1);
+		return next;
+	}
+
+}
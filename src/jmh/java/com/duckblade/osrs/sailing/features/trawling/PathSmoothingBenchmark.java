@@ -0,0 +1,42 @@
+package com.duckblade.osrs.sailing.features.trawling;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PathSmoothingBenchmark
+{
+
+	@Param({"PORT_ROBERTS", "RAINBOW_REEF", "BRITTLE_ISLE"})
+	public ShoalFishingArea route;
+
+	private ShoalWaypoint[] waypoints;
+
+	@Setup
+	public void setUp()
+	{
+		waypoints = ShoalWaypoint.fromRoute(route.getRoute());
+	}
+
+	@Benchmark
+	public ShoalWaypoint[] smoothPath()
+	{
+		return PathSmoothingUtil.smoothPath(waypoints);
+	}
+
+}
@@ -0,0 +1,157 @@
+package com.duckblade.osrs.sailing.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Game object id -> facility tier lookups, as done by BoatTracker for every object spawned on a boat.
+ * <p>
+ * {@code hits} controls whether the ids are facility ids or unrelated scenery (the common case at sea).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FacilityTierBenchmark
+{
+
+	private static final int ID_COUNT = 1024;
+
+	@Param({"true", "false"})
+	public boolean hits;
+
+	private int[] ids;
+	private int next;
+
+	@Setup
+	public void setUp()
+	{
+		List<Integer> facilityIds = new ArrayList<>();
+		for (HullTier t : HullTier.values())
+		{
+			addAll(facilityIds, t.getGameObjectIds());
+		}
+		for (SailTier t : SailTier.values())
+		{
+			addAll(facilityIds, t.getGameObjectIds());
+		}
+		for (HelmTier t : HelmTier.values())
+		{
+			addAll(facilityIds, t.getGameObjectIds());
+		}
+		for (SalvagingHookTier t : SalvagingHookTier.values())
+		{
+			addAll(facilityIds, t.getGameObjectIds());
+		}
+		for (CargoHoldTier t : CargoHoldTier.values())
+		{
+			addAll(facilityIds, t.getGameObjectIds());
+		}
+		for (ChumStationTier t : ChumStationTier.values())
+		{
+			addAll(facilityIds, t.getGameObjectIds());
+		}
+		for (FishingNetTier t : FishingNetTier.values())
+		{
+			addAll(facilityIds, t.getGameObjectIds());
+		}
+		for (CannonTier t : CannonTier.values())
+		{
+			addAll(facilityIds, t.getGameObjectIds());
+		}
+		for (WindCatcherTier t : WindCatcherTier.values())
+		{
+			addAll(facilityIds, t.getGameObjectIds());
+		}
+
+		Random random = new Random(0);
+		ids = new int[ID_COUNT];
+		for (int i = 0; i < ID_COUNT; i++)
+		{
+			if (hits)
+			{
+				ids[i] = facilityIds.get(random.nextInt(facilityIds.size()));
+			}
+			else
+			{
+				int id;
+				do
+				{
+					id = random.nextInt(60_000);
+				}
+				while (facilityIds.contains(id));
+				ids[i] = id;
+			}
+		}
+	}
+
+	@Benchmark
+	public HullTier hullTier()
+	{
+		return HullTier.fromGameObjectId(nextId());
+	}
+
+	@Benchmark
+	public SalvagingHookTier salvagingHookTier()
+	{
+		return SalvagingHookTier.fromGameObjectId(nextId());
+	}
+
+	/**
+	 * Every per-tier lookup, as BoatTracker used to make for a single spawned object.
+	 */
+	@Benchmark
+	public void allTiers(Blackhole bh)
+	{
+		int id = nextId();
+		bh.consume(HullTier.fromGameObjectId(id));
+		bh.consume(SailTier.fromGameObjectId(id));
+		bh.consume(HelmTier.fromGameObjectId(id));
+		bh.consume(SalvagingHookTier.fromGameObjectId(id));
+		bh.consume(CargoHoldTier.fromGameObjectId(id));
+		bh.consume(ChumStationTier.fromGameObjectId(id));
+		bh.consume(FishingNetTier.fromGameObjectId(id));
+		bh.consume(CannonTier.fromGameObjectId(id));
+		bh.consume(WindCatcherTier.fromGameObjectId(id));
+	}
+
+	/**
+	 * The single probe BoatTracker now makes for a spawned object.
+	 */
+	@Benchmark
+	public FacilityLookup.Facility lookup()
+	{
+		return FacilityLookup.lookup(nextId());
+	}
+
+	private int nextId()
+	{
+		next = (next + 1) & (ID_COUNT - 1);
+		return ids[next];
+	}
+
+	private static void addAll(List<Integer> to, int[] ids)
+	{
+		for (int id : ids)
+		{
+			to.add(id);
+		}
+	}
+
+}
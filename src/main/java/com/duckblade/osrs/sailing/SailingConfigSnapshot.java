@@ -0,0 +1,62 @@
+package com.duckblade.osrs.sailing;
+
+import java.awt.Color;
+import lombok.Value;
+
+/**
+ * Immutable copy of the config values read on every frame.
+ * Each read from {@link SailingConfig} goes through a proxy and a ConfigManager lookup,
+ * which adds up in render(), so overlays read these plain fields instead.
+ * <p>
+ * Obtain the current snapshot from {@link com.duckblade.osrs.sailing.module.ConfigSnapshotTracker},
+ * which rebuilds it whenever the config changes.
+ */
+@Value
+public class SailingConfigSnapshot
+{
+
+	// navigation
+	boolean highlightRapids;
+	boolean highlightLightningCloudStrikes;
+
+	// facilities
+	boolean highlightTrimmableSails;
+	SailingConfig.SailHighlightMode sailHighlightMode;
+
+	// trawling
+	boolean trawlingHighlightShoals;
+	Color trawlingShoalHighlightColour;
+	boolean trawlingShowNetDepthTimer;
+	Color trawlingShoalPathColour;
+	boolean trawlingShowShoalDirectionArrows;
+
+	// charting
+	SailingConfig.ShowChartsMode showCharts;
+
+	// courier
+	boolean courierItemShowPickupOverlay;
+	Color courierItemPickupOverlayColor;
+	boolean courierItemShowDropOffOverlay;
+	Color courierItemDropOffOverlayColor;
+
+	public static SailingConfigSnapshot of(SailingConfig config)
+	{
+		return new SailingConfigSnapshot(
+			config.highlightRapids(),
+			config.highlightLightningCloudStrikes(),
+			config.highlightTrimmableSails(),
+			config.sailHighlightMode(),
+			config.trawlingHighlightShoals(),
+			config.trawlingShoalHighlightColour(),
+			config.trawlingShowNetDepthTimer(),
+			config.trawlingShoalPathColour(),
+			config.trawlingShowShoalDirectionArrows(),
+			config.showCharts(),
+			config.courierItemShowPickupOverlay(),
+			config.courierItemPickupOverlayColor(),
+			config.courierItemShowDropOffOverlay(),
+			config.courierItemDropOffOverlayColor()
+		);
+	}
+
+}
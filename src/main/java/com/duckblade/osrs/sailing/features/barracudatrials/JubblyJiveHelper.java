@@ -1,7 +1,8 @@
 package com.duckblade.osrs.sailing.features.barracudatrials;
 
 import com.duckblade.osrs.sailing.SailingConfig;
-import com.duckblade.osrs.sailing.features.util.SailingUtil;
+import com.duckblade.osrs.sailing.features.util.SceneObjectRegistry;
+import com.duckblade.osrs.sailing.module.ActivationScope;
 import com.duckblade.osrs.sailing.module.PluginLifecycleComponent;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
@@ -10,7 +11,6 @@ import java.awt.Color;
 import java.awt.Dimension;
 import java.awt.Graphics2D;
 import java.awt.Shape;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
 import javax.inject.Inject;
@@ -18,15 +18,9 @@ import javax.inject.Singleton;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.Client;
 import net.runelite.api.GameObject;
-import net.runelite.api.events.GameObjectDespawned;
-import net.runelite.api.events.GameObjectSpawned;
-import net.runelite.api.events.GameTick;
-import net.runelite.api.events.WorldViewUnloaded;
 import net.runelite.api.gameval.InterfaceID;
 import net.runelite.api.gameval.ObjectID;
-import net.runelite.api.gameval.VarbitID;
 import net.runelite.api.widgets.Widget;
-import net.runelite.client.eventbus.Subscribe;
 import net.runelite.client.ui.overlay.Overlay;
 import net.runelite.client.ui.overlay.OverlayLayer;
 import net.runelite.client.ui.overlay.OverlayPosition;
@@ -65,17 +59,18 @@ public class JubblyJiveHelper
 		.put(ObjectID.SAILING_BT_JUBBLY_JIVE_PILLAR_CLICKBOX_7_PARENT, new Color(0xA69FA9))
 		.build();
 
-	private final Client client;
-
-	// realized version of OUTCROP_WIDGET_CHILDREN_IDS
-	private final Map<GameObject, Integer> outcrops = new HashMap<>();
+	private static final ActivationScope SCOPE = ActivationScope.BARRACUDA_TRIAL
+		.and(ActivationScope.inAreas(BarracudaTrial.JUBBLY_JIVE.getArea()));
 
-	private boolean active;
+	private final Client client;
+	private final SceneObjectRegistry sceneObjectRegistry;
 
 	@Inject
-	public JubblyJiveHelper(Client client)
+	public JubblyJiveHelper(Client client, SceneObjectRegistry sceneObjectRegistry)
 	{
 		this.client = client;
+		this.sceneObjectRegistry = sceneObjectRegistry;
+		sceneObjectRegistry.trackGameObjects(OUTCROP_WIDGET_CHILDREN_IDS.keySet());
 
 		setPosition(OverlayPosition.DYNAMIC);
 		setLayer(OverlayLayer.ABOVE_SCENE);
@@ -87,64 +82,36 @@ public class JubblyJiveHelper
 		return config.barracudaJubblyJiveShowToadyTargets();
 	}
 
-	@Subscribe
-	public void onGameTick(GameTick e)
-	{
-		boolean nowActive = client.getVarbitValue(VarbitID.SAILING_BT_IN_TRIAL) != 0 &&
-			SailingUtil.isSailing(client) &&
-			BarracudaTrial.JUBBLY_JIVE.getArea().contains(SailingUtil.getTopLevelWorldPoint(client));
-
-		if (active != nowActive)
-		{
-			log.debug("doing jubbly jive = {}", nowActive);
-			active = nowActive;
-		}
-	}
-
-	@Subscribe
-	public void onGameObjectSpawned(GameObjectSpawned e)
+	@Override
+	public ActivationScope getActivationScope()
 	{
-		GameObject o = e.getGameObject();
-		Integer childIndex = OUTCROP_WIDGET_CHILDREN_IDS.get(o.getId());
-		if (childIndex != null)
-		{
-			outcrops.put(o, childIndex);
-		}
+		return SCOPE;
 	}
 
-	@Subscribe
-	public void onGameObjectDespawned(GameObjectDespawned e)
+	@Override
+	public void startUp()
 	{
-		outcrops.remove(e.getGameObject());
+		log.debug("doing jubbly jive = true");
 	}
 
-	@Subscribe
-	public void onWorldViewUnloaded(WorldViewUnloaded e)
+	@Override
+	public void shutDown()
 	{
-		if (e.getWorldView().isTopLevel())
-		{
-			outcrops.clear();
-		}
+		log.debug("doing jubbly jive = false");
 	}
 
 	@Override
 	public Dimension render(Graphics2D graphics)
 	{
-		if (!active)
-		{
-			return null;
-		}
-
 		Widget widget = client.getWidget(InterfaceID.SailingBtHud.BT_MIDDLE_CONTENT);
 		if (widget == null)
 		{
 			return null;
 		}
 
-		for (Map.Entry<GameObject, Integer> o : outcrops.entrySet())
+		for (Map.Entry<Integer, Integer> outcrop : OUTCROP_WIDGET_CHILDREN_IDS.entrySet())
 		{
-			GameObject obj = o.getKey();
-			int childIx = o.getValue();
+			int childIx = outcrop.getValue();
 
 			// if we're on the final jubbly, only render the outcrops in front of the jubbly
 			if (getJubbliesRemaining() == 1 && childIx <= getJubblyLocation())
@@ -159,14 +126,17 @@ public class JubblyJiveHelper
 				continue;
 			}
 
-			Shape convexHull = obj.getConvexHull();
-			if (convexHull != null)
+			for (GameObject obj : sceneObjectRegistry.getGameObjects(outcrop.getKey()))
 			{
-				graphics.setStroke(new BasicStroke(2));
-				graphics.setColor(new Color(0, 0, 0, 50));
-				graphics.fill(convexHull);
-				graphics.setColor(OUTCROP_HIGHLIGHT_COLOURS.get(obj.getId()));
-				graphics.draw(convexHull);
+				Shape convexHull = obj.getConvexHull();
+				if (convexHull != null)
+				{
+					graphics.setStroke(new BasicStroke(2));
+					graphics.setColor(new Color(0, 0, 0, 50));
+					graphics.fill(convexHull);
+					graphics.setColor(OUTCROP_HIGHLIGHT_COLOURS.get(obj.getId()));
+					graphics.draw(convexHull);
+				}
 			}
 		}
 
@@ -2,12 +2,13 @@ package com.duckblade.osrs.sailing.features.barracudatrials;
 
 import com.duckblade.osrs.sailing.SailingConfig;
 import com.duckblade.osrs.sailing.features.util.SailingUtil;
+import com.duckblade.osrs.sailing.features.util.SceneObjectRegistry;
+import com.duckblade.osrs.sailing.module.ActivationScope;
 import com.duckblade.osrs.sailing.module.PluginLifecycleComponent;
 import com.google.common.collect.ImmutableSet;
 import java.awt.Color;
 import java.awt.Dimension;
 import java.awt.Graphics2D;
-import java.util.HashSet;
 import java.util.Set;
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -16,11 +17,7 @@ import net.runelite.api.Client;
 import net.runelite.api.GameObject;
 import net.runelite.api.ObjectComposition;
 import net.runelite.api.Perspective;
-import net.runelite.api.events.GameObjectDespawned;
-import net.runelite.api.events.GameObjectSpawned;
-import net.runelite.api.events.WorldViewUnloaded;
 import net.runelite.api.gameval.ObjectID;
-import net.runelite.client.eventbus.Subscribe;
 import net.runelite.client.ui.overlay.Overlay;
 import net.runelite.client.ui.overlay.OverlayLayer;
 import net.runelite.client.ui.overlay.OverlayPosition;
@@ -226,13 +223,14 @@ public class LostCargoHighlighter
 
 	private final Client client;
 
-	private final Set<GameObject> lostCargo = new HashSet<>();
+	private final Set<GameObject> lostCargo;
 	private Color crateColour;
 
 	@Inject
-	public LostCargoHighlighter(Client client)
+	public LostCargoHighlighter(Client client, SceneObjectRegistry sceneObjectRegistry)
 	{
 		this.client = client;
+		this.lostCargo = sceneObjectRegistry.trackGameObjects(LOST_CARGO_IDS);
 
 		setPosition(OverlayPosition.DYNAMIC);
 		setLayer(OverlayLayer.ABOVE_SCENE);
@@ -246,34 +244,9 @@ public class LostCargoHighlighter
 	}
 
 	@Override
-	public void shutDown()
+	public ActivationScope getActivationScope()
 	{
-		lostCargo.clear();
-	}
-
-	@Subscribe
-	public void onWorldViewUnloaded(WorldViewUnloaded e)
-	{
-		if (e.getWorldView().isTopLevel())
-		{
-			lostCargo.clear();
-		}
-	}
-
-	@Subscribe
-	public void onGameObjectSpawned(GameObjectSpawned e)
-	{
-		GameObject o = e.getGameObject();
-		if (LOST_CARGO_IDS.contains(o.getId()))
-		{
-			lostCargo.add(o);
-		}
-	}
-
-	@Subscribe
-	public void onGameObjectDespawned(GameObjectDespawned e)
-	{
-		lostCargo.remove(e.getGameObject());
+		return ActivationScope.BARRACUDA_TRIAL;
 	}
 
 	@Override
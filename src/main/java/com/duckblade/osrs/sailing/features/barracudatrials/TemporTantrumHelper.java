@@ -1,27 +1,24 @@
 package com.duckblade.osrs.sailing.features.barracudatrials;
 
 import com.duckblade.osrs.sailing.SailingConfig;
-import com.duckblade.osrs.sailing.features.util.SailingUtil;
+import com.duckblade.osrs.sailing.features.util.SceneObjectRegistry;
+import com.duckblade.osrs.sailing.module.ActivationScope;
 import com.duckblade.osrs.sailing.module.PluginLifecycleComponent;
+import com.google.common.collect.ImmutableSet;
 import java.awt.BasicStroke;
 import java.awt.Color;
 import java.awt.Dimension;
 import java.awt.Graphics2D;
 import java.awt.Shape;
+import java.util.Set;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.Client;
 import net.runelite.api.GameObject;
-import net.runelite.api.events.GameObjectDespawned;
-import net.runelite.api.events.GameObjectSpawned;
-import net.runelite.api.events.GameTick;
-import net.runelite.api.events.WorldViewUnloaded;
 import net.runelite.api.gameval.InterfaceID;
 import net.runelite.api.gameval.ObjectID;
-import net.runelite.api.gameval.VarbitID;
 import net.runelite.api.widgets.Widget;
-import net.runelite.client.eventbus.Subscribe;
 import net.runelite.client.ui.overlay.Overlay;
 import net.runelite.client.ui.overlay.OverlayLayer;
 import net.runelite.client.ui.overlay.OverlayPosition;
@@ -37,17 +34,23 @@ public class TemporTantrumHelper
 
 	private static final Color COLOUR_RUM = new Color(0xB24727);
 
-	private final Client client;
+	private static final Set<Integer> RUM_OBJECT_IDS = ImmutableSet.of(
+		ObjectID.SAILING_BT_TEMPOR_TANTRUM_SOUTH_LOC_PARENT,
+		ObjectID.SAILING_BT_TEMPOR_TANTRUM_NORTH_LOC_PARENT
+	);
 
-	private boolean active;
+	private static final ActivationScope SCOPE = ActivationScope.BARRACUDA_TRIAL
+		.and(ActivationScope.inAreas(BarracudaTrial.TEMPOR_TANTRUM.getArea()));
 
-	private GameObject pickUp;
-	private GameObject dropOff;
+	private final Client client;
+	private final SceneObjectRegistry sceneObjectRegistry;
 
 	@Inject
-	public TemporTantrumHelper(Client client)
+	public TemporTantrumHelper(Client client, SceneObjectRegistry sceneObjectRegistry)
 	{
 		this.client = client;
+		this.sceneObjectRegistry = sceneObjectRegistry;
+		sceneObjectRegistry.trackGameObjects(RUM_OBJECT_IDS);
 
 		setPosition(OverlayPosition.DYNAMIC);
 		setLayer(OverlayLayer.ABOVE_SCENE);
@@ -59,86 +62,43 @@ public class TemporTantrumHelper
 		return config.barracudaTemporTantrumShowRumTarget();
 	}
 
-	@Subscribe
-	public void onGameTick(GameTick e)
-	{
-		boolean nowActive = client.getVarbitValue(VarbitID.SAILING_BT_IN_TRIAL) != 0 &&
-			SailingUtil.isSailing(client) &&
-			BarracudaTrial.TEMPOR_TANTRUM.getArea().contains(SailingUtil.getTopLevelWorldPoint(client));
-
-		if (active != nowActive)
-		{
-			log.debug("doing tempor tantrum = {}", nowActive);
-			active = nowActive;
-		}
-	}
-
-	@Subscribe
-	public void onGameObjectSpawned(GameObjectSpawned e)
+	@Override
+	public ActivationScope getActivationScope()
 	{
-		GameObject o = e.getGameObject();
-		if (o.getId() == ObjectID.SAILING_BT_TEMPOR_TANTRUM_SOUTH_LOC_PARENT)
-		{
-			pickUp = o;
-		}
-		if (o.getId() == ObjectID.SAILING_BT_TEMPOR_TANTRUM_NORTH_LOC_PARENT)
-		{
-			dropOff = o;
-		}
+		return SCOPE;
 	}
 
-	@Subscribe
-	public void onGameObjectDespawned(GameObjectDespawned e)
+	@Override
+	public void startUp()
 	{
-		if (e.getGameObject() == pickUp)
-		{
-			pickUp = null;
-		}
-		if (e.getGameObject() == dropOff)
-		{
-			dropOff = null;
-		}
+		log.debug("doing tempor tantrum = true");
 	}
 
-	@Subscribe
-	public void onWorldViewUnloaded(WorldViewUnloaded e)
+	@Override
+	public void shutDown()
 	{
-		if (pickUp != null && pickUp.getWorldView() == e.getWorldView())
-		{
-			pickUp = null;
-		}
-		if (dropOff != null && dropOff.getWorldView() == e.getWorldView())
-		{
-			dropOff = null;
-		}
+		log.debug("doing tempor tantrum = false");
 	}
 
 	@Override
 	public Dimension render(Graphics2D graphics)
 	{
-		if (!active)
+		int targetId = hasRum() ? ObjectID.SAILING_BT_TEMPOR_TANTRUM_NORTH_LOC_PARENT : ObjectID.SAILING_BT_TEMPOR_TANTRUM_SOUTH_LOC_PARENT;
+		for (GameObject target : sceneObjectRegistry.getGameObjects(targetId))
 		{
-			return null;
+			Shape hull = target.getConvexHull();
+			if (hull == null)
+			{
+				continue;
+			}
+
+			graphics.setColor(new Color(0, 0, 0, 50));
+			graphics.setStroke(new BasicStroke(2));
+			graphics.fill(hull);
+			graphics.setColor(COLOUR_RUM);
+			graphics.draw(hull);
 		}
 
-		GameObject target = hasRum() ? dropOff : pickUp;
-		if (target == null)
-		{
-			return null;
-		}
-
-		Shape hull = target.getConvexHull();
-		if (hull == null)
-		{
-			return null;
-		}
-
-		graphics.setColor(new Color(0, 0, 0, 50));
-		graphics.setStroke(new BasicStroke(2));
-		graphics.fill(hull);
-		graphics.setColor(COLOUR_RUM);
-		graphics.draw(hull);
-
 		return null;
 	}
 
@@ -1,6 +1,7 @@
 package com.duckblade.osrs.sailing.features.charting;
 
 import com.duckblade.osrs.sailing.SailingConfig;
+import com.duckblade.osrs.sailing.features.util.FrameContext;
 import com.duckblade.osrs.sailing.features.util.SailingUtil;
 import com.duckblade.osrs.sailing.module.PluginLifecycleComponent;
 import com.google.common.annotations.VisibleForTesting;
@@ -425,15 +426,17 @@ public class MermaidTaskSolver
 
 	private final Client client;
 	private final SeaChartTaskIndex taskIndex;
+	private final FrameContext frameContext;
 
 	private SeaChartTask task;
 	private Map<String, Integer> solution;
 
 	@Inject
-	public MermaidTaskSolver(Client client, SeaChartTaskIndex taskIndex)
+	public MermaidTaskSolver(Client client, SeaChartTaskIndex taskIndex, FrameContext frameContext)
 	{
 		this.client = client;
 		this.taskIndex = taskIndex;
+		this.frameContext = frameContext;
 
 		setPreferredPosition(OverlayPosition.ABOVE_CHATBOX_RIGHT);
 	}
@@ -517,7 +520,7 @@ public class MermaidTaskSolver
 	@Override
 	public Dimension render(Graphics2D graphics)
 	{
-		if (solution == null || !SailingUtil.isSailing(client))
+		if (solution == null || !frameContext.isSailing())
 		{
 			return null;
 		}
@@ -1,14 +1,19 @@
 package com.duckblade.osrs.sailing.features.charting;
 
 import com.duckblade.osrs.sailing.SailingConfig;
+import com.duckblade.osrs.sailing.module.ConfigSnapshotTracker;
+import com.duckblade.osrs.sailing.module.GameObjectSpawnListener;
 import com.duckblade.osrs.sailing.module.PluginLifecycleComponent;
+import com.google.common.collect.ImmutableSet;
 import java.awt.Color;
 import java.awt.Dimension;
 import java.awt.Graphics2D;
 import java.awt.Polygon;
 import java.awt.image.BufferedImage;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import lombok.extern.slf4j.Slf4j;
@@ -36,12 +41,17 @@ import net.runelite.client.ui.overlay.OverlayUtil;
 @Singleton
 public class SeaChartOverlay
 	extends Overlay
-	implements PluginLifecycleComponent
+	implements PluginLifecycleComponent, GameObjectSpawnListener
 {
 
+	private static final Set<Integer> CHART_OBJECT_IDS = Arrays.stream(SeaChartTask.values())
+		.map(SeaChartTask::getObjectId)
+		.filter(id -> id != -1)
+		.collect(ImmutableSet.toImmutableSet());
+
 	private final Client client;
 	private final ItemManager itemManager;
-	private final SailingConfig config;
+	private final ConfigSnapshotTracker configSnapshotTracker;
 	private final SeaChartTaskIndex taskIndex;
 	private final WeatherTaskTracker weatherTaskTracker;
 
@@ -56,14 +66,14 @@ public class SeaChartOverlay
 	public SeaChartOverlay(
 		Client client,
 		ItemManager itemManager,
-		SailingConfig config,
+		ConfigSnapshotTracker configSnapshotTracker,
 		SeaChartTaskIndex taskIndex,
 		WeatherTaskTracker weatherTaskTracker
 	)
 	{
 		this.client = client;
 		this.itemManager = itemManager;
-		this.config = config;
+		this.configSnapshotTracker = configSnapshotTracker;
 		this.taskIndex = taskIndex;
 		this.weatherTaskTracker = weatherTaskTracker;
 
@@ -89,7 +99,7 @@ public class SeaChartOverlay
 	@Override
 	public Dimension render(Graphics2D g)
 	{
-		SailingConfig.ShowChartsMode mode = config.showCharts();
+		SailingConfig.ShowChartsMode mode = configSnapshotTracker.getSnapshot().getShowCharts();
 		if (mode == SailingConfig.ShowChartsMode.NONE)
 		{
 			return null;
@@ -159,7 +169,13 @@ public class SeaChartOverlay
 		}
 	}
 
-	@Subscribe
+	@Override
+	public Set<Integer> getGameObjectIds()
+	{
+		return CHART_OBJECT_IDS;
+	}
+
+	@Override
 	public void onGameObjectSpawned(GameObjectSpawned e)
 	{
 		GameObject o = e.getGameObject();
@@ -170,7 +186,7 @@ public class SeaChartOverlay
 		}
 	}
 
-	@Subscribe
+	@Override
 	public void onGameObjectDespawned(GameObjectDespawned e)
 	{
 		chartObjects.remove(e.getGameObject());
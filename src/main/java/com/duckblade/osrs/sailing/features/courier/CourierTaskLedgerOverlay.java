@@ -1,10 +1,11 @@
 package com.duckblade.osrs.sailing.features.courier;
 
 import com.duckblade.osrs.sailing.SailingConfig;
+import com.duckblade.osrs.sailing.SailingConfigSnapshot;
 import com.duckblade.osrs.sailing.model.CourierTask;
 import com.duckblade.osrs.sailing.model.Port;
+import com.duckblade.osrs.sailing.module.ConfigSnapshotTracker;
 import com.duckblade.osrs.sailing.module.PluginLifecycleComponent;
-import java.awt.Color;
 import java.awt.Dimension;
 import java.awt.Graphics2D;
 import java.awt.Shape;
@@ -25,18 +26,15 @@ public class CourierTaskLedgerOverlay
 	implements PluginLifecycleComponent
 {
 
-	private final SailingConfig config;
+	private final ConfigSnapshotTracker configSnapshotTracker;
 	private final CourierTaskTracker taskTracker;
 
-	private Color ledgerPickupColour;
-	private Color ledgerDropOffColour;
-
 	@Inject
-	public CourierTaskLedgerOverlay(SailingConfig config, CourierTaskTracker taskTracker)
+	public CourierTaskLedgerOverlay(ConfigSnapshotTracker configSnapshotTracker, CourierTaskTracker taskTracker)
 	{
 		super();
 		this.taskTracker = taskTracker;
-		this.config = config;
+		this.configSnapshotTracker = configSnapshotTracker;
 
 		setPosition(OverlayPosition.DYNAMIC);
 		setLayer(OverlayLayer.ABOVE_SCENE);
@@ -45,8 +43,6 @@ public class CourierTaskLedgerOverlay
 	@Override
 	public boolean isEnabled(SailingConfig config)
 	{
-		ledgerPickupColour = config.courierItemPickupOverlayColor();
-		ledgerDropOffColour = config.courierItemDropOffOverlayColor();
 		return config.courierItemShowDropOffOverlay() || config.courierItemShowPickupOverlay();
 	}
 
@@ -66,18 +62,19 @@ public class CourierTaskLedgerOverlay
 			return null;
 		}
 
+		SailingConfigSnapshot config = configSnapshotTracker.getSnapshot();
 		List<CourierTask> pickupTasks = taskTracker.getPickupTasksForPort(activePort);
 		boolean allCargoRetrieved = pickupTasks.stream().allMatch(CourierTask::hasRetrievedAllCargo);
-		if (!allCargoRetrieved && config.courierItemShowPickupOverlay())
+		if (!allCargoRetrieved && config.isCourierItemShowPickupOverlay())
 		{
-			OverlayUtil.renderPolygon(graphics, hull, ledgerPickupColour);
+			OverlayUtil.renderPolygon(graphics, hull, config.getCourierItemPickupOverlayColor());
 		}
 
 		List<CourierTask> dropOffTasks = taskTracker.getDropOffTasksForPort(activePort);
 		boolean allCargoDelivered = dropOffTasks.stream().allMatch(CourierTask::hasDeliveredAllCargo);
-		if (!allCargoDelivered && config.courierItemShowDropOffOverlay())
+		if (!allCargoDelivered && config.isCourierItemShowDropOffOverlay())
 		{
-			OverlayUtil.renderPolygon(graphics, hull, ledgerDropOffColour);
+			OverlayUtil.renderPolygon(graphics, hull, config.getCourierItemDropOffOverlayColor());
 		}
 
 		return null;
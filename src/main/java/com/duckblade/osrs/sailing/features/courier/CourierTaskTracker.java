@@ -3,6 +3,7 @@ package com.duckblade.osrs.sailing.features.courier;
 import com.duckblade.osrs.sailing.features.util.CourierTaskUtil;
 import com.duckblade.osrs.sailing.model.CourierTask;
 import com.duckblade.osrs.sailing.model.Port;
+import com.duckblade.osrs.sailing.module.GameObjectSpawnListener;
 import com.duckblade.osrs.sailing.module.PluginLifecycleComponent;
 import java.util.Arrays;
 import java.util.HashSet;
@@ -27,7 +28,7 @@ import net.runelite.client.eventbus.Subscribe;
 @Singleton
 @RequiredArgsConstructor(onConstructor_ = @Inject)
 public class CourierTaskTracker
-	implements PluginLifecycleComponent
+	implements PluginLifecycleComponent, GameObjectSpawnListener
 {
 
 	private static final Set<Integer> LEDGER_TABLE_IDS = Arrays.stream(Port.values()).map(Port::getLedgerTableID).collect(Collectors.toSet());
@@ -50,7 +51,13 @@ public class CourierTaskTracker
 		tasks.clear();
 	}
 
-	@Subscribe
+	@Override
+	public Set<Integer> getGameObjectIds()
+	{
+		return LEDGER_TABLE_IDS;
+	}
+
+	@Override
 	public void onGameObjectSpawned(GameObjectSpawned e)
 	{
 		int id = e.getGameObject().getId();
@@ -62,7 +69,7 @@ public class CourierTaskTracker
 		}
 	}
 
-	@Subscribe
+	@Override
 	public void onGameObjectDespawned(GameObjectDespawned e)
 	{
 		int id = e.getGameObject().getId();
@@ -153,9 +160,14 @@ public class CourierTaskTracker
 
 	public CourierTask getTaskForItemID(int itemID)
 	{
-		return tasks.stream()
-			.filter(task -> task.getCargoCrateItemID() == itemID)
-			.findFirst()
-			.orElse(null);
+		// called for every rendered item each frame, so no streams
+		for (CourierTask task : tasks)
+		{
+			if (task.getCargoCrateItemID() == itemID)
+			{
+				return task;
+			}
+		}
+		return null;
 	}
 }
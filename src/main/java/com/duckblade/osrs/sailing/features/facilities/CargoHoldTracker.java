@@ -2,9 +2,12 @@ package com.duckblade.osrs.sailing.features.facilities;
 
 import com.duckblade.osrs.sailing.SailingConfig;
 import com.duckblade.osrs.sailing.features.courier.CourierTaskTracker;
-import com.duckblade.osrs.sailing.features.util.BoatTracker;
+import com.duckblade.osrs.sailing.features.util.BoatProfileChanged;
+import com.duckblade.osrs.sailing.features.util.BoatProfileTracker;
+import com.duckblade.osrs.sailing.features.util.FrameContext;
 import com.duckblade.osrs.sailing.features.util.SailingUtil;
 import com.duckblade.osrs.sailing.model.Boat;
+import com.duckblade.osrs.sailing.model.BoatProfile;
 import com.duckblade.osrs.sailing.module.PluginLifecycleComponent;
 import com.google.common.base.Joiner;
 import com.google.common.base.Splitter;
@@ -99,14 +102,16 @@ public class CargoHoldTracker
 
 	private final Client client;
 	private final ConfigManager configManager;
-	private final BoatTracker boatTracker;
+	private final BoatProfileTracker boatProfileTracker;
 	private final CourierTaskTracker courierTaskTracker;
+	private final FrameContext frameContext;
 
 	// boat slot -> item id+count
 	private final Map<Integer, Multiset<Integer>> cargoHoldItems = new HashMap<>();
 	private final Map<Integer, Boolean> stackabilityCache = new HashMap<>();
 
 	private Multiset<Integer> memoizedInventory;
+	private BoatProfile boatProfile;
 
 	private boolean overlayEnabled;
 	private Color colourEmpty;
@@ -120,12 +125,13 @@ public class CargoHoldTracker
 	private boolean pendingJenkinsAction;
 
 	@Inject
-	public CargoHoldTracker(Client client, ConfigManager configManager, BoatTracker boatTracker, CourierTaskTracker courierTaskTracker)
+	public CargoHoldTracker(Client client, ConfigManager configManager, BoatProfileTracker boatProfileTracker, CourierTaskTracker courierTaskTracker, FrameContext frameContext)
 	{
 		this.client = client;
 		this.configManager = configManager;
-		this.boatTracker = boatTracker;
+		this.boatProfileTracker = boatProfileTracker;
 		this.courierTaskTracker = courierTaskTracker;
+		this.frameContext = frameContext;
 
 		setPosition(OverlayPosition.DYNAMIC);
 		setLayer(OverlayLayer.ABOVE_SCENE);
@@ -145,6 +151,7 @@ public class CargoHoldTracker
 	public void startUp()
 	{
 		loadAllFromConfig();
+		boatProfile = boatProfileTracker.getProfile();
 
 		if (client.getGameState() == GameState.LOGGED_IN)
 		{
@@ -157,18 +164,19 @@ public class CargoHoldTracker
 	{
 		cargoHoldItems.clear();
 		memoizedInventory = null;
+		boatProfile = null;
 		pendingJenkinsAction = false;
 	}
 
 	@Override
 	public Dimension render(Graphics2D g)
 	{
-		if (!overlayEnabled || !SailingUtil.isSailing(client))
+		if (!overlayEnabled || !frameContext.isSailing())
 		{
 			return null;
 		}
 
-		Boat boat = boatTracker.getBoat();
+		Boat boat = frameContext.getBoat();
 		GameObject cargoHold = boat != null ? boat.getCargoHold() : null;
 		if (cargoHold == null)
 		{
@@ -188,6 +196,12 @@ public class CargoHoldTracker
 		return null;
 	}
 
+	@Subscribe
+	public void onBoatProfileChanged(BoatProfileChanged e)
+	{
+		boatProfile = e.getProfile();
+	}
+
 	@Subscribe
 	public void onRuneScapeProfileChanged(RuneScapeProfileChanged e)
 	{
@@ -310,14 +324,7 @@ public class CargoHoldTracker
 		Multiset<Integer> newInventory = getInventoryMap();
 		log.trace("new inventory {}", newInventory);
 
-		Multiset<Integer> withdrawn = Multisets.difference(newInventory, oldInventory); // items found in inv that weren't in prior snapshot
-		log.trace("withdrawn: {}", withdrawn);
-
-		Multiset<Integer> deposited = Multisets.difference(oldInventory, newInventory); // items missing from inv that were in prior snapshot
-		log.trace("deposited: {}", deposited);
-
-		Multisets.removeOccurrences(cargoHoldToUpdate, withdrawn);
-		deposited.entrySet().forEach(entry -> cargoHoldToUpdate.add(entry.getElement(), entry.getCount()));
+		applyInventoryDelta(cargoHoldToUpdate, oldInventory, newInventory);
 
 		log.debug("updated cargo hold from inventory delta {}", cargoHoldToUpdate);
 		writeToConfig();
@@ -356,6 +363,18 @@ public class CargoHoldTracker
 		}
 	}
 
+	static void applyInventoryDelta(Multiset<Integer> cargoHold, Multiset<Integer> oldInventory, Multiset<Integer> newInventory)
+	{
+		Multiset<Integer> withdrawn = Multisets.difference(newInventory, oldInventory); // items found in inv that weren't in prior snapshot
+		log.trace("withdrawn: {}", withdrawn);
+
+		Multiset<Integer> deposited = Multisets.difference(oldInventory, newInventory); // items missing from inv that were in prior snapshot
+		log.trace("deposited: {}", deposited);
+
+		Multisets.removeOccurrences(cargoHold, withdrawn);
+		deposited.entrySet().forEach(entry -> cargoHold.add(entry.getElement(), entry.getCount()));
+	}
+
 	private void resetInventoryDeltaState()
 	{
 		pendingInventoryAction = 0;
@@ -386,13 +405,7 @@ public class CargoHoldTracker
 
 	private int maxCapacity()
 	{
-		Boat boat = boatTracker.getBoat();
-		if (boat == null)
-		{
-			return -1;
-		}
-
-		return boat.getCargoCapacity(client);
+		return boatProfile != null ? boatProfile.getCargoCapacity() : -1;
 	}
 
 	private Multiset<Integer> getInventoryMap()
@@ -1,14 +1,15 @@
 package com.duckblade.osrs.sailing.features.facilities;
 
 import com.duckblade.osrs.sailing.SailingConfig;
-import com.duckblade.osrs.sailing.features.util.SailingUtil;
+import com.duckblade.osrs.sailing.features.util.FrameContext;
+import com.duckblade.osrs.sailing.features.util.SceneObjectRegistry;
 import com.duckblade.osrs.sailing.module.PluginLifecycleComponent;
+import com.google.common.collect.ImmutableSet;
 import java.awt.Color;
 import java.awt.Dimension;
 import java.awt.Graphics2D;
 import java.awt.Shape;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Set;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import lombok.extern.slf4j.Slf4j;
@@ -16,13 +17,9 @@ import net.runelite.api.Client;
 import net.runelite.api.DynamicObject;
 import net.runelite.api.GameObject;
 import net.runelite.api.Renderable;
-import net.runelite.api.events.GameObjectDespawned;
-import net.runelite.api.events.GameObjectSpawned;
-import net.runelite.api.events.WorldViewUnloaded;
 import net.runelite.api.gameval.ObjectID;
 import net.runelite.client.Notifier;
 import net.runelite.client.config.Notification;
-import net.runelite.client.eventbus.Subscribe;
 import net.runelite.client.ui.overlay.Overlay;
 import net.runelite.client.ui.overlay.OverlayLayer;
 import net.runelite.client.ui.overlay.OverlayPosition;
@@ -37,10 +34,15 @@ public class CrystalExtractorHighlight
 
 	private static final int ANIMATION_CRYSTAL_EXTRACTOR_CRYSTAL_HARVESTABLE = 13177;
 
+	private static final Set<Integer> CRYSTAL_EXTRACTOR_IDS = ImmutableSet.of(
+		ObjectID.SAILING_CRYSTAL_EXTRACTOR_ACTIVATED,
+		ObjectID.SAILING_CRYSTAL_EXTRACTOR_DEACTIVATED
+	);
+
 	private final Client client;
 	private final Notifier notifier;
-
-	private final Map<Integer, GameObject> extractors = new HashMap<>();
+	private final SceneObjectRegistry sceneObjectRegistry;
+	private final FrameContext frameContext;
 
 	private boolean highlightHarvestable;
 	private Color harvestableColour;
@@ -52,10 +54,13 @@ public class CrystalExtractorHighlight
 	private boolean notified = false;
 
 	@Inject
-	public CrystalExtractorHighlight(Client client, Notifier notifier)
+	public CrystalExtractorHighlight(Client client, Notifier notifier, SceneObjectRegistry sceneObjectRegistry, FrameContext frameContext)
 	{
 		this.client = client;
 		this.notifier = notifier;
+		this.sceneObjectRegistry = sceneObjectRegistry;
+		this.frameContext = frameContext;
+		sceneObjectRegistry.trackGameObjects(CRYSTAL_EXTRACTOR_IDS);
 
 		setPosition(OverlayPosition.DYNAMIC);
 		setLayer(OverlayLayer.ABOVE_SCENE);
@@ -74,49 +79,15 @@ public class CrystalExtractorHighlight
 		return highlightHarvestable || highlightInactive;
 	}
 
-	@Override
-	public void shutDown()
-	{
-		extractors.clear();
-	}
-
-	@Subscribe
-	public void onGameObjectSpawned(GameObjectSpawned e)
-	{
-		GameObject go = e.getGameObject();
-		if (go.getId() == ObjectID.SAILING_CRYSTAL_EXTRACTOR_ACTIVATED ||
-			go.getId() == ObjectID.SAILING_CRYSTAL_EXTRACTOR_DEACTIVATED)
-		{
-			extractors.put(go.getWorldView().getId(), go);
-		}
-	}
-
-	@Subscribe
-	public void onGameObjectDespawned(GameObjectDespawned e)
-	{
-		if (e.getGameObject().getId() == ObjectID.SAILING_CRYSTAL_EXTRACTOR_ACTIVATED ||
-			e.getGameObject().getId() == ObjectID.SAILING_CRYSTAL_EXTRACTOR_DEACTIVATED)
-		{
-			extractors.remove(e.getGameObject().getWorldView().getId());
-		}
-	}
-
-	@Subscribe
-	public void onWorldViewUnloaded(WorldViewUnloaded e)
-	{
-		extractors.remove(e.getWorldView().getId());
-	}
-
 	@Override
 	public Dimension render(Graphics2D g)
 	{
-		if (!SailingUtil.isSailing(client))
+		if (!frameContext.isSailing())
 		{
 			return null;
 		}
 
-		int wvId = client.getLocalPlayer().getWorldView().getId();
-		GameObject extractor = extractors.get(wvId);
+		GameObject extractor = sceneObjectRegistry.findGameObject(frameContext.getWorldViewId(), CRYSTAL_EXTRACTOR_IDS);
 		Shape hull = extractor != null ? extractor.getConvexHull() : null;
 		if (extractor == null || hull == null)
 		{
@@ -1,9 +1,11 @@
 package com.duckblade.osrs.sailing.features.facilities;
 
 import com.duckblade.osrs.sailing.SailingConfig;
-import com.duckblade.osrs.sailing.features.util.BoatTracker;
-import com.duckblade.osrs.sailing.features.util.SailingUtil;
+import com.duckblade.osrs.sailing.SailingConfigSnapshot;
+import com.duckblade.osrs.sailing.features.util.FrameContext;
 import com.duckblade.osrs.sailing.model.Boat;
+import com.duckblade.osrs.sailing.module.ActivationScope;
+import com.duckblade.osrs.sailing.module.ConfigSnapshotTracker;
 import com.duckblade.osrs.sailing.module.PluginLifecycleComponent;
 import java.awt.Color;
 import java.awt.Dimension;
@@ -27,21 +29,21 @@ public class LuffOverlay
 	implements PluginLifecycleComponent
 {
 	private final Client client;
-	private final SailingConfig config;
-	private final BoatTracker boatTracker;
+	private final ConfigSnapshotTracker configSnapshotTracker;
+	private final FrameContext frameContext;
 	private final ModelOutlineRenderer modelOutlineRenderer;
 
 	@Inject
 	public LuffOverlay(
 			Client client,
-			SailingConfig config,
-			BoatTracker boatTracker,
+			ConfigSnapshotTracker configSnapshotTracker,
+			FrameContext frameContext,
 			ModelOutlineRenderer modelOutlineRenderer
 	)
 	{
 		this.client = client;
-		this.config = config;
-		this.boatTracker = boatTracker;
+		this.configSnapshotTracker = configSnapshotTracker;
+		this.frameContext = frameContext;
 		this.modelOutlineRenderer = modelOutlineRenderer;
 
 		setLayer(OverlayLayer.ABOVE_SCENE);
@@ -54,15 +56,22 @@ public class LuffOverlay
 		return config.highlightTrimmableSails();
 	}
 
+	@Override
+	public ActivationScope getActivationScope()
+	{
+		return ActivationScope.SAILING;
+	}
+
 	@Override
 	public Dimension render(Graphics2D g)
 	{
-		if (!SailingUtil.isSailing(client) || !config.highlightTrimmableSails())
+		SailingConfigSnapshot config = configSnapshotTracker.getSnapshot();
+		if (!frameContext.isSailing() || !config.isHighlightTrimmableSails())
 		{
 			return null;
 		}
 
-		Boat boat = boatTracker.getBoat();
+		Boat boat = frameContext.getBoat();
 		GameObject sail = boat != null ? boat.getSail() : null;
 
 		if (sail == null)
@@ -76,7 +85,7 @@ public class LuffOverlay
 			return null;
 		}
 
-		SailingConfig.SailHighlightMode mode = config.sailHighlightMode();
+		SailingConfig.SailHighlightMode mode = config.getSailHighlightMode();
 
 		if (mode == SailingConfig.SailHighlightMode.AREA)
 		{
@@ -2,8 +2,11 @@ package com.duckblade.osrs.sailing.features.facilities;
 
 import com.duckblade.osrs.sailing.SailingConfig;
 import com.duckblade.osrs.sailing.SailingPlugin;
-import com.duckblade.osrs.sailing.features.util.BoatTracker;
+import com.duckblade.osrs.sailing.features.util.BoatProfileChanged;
+import com.duckblade.osrs.sailing.features.util.BoatProfileTracker;
 import com.duckblade.osrs.sailing.features.util.SailingUtil;
+import com.duckblade.osrs.sailing.model.BoatProfile;
+import com.duckblade.osrs.sailing.module.ActivationScope;
 import com.duckblade.osrs.sailing.module.PluginLifecycleComponent;
 import net.runelite.api.ChatMessageType;
 import net.runelite.api.Client;
@@ -28,18 +31,19 @@ public class SpeedBoostInfoBox
 	private static final String CHAT_LUFF_STORED = "You release the wind mote for a burst of speed!";
 
 	private final Client client;
-	private final BoatTracker boatTracker;
+	private final BoatProfileTracker boatProfileTracker;
 
+	private BoatProfile boatProfile;
 	private int speedBoostDuration;
 
 	@Inject
-	public SpeedBoostInfoBox(SailingPlugin plugin, Client client, SpriteManager spriteManager, BoatTracker boatTracker)
+	public SpeedBoostInfoBox(SailingPlugin plugin, Client client, SpriteManager spriteManager, BoatProfileTracker boatProfileTracker)
 	{
 		super(null, plugin);
 		spriteManager.getSpriteAsync(ICON_ID_LUFF, 0, this);
 
 		this.client = client;
-		this.boatTracker = boatTracker;
+		this.boatProfileTracker = boatProfileTracker;
 	}
 
 	@Override
@@ -48,12 +52,31 @@ public class SpeedBoostInfoBox
 		return config.showSpeedBoostInfoBox();
 	}
 
+	@Override
+	public ActivationScope getActivationScope()
+	{
+		return ActivationScope.SAILING;
+	}
+
+	@Override
+	public void startUp()
+	{
+		boatProfile = boatProfileTracker.getProfile();
+	}
+
 	@Override
 	public void shutDown()
 	{
+		boatProfile = null;
 		speedBoostDuration = 0;
 	}
 
+	@Subscribe
+	public void onBoatProfileChanged(BoatProfileChanged e)
+	{
+		boatProfile = e.getProfile();
+	}
+
 	@Subscribe
 	public void onChatMessage(ChatMessage e)
 	{
@@ -67,7 +90,7 @@ public class SpeedBoostInfoBox
 		if (CHAT_LUFF_SAIL.equals(msg) || CHAT_LUFF_STORED.equals(msg))
 		{
 			// offset by 1, onGameTick fires _after_ onChatMessage
-			speedBoostDuration = boatTracker.getBoat().getSpeedBoostDuration() + 1;
+			speedBoostDuration = boatProfile != null ? boatProfile.getSpeedBoostDuration() + 1 : 0;
 		}
 	}
 
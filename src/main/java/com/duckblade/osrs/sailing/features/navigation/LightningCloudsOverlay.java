@@ -2,23 +2,21 @@ package com.duckblade.osrs.sailing.features.navigation;
 
 import com.duckblade.osrs.sailing.SailingConfig;
 import com.duckblade.osrs.sailing.features.util.BoatTracker;
-import com.duckblade.osrs.sailing.features.util.SailingUtil;
+import com.duckblade.osrs.sailing.features.util.FrameContext;
+import com.duckblade.osrs.sailing.features.util.SceneObjectRegistry;
+import com.duckblade.osrs.sailing.module.ActivationScope;
+import com.duckblade.osrs.sailing.module.ConfigSnapshotTracker;
 import com.duckblade.osrs.sailing.module.PluginLifecycleComponent;
 import com.google.common.collect.ImmutableSet;
 import java.awt.Color;
 import java.awt.Dimension;
 import java.awt.Graphics2D;
-import java.util.HashSet;
-import java.util.Set;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import net.runelite.api.Client;
 import net.runelite.api.NPC;
-import net.runelite.api.events.NpcDespawned;
-import net.runelite.api.events.NpcSpawned;
 import net.runelite.api.gameval.AnimationID;
 import net.runelite.api.gameval.NpcID;
-import net.runelite.client.eventbus.Subscribe;
 import net.runelite.client.ui.overlay.Overlay;
 import net.runelite.client.ui.overlay.OverlayLayer;
 import net.runelite.client.ui.overlay.OverlayPosition;
@@ -36,17 +34,20 @@ public class LightningCloudsOverlay
 	);
 
 	private final Client client;
-	private final SailingConfig config;
-
-	private final Set<NPC> clouds = new HashSet<>();
+	private final ConfigSnapshotTracker configSnapshotTracker;
+	private final SceneObjectRegistry sceneObjectRegistry;
+	private final FrameContext frameContext;
 
 	private Color cloudColor;
 
 	@Inject
-	public LightningCloudsOverlay(Client client, SailingConfig config, BoatTracker boatTracker)
+	public LightningCloudsOverlay(Client client, ConfigSnapshotTracker configSnapshotTracker, BoatTracker boatTracker, SceneObjectRegistry sceneObjectRegistry, FrameContext frameContext)
 	{
 		this.client = client;
-		this.config = config;
+		this.configSnapshotTracker = configSnapshotTracker;
+		this.sceneObjectRegistry = sceneObjectRegistry;
+		this.frameContext = frameContext;
+		sceneObjectRegistry.trackNpcs(ImmutableSet.of(NpcID.SAILING_SEA_STORMY_CLOUD));
 
 		setPosition(OverlayPosition.DYNAMIC);
 		setLayer(OverlayLayer.ABOVE_SCENE);
@@ -59,37 +60,21 @@ public class LightningCloudsOverlay
 		return config.highlightLightningCloudStrikes();
 	}
 
-	public void shutDown()
-	{
-		clouds.clear();
-	}
-
-	@Subscribe
-	public void onNpcSpawned(NpcSpawned e)
-	{
-		NPC npc = e.getNpc();
-
-		if (npc.getId() == NpcID.SAILING_SEA_STORMY_CLOUD)
-		{
-			clouds.add(npc);
-		}
-	}
-
-	@Subscribe
-	public void onNpcDespawned(NpcDespawned e)
+	@Override
+	public ActivationScope getActivationScope()
 	{
-		clouds.remove(e.getNpc());
+		return ActivationScope.SAILING;
 	}
 
 	@Override
 	public Dimension render(Graphics2D g)
 	{
-		if (!SailingUtil.isSailing(client) || !config.highlightLightningCloudStrikes())
+		if (!frameContext.isSailing() || !configSnapshotTracker.getSnapshot().isHighlightLightningCloudStrikes())
 		{
 			return null;
 		}
 
-		for (NPC cloud : clouds)
+		for (NPC cloud : sceneObjectRegistry.getNpcs(NpcID.SAILING_SEA_STORMY_CLOUD))
 		{
 			int anim = cloud.getAnimation();
 
@@ -2,6 +2,7 @@ package com.duckblade.osrs.sailing.features.navigation;
 
 import com.duckblade.osrs.sailing.SailingConfig;
 import com.duckblade.osrs.sailing.features.util.SailingUtil;
+import com.duckblade.osrs.sailing.module.ActivationScope;
 import com.duckblade.osrs.sailing.module.PluginLifecycleComponent;
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -34,6 +35,12 @@ public class LowHPNotification implements PluginLifecycleComponent
 		return notification.isEnabled();
 	}
 
+	@Override
+	public ActivationScope getActivationScope()
+	{
+		return ActivationScope.SAILING;
+	}
+
 	@Override
 	public void shutDown()
 	{
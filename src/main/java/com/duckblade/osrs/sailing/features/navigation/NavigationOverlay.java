@@ -1,12 +1,14 @@
 package com.duckblade.osrs.sailing.features.navigation;
 
 import com.duckblade.osrs.sailing.SailingConfig;
-import com.duckblade.osrs.sailing.features.util.BoatTracker;
-import com.duckblade.osrs.sailing.features.util.SailingUtil;
+import com.duckblade.osrs.sailing.features.util.BoatKinematics;
+import com.duckblade.osrs.sailing.features.util.FrameContext;
 import com.duckblade.osrs.sailing.model.Boat;
 import com.duckblade.osrs.sailing.module.PluginLifecycleComponent;
+import com.google.common.annotations.VisibleForTesting;
 import java.awt.Color;
 import java.awt.Dimension;
+import java.awt.Font;
 import java.awt.Graphics2D;
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -17,10 +19,7 @@ import net.runelite.api.GameObject;
 import net.runelite.api.Perspective;
 import net.runelite.api.Point;
 import net.runelite.api.WorldEntity;
-import net.runelite.api.WorldView;
 import net.runelite.api.coords.LocalPoint;
-import net.runelite.api.events.GameTick;
-import net.runelite.client.eventbus.Subscribe;
 import net.runelite.client.ui.FontManager;
 import net.runelite.client.ui.overlay.Overlay;
 import net.runelite.client.ui.overlay.OverlayLayer;
@@ -34,24 +33,46 @@ public class NavigationOverlay
 	implements PluginLifecycleComponent
 {
 
-	private final BoatTracker boatTracker;
+	// indexed by heading in sixteenths of a turn, starting from south (why tho)
+	private static final String[] HEADING_LINES = {
+		"Heading: S",
+		"Heading: SSW",
+		"Heading: SW",
+		"Heading: WSW",
+		"Heading: W",
+		"Heading: WNW",
+		"Heading: NW",
+		"Heading: NNW",
+		"Heading: N",
+		"Heading: NNE",
+		"Heading: NE",
+		"Heading: ENE",
+		"Heading: E",
+		"Heading: ESE",
+		"Heading: SE",
+		"Heading: SSE",
+	};
+
+	private final BoatKinematics boatKinematics;
 	private final Client client;
+	private final FrameContext frameContext;
 
 	private SailingConfig.NavigationOverlayMode mode;
 	private Color colour;
 	private boolean speedEnabled;
 	private boolean headingEnabled;
 
-	private int sceneBaseX = -1;
-	private int sceneBaseY = -1;
-	private LocalPoint lastPoint;
-	private int speed;
+	private final Font font = FontManager.getRunescapeBoldFont().deriveFont(24f);
+
+	private String cachedSpeedLine;
+	private int cachedSpeed;
 
 	@Inject
-	public NavigationOverlay(BoatTracker boatTracker, Client client)
+	public NavigationOverlay(BoatKinematics boatKinematics, Client client, FrameContext frameContext)
 	{
-		this.boatTracker = boatTracker;
+		this.boatKinematics = boatKinematics;
 		this.client = client;
+		this.frameContext = frameContext;
 
 		setPosition(OverlayPosition.DYNAMIC);
 		setLayer(OverlayLayer.ABOVE_SCENE);
@@ -65,47 +86,13 @@ public class NavigationOverlay
 		speedEnabled = config.navigationOverlaySpeed();
 		headingEnabled = config.navigationOverlayHeading();
 
-		// always on for speed tracking, mode checked in config
-		return true;
-	}
-
-	@Subscribe
-	public void onGameTick(GameTick e)
-	{
-		if (!SailingUtil.isSailing(client))
-		{
-			lastPoint = null;
-			return;
-		}
-
-		checkSceneBase();
-
-		Boat boat = boatTracker.getBoat();
-		WorldEntity we = boat.getWorldEntity();
-		LocalPoint lp = we.getTargetLocation();
-
-		if (!lp.equals(lastPoint))
-		{
-			if (lastPoint != null)
-			{
-				double trueSpeed = (float) Math.hypot(
-					(lastPoint.getX() - lp.getX()),
-					(lastPoint.getY() - lp.getY())
-				);
-				speed = roundToQuarterTile(trueSpeed) / 32;
-			}
-			lastPoint = lp;
-		}
-		else
-		{
-			speed = 0;
-		}
+		return mode != SailingConfig.NavigationOverlayMode.OFF;
 	}
 
 	@Override
 	public Dimension render(Graphics2D g)
 	{
-		if (!SailingUtil.isSailing(client) ||
+		if (!frameContext.isSailing() ||
 			mode == SailingConfig.NavigationOverlayMode.OFF ||
 			(!speedEnabled && !headingEnabled))
 		{
@@ -118,60 +105,48 @@ public class NavigationOverlay
 			return null;
 		}
 
-		String text = "";
-		Boat boat = boatTracker.getBoat();
-		if (headingEnabled)
+		Point textTarget = getRenderPoint();
+		if (textTarget == null)
 		{
-			text += "Heading: " + jauToDirectionString(boat.getWorldEntity().getTargetOrientation());
+			return null;
 		}
-		if (headingEnabled && speedEnabled)
+
+		String headingLine = headingEnabled ? getHeadingLine(frameContext.getBoat().getWorldEntity().getTargetOrientation()) : null;
+		String speedLine = speedEnabled ? getSpeedLine(roundToQuarterTile(boatKinematics.getSpeed()) / 32) : null;
+
+		g.setFont(font);
+		int lineHeight = g.getFontMetrics().getHeight();
+		int lineCount = (headingLine != null ? 1 : 0) + (speedLine != null ? 1 : 0);
+		int y = textTarget.getY() - lineCount * lineHeight / 2;
+		if (headingLine != null)
 		{
-			text += "\n";
+			renderCenteredLine(g, headingLine, textTarget.getX(), y, colour);
+			y += lineHeight;
 		}
-		if (speedEnabled)
+		if (speedLine != null)
 		{
-			text += "Speed: " + speed;
+			renderCenteredLine(g, speedLine, textTarget.getX(), y, colour);
 		}
 
-		Point textTarget = getRenderPoint();
-		g.setFont(FontManager.getRunescapeBoldFont().deriveFont(24f));
-		renderCenteredMultilineText(g, text, textTarget, colour);
-
 		return null;
 	}
 
-	private void checkSceneBase()
+	private String getSpeedLine(int speed)
 	{
-		WorldView tlwv = client.getTopLevelWorldView();
-		int baseX = tlwv.getScene().getBaseX();
-		int baseY = tlwv.getScene().getBaseY();
-
-		if (baseX == sceneBaseX && baseY == sceneBaseY)
+		// the speed only changes on ticks, so the line is rebuilt then rather than every frame
+		if (cachedSpeedLine == null || speed != cachedSpeed)
 		{
-			return;
+			cachedSpeedLine = "Speed: " + speed;
+			cachedSpeed = speed;
 		}
 
-		if (lastPoint != null)
-		{
-			int xAdjust = baseX - sceneBaseX;
-			int yAdjust = baseY - sceneBaseY;
-			// reshift lastPoint to where it would be in the new scene
-			lastPoint = new LocalPoint(
-				lastPoint.getX() - (xAdjust * Perspective.LOCAL_TILE_SIZE),
-				lastPoint.getY() - (yAdjust * Perspective.LOCAL_TILE_SIZE),
-				tlwv
-			);
-		}
-
-		sceneBaseX = client.getTopLevelWorldView().getScene().getBaseX();
-		sceneBaseY = client.getTopLevelWorldView().getScene().getBaseY();
+		return cachedSpeedLine;
 	}
 
 	private static int roundToQuarterTile(double trueSpeed)
 	{
 		int quarterTileFloor = ((int) trueSpeed) & ~0x1F;
 		int quarterTileCeil = quarterTileFloor + 0x20;
-		log.trace("{} = {} {}", trueSpeed, quarterTileFloor, quarterTileCeil);
 
 		if (quarterTileCeil - trueSpeed < trueSpeed - quarterTileFloor)
 		{
@@ -183,7 +158,7 @@ public class NavigationOverlay
 
 	private Point getRenderPoint()
 	{
-		Boat boat = boatTracker.getBoat();
+		Boat boat = frameContext.getBoat();
 		WorldEntity we = boat.getWorldEntity();
 		GameObject sail = boat.getSail();
 
@@ -216,86 +191,29 @@ public class NavigationOverlay
 			}
 		}
 
-		return Perspective.localToCanvas(
-			client,
-			lp,
-			we.getWorldView().getPlane(),
-			height
-		);
+		return localToCanvas(lp, we.getWorldView().getPlane(), height);
 	}
 
-	private static void renderCenteredMultilineText(Graphics2D g, String text, Point origin, Color c)
+	@VisibleForTesting
+	protected Point localToCanvas(LocalPoint lp, int plane, int height)
 	{
-		String[] lines = text.split("\n");
-
-		int lineHeight = g.getFontMetrics().getHeight();
-		int stackedHeight = lines.length * lineHeight;
-
-		int y = origin.getY() - stackedHeight / 2;
-		for (String line : lines)
-		{
-			int lineX = origin.getX() - g.getFontMetrics().stringWidth(line) / 2;
-			OverlayUtil.renderTextLocation(g, new Point(lineX, y), line, c);
+		return Perspective.localToCanvas(client, lp, plane, height);
+	}
 
-			y += lineHeight;
-		}
+	private static void renderCenteredLine(Graphics2D g, String line, int centreX, int y, Color c)
+	{
+		int lineX = centreX - g.getFontMetrics().stringWidth(line) / 2;
+		OverlayUtil.renderTextLocation(g, new Point(lineX, y), line, c);
 	}
 
-	private static String jauToDirectionString(int jau)
+	private static String getHeadingLine(int jau)
 	{
 		int flattened = jau / 128;
-		switch (flattened)
+		if (flattened >= 0 && flattened < HEADING_LINES.length)
 		{
-			case 0:
-				return "S"; // why tho
-
-			case 1:
-				return "SSW";
-
-			case 2:
-				return "SW";
-
-			case 3:
-				return "WSW";
-
-			case 4:
-				return "W";
-
-			case 5:
-				return "WNW";
-
-			case 6:
-				return "NW";
-
-			case 7:
-				return "NNW";
-
-			case 8:
-				return "N";
-
-			case 9:
-				return "NNE";
-
-			case 10:
-				return "NE";
-
-			case 11:
-				return "ENE";
-
-			case 12:
-				return "E";
-
-			case 13:
-				return "ESE";
-
-			case 14:
-				return "SE";
-
-			case 15:
-				return "SSE";
-
-			default:
-				return "??? - " + jau + " / " + flattened;
+			return HEADING_LINES[flattened];
 		}
+
+		return "Heading: ??? - " + jau + " / " + flattened;
 	}
 }
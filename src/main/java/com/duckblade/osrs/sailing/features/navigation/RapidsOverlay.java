@@ -1,17 +1,21 @@
 package com.duckblade.osrs.sailing.features.navigation;
 
 import com.duckblade.osrs.sailing.SailingConfig;
-import com.duckblade.osrs.sailing.features.util.BoatTracker;
+import com.duckblade.osrs.sailing.features.util.BoatProfileChanged;
+import com.duckblade.osrs.sailing.features.util.BoatProfileTracker;
+import com.duckblade.osrs.sailing.features.util.FrameContext;
 import com.duckblade.osrs.sailing.features.util.SailingUtil;
-import com.duckblade.osrs.sailing.model.Boat;
+import com.duckblade.osrs.sailing.features.util.SceneObjectRegistry;
+import com.duckblade.osrs.sailing.model.BoatProfile;
 import com.duckblade.osrs.sailing.model.HelmTier;
+import com.duckblade.osrs.sailing.module.ActivationScope;
+import com.duckblade.osrs.sailing.module.ConfigSnapshotTracker;
 import com.duckblade.osrs.sailing.module.PluginLifecycleComponent;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import java.awt.Color;
 import java.awt.Dimension;
 import java.awt.Graphics2D;
-import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 import javax.inject.Inject;
@@ -19,9 +23,6 @@ import javax.inject.Singleton;
 import net.runelite.api.Client;
 import net.runelite.api.GameObject;
 import net.runelite.api.ObjectComposition;
-import net.runelite.api.events.GameObjectDespawned;
-import net.runelite.api.events.GameObjectSpawned;
-import net.runelite.api.events.WorldViewUnloaded;
 import net.runelite.api.gameval.ObjectID;
 import net.runelite.client.eventbus.Subscribe;
 import net.runelite.client.ui.overlay.Overlay;
@@ -119,21 +120,25 @@ public class RapidsOverlay
 		.build();
 
 	private final Client client;
-	private final SailingConfig config;
-	private final BoatTracker boatTracker;
-
-	private final Set<GameObject> rapids = new HashSet<>();
+	private final ConfigSnapshotTracker configSnapshotTracker;
+	private final FrameContext frameContext;
+	private final BoatProfileTracker boatProfileTracker;
 
+	private final Set<GameObject> rapids;
 	private Color safeRapidsColour;
 	private Color dangerousRapidsColour;
 	private Color unknownRapidsColour;
 
+	private BoatProfile boatProfile;
+
 	@Inject
-	public RapidsOverlay(Client client, SailingConfig config, BoatTracker boatTracker)
+	public RapidsOverlay(Client client, ConfigSnapshotTracker configSnapshotTracker, FrameContext frameContext, SceneObjectRegistry sceneObjectRegistry, BoatProfileTracker boatProfileTracker)
 	{
 		this.client = client;
-		this.config = config;
-		this.boatTracker = boatTracker;
+		this.configSnapshotTracker = configSnapshotTracker;
+		this.frameContext = frameContext;
+		this.boatProfileTracker = boatProfileTracker;
+		this.rapids = sceneObjectRegistry.trackGameObjects(RAPIDS_IDS);
 
 		setPosition(OverlayPosition.DYNAMIC);
 		setLayer(OverlayLayer.ABOVE_SCENE);
@@ -148,40 +153,34 @@ public class RapidsOverlay
 		return config.highlightRapids();
 	}
 
-	public void shutDown()
+	@Override
+	public ActivationScope getActivationScope()
 	{
-		rapids.clear();
+		return ActivationScope.SAILING;
 	}
 
-	@Subscribe
-	public void onGameObjectSpawned(GameObjectSpawned e)
+	@Override
+	public void startUp()
 	{
-		GameObject o = e.getGameObject();
-		if (RAPIDS_IDS.contains(o.getId()))
-		{
-			rapids.add(o);
-		}
+		boatProfile = boatProfileTracker.getProfile();
 	}
 
-	@Subscribe
-	public void onGameObjectDespawned(GameObjectDespawned e)
+	@Override
+	public void shutDown()
 	{
-		rapids.remove(e.getGameObject());
+		boatProfile = null;
 	}
 
 	@Subscribe
-	public void onWorldViewUnloaded(WorldViewUnloaded e)
+	public void onBoatProfileChanged(BoatProfileChanged e)
 	{
-		if (e.getWorldView().isTopLevel())
-		{
-			rapids.clear();
-		}
+		boatProfile = e.getProfile();
 	}
 
 	@Override
 	public Dimension render(Graphics2D graphics)
 	{
-		if (!SailingUtil.isSailing(client) || !config.highlightRapids())
+		if (!frameContext.isSailing() || !configSnapshotTracker.getSnapshot().isHighlightRapids())
 		{
 			return null;
 		}
@@ -207,19 +206,12 @@ public class RapidsOverlay
 			return unknownRapidsColour;
 		}
 
-		Boat boat = boatTracker.getBoat();
-		if (boat == null)
-		{
-			return unknownRapidsColour;
-		}
-
-		HelmTier helmTier = boat.getHelmTier();
-		if (helmTier == null)
+		if (boatProfile == null || boatProfile.getHelmTier() == null)
 		{
 			return unknownRapidsColour;
 		}
 
-		if (helmTier.ordinal() >= minTier.ordinal())
+		if (boatProfile.hasHelmTier(minTier))
 		{
 			return safeRapidsColour;
 		}
@@ -1,9 +1,9 @@
 package com.duckblade.osrs.sailing.features.navigation;
 
 import com.duckblade.osrs.sailing.SailingConfig;
-import com.duckblade.osrs.sailing.features.util.BoatTracker;
-import com.duckblade.osrs.sailing.features.util.SailingUtil;
+import com.duckblade.osrs.sailing.features.util.FrameContext;
 import com.duckblade.osrs.sailing.model.Boat;
+import com.duckblade.osrs.sailing.module.ActivationScope;
 import com.duckblade.osrs.sailing.module.PluginLifecycleComponent;
 import com.google.inject.Inject;
 import java.awt.Color;
@@ -26,7 +26,7 @@ public class TrueTileIndicator
 {
 
 	private final Client client;
-	private final BoatTracker boatTracker;
+	private final FrameContext frameContext;
 
 	private SailingConfig.TrueTileMode mode;
 	private Color indicatorColor;
@@ -40,11 +40,17 @@ public class TrueTileIndicator
 		return mode != SailingConfig.TrueTileMode.OFF;
 	}
 
+	@Override
+	public ActivationScope getActivationScope()
+	{
+		return ActivationScope.SAILING;
+	}
+
 	@Inject
-	public TrueTileIndicator(Client client, BoatTracker boatTracker)
+	public TrueTileIndicator(Client client, FrameContext frameContext)
 	{
 		this.client = client;
-		this.boatTracker = boatTracker;
+		this.frameContext = frameContext;
 
 		setLayer(OverlayLayer.ABOVE_SCENE);
 		setPosition(OverlayPosition.DYNAMIC);
@@ -53,7 +59,7 @@ public class TrueTileIndicator
 	@Override
 	public Dimension render(Graphics2D g)
 	{
-		if (!SailingUtil.isSailing(client))
+		if (!frameContext.isSailing())
 		{
 			return null;
 		}
@@ -66,7 +72,7 @@ public class TrueTileIndicator
 
 		g.setColor(indicatorColor);
 
-		Boat boat = boatTracker.getBoat();
+		Boat boat = frameContext.getBoat();
 		WorldEntity we = boat.getWorldEntity();
 
 		renderBoatArea(client, g, we.getConfig(), we.getTargetLocation(), we.getTargetOrientation());
@@ -1,14 +1,17 @@
 package com.duckblade.osrs.sailing.features.salvaging;
 
 import com.duckblade.osrs.sailing.SailingConfig;
-import com.duckblade.osrs.sailing.features.util.SailingUtil;
+import com.duckblade.osrs.sailing.features.util.FrameContext;
+import com.duckblade.osrs.sailing.features.util.ProjectionCache;
+import com.duckblade.osrs.sailing.features.util.SceneObjectRegistry;
+import com.duckblade.osrs.sailing.module.ActivationScope;
 import com.duckblade.osrs.sailing.module.PluginLifecycleComponent;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
 import java.awt.Color;
 import java.awt.Dimension;
 import java.awt.Graphics2D;
 import java.awt.Polygon;
-import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 import javax.inject.Inject;
@@ -16,13 +19,8 @@ import javax.inject.Singleton;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.Client;
 import net.runelite.api.GameObject;
-import net.runelite.api.Perspective;
 import net.runelite.api.Skill;
-import net.runelite.api.events.GameObjectDespawned;
-import net.runelite.api.events.GameObjectSpawned;
-import net.runelite.api.events.WorldViewUnloaded;
 import net.runelite.api.gameval.ObjectID;
-import net.runelite.client.eventbus.Subscribe;
 import net.runelite.client.ui.overlay.Overlay;
 import net.runelite.client.ui.overlay.OverlayLayer;
 import net.runelite.client.ui.overlay.OverlayPosition;
@@ -59,10 +57,15 @@ public class SalvagingHighlight
 		.put(ObjectID.SAILING_MERCHANT_SHIPWRECK_STUMP, 87)
 		.build();
 
-	private final Client client;
+	private static final Set<Integer> WRECK_IDS = ImmutableSet.<Integer>builder()
+		.addAll(SALVAGE_LEVEL_REQ.keySet())
+		.addAll(STUMP_LEVEL_REQ.keySet())
+		.build();
 
-	private final Set<GameObject> wrecks = new HashSet<>();
-	private final Set<GameObject> stumps = new HashSet<>();
+	private final Client client;
+	private final SceneObjectRegistry sceneObjectRegistry;
+	private final FrameContext frameContext;
+	private final ProjectionCache projectionCache;
 
 	private boolean activeWrecks;
 	private Color activeColour;
@@ -72,9 +75,13 @@ public class SalvagingHighlight
 	private Color highLevelColour;
 
 	@Inject
-	public SalvagingHighlight(Client client)
+	public SalvagingHighlight(Client client, SceneObjectRegistry sceneObjectRegistry, FrameContext frameContext, ProjectionCache projectionCache)
 	{
 		this.client = client;
+		this.sceneObjectRegistry = sceneObjectRegistry;
+		this.frameContext = frameContext;
+		this.projectionCache = projectionCache;
+		sceneObjectRegistry.trackGameObjects(WRECK_IDS);
 
 		setPosition(OverlayPosition.DYNAMIC);
 		setLayer(OverlayLayer.ABOVE_SCENE);
@@ -94,36 +101,41 @@ public class SalvagingHighlight
 	}
 
 	@Override
-	public void shutDown()
+	public ActivationScope getActivationScope()
 	{
-		wrecks.clear();
-		stumps.clear();
+		return ActivationScope.SAILING;
 	}
 
 	@Override
 	public Dimension render(Graphics2D graphics)
 	{
-		if (!SailingUtil.isSailing(client))
+		if (!frameContext.isSailing())
 		{
 			return null;
 		}
 
 		int sailingLevel = client.getBoostedSkillLevel(Skill.SAILING);
 
-		for (GameObject wreck : wrecks)
+		for (Map.Entry<Integer, Integer> req : SALVAGE_LEVEL_REQ.entrySet())
 		{
-			boolean hasReq = sailingLevel >= SALVAGE_LEVEL_REQ.get(wreck.getId());
+			boolean hasReq = sailingLevel >= req.getValue();
 			if ((hasReq && activeWrecks) || (!hasReq && highLevelWrecks))
 			{
-				renderWreck(graphics, wreck, hasReq ? activeColour : highLevelColour);
+				for (GameObject wreck : sceneObjectRegistry.getGameObjects(req.getKey()))
+				{
+					renderWreck(graphics, wreck, hasReq ? activeColour : highLevelColour);
+				}
 			}
 		}
-		for (GameObject wreck : stumps)
+		for (Map.Entry<Integer, Integer> req : STUMP_LEVEL_REQ.entrySet())
 		{
-			boolean hasReq = sailingLevel >= STUMP_LEVEL_REQ.get(wreck.getId());
+			boolean hasReq = sailingLevel >= req.getValue();
 			if ((hasReq && inactiveWrecks) || (!hasReq && highLevelWrecks))
 			{
-				renderWreck(graphics, wreck, hasReq ? inactiveColour : highLevelColour);
+				for (GameObject wreck : sceneObjectRegistry.getGameObjects(req.getKey()))
+				{
+					renderWreck(graphics, wreck, hasReq ? inactiveColour : highLevelColour);
+				}
 			}
 		}
 
@@ -132,40 +144,10 @@ public class SalvagingHighlight
 
 	private void renderWreck(Graphics2D graphics, GameObject wreck, Color colour)
 	{
-		Polygon poly = Perspective.getCanvasTileAreaPoly(client, wreck.getLocalLocation(), SIZE_SALVAGEABLE_AREA);
+		Polygon poly = projectionCache.getCanvasTileAreaPoly(wreck.getLocalLocation(), SIZE_SALVAGEABLE_AREA);
 		if (poly != null)
 		{
 			OverlayUtil.renderPolygon(graphics, poly, colour);
 		}
 	}
-
-	@Subscribe
-	public void onGameObjectSpawned(GameObjectSpawned e)
-	{
-		if (SALVAGE_LEVEL_REQ.containsKey(e.getGameObject().getId()))
-		{
-			wrecks.add(e.getGameObject());
-		}
-		else if (STUMP_LEVEL_REQ.containsKey(e.getGameObject().getId()))
-		{
-			stumps.add(e.getGameObject());
-		}
-	}
-
-	@Subscribe
-	public void onGameObjectDespawned(GameObjectDespawned e)
-	{
-		wrecks.remove(e.getGameObject());
-		stumps.remove(e.getGameObject());
-	}
-
-	@Subscribe
-	public void onWorldViewUnloaded(WorldViewUnloaded e)
-	{
-		if (e.getWorldView().isTopLevel())
-		{
-			wrecks.clear();
-			stumps.clear();
-		}
-	}
 }
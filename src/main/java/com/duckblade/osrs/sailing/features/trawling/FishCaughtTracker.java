@@ -1,8 +1,9 @@
 package com.duckblade.osrs.sailing.features.trawling;
 
-import com.duckblade.osrs.sailing.features.util.BoatTracker;
+import com.duckblade.osrs.sailing.features.util.BoatProfileChanged;
+import com.duckblade.osrs.sailing.features.util.BoatProfileTracker;
 import com.duckblade.osrs.sailing.features.util.SailingUtil;
-import com.duckblade.osrs.sailing.model.Boat;
+import com.duckblade.osrs.sailing.model.BoatProfile;
 import com.duckblade.osrs.sailing.module.PluginLifecycleComponent;
 import java.util.Collections;
 import java.util.EnumMap;
@@ -27,7 +28,9 @@ public class FishCaughtTracker implements PluginLifecycleComponent {
     public static final Pattern CATCH_FISH_REGEX =
         Pattern.compile("^(.+?) catch(?:es)? (an?|two|three|four|five|six) (.+?)!$");
     private final Client client;
-    private final BoatTracker boatTracker;
+    private final BoatProfileTracker boatProfileTracker;
+
+    private BoatProfile boatProfile;
 
     /**
      * All the fish that was caught into the net since it was last emptied.
@@ -43,18 +46,19 @@ public class FishCaughtTracker implements PluginLifecycleComponent {
      * Creates a new FishCaughtTracker with the specified dependencies.
      *
      * @param client the RuneLite client instance
-     * @param boatTracker tracker for boat information including net capacity
+     * @param boatProfileTracker tracker for the local boat's derived stats including net capacity
      */
     @Inject
-    public FishCaughtTracker(Client client, BoatTracker boatTracker) {
+    public FishCaughtTracker(Client client, BoatProfileTracker boatProfileTracker) {
         this.client = client;
-        this.boatTracker = boatTracker;
+        this.boatProfileTracker = boatProfileTracker;
     }
 
     @Override
     public void startUp() {
         log.debug("FishCaughtTracker started");
         reset();
+        boatProfile = boatProfileTracker.getProfile();
     }
 
     @Override
@@ -63,6 +67,11 @@ public class FishCaughtTracker implements PluginLifecycleComponent {
         reset();
     }
 
+    @Subscribe
+    public void onBoatProfileChanged(BoatProfileChanged e) {
+        boatProfile = e.getProfile();
+    }
+
     @Subscribe
     public void onGameStateChanged(GameStateChanged e) {
         GameState state = e.getGameState();
@@ -140,8 +149,7 @@ public class FishCaughtTracker implements PluginLifecycleComponent {
      * @return the net capacity, or 0 if no boat is available
      */
     public int getNetCapacity() {
-        Boat boat = boatTracker.getBoat();
-        return boat != null ? boat.getNetCapacity() : 0;
+        return boatProfile != null ? boatProfile.getNetCapacity() : 0;
     }
 
 	public int getFishInNetCount() {
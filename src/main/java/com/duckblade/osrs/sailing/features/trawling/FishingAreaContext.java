@@ -0,0 +1,120 @@
+package com.duckblade.osrs.sailing.features.trawling;
+
+import com.duckblade.osrs.sailing.features.util.SailingUtil;
+import com.duckblade.osrs.sailing.model.FishingAreaType;
+import com.duckblade.osrs.sailing.module.PhasedTickListener;
+import com.duckblade.osrs.sailing.module.PluginLifecycleComponent;
+import com.duckblade.osrs.sailing.module.TickPhase;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.api.Client;
+import net.runelite.api.coords.WorldPoint;
+import net.runelite.api.events.GameTick;
+import net.runelite.client.eventbus.EventBus;
+
+/**
+ * The {@link ShoalFishingArea}s the local player is in, updated once per tick.
+ * <p>
+ * The areas are only looked up again when the player has moved to another tile,
+ * and {@link FishingAreaExited}/{@link FishingAreaEntered} are posted when the first of them changes.
+ * Render paths can read the cached values directly, with no lookup or allocation.
+ */
+@Slf4j
+@Singleton
+public class FishingAreaContext
+	implements PluginLifecycleComponent, PhasedTickListener
+{
+
+	private final Client client;
+	private final EventBus eventBus;
+
+	/**
+	 * null when not in a fishing area
+	 */
+	@Getter
+	private ShoalFishingArea area;
+
+	/**
+	 * every area containing the player in declaration order, which overlap in places.
+	 * Shared, and must not be modified.
+	 */
+	@Getter
+	private ShoalFishingArea[] areas = FishingAreaIndex.NONE;
+
+	private WorldPoint lastLocation;
+
+	@Inject
+	public FishingAreaContext(Client client, EventBus eventBus)
+	{
+		this.client = client;
+		this.eventBus = eventBus;
+	}
+
+	@Override
+	public void shutDown()
+	{
+		area = null;
+		areas = FishingAreaIndex.NONE;
+		lastLocation = null;
+	}
+
+	@Override
+	public TickPhase getTickPhase()
+	{
+		return TickPhase.TRACKERS;
+	}
+
+	@Override
+	public void onPhasedTick(GameTick e)
+	{
+		update(client.getLocalPlayer() != null ? SailingUtil.getTopLevelWorldPoint(client) : null);
+	}
+
+	void update(WorldPoint location)
+	{
+		if (location == null ? lastLocation == null : location.equals(lastLocation))
+		{
+			return;
+		}
+		lastLocation = location;
+
+		areas = FishingAreaIndex.findAll(location);
+		ShoalFishingArea next = areas.length > 0 ? areas[0] : null;
+		if (next == area)
+		{
+			return;
+		}
+
+		ShoalFishingArea previous = area;
+		area = next;
+		log.debug("fishing area changed {} -> {}", previous, next);
+
+		if (previous != null)
+		{
+			eventBus.post(new FishingAreaExited(previous));
+		}
+		if (next != null)
+		{
+			eventBus.post(new FishingAreaEntered(next));
+		}
+	}
+
+	/**
+	 * @return the depth type of the current area, or null when not in a fishing area
+	 */
+	public FishingAreaType getAreaType()
+	{
+		return area != null ? area.getShoal().getDepth() : null;
+	}
+
+	/**
+	 * @return the shoal stop duration of the current area in ticks, or -1 when not in a fishing area
+	 */
+	public int getStopDuration()
+	{
+		return area != null ? area.getShoal().getStopDuration() : -1;
+	}
+
+}
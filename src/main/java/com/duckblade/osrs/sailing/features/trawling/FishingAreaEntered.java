@@ -0,0 +1,14 @@
+package com.duckblade.osrs.sailing.features.trawling;
+
+import lombok.Value;
+
+/**
+ * Posted by {@link FishingAreaContext} when the local player enters a fishing area.
+ */
+@Value
+public class FishingAreaEntered
+{
+
+	ShoalFishingArea area;
+
+}
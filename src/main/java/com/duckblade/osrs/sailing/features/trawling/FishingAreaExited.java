@@ -0,0 +1,14 @@
+package com.duckblade.osrs.sailing.features.trawling;
+
+import lombok.Value;
+
+/**
+ * Posted by {@link FishingAreaContext} when the local player leaves a fishing area, before any {@link FishingAreaEntered} for the next one.
+ */
+@Value
+public class FishingAreaExited
+{
+
+	ShoalFishingArea area;
+
+}
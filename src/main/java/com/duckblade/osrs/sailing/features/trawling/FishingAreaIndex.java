@@ -0,0 +1,140 @@
+package com.duckblade.osrs.sailing.features.trawling;
+
+import java.util.ArrayList;
+import java.util.List;
+import net.runelite.api.coords.WorldArea;
+import net.runelite.api.coords.WorldPoint;
+
+/**
+ * Spatial index of {@link ShoalFishingArea}s by 64x64 map region, built once from their bounds.
+ * <p>
+ * Each region holds the areas overlapping it in declaration order, so a lookup only bounds-checks those
+ * (at most the few areas which overlap each other) instead of every area.
+ * Regions with no fishing area share one empty array.
+ */
+final class FishingAreaIndex
+{
+
+	private static final int REGION_SHIFT = 6;
+	private static final int REGION_Y_BITS = 8;
+	private static final int REGION_X_LIMIT = 1 << 7;
+	private static final int REGION_Y_LIMIT = 1 << REGION_Y_BITS;
+
+	static final ShoalFishingArea[] NONE = new ShoalFishingArea[0];
+	private static final ShoalFishingArea[][] AREAS_BY_REGION = build(ShoalFishingArea.AREAS);
+
+	private FishingAreaIndex()
+	{
+	}
+
+	/**
+	 * @return the first area containing the point, in declaration order, or null
+	 */
+	static ShoalFishingArea find(WorldPoint wp)
+	{
+		if (wp == null)
+		{
+			return null;
+		}
+
+		for (ShoalFishingArea area : getCandidates(wp))
+		{
+			if (area.contains(wp))
+			{
+				return area;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * @return every area containing the point, in declaration order, or {@link #NONE}
+	 */
+	static ShoalFishingArea[] findAll(WorldPoint wp)
+	{
+		ShoalFishingArea[] candidates = getCandidates(wp);
+		int count = 0;
+		for (ShoalFishingArea area : candidates)
+		{
+			if (area.contains(wp))
+			{
+				count++;
+			}
+		}
+		if (count == 0)
+		{
+			return NONE;
+		}
+
+		ShoalFishingArea[] found = new ShoalFishingArea[count];
+		int i = 0;
+		for (ShoalFishingArea area : candidates)
+		{
+			if (area.contains(wp))
+			{
+				found[i++] = area;
+			}
+		}
+		return found;
+	}
+
+	/**
+	 * Areas which may contain the point, in declaration order. Callers still need to check {@link ShoalFishingArea#contains}.
+	 * The returned array is shared and must not be modified.
+	 */
+	static ShoalFishingArea[] getCandidates(WorldPoint wp)
+	{
+		if (wp == null)
+		{
+			return NONE;
+		}
+
+		int regionX = wp.getX() >> REGION_SHIFT;
+		int regionY = wp.getY() >> REGION_SHIFT;
+		if (regionX < 0 || regionX >= REGION_X_LIMIT || regionY < 0 || regionY >= REGION_Y_LIMIT)
+		{
+			return NONE;
+		}
+
+		return AREAS_BY_REGION[regionX << REGION_Y_BITS | regionY];
+	}
+
+	private static ShoalFishingArea[][] build(ShoalFishingArea[] areas)
+	{
+		@SuppressWarnings("unchecked")
+		List<ShoalFishingArea>[] byRegion = new List[REGION_X_LIMIT << REGION_Y_BITS];
+		for (ShoalFishingArea area : areas)
+		{
+			WorldArea bounds = area.getArea();
+			int minRegionX = bounds.getX() >> REGION_SHIFT;
+			int maxRegionX = (bounds.getX() + bounds.getWidth() - 1) >> REGION_SHIFT;
+			int minRegionY = bounds.getY() >> REGION_SHIFT;
+			int maxRegionY = (bounds.getY() + bounds.getHeight() - 1) >> REGION_SHIFT;
+			if (minRegionX < 0 || maxRegionX >= REGION_X_LIMIT || minRegionY < 0 || maxRegionY >= REGION_Y_LIMIT)
+			{
+				throw new IllegalStateException("Fishing area " + area + " is outside the indexable map");
+			}
+
+			for (int rx = minRegionX; rx <= maxRegionX; rx++)
+			{
+				for (int ry = minRegionY; ry <= maxRegionY; ry++)
+				{
+					int key = rx << REGION_Y_BITS | ry;
+					if (byRegion[key] == null)
+					{
+						byRegion[key] = new ArrayList<>(2);
+					}
+					byRegion[key].add(area);
+				}
+			}
+		}
+
+		ShoalFishingArea[][] index = new ShoalFishingArea[byRegion.length][];
+		for (int i = 0; i < byRegion.length; i++)
+		{
+			index[i] = byRegion[i] == null ? NONE : byRegion[i].toArray(NONE);
+		}
+		return index;
+	}
+
+}
@@ -2,10 +2,13 @@ package com.duckblade.osrs.sailing.features.trawling;
 
 import com.duckblade.osrs.sailing.SailingConfig;
 import com.duckblade.osrs.sailing.features.util.BoatTracker;
+import com.duckblade.osrs.sailing.features.util.FrameContext;
 import com.duckblade.osrs.sailing.model.Boat;
 import com.duckblade.osrs.sailing.model.ShoalDepth;
 import com.duckblade.osrs.sailing.model.SizeClass;
+import com.duckblade.osrs.sailing.module.PhasedTickListener;
 import com.duckblade.osrs.sailing.module.PluginLifecycleComponent;
+import com.duckblade.osrs.sailing.module.TickPhase;
 import com.google.common.collect.Range;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.Client;
@@ -34,7 +37,7 @@ import java.awt.Rectangle;
 @Slf4j
 @Singleton
 public class NetDepthButtonHighlighter extends Overlay
-        implements PluginLifecycleComponent {
+        implements PluginLifecycleComponent, PhasedTickListener {
 
     // Widget indices for fishing net controls
     private int starboardNetDownWidgetIndex;
@@ -48,6 +51,7 @@ public class NetDepthButtonHighlighter extends Overlay
     private final BoatTracker boatTracker;
     private final Client client;
     private final SailingConfig config;
+    private final FrameContext frameContext;
 
     // Cached highlighting state to avoid recalculating every frame
     private boolean shouldHighlightPort = false;
@@ -65,18 +69,21 @@ public class NetDepthButtonHighlighter extends Overlay
      * @param boatTracker tracker for boat information
      * @param client the RuneLite client instance
      * @param config sailing configuration settings
+     * @param frameContext per-frame player state, for rendering
      */
     @Inject
     public NetDepthButtonHighlighter(ShoalTracker shoalTracker,
                                    NetDepthTracker netDepthTracker,
                                    BoatTracker boatTracker, 
                                    Client client, 
-                                   SailingConfig config) {
+                                   SailingConfig config,
+                                   FrameContext frameContext) {
         this.shoalTracker = shoalTracker;
         this.netDepthTracker = netDepthTracker;
         this.boatTracker = boatTracker;
         this.client = client;
         this.config = config;
+        this.frameContext = frameContext;
         setPosition(OverlayPosition.DYNAMIC);
         setLayer(OverlayLayer.ABOVE_WIDGETS);
         setPriority(1000.0f);
@@ -199,7 +206,7 @@ public class NetDepthButtonHighlighter extends Overlay
     }
 
     private boolean canHighlightButtons() {
-        Boat boat = boatTracker.getBoat();
+        Boat boat = frameContext.getBoat();
         if (boat == null || boat.getFishingNets().isEmpty()) {
             return false;
         }
@@ -276,8 +283,13 @@ public class NetDepthButtonHighlighter extends Overlay
         return widget != null && widget.getOpacity() == 0;
     }
 
-    @Subscribe
-    public void onGameTick(GameTick e) {
+    @Override
+    public TickPhase getTickPhase() {
+        return TickPhase.CONSUMERS;
+    }
+
+    @Override
+    public void onPhasedTick(GameTick e) {
         if (!highlightingStateValid) {
             return;
         }
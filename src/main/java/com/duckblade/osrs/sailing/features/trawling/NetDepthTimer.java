@@ -1,15 +1,14 @@
 package com.duckblade.osrs.sailing.features.trawling;
 
 import com.duckblade.osrs.sailing.SailingConfig;
-import com.duckblade.osrs.sailing.features.util.SailingUtil;
 import com.duckblade.osrs.sailing.model.FishingAreaType;
+import com.duckblade.osrs.sailing.module.PhasedTickListener;
 import com.duckblade.osrs.sailing.module.PluginLifecycleComponent;
+import com.duckblade.osrs.sailing.module.TickPhase;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
-import net.runelite.api.Client;
 import net.runelite.api.coords.WorldPoint;
 import net.runelite.api.events.GameTick;
-import net.runelite.client.eventbus.Subscribe;
 import net.runelite.client.ui.overlay.Overlay;
 import net.runelite.client.ui.overlay.OverlayLayer;
 import net.runelite.client.ui.overlay.OverlayPosition;
@@ -21,7 +20,7 @@ import java.awt.Graphics2D;
 
 @Slf4j
 @Singleton
-public class NetDepthTimer extends Overlay implements PluginLifecycleComponent {
+public class NetDepthTimer extends Overlay implements PluginLifecycleComponent, PhasedTickListener {
 
     // Number of ticks shoal must be moving before we consider it "was moving"
     private static final int MOVEMENT_THRESHOLD_TICKS = 5;
@@ -29,8 +28,11 @@ public class NetDepthTimer extends Overlay implements PluginLifecycleComponent {
     // Number of ticks at same position to consider shoal "stopped"
     private static final int STOPPED_THRESHOLD_TICKS = 2;
 
-    private final Client client;
+    private static final TimerInfo WAITING = new TimerInfo(false, true, 0, false);
+    private static final TimerInfo CALIBRATING = new TimerInfo(false, false, 0, false);
+
     private final ShoalTracker shoalTracker;
+    private final FishingAreaContext fishingAreaContext;
 
     // Movement tracking
     private WorldPoint lastShoalPosition = null;
@@ -42,16 +44,19 @@ public class NetDepthTimer extends Overlay implements PluginLifecycleComponent {
     private int timerTicks = 0;
     private boolean timerActive = false;
 
+    // rebuilt once per tick, since it only changes on ticks but is read every frame
+    private TimerInfo timerInfo = null;
+
     /**
      * Creates a new NetDepthTimer with the specified dependencies.
      *
-     * @param client the RuneLite client instance
      * @param shoalTracker tracker for shoal state and movement
+     * @param fishingAreaContext the fishing area the player is in
      */
     @Inject
-    public NetDepthTimer(Client client, ShoalTracker shoalTracker) {
-        this.client = client;
+    public NetDepthTimer(ShoalTracker shoalTracker, FishingAreaContext fishingAreaContext) {
         this.shoalTracker = shoalTracker;
+        this.fishingAreaContext = fishingAreaContext;
         setPosition(OverlayPosition.DYNAMIC);
         setLayer(OverlayLayer.ABOVE_WIDGETS);
         setPriority(1000.0f);
@@ -75,18 +80,22 @@ public class NetDepthTimer extends Overlay implements PluginLifecycleComponent {
 
     /**
      * Gets current timer information for display in overlay.
+     * Computed on the last game tick, so this does no work of its own.
      *
      * @return timer information, or null if no shoal or timer is disabled
      */
     public TimerInfo getTimerInfo() {
+        // the shoal can despawn between ticks
+        return shoalTracker.hasShoal() ? timerInfo : null;
+    }
+
+    private TimerInfo computeTimerInfo() {
         if (!shoalTracker.hasShoal()) {
             return null;
         }
         
         // Disable timer in ONE_DEPTH areas (Giant Krill areas)
-        WorldPoint playerLocation = SailingUtil.getTopLevelWorldPoint(client);
-        FishingAreaType areaType = TrawlingData.FishingAreas.getFishingAreaType(playerLocation);
-        if (areaType == FishingAreaType.ONE_DEPTH) {
+        if (fishingAreaContext.getAreaType() == FishingAreaType.ONE_DEPTH) {
             return null; // Timer disabled in krill areas
         }
         
@@ -94,9 +103,9 @@ public class NetDepthTimer extends Overlay implements PluginLifecycleComponent {
         
         if (!timerActive) {
             if (shoalIsMoving) {
-                return new TimerInfo(false, true, 0, false); // Waiting for shoal to stop
+                return WAITING; // Waiting for shoal to stop
             } else {
-                return new TimerInfo(false, false, 0, false); // Calibrating
+                return CALIBRATING; // Calibrating
             }
         }
         
@@ -118,8 +127,18 @@ public class NetDepthTimer extends Overlay implements PluginLifecycleComponent {
 
 
 
-    @Subscribe
-    public void onGameTick(GameTick e) {
+    @Override
+    public TickPhase getTickPhase() {
+        return TickPhase.DERIVED;
+    }
+
+    @Override
+    public void onPhasedTick(GameTick e) {
+        updateTimer();
+        timerInfo = computeTimerInfo();
+    }
+
+    private void updateTimer() {
         if (!shoalTracker.hasShoal()) {
             // No shoal - reset state
             if (timerActive || hasBeenMoving) {
@@ -130,9 +149,7 @@ public class NetDepthTimer extends Overlay implements PluginLifecycleComponent {
         }
         
         // Disable timer processing in ONE_DEPTH areas (Giant Krill areas)
-        WorldPoint playerLocation = SailingUtil.getTopLevelWorldPoint(client);
-        FishingAreaType areaType = TrawlingData.FishingAreas.getFishingAreaType(playerLocation);
-        if (areaType == FishingAreaType.ONE_DEPTH) {
+        if (fishingAreaContext.getAreaType() == FishingAreaType.ONE_DEPTH) {
             // Reset timer state if we're in a krill area
             if (timerActive || hasBeenMoving) {
                 resetState();
@@ -151,8 +168,7 @@ public class NetDepthTimer extends Overlay implements PluginLifecycleComponent {
             }
         }
         
-        // Update location in tracker and track movement
-        shoalTracker.updateLocation();
+        // Location was already updated by the tracker this tick
         WorldPoint currentPos = shoalTracker.getCurrentLocation();
         if (currentPos != null) {
             trackMovement(currentPos);
@@ -215,6 +231,7 @@ public class NetDepthTimer extends Overlay implements PluginLifecycleComponent {
         hasBeenMoving = false;
         timerActive = false;
         timerTicks = 0;
+        timerInfo = null;
     }
 
     @Override
@@ -1,11 +1,9 @@
 package com.duckblade.osrs.sailing.features.trawling;
 
-import com.duckblade.osrs.sailing.features.trawling.ShoalPathData.*;
-
 /**
  * Demo class to test path smoothing on existing routes.
  * Run this to see the potential improvements from applying path smoothing
- * to the 6 existing routes in the ShoalPathData folder.
+ * to the traced routes of the newer fishing areas.
  */
 public class PathSmoothingDemo {
 
@@ -13,19 +11,21 @@ public class PathSmoothingDemo {
         System.out.println("=== Path Smoothing Analysis for Existing Routes ===\n");
 
         // Analyze all existing routes
-        analyzeRoute("HalibutPortRoberts", HalibutPortRoberts.INSTANCE.getWaypoints());
-        analyzeRoute("HalibutSouthernExpanse", HalibutSouthernExpanse.INSTANCE.getWaypoints());
-        analyzeRoute("BluefinBuccaneersHaven", BluefinBuccaneersHaven.INSTANCE.getWaypoints());
-        analyzeRoute("BluefinRainbowReef", BluefinRainbowReef.INSTANCE.getWaypoints());
-        analyzeRoute("MarlinWeissmere", MarlinWeissmere.INSTANCE.getWaypoints());
-        analyzeRoute("MarlinBrittleIsle", MarlinBrittleIsle.INSTANCE.getWaypoints());
+        analyzeRoute(ShoalFishingArea.PORT_ROBERTS);
+        analyzeRoute(ShoalFishingArea.SOUTHERN_EXPANSE);
+        analyzeRoute(ShoalFishingArea.BUCCANEERS_HAVEN);
+        analyzeRoute(ShoalFishingArea.RAINBOW_REEF);
+        analyzeRoute(ShoalFishingArea.WEISSMERE);
+        analyzeRoute(ShoalFishingArea.BRITTLE_ISLE);
 
         System.out.println("=== Analysis Complete ===");
-        System.out.println("To apply smoothing, copy the generated code from the output above");
-        System.out.println("and replace the WAYPOINTS arrays in the respective route files.");
+        System.out.println("To apply smoothing, replace the respective routes in " + ShoalRoutes.RESOURCE);
+        System.out.println("with the smoothed waypoints above, using ShoalRoutes.write.");
     }
 
-    private static void analyzeRoute(String routeName, ShoalWaypoint[] waypoints) {
+    private static void analyzeRoute(ShoalFishingArea area) {
+        String routeName = area.name();
+        ShoalWaypoint[] waypoints = ShoalWaypoint.fromRoute(area.getRoute());
         System.out.println("--- " + routeName + " ---");
         
         // Print analysis
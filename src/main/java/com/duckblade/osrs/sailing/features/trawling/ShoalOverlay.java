@@ -1,13 +1,16 @@
 package com.duckblade.osrs.sailing.features.trawling;
 
 import com.duckblade.osrs.sailing.SailingConfig;
+import com.duckblade.osrs.sailing.module.ConfigSnapshotTracker;
 import com.duckblade.osrs.sailing.module.PluginLifecycleComponent;
+import com.google.common.annotations.VisibleForTesting;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.Client;
 import net.runelite.api.GameObject;
 import net.runelite.api.NPC;
 import net.runelite.api.Perspective;
 import net.runelite.api.Point;
+import net.runelite.api.coords.LocalPoint;
 import net.runelite.client.ui.overlay.Overlay;
 import net.runelite.client.ui.overlay.OverlayLayer;
 import net.runelite.client.ui.overlay.OverlayPosition;
@@ -24,7 +27,7 @@ import java.awt.FontMetrics;
 import java.awt.Graphics2D;
 import java.awt.Polygon;
 import java.awt.Stroke;
-import java.util.Set;
+import java.util.Collection;
 
 @Slf4j
 @Singleton
@@ -32,17 +35,22 @@ public class ShoalOverlay extends Overlay
         implements PluginLifecycleComponent {
 
     private static final int SHOAL_HIGHLIGHT_SIZE = 10;
+    private static final Stroke HIGHLIGHT_STROKE = new BasicStroke(0.5f);
+    private static final Font TIMER_FONT = new Font(Font.SANS_SERIF, Font.BOLD, 14);
 
     @Nonnull
     private final Client client;
-    private final SailingConfig config;
+    private final ConfigSnapshotTracker configSnapshotTracker;
     private final ShoalTracker shoalTracker;
     private final NetDepthTimer netDepthTimer;
 
+    private String timerText;
+    private int timerTextTicks;
+
     @Inject
-    public ShoalOverlay(@Nonnull Client client, SailingConfig config, ShoalTracker shoalTracker, NetDepthTimer netDepthTimer) {
+    public ShoalOverlay(@Nonnull Client client, ConfigSnapshotTracker configSnapshotTracker, ShoalTracker shoalTracker, NetDepthTimer netDepthTimer) {
         this.client = client;
-        this.config = config;
+        this.configSnapshotTracker = configSnapshotTracker;
         this.shoalTracker = shoalTracker;
         this.netDepthTimer = netDepthTimer;
         setPosition(OverlayPosition.DYNAMIC);
@@ -67,7 +75,7 @@ public class ShoalOverlay extends Overlay
 
     @Override
     public Dimension render(Graphics2D graphics) {
-        if (!config.trawlingHighlightShoals()) {
+        if (!configSnapshotTracker.getSnapshot().isTrawlingHighlightShoals()) {
             return null;
         }
 
@@ -80,7 +88,7 @@ public class ShoalOverlay extends Overlay
         }
 
         // Fallback to GameObject highlighting if NPC is not available
-        Set<GameObject> shoals = shoalTracker.getShoalObjects();
+        Collection<GameObject> shoals = shoalTracker.getShoalObjects();
         if (!shoals.isEmpty()) {
             GameObject shoalToHighlight = selectShoalToHighlight(shoals);
             if (shoalToHighlight != null) {
@@ -95,7 +103,7 @@ public class ShoalOverlay extends Overlay
      * Select which shoal to highlight when multiple shoals are present.
      * Priority: Special shoals (green) > Regular shoals (config color)
      */
-    private GameObject selectShoalToHighlight(Set<GameObject> shoals) {
+    private GameObject selectShoalToHighlight(Collection<GameObject> shoals) {
         GameObject firstSpecialShoal = null;
         GameObject firstRegularShoal = null;
         
@@ -121,23 +129,23 @@ public class ShoalOverlay extends Overlay
     }
 
     private void renderShoalNpcHighlight(Graphics2D graphics, NPC shoalNpc) {
-        Polygon poly = Perspective.getCanvasTileAreaPoly(client, shoalNpc.getLocalLocation(), SHOAL_HIGHLIGHT_SIZE);
+        Polygon poly = getCanvasTileAreaPoly(shoalNpc.getLocalLocation());
         if (poly != null) {
             // Use depth-based coloring for NPC highlighting
             Color color = getShoalColorFromDepth();
             Stroke originalStroke = graphics.getStroke();
-            graphics.setStroke(new BasicStroke(0.5f));
+            graphics.setStroke(HIGHLIGHT_STROKE);
             OverlayUtil.renderPolygon(graphics, poly, color);
             graphics.setStroke(originalStroke);
         }
     }
 
     private void renderShoalHighlight(Graphics2D graphics, GameObject shoal) {
-        Polygon poly = Perspective.getCanvasTileAreaPoly(client, shoal.getLocalLocation(), SHOAL_HIGHLIGHT_SIZE);
+        Polygon poly = getCanvasTileAreaPoly(shoal.getLocalLocation());
         if (poly != null) {
             Color color = getShoalColor(shoal.getId());
             Stroke originalStroke = graphics.getStroke();
-            graphics.setStroke(new BasicStroke(0.5f));
+            graphics.setStroke(HIGHLIGHT_STROKE);
             OverlayUtil.renderPolygon(graphics, poly, color);
             graphics.setStroke(originalStroke);
         }
@@ -145,25 +153,21 @@ public class ShoalOverlay extends Overlay
 
     private Color getShoalColorFromDepth() {
         // Check if we have any special shoal GameObjects
-        Set<GameObject> shoals = shoalTracker.getShoalObjects();
-        boolean hasSpecialShoal = shoals.stream()
-            .anyMatch(shoal -> isSpecialShoal(shoal.getId()));
-        
-        if (hasSpecialShoal) {
-            log.debug("Special shoal detected, using green highlight");
-            return Color.GREEN;
+        for (GameObject shoal : shoalTracker.getShoalObjects()) {
+            if (isSpecialShoal(shoal.getId())) {
+                return Color.GREEN;
+            }
         }
-        
+
         // Use config color for regular shoals
-        log.debug("Regular shoal detected, using config color");
-        return config.trawlingShoalHighlightColour();
+        return configSnapshotTracker.getSnapshot().getTrawlingShoalHighlightColour();
     }
 
     private Color getShoalColor(int objectId) {
         if (isSpecialShoal(objectId)) {
             return Color.GREEN;
         }
-        return config.trawlingShoalHighlightColour();
+        return configSnapshotTracker.getSnapshot().getTrawlingShoalHighlightColour();
     }
 
     /**
@@ -179,7 +183,7 @@ public class ShoalOverlay extends Overlay
      * Render depth timer text on the shoal NPC
      */
     private void renderDepthTimer(Graphics2D graphics, NPC shoalNpc) {
-        if (!config.trawlingShowNetDepthTimer()) {
+        if (!configSnapshotTracker.getSnapshot().isTrawlingShowNetDepthTimer()) {
             return;
         }
 
@@ -188,7 +192,7 @@ public class ShoalOverlay extends Overlay
             return;
         }
 
-        Point textLocation = Perspective.getCanvasTextLocation(client, graphics, shoalNpc.getLocalLocation(), getTimerText(timerInfo), 0);
+        Point textLocation = getCanvasTextLocation(graphics, shoalNpc.getLocalLocation(), getTimerText(timerInfo));
         if (textLocation != null) {
             renderTimerText(graphics, textLocation, timerInfo);
         }
@@ -202,11 +206,26 @@ public class ShoalOverlay extends Overlay
     private String getTimerText(NetDepthTimer.TimerInfo timerInfo) {
         if (timerInfo.isActive()) {
             int ticksUntilChange = timerInfo.getTicksUntilDepthChange();
-            return String.valueOf(ticksUntilChange);
+            // the countdown only changes on ticks, so only build its text then
+            if (timerText == null || ticksUntilChange != timerTextTicks) {
+                timerText = String.valueOf(ticksUntilChange);
+                timerTextTicks = ticksUntilChange;
+            }
+            return timerText;
         }
         return null;
     }
 
+    @VisibleForTesting
+    protected Polygon getCanvasTileAreaPoly(LocalPoint localPoint) {
+        return Perspective.getCanvasTileAreaPoly(client, localPoint, SHOAL_HIGHLIGHT_SIZE);
+    }
+
+    @VisibleForTesting
+    protected Point getCanvasTextLocation(Graphics2D graphics, LocalPoint localPoint, String text) {
+        return Perspective.getCanvasTextLocation(client, graphics, localPoint, text, 0);
+    }
+
     /**
      * Render the timer text with appropriate styling
      */
@@ -215,7 +234,7 @@ public class ShoalOverlay extends Overlay
         Color originalColor = graphics.getColor();
 
         // Set font and color
-        graphics.setFont(new Font(Font.SANS_SERIF, Font.BOLD, 14));
+        graphics.setFont(TIMER_FONT);
         
         Color textColor;
         if (!timerInfo.isActive()) {
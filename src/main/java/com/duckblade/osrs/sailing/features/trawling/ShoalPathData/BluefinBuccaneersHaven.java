@@ -1,163 +0,0 @@
-// ========================================
-// Shoal Area Export
-// ========================================
-// Shoal: Bluefin
-// Shoal ID: 59738
-// Generated: 2025-12-21 16:21:01
-// Total waypoints: 227
-// Stop points: 12
-// Stop duration: Retrieved from Shoal.BLUEFIN.getStopDuration()
-// ========================================
-
-package com.duckblade.osrs.sailing.features.trawling.ShoalPathData;
-
-import com.duckblade.osrs.sailing.features.trawling.Shoal;
-import com.duckblade.osrs.sailing.features.trawling.ShoalAreaData;
-import com.duckblade.osrs.sailing.features.trawling.ShoalWaypoint;
-import net.runelite.api.coords.WorldArea;
-import net.runelite.api.coords.WorldPoint;
-
-/**
- * Shoal area definition for Bluefin (ID: 59738)
- * Contains waypoint path and area bounds.
- * Stop duration is retrieved from the Shoal enum.
- * Generated by ShoalPathTracker on 2025-12-21 16:21:01
- */
-public class BluefinBuccaneersHaven implements ShoalAreaData {
-
-	/** Area bounds for this shoal region */
-	public static final WorldArea AREA = new WorldArea(1962, 3590, 312, 202, 0);
-
-	/** Shoal type for this area */
-	public static final Shoal SHOAL_TYPE = Shoal.BLUEFIN;
-
-	/** Complete waypoint path with stop point information */
-	public static final ShoalWaypoint[] WAYPOINTS = {
-		new ShoalWaypoint(new WorldPoint(2215, 3684, 0), true),
-		new ShoalWaypoint(new WorldPoint(2218, 3668, 0), false),
-		new ShoalWaypoint(new WorldPoint(2225, 3665, 0), false),
-		new ShoalWaypoint(new WorldPoint(2255, 3658, 0), false),
-		new ShoalWaypoint(new WorldPoint(2260, 3651, 0), false),
-		new ShoalWaypoint(new WorldPoint(2260, 3635, 0), true),
-		new ShoalWaypoint(new WorldPoint(2249, 3621, 0), false),
-		new ShoalWaypoint(new WorldPoint(2218, 3621, 0), false),
-		new ShoalWaypoint(new WorldPoint(2207, 3630, 0), false),
-		new ShoalWaypoint(new WorldPoint(2206, 3644, 0), false),
-		new ShoalWaypoint(new WorldPoint(2196, 3649, 0), true),
-		new ShoalWaypoint(new WorldPoint(2181, 3641, 0), false),
-		new ShoalWaypoint(new WorldPoint(2181, 3610, 0), false),
-		new ShoalWaypoint(new WorldPoint(2174, 3604, 0), false),
-		new ShoalWaypoint(new WorldPoint(2162, 3604, 0), true),
-		new ShoalWaypoint(new WorldPoint(2138, 3603, 0), false),
-		new ShoalWaypoint(new WorldPoint(2131, 3600, 0), false),
-		new ShoalWaypoint(new WorldPoint(2100, 3600, 0), false),
-		new ShoalWaypoint(new WorldPoint(2072, 3611, 0), false),
-		new ShoalWaypoint(new WorldPoint(2068, 3621, 0), true),
-		new ShoalWaypoint(new WorldPoint(2061, 3624, 0), false),
-		new ShoalWaypoint(new WorldPoint(2045, 3626, 0), false),
-		new ShoalWaypoint(new WorldPoint(2035, 3634, 0), false),
-		new ShoalWaypoint(new WorldPoint(2027, 3634, 0), true),
-		new ShoalWaypoint(new WorldPoint(2009, 3635, 0), false),
-		new ShoalWaypoint(new WorldPoint(1985, 3659, 0), false),
-		new ShoalWaypoint(new WorldPoint(1972, 3668, 0), false),
-		new ShoalWaypoint(new WorldPoint(1983, 3700, 0), false),
-		new ShoalWaypoint(new WorldPoint(2001, 3713, 0), false),
-		new ShoalWaypoint(new WorldPoint(2028, 3713, 0), true),
-		new ShoalWaypoint(new WorldPoint(2036, 3721, 0), false),
-		new ShoalWaypoint(new WorldPoint(2034, 3730, 0), false),
-		new ShoalWaypoint(new WorldPoint(2010, 3750, 0), false),
-		new ShoalWaypoint(new WorldPoint(2007, 3754, 0), false),
-		new ShoalWaypoint(new WorldPoint(2007, 3759, 0), true),
-		new ShoalWaypoint(new WorldPoint(2015, 3777, 0), false),
-		new ShoalWaypoint(new WorldPoint(2027, 3782, 0), false),
-		new ShoalWaypoint(new WorldPoint(2038, 3775, 0), false),
-		new ShoalWaypoint(new WorldPoint(2057, 3750, 0), false),
-		new ShoalWaypoint(new WorldPoint(2075, 3748, 0), true),
-		new ShoalWaypoint(new WorldPoint(2077, 3746, 0), false),
-		new ShoalWaypoint(new WorldPoint(2092, 3746, 0), false),
-		new ShoalWaypoint(new WorldPoint(2106, 3733, 0), false),
-		new ShoalWaypoint(new WorldPoint(2092, 3713, 0), false),
-		new ShoalWaypoint(new WorldPoint(2112, 3712, 0), true),
-		new ShoalWaypoint(new WorldPoint(2144, 3711, 0), false),
-		new ShoalWaypoint(new WorldPoint(2169, 3719, 0), false),
-		new ShoalWaypoint(new WorldPoint(2175, 3728, 0), false),
-		new ShoalWaypoint(new WorldPoint(2175, 3738, 0), true),
-		new ShoalWaypoint(new WorldPoint(2182, 3760, 0), false),
-		new ShoalWaypoint(new WorldPoint(2187, 3763, 0), false),
-		new ShoalWaypoint(new WorldPoint(2201, 3763, 0), false),
-		new ShoalWaypoint(new WorldPoint(2208, 3759, 0), false),
-		new ShoalWaypoint(new WorldPoint(2216, 3758, 0), false),
-		new ShoalWaypoint(new WorldPoint(2229, 3752, 0), false),
-		new ShoalWaypoint(new WorldPoint(2250, 3730, 0), true),
-		new ShoalWaypoint(new WorldPoint(2264, 3715, 0), false),
-		new ShoalWaypoint(new WorldPoint(2259, 3709, 0), false),
-		new ShoalWaypoint(new WorldPoint(2249, 3704, 0), false),
-		new ShoalWaypoint(new WorldPoint(2228, 3704, 0), false),
-		new ShoalWaypoint(new WorldPoint(2215, 3691, 0), false),
-		new ShoalWaypoint(new WorldPoint(2215, 3684, 0), false),
-	};
-
-	// Singleton instance for interface access
-	public static final BluefinBuccaneersHaven INSTANCE = new BluefinBuccaneersHaven();
-	
-	private BluefinBuccaneersHaven() {} // Private constructor
-	
-	// Interface implementations
-	@Override
-	public WorldArea getArea() { return AREA; }
-	
-	@Override
-	public ShoalWaypoint[] getWaypoints() { return WAYPOINTS; }
-	
-	@Override
-	public Shoal getShoalType() { return SHOAL_TYPE; }
-}
-
-// ========================================
-// Integration with ShoalFishingArea enum
-// ========================================
-// Add this entry to ShoalFishingArea enum:
-/*
-BLUEFIN_AREA(ShoalBluefinArea.INSTANCE),
-*/
-
-// ========================================
-// Usage Examples
-// ========================================
-// Check if player is in area:
-// boolean inArea = ShoalBluefinArea.INSTANCE.contains(playerLocation);
-
-// Get waypoints for rendering:
-// WorldPoint[] path = ShoalBluefinArea.INSTANCE.getPositions();
-
-// Get stop duration (from Shoal enum):
-// int duration = ShoalBluefinArea.INSTANCE.getStopDuration();
-
-// Access static fields directly:
-// WorldArea area = ShoalBluefinArea.AREA;
-// ShoalWaypoint[] waypoints = ShoalBluefinArea.WAYPOINTS;
-// Shoal shoalType = ShoalBluefinArea.SHOAL_TYPE;
-
-// ========================================
-// Analysis Data
-// ========================================
-// Area bounds: 1962, 3590, 312, 202
-// Stop points: 12 total
-// Stop duration: Retrieved from BLUEFIN shoal type
-// Stop point details:
-// Stop 1 (index 0): WorldPoint(x=2215, y=3684, plane=0)
-// Stop 2 (index 15): WorldPoint(x=2260, y=3635, plane=0)
-// Stop 3 (index 34): WorldPoint(x=2196, y=3649, plane=0)
-// Stop 4 (index 50): WorldPoint(x=2162, y=3604, plane=0)
-// Stop 5 (index 70): WorldPoint(x=2068, y=3621, plane=0)
-// Stop 6 (index 80): WorldPoint(x=2027, y=3634, plane=0)
-// Stop 7 (index 103): WorldPoint(x=2028, y=3713, plane=0)
-// Stop 8 (index 121): WorldPoint(x=2007, y=3759, plane=0)
-// Stop 9 (index 154): WorldPoint(x=2075, y=3748, plane=0)
-// Stop 10 (index 171): WorldPoint(x=2112, y=3712, plane=0)
-// Stop 11 (index 184): WorldPoint(x=2175, y=3738, plane=0)
-// Stop 12 (index 210): WorldPoint(x=2250, y=3730, plane=0)
-
-// ========================================
-// End of Export
-// ========================================
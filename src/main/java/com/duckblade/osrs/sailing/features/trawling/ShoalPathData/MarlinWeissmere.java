@@ -1,131 +0,0 @@
-// ========================================
-// Shoal Area Export
-// ========================================
-// Shoal: Vibrant
-// Shoal ID: 59742
-// Generated: 2025-12-21 15:32:53
-// Total waypoints: 126
-// Stop points: 8
-// Area-based stop duration: -1 ticks
-// ========================================
-
-package com.duckblade.osrs.sailing.features.trawling.ShoalPathData;
-
-import com.duckblade.osrs.sailing.features.trawling.Shoal;
-import com.duckblade.osrs.sailing.features.trawling.ShoalAreaData;
-import com.duckblade.osrs.sailing.features.trawling.ShoalWaypoint;
-import net.runelite.api.coords.WorldArea;
-import net.runelite.api.coords.WorldPoint;
-
-/**
- * Shoal area definition for Vibrant (ID: 59742)
- * Contains waypoint path, area bounds, and stop duration.
- * Generated by ShoalPathTracker on 2025-12-21 15:32:53
- */
-public class MarlinWeissmere implements ShoalAreaData {
-
-	public static final WorldArea AREA = new WorldArea(2590, 3945, 278, 201, 0);
-	public static final Shoal SHOAL_TYPE = Shoal.MARLIN;
-
-	public static final ShoalWaypoint[] WAYPOINTS = {
-		new ShoalWaypoint(new WorldPoint(2718, 3961, 0), true),
-		new ShoalWaypoint(new WorldPoint(2713, 3955, 0), false),
-		new ShoalWaypoint(new WorldPoint(2680, 3955, 0), false),
-		new ShoalWaypoint(new WorldPoint(2649, 3955, 0), false),
-		new ShoalWaypoint(new WorldPoint(2642, 3955, 0), false),
-		new ShoalWaypoint(new WorldPoint(2614, 3968, 0), false),
-		new ShoalWaypoint(new WorldPoint(2613, 3968, 0), true),
-		new ShoalWaypoint(new WorldPoint(2600, 3987, 0), false),
-		new ShoalWaypoint(new WorldPoint(2600, 4019, 0), false),
-		new ShoalWaypoint(new WorldPoint(2600, 4051, 0), false),
-		new ShoalWaypoint(new WorldPoint(2600, 4069, 0), true),
-		new ShoalWaypoint(new WorldPoint(2602, 4074, 0), false),
-		new ShoalWaypoint(new WorldPoint(2624, 4096, 0), false),
-		new ShoalWaypoint(new WorldPoint(2646, 4116, 0), false),
-		new ShoalWaypoint(new WorldPoint(2675, 4114, 0), false),
-		new ShoalWaypoint(new WorldPoint(2691, 4084, 0), false),
-		new ShoalWaypoint(new WorldPoint(2706, 4053, 0), false),
-		new ShoalWaypoint(new WorldPoint(2708, 4050, 0), false),
-		new ShoalWaypoint(new WorldPoint(2708, 4018, 0), false),
-		new ShoalWaypoint(new WorldPoint(2708, 4010, 0), true),
-		new ShoalWaypoint(new WorldPoint(2730, 3989, 0), false),
-		new ShoalWaypoint(new WorldPoint(2754, 3978, 0), true),
-		new ShoalWaypoint(new WorldPoint(2770, 3986, 0), false),
-		new ShoalWaypoint(new WorldPoint(2792, 4008, 0), false),
-		new ShoalWaypoint(new WorldPoint(2797, 4011, 0), false),
-		new ShoalWaypoint(new WorldPoint(2812, 4011, 0), true),
-		new ShoalWaypoint(new WorldPoint(2845, 4011, 0), false),
-		new ShoalWaypoint(new WorldPoint(2853, 4011, 0), true),
-		new ShoalWaypoint(new WorldPoint(2858, 4020, 0), false),
-		new ShoalWaypoint(new WorldPoint(2837, 4043, 0), false),
-		new ShoalWaypoint(new WorldPoint(2811, 4070, 0), false),
-		new ShoalWaypoint(new WorldPoint(2788, 4092, 0), false),
-		new ShoalWaypoint(new WorldPoint(2757, 4124, 0), false),
-		new ShoalWaypoint(new WorldPoint(2746, 4135, 0), true),
-		new ShoalWaypoint(new WorldPoint(2742, 4136, 0), false),
-		new ShoalWaypoint(new WorldPoint(2733, 4131, 0), false),
-		new ShoalWaypoint(new WorldPoint(2718, 4114, 0), false),
-		new ShoalWaypoint(new WorldPoint(2718, 4083, 0), false),
-		new ShoalWaypoint(new WorldPoint(2718, 4052, 0), false),
-		new ShoalWaypoint(new WorldPoint(2718, 4020, 0), false),
-		new ShoalWaypoint(new WorldPoint(2718, 3989, 0), false),
-		new ShoalWaypoint(new WorldPoint(2718, 3962, 0), false),
-	};
-
-	public static final MarlinWeissmere INSTANCE = new MarlinWeissmere();
-	
-	private MarlinWeissmere() {} // Private constructor
-	
-	@Override
-	public WorldArea getArea() { return AREA; }
-	
-	@Override
-	public ShoalWaypoint[] getWaypoints() { return WAYPOINTS; }
-	
-	@Override
-	public Shoal getShoalType() { return SHOAL_TYPE; }
-
-}
-
-// ========================================
-// Integration with ShoalFishingArea enum
-// ========================================
-// Add this entry to ShoalFishingArea enum:
-/*
-VIBRANT_AREA(ShoalVibrantArea.INSTANCE),
-*/
-
-// ========================================
-// Usage Examples
-// ========================================
-// Check if player is in area:
-// boolean inArea = ShoalVibrantArea.INSTANCE.contains(playerLocation);
-
-// Get waypoints for rendering:
-// WorldPoint[] path = ShoalVibrantArea.INSTANCE.getPositions();
-
-// Get stop duration:
-// int duration = ShoalVibrantArea.INSTANCE.getStopDuration();
-
-// Access static fields directly:
-// WorldArea area = ShoalVibrantArea.AREA;
-// ShoalWaypoint[] waypoints = ShoalVibrantArea.WAYPOINTS;
-
-// ========================================
-// Analysis Data
-// ========================================
-// Area bounds: 2590, 3945, 278, 201
-// Stop points: 8 total
-// Stop point details:
-// Stop 1 (index 0): WorldPoint(x=2718, y=3961, plane=0)
-// Stop 2 (index 14): WorldPoint(x=2613, y=3968, plane=0)
-// Stop 3 (index 25): WorldPoint(x=2600, y=4069, plane=0)
-// Stop 4 (index 51): WorldPoint(x=2708, y=4010, plane=0)
-// Stop 5 (index 65): WorldPoint(x=2754, y=3978, plane=0)
-// Stop 6 (index 73): WorldPoint(x=2812, y=4011, plane=0)
-// Stop 7 (index 75): WorldPoint(x=2853, y=4011, plane=0)
-// Stop 8 (index 114): WorldPoint(x=2746, y=4135, plane=0)
-
-// ========================================
-// End of Export
-// ========================================
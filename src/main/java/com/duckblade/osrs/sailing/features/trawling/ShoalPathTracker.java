@@ -2,7 +2,9 @@ package com.duckblade.osrs.sailing.features.trawling;
 
 import com.duckblade.osrs.sailing.SailingConfig;
 import com.duckblade.osrs.sailing.features.util.SailingUtil;
+import com.duckblade.osrs.sailing.module.PhasedTickListener;
 import com.duckblade.osrs.sailing.module.PluginLifecycleComponent;
+import com.duckblade.osrs.sailing.module.TickPhase;
 import com.google.common.math.DoubleMath;
 import lombok.Getter;
 import lombok.Setter;
@@ -12,26 +14,24 @@ import net.runelite.api.GameObject;
 
 import net.runelite.api.coords.WorldPoint;
 import net.runelite.api.events.GameTick;
-import net.runelite.client.eventbus.Subscribe;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
-import java.io.BufferedWriter;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.nio.file.StandardOpenOption;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Set;
 import java.util.stream.Collectors;
 
 
@@ -45,17 +45,15 @@ import java.util.stream.Collectors;
  */
 @Slf4j
 @Singleton
-public class ShoalPathTracker implements PluginLifecycleComponent {
+public class ShoalPathTracker implements PluginLifecycleComponent, PhasedTickListener {
 	private static final int MIN_PATH_POINTS = 2; // Minimum points before we consider it a valid path
 	private static final int MIN_WAYPOINT_DISTANCE = 1; // World coordinate units (tiles)
 	private static final int MAX_WAYPOINT_DISTANCE = 30; // World coordinate units (tiles)
 	private static final int MAX_PLAYER_DISTANCE = 300; // World coordinate units (tiles)
 	private static final int AREA_MARGIN = 10; // World coordinate units (tiles)
 	
-	// Output file configuration
-	private static final String OUTPUT_DIR = "src/main/java/com/duckblade/osrs/sailing/features/trawling/ShoalPathData";
-	private static final String OUTPUT_FILE_PREFIX = "";
-	private static final String OUTPUT_FILE_EXTENSION = ".java";
+	// Output file configuration, relative to the project root
+	private static final String OUTPUT_FILE = "src/main/resources/com/duckblade/osrs/sailing/features/trawling/" + ShoalRoutes.RESOURCE;
 
 	private final Client client;
 	private final ShoalPathTrackerCommand tracerCommand;
@@ -123,8 +121,13 @@ public class ShoalPathTracker implements PluginLifecycleComponent {
     	return "Unknown(" + objectId + ")";
     }
 
-	@Subscribe
-	public void onGameTick(GameTick e) {
+	@Override
+	public TickPhase getTickPhase() {
+		return TickPhase.DERIVED;
+	}
+
+	@Override
+	public void onPhasedTick(GameTick e) {
 		if (!shoalTracker.hasShoal()) {
 			return;
 		}
@@ -132,7 +135,7 @@ public class ShoalPathTracker implements PluginLifecycleComponent {
 		// Initialize path when shoal is first detected
 		if (currentPath == null && shoalTracker.hasShoal()) {
 			// Get the first available shoal object to determine type
-			Set<GameObject> shoalObjects = shoalTracker.getShoalObjects();
+			Collection<GameObject> shoalObjects = shoalTracker.getShoalObjects();
 			if (!shoalObjects.isEmpty()) {
 				GameObject firstShoal = shoalObjects.iterator().next();
 				int objectId = firstShoal.getId();
@@ -146,13 +149,12 @@ public class ShoalPathTracker implements PluginLifecycleComponent {
 			return;
 		}
 		
-		// Update location from ShoalTracker
-		shoalTracker.updateLocation();
+		// Location was already updated by ShoalTracker this tick
 		WorldPoint currentLocation = shoalTracker.getCurrentLocation();
 		
 		if (currentLocation != null) {
 			// Check if shoal type changed (e.g., Halibut -> Glistening)
-			Set<GameObject> shoalObjects = shoalTracker.getShoalObjects();
+			Collection<GameObject> shoalObjects = shoalTracker.getShoalObjects();
 			if (!shoalObjects.isEmpty()) {
 				GameObject currentShoal = shoalObjects.iterator().next();
 				int objectId = currentShoal.getId();
@@ -344,8 +346,6 @@ public class ShoalPathTracker implements PluginLifecycleComponent {
 			// Write to file
 			try {
 				writePathToFile(shoalName);
-				ShoalPathTracker.log.info("Shoal path exported to file: {}/{}{}{}", 
-					OUTPUT_DIR, OUTPUT_FILE_PREFIX, shoalId, OUTPUT_FILE_EXTENSION);
 			} catch (IOException e) {
 				ShoalPathTracker.log.error("Failed to write path to file", e);
 				// Fallback to log output
@@ -354,166 +354,52 @@ public class ShoalPathTracker implements PluginLifecycleComponent {
 		}
 		
 		private void writePathToFile(String shoalName) throws IOException {
-			// Create output directory if it doesn't exist
-			Path outputDir = Paths.get(OUTPUT_DIR);
-			if (!Files.exists(outputDir)) {
-				Files.createDirectories(outputDir);
-			}
-			
-			// Generate class/enum name
-			String className = "Shoal" + shoalName.replaceAll("[^A-Za-z0-9]", "") + "Area";
-			
-			// Create output file with timestamp
-			String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"));
-			String filename = String.format("%s%s%s", OUTPUT_FILE_PREFIX, className, OUTPUT_FILE_EXTENSION);
-			Path outputFile = outputDir.resolve(filename);
-			
+			Path outputFile = Paths.get(OUTPUT_FILE);
+
 			// Calculate bounds and stop points
 			int minX = Integer.MAX_VALUE, maxX = Integer.MIN_VALUE;
 			int minY = Integer.MAX_VALUE, maxY = Integer.MIN_VALUE;
+			WorldPoint[] positions = new WorldPoint[waypoints.size()];
 			List<Integer> stopPoints = new ArrayList<>();
-			
 			for (int i = 0; i < waypoints.size(); i++) {
 				Waypoint wp = waypoints.get(i);
 				WorldPoint pos = wp.getPosition();
-				
+				positions[i] = pos;
+
 				minX = Math.min(minX, pos.getX());
 				minY = Math.min(minY, pos.getY());
 				maxX = Math.max(maxX, pos.getX());
 				maxY = Math.max(maxY, pos.getY());
-				
+
 				if (wp.isStopPoint()) {
 					stopPoints.add(i);
 				}
 			}
-			
+
 			String enumName = shoalName.toUpperCase().replaceAll("[^A-Z0-9]", "_") + "_AREA";
-			
-			// Write to file
-			try (BufferedWriter writer = Files.newBufferedWriter(outputFile, 
-					StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)) {
-				
-				// File header
-				writer.write("// ========================================\n");
-				writer.write("// Shoal Area Export\n");
-				writer.write("// ========================================\n");
-				writer.write("// Shoal: " + shoalName + "\n");
-				writer.write("// Shoal ID: " + shoalId + "\n");
-				writer.write("// Generated: " + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")) + "\n");
-				writer.write("// Total waypoints: " + waypoints.size() + "\n");
-				writer.write("// Stop points: " + stopPoints.size() + "\n");
-				writer.write("// Stop duration: Retrieved from Shoal." + shoalName.toUpperCase().replace(" ", "_") + ".getStopDuration()\n");
-				writer.write("// ========================================\n\n");
-				
-				// Package and imports
-				writer.write("package com.duckblade.osrs.sailing.features.trawling.ShoalPathData;\n\n");
-				writer.write("import com.duckblade.osrs.sailing.features.trawling.Shoal;\n");
-				writer.write("import com.duckblade.osrs.sailing.features.trawling.ShoalAreaData;\n");
-				writer.write("import com.duckblade.osrs.sailing.features.trawling.ShoalWaypoint;\n");
-				writer.write("import net.runelite.api.coords.WorldArea;\n");
-				writer.write("import net.runelite.api.coords.WorldPoint;\n\n");
-				
-				// Class definition with complete area data
-				writer.write("/**\n");
-				writer.write(" * Shoal area definition for " + shoalName + " (ID: " + shoalId + ")\n");
-				writer.write(" * Contains waypoint path and area bounds.\n");
-				writer.write(" * Stop duration is retrieved from the Shoal enum.\n");
-				writer.write(" * Generated by ShoalPathTracker on " + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")) + "\n");
-				writer.write(" */\n");
-				writer.write("public class " + className + " implements ShoalAreaData {\n\n");
-				
-				// Area bounds
-				int areaX = minX - AREA_MARGIN;
-				int areaY = minY - AREA_MARGIN;
-				int areaWidth = maxX - minX + 2 * AREA_MARGIN;
-				int areaHeight = maxY - minY + 2 * AREA_MARGIN;
-				
-				writer.write("\t/** Area bounds for this shoal region */\n");
-				writer.write(String.format("\tpublic static final WorldArea AREA = new WorldArea(%d, %d, %d, %d, 0);\n\n",
-					areaX, areaY, areaWidth, areaHeight));
-				
-				// Shoal type
-				writer.write("\t/** Shoal type for this area */\n");
-				writer.write("\tpublic static final Shoal SHOAL_TYPE = Shoal." + shoalName.toUpperCase().replace(" ", "_") + ";\n\n");
-				
-				// Waypoints array
-				writer.write("\t/** Complete waypoint path with stop point information */\n");
-				writer.write("\tpublic static final ShoalWaypoint[] WAYPOINTS = {\n");
-				
-				for (Waypoint wp : waypoints) {
-					WorldPoint pos = wp.getPosition();
-					writer.write(String.format("\t\tnew ShoalWaypoint(new WorldPoint(%d, %d, %d), %s),\n",
-						pos.getX(), pos.getY(), pos.getPlane(), 
-						wp.isStopPoint() ? "true" : "false"));
-				}
-				
-				writer.write("\t};\n\n");
-				
-				// Singleton instance and interface implementations
-				writer.write("\t// Singleton instance for interface access\n");
-				writer.write("\tpublic static final " + className + " INSTANCE = new " + className + "();\n");
-				writer.write("\t\n");
-				writer.write("\tprivate " + className + "() {} // Private constructor\n");
-				writer.write("\t\n");
-				writer.write("\t// Interface implementations\n");
-				writer.write("\t@Override\n");
-				writer.write("\tpublic WorldArea getArea() { return AREA; }\n");
-				writer.write("\t\n");
-				writer.write("\t@Override\n");
-				writer.write("\tpublic ShoalWaypoint[] getWaypoints() { return WAYPOINTS; }\n");
-				writer.write("\t\n");
-				writer.write("\t@Override\n");
-				writer.write("\tpublic Shoal getShoalType() { return SHOAL_TYPE; }\n");
-				
-				writer.write("}\n\n");
-				
-				// Enum entry for ShoalFishingArea
-				writer.write("// ========================================\n");
-				writer.write("// Integration with ShoalFishingArea enum\n");
-				writer.write("// ========================================\n");
-				writer.write("// Add this entry to ShoalFishingArea enum:\n");
-				writer.write("/*\n");
-				writer.write(enumName + "(" + className + ".INSTANCE),\n");
-				writer.write("*/\n\n");
-				
-				// Usage examples
-				writer.write("// ========================================\n");
-				writer.write("// Usage Examples\n");
-				writer.write("// ========================================\n");
-				writer.write("// Check if player is in area:\n");
-				writer.write("// boolean inArea = " + className + ".INSTANCE.contains(playerLocation);\n\n");
-				writer.write("// Get waypoints for rendering:\n");
-				writer.write("// WorldPoint[] path = " + className + ".INSTANCE.getPositions();\n\n");
-				writer.write("// Get stop duration (from Shoal enum):\n");
-				writer.write("// int duration = " + className + ".INSTANCE.getStopDuration();\n\n");
-				writer.write("// Access static fields directly:\n");
-				writer.write("// WorldArea area = " + className + ".AREA;\n");
-				writer.write("// ShoalWaypoint[] waypoints = " + className + ".WAYPOINTS;\n");
-				writer.write("// Shoal shoalType = " + className + ".SHOAL_TYPE;\n\n");
-				
-				// Detailed analysis
-				writer.write("// ========================================\n");
-				writer.write("// Analysis Data\n");
-				writer.write("// ========================================\n");
-				writer.write("// Area bounds: " + areaX + ", " + areaY + ", " + areaWidth + ", " + areaHeight + "\n");
-				writer.write("// Stop points: " + stopPoints.size() + " total\n");
-				writer.write("// Stop duration: Retrieved from " + shoalName.toUpperCase().replace(" ", "_") + " shoal type\n");
-				
-				// Stop point details
-				writer.write("// Stop point details:\n");
-				for (int i = 0; i < waypoints.size(); i++) {
-					Waypoint wp = waypoints.get(i);
-					if (wp.isStopPoint()) {
-						int stopNumber = stopPoints.indexOf(i) + 1;
-						writer.write(String.format("// Stop %d (index %d): %s\n",
-							stopNumber, i, wp.getPosition()));
-					}
+			ShoalRoute route = ShoalRoute.of(positions, stopPoints.stream().mapToInt(Integer::intValue).toArray());
+
+			// Add to (or replace in) the existing routes, keeping their order
+			Map<String, ShoalRoute> routes = new LinkedHashMap<>();
+			if (Files.exists(outputFile)) {
+				try (InputStream in = Files.newInputStream(outputFile)) {
+					routes.putAll(ShoalRoutes.read(in));
 				}
-				
-				writer.write("\n// ========================================\n");
-				writer.write("// End of Export\n");
-				writer.write("// ========================================\n");
 			}
+			routes.put(enumName, route);
+
+			try (OutputStream out = Files.newOutputStream(outputFile)) {
+				ShoalRoutes.write(out, routes);
+			}
+
+			int areaX = minX - AREA_MARGIN;
+			int areaY = minY - AREA_MARGIN;
+			int areaWidth = maxX - minX + 2 * AREA_MARGIN;
+			int areaHeight = maxY - minY + 2 * AREA_MARGIN;
+			ShoalPathTracker.log.info("Route {} ({} waypoints, {} stop points) written to {}. Add this entry to ShoalFishingArea:",
+				enumName, waypoints.size(), stopPoints.size(), outputFile);
+			ShoalPathTracker.log.info("{}(new WorldArea({}, {}, {}, {}, 0), Shoal.{}),",
+				enumName, areaX, areaY, areaWidth, areaHeight, shoalName.toUpperCase().replace(" ", "_"));
 		}
 		
 		private void logPathToConsole(String shoalName) {
@@ -521,7 +407,7 @@ public class ShoalPathTracker implements PluginLifecycleComponent {
 			ShoalPathTracker.log.debug("=== SHOAL PATH EXPORT (ID: {}, Name: {}) ===", shoalId, shoalName);
 			ShoalPathTracker.log.debug("Total waypoints: {}", waypoints.size());
 			ShoalPathTracker.log.debug("");
-			ShoalPathTracker.log.debug("// Shoal: {} (ID: {}) - Copy this into ShoalPaths.java:", shoalName, shoalId);
+			ShoalPathTracker.log.debug("// Shoal: {} (ID: {}):", shoalName, shoalId);
 			ShoalPathTracker.log.debug("public static final WorldPoint[] SHOAL_{}_PATH = {", shoalId);
 
 			int minX = Integer.MAX_VALUE, maxX = Integer.MIN_VALUE;
@@ -1,1376 +0,0 @@
-package com.duckblade.osrs.sailing.features.trawling;
-
-import net.runelite.api.coords.WorldPoint;
-
-/**
- * Hardcoded shoal paths for various regions.
- * These paths are traced using the ShoalPathTracker feature by following shoals with the player's boat.
- * To trace a route:
- * 1. Launch the client with --developer-mode flag
- * 2. Type "::trackroutes on" in chat to enable tracing
- * 3. Follow a shoal through its complete loop
- * 4. Type "::trackroutes off" in chat to disable and auto-export the traced path to logs
- * 5. Copy the exported path from logs into this file
- * 6. Add the path to the appropriate overlay to display it
- */
-public class ShoalPaths {
-
-	public static final WorldPoint[] GIANT_KRILL_SIMIAN_SEA = {
-		new WorldPoint(2795, 2559, 0), // STOP POINT
-		new WorldPoint(2793, 2558, 0),
-		new WorldPoint(2791, 2558, 0),
-		new WorldPoint(2789, 2559, 0),
-		new WorldPoint(2788, 2560, 0),
-		new WorldPoint(2787, 2562, 0),
-		new WorldPoint(2787, 2588, 0), // STOP POINT
-		new WorldPoint(2787, 2601, 0),
-		new WorldPoint(2784, 2604, 0),
-		new WorldPoint(2781, 2605, 0),
-		new WorldPoint(2775, 2608, 0),
-		new WorldPoint(2765, 2608, 0),
-		new WorldPoint(2765, 2609, 0), // STOP POINT
-		new WorldPoint(2765, 2617, 0),
-		new WorldPoint(2766, 2619, 0),
-		new WorldPoint(2771, 2624, 0),
-		new WorldPoint(2775, 2626, 0),
-		new WorldPoint(2778, 2627, 0),
-		new WorldPoint(2779, 2628, 0),
-		new WorldPoint(2781, 2629, 0),
-		new WorldPoint(2782, 2629, 0), // STOP POINT
-		new WorldPoint(2787, 2629, 0),
-		new WorldPoint(2797, 2624, 0),
-		new WorldPoint(2799, 2624, 0),
-		new WorldPoint(2801, 2623, 0),
-		new WorldPoint(2802, 2622, 0),
-		new WorldPoint(2806, 2614, 0),
-		new WorldPoint(2806, 2608, 0), // STOP POINT
-		new WorldPoint(2809, 2602, 0),
-		new WorldPoint(2813, 2598, 0),
-		new WorldPoint(2815, 2597, 0),
-		new WorldPoint(2817, 2597, 0),
-		new WorldPoint(2827, 2602, 0),
-		new WorldPoint(2829, 2604, 0),
-		new WorldPoint(2831, 2605, 0),
-		new WorldPoint(2833, 2605, 0),
-		new WorldPoint(2835, 2604, 0),
-		new WorldPoint(2836, 2603, 0),
-		new WorldPoint(2839, 2597, 0),
-		new WorldPoint(2839, 2591, 0), // STOP POINT
-		new WorldPoint(2840, 2589, 0),
-		new WorldPoint(2841, 2588, 0),
-		new WorldPoint(2843, 2587, 0),
-		new WorldPoint(2845, 2585, 0),
-		new WorldPoint(2847, 2581, 0),
-		new WorldPoint(2846, 2580, 0),
-		new WorldPoint(2845, 2578, 0),
-		new WorldPoint(2841, 2576, 0),
-		new WorldPoint(2837, 2576, 0),
-		new WorldPoint(2829, 2572, 0), // STOP POINT
-		new WorldPoint(2817, 2566, 0),
-		new WorldPoint(2804, 2566, 0),
-		new WorldPoint(2800, 2564, 0),
-		new WorldPoint(2795, 2559, 0),
-	};
-
-	public static final WorldPoint[] GIANT_KRILL_TURTLE_BELT = {
-		new WorldPoint(2971, 2566, 0), // STOP POINT
-		new WorldPoint(2979, 2566, 0),
-		new WorldPoint(2981, 2565, 0),
-		new WorldPoint(2988, 2558, 0),
-		new WorldPoint(2988, 2557, 0),
-		new WorldPoint(2993, 2547, 0),
-		new WorldPoint(2993, 2531, 0), // STOP POINT
-		new WorldPoint(2989, 2523, 0),
-		new WorldPoint(2987, 2521, 0),
-		new WorldPoint(2986, 2519, 0),
-		new WorldPoint(2986, 2517, 0),
-		new WorldPoint(2987, 2515, 0),
-		new WorldPoint(2988, 2514, 0),
-		new WorldPoint(2990, 2513, 0),
-		new WorldPoint(3000, 2513, 0),
-		new WorldPoint(3012, 2519, 0),
-		new WorldPoint(3014, 2519, 0),
-		new WorldPoint(3015, 2518, 0),
-		new WorldPoint(3016, 2518, 0),
-		new WorldPoint(3017, 2516, 0),
-		new WorldPoint(3017, 2512, 0), // STOP POINT
-		new WorldPoint(3017, 2506, 0),
-		new WorldPoint(3016, 2504, 0),
-		new WorldPoint(3016, 2503, 0),
-		new WorldPoint(3015, 2502, 0),
-		new WorldPoint(3013, 2501, 0),
-		new WorldPoint(2987, 2501, 0),
-		new WorldPoint(2985, 2502, 0), // STOP POINT
-		new WorldPoint(2983, 2502, 0),
-		new WorldPoint(2977, 2499, 0),
-		new WorldPoint(2975, 2499, 0),
-		new WorldPoint(2974, 2498, 0),
-		new WorldPoint(2968, 2486, 0),
-		new WorldPoint(2968, 2478, 0), // STOP POINT
-		new WorldPoint(2968, 2477, 0),
-		new WorldPoint(2967, 2476, 0),
-		new WorldPoint(2967, 2475, 0),
-		new WorldPoint(2962, 2475, 0),
-		new WorldPoint(2961, 2476, 0),
-		new WorldPoint(2961, 2477, 0),
-		new WorldPoint(2958, 2483, 0),
-		new WorldPoint(2956, 2483, 0),
-		new WorldPoint(2954, 2484, 0),
-		new WorldPoint(2952, 2484, 0),
-		new WorldPoint(2938, 2477, 0),
-		new WorldPoint(2937, 2477, 0),
-		new WorldPoint(2936, 2478, 0),
-		new WorldPoint(2934, 2479, 0),
-		new WorldPoint(2933, 2479, 0),
-		new WorldPoint(2932, 2481, 0),
-		new WorldPoint(2932, 2485, 0),
-		new WorldPoint(2939, 2492, 0),
-		new WorldPoint(2941, 2493, 0),
-		new WorldPoint(2942, 2494, 0),
-		new WorldPoint(2943, 2496, 0),
-		new WorldPoint(2943, 2502, 0),
-		new WorldPoint(2941, 2506, 0), // STOP POINT
-		new WorldPoint(2940, 2508, 0),
-		new WorldPoint(2940, 2515, 0),
-		new WorldPoint(2941, 2517, 0),
-		new WorldPoint(2942, 2518, 0),
-		new WorldPoint(2944, 2519, 0),
-		new WorldPoint(2946, 2519, 0),
-		new WorldPoint(2948, 2518, 0),
-		new WorldPoint(2953, 2518, 0),
-		new WorldPoint(2961, 2522, 0),
-		new WorldPoint(2964, 2525, 0), // STOP POINT
-		new WorldPoint(2970, 2531, 0),
-		new WorldPoint(2971, 2533, 0),
-		new WorldPoint(2971, 2535, 0),
-		new WorldPoint(2970, 2537, 0),
-		new WorldPoint(2968, 2539, 0),
-		new WorldPoint(2968, 2540, 0),
-		new WorldPoint(2967, 2540, 0),
-		new WorldPoint(2965, 2541, 0),
-		new WorldPoint(2945, 2541, 0),
-		new WorldPoint(2944, 2543, 0),
-		new WorldPoint(2944, 2545, 0), // STOP POINT
-		new WorldPoint(2944, 2546, 0),
-		new WorldPoint(2947, 2552, 0),
-		new WorldPoint(2953, 2558, 0),
-		new WorldPoint(2963, 2563, 0),
-		new WorldPoint(2965, 2563, 0),
-		new WorldPoint(2971, 2566, 0),
-	};
-
-	public static final WorldPoint[] GIANT_KRILL_GREAT_SOUND = {
-		new WorldPoint(1580, 3365, 0), // STOP POINT
-		new WorldPoint(1583, 3362, 0),
-		new WorldPoint(1589, 3350, 0),
-		new WorldPoint(1589, 3347, 0),
-		new WorldPoint(1591, 3345, 0),
-		new WorldPoint(1595, 3343, 0),
-		new WorldPoint(1597, 3341, 0),
-		new WorldPoint(1598, 3341, 0),
-		new WorldPoint(1601, 3340, 0),
-		new WorldPoint(1602, 3339, 0),
-		new WorldPoint(1605, 3338, 0),
-		new WorldPoint(1606, 3337, 0),
-		new WorldPoint(1612, 3337, 0),
-		new WorldPoint(1614, 3338, 0),
-		new WorldPoint(1621, 3345, 0),
-		new WorldPoint(1628, 3359, 0),
-		new WorldPoint(1628, 3361, 0),
-		new WorldPoint(1622, 3373, 0),
-		new WorldPoint(1616, 3379, 0), // STOP POINT
-		new WorldPoint(1613, 3382, 0),
-		new WorldPoint(1595, 3391, 0),
-		new WorldPoint(1587, 3391, 0),
-		new WorldPoint(1586, 3390, 0),
-		new WorldPoint(1582, 3388, 0),
-		new WorldPoint(1581, 3387, 0),
-		new WorldPoint(1580, 3387, 0), // STOP POINT
-		new WorldPoint(1578, 3386, 0),
-		new WorldPoint(1577, 3385, 0),
-		new WorldPoint(1575, 3384, 0),
-		new WorldPoint(1563, 3372, 0),
-		new WorldPoint(1561, 3368, 0),
-		new WorldPoint(1561, 3364, 0), // STOP POINT
-		new WorldPoint(1561, 3347, 0),
-		new WorldPoint(1563, 3343, 0),
-		new WorldPoint(1565, 3342, 0),
-		new WorldPoint(1567, 3340, 0),
-		new WorldPoint(1567, 3339, 0),
-		new WorldPoint(1569, 3338, 0),
-		new WorldPoint(1574, 3338, 0), // STOP POINT
-		new WorldPoint(1575, 3338, 0),
-		new WorldPoint(1589, 3345, 0),
-		new WorldPoint(1590, 3346, 0),
-		new WorldPoint(1591, 3348, 0),
-		new WorldPoint(1591, 3352, 0),
-		new WorldPoint(1589, 3356, 0),
-		new WorldPoint(1588, 3357, 0),
-		new WorldPoint(1586, 3361, 0),
-		new WorldPoint(1586, 3367, 0),
-		new WorldPoint(1582, 3375, 0),
-		new WorldPoint(1581, 3376, 0),
-		new WorldPoint(1580, 3379, 0), // STOP POINT
-		new WorldPoint(1579, 3380, 0),
-		new WorldPoint(1577, 3381, 0),
-		new WorldPoint(1567, 3381, 0),
-		new WorldPoint(1567, 3380, 0),
-		new WorldPoint(1566, 3379, 0),
-		new WorldPoint(1566, 3375, 0),
-		new WorldPoint(1565, 3373, 0),
-		new WorldPoint(1564, 3372, 0),
-		new WorldPoint(1560, 3370, 0), // STOP POINT
-		new WorldPoint(1558, 3371, 0),
-		new WorldPoint(1557, 3372, 0),
-		new WorldPoint(1556, 3374, 0),
-		new WorldPoint(1556, 3376, 0),
-		new WorldPoint(1557, 3378, 0),
-		new WorldPoint(1558, 3379, 0),
-		new WorldPoint(1560, 3380, 0),
-		new WorldPoint(1562, 3380, 0),
-		new WorldPoint(1568, 3377, 0),
-		new WorldPoint(1580, 3365, 0),
-	};
-
-	public static final WorldPoint[] YELLOWFIN_THE_CROWN_JEWEL = {
-		new WorldPoint(1765, 2543, 0), // STOP POINT
-		new WorldPoint(1785, 2543, 0),
-		new WorldPoint(1786, 2544, 0),
-		new WorldPoint(1788, 2545, 0),
-		new WorldPoint(1791, 2546, 0),
-		new WorldPoint(1793, 2547, 0),
-		new WorldPoint(1796, 2548, 0),
-		new WorldPoint(1798, 2550, 0),
-		new WorldPoint(1800, 2551, 0),
-		new WorldPoint(1802, 2551, 0),
-		new WorldPoint(1803, 2552, 0),
-		new WorldPoint(1805, 2556, 0),
-		new WorldPoint(1807, 2558, 0),
-		new WorldPoint(1808, 2561, 0),
-		new WorldPoint(1809, 2563, 0),
-		new WorldPoint(1809, 2578, 0),
-		new WorldPoint(1808, 2579, 0),
-		new WorldPoint(1807, 2581, 0),
-		new WorldPoint(1806, 2584, 0),
-		new WorldPoint(1805, 2585, 0),
-		new WorldPoint(1799, 2588, 0),
-		new WorldPoint(1796, 2589, 0),
-		new WorldPoint(1766, 2589, 0),
-		new WorldPoint(1746, 2589, 0), // STOP POINT
-		new WorldPoint(1726, 2589, 0),
-		new WorldPoint(1724, 2591, 0),
-		new WorldPoint(1721, 2592, 0),
-		new WorldPoint(1717, 2594, 0),
-		new WorldPoint(1716, 2594, 0),
-		new WorldPoint(1713, 2597, 0),
-		new WorldPoint(1711, 2598, 0),
-		new WorldPoint(1710, 2599, 0),
-		new WorldPoint(1709, 2601, 0),
-		new WorldPoint(1708, 2602, 0),
-		new WorldPoint(1706, 2603, 0),
-		new WorldPoint(1705, 2604, 0),
-		new WorldPoint(1704, 2606, 0),
-		new WorldPoint(1703, 2607, 0),
-		new WorldPoint(1701, 2608, 0),
-		new WorldPoint(1700, 2609, 0),
-		new WorldPoint(1699, 2611, 0),
-		new WorldPoint(1698, 2612, 0),
-		new WorldPoint(1697, 2614, 0),
-		new WorldPoint(1695, 2616, 0),
-		new WorldPoint(1695, 2617, 0),
-		new WorldPoint(1694, 2619, 0),
-		new WorldPoint(1693, 2620, 0),
-		new WorldPoint(1692, 2623, 0),
-		new WorldPoint(1689, 2626, 0),
-		new WorldPoint(1687, 2630, 0),
-		new WorldPoint(1686, 2633, 0),
-		new WorldPoint(1686, 2646, 0),
-		new WorldPoint(1687, 2648, 0),
-		new WorldPoint(1688, 2651, 0),
-		new WorldPoint(1691, 2657, 0),
-		new WorldPoint(1693, 2659, 0),
-		new WorldPoint(1696, 2660, 0),
-		new WorldPoint(1698, 2661, 0),
-		new WorldPoint(1699, 2662, 0),
-		new WorldPoint(1701, 2661, 0),
-		new WorldPoint(1704, 2660, 0), // STOP POINT
-		new WorldPoint(1706, 2659, 0),
-		new WorldPoint(1709, 2658, 0),
-		new WorldPoint(1711, 2656, 0),
-		new WorldPoint(1717, 2656, 0),
-		new WorldPoint(1719, 2655, 0),
-		new WorldPoint(1720, 2654, 0),
-		new WorldPoint(1722, 2653, 0),
-		new WorldPoint(1723, 2651, 0),
-		new WorldPoint(1725, 2649, 0),
-		new WorldPoint(1727, 2648, 0),
-		new WorldPoint(1728, 2646, 0),
-		new WorldPoint(1730, 2644, 0),
-		new WorldPoint(1731, 2641, 0),
-		new WorldPoint(1733, 2639, 0),
-		new WorldPoint(1734, 2637, 0),
-		new WorldPoint(1735, 2634, 0),
-		new WorldPoint(1741, 2622, 0),
-		new WorldPoint(1743, 2620, 0),
-		new WorldPoint(1745, 2619, 0),
-		new WorldPoint(1760, 2619, 0), // STOP POINT
-		new WorldPoint(1781, 2619, 0),
-		new WorldPoint(1782, 2620, 0),
-		new WorldPoint(1783, 2623, 0),
-		new WorldPoint(1784, 2625, 0),
-		new WorldPoint(1786, 2628, 0),
-		new WorldPoint(1787, 2630, 0),
-		new WorldPoint(1788, 2633, 0),
-		new WorldPoint(1789, 2635, 0),
-		new WorldPoint(1791, 2638, 0),
-		new WorldPoint(1792, 2640, 0),
-		new WorldPoint(1792, 2664, 0),
-		new WorldPoint(1791, 2666, 0),
-		new WorldPoint(1788, 2669, 0),
-		new WorldPoint(1786, 2670, 0),
-		new WorldPoint(1784, 2670, 0),
-		new WorldPoint(1783, 2671, 0),
-		new WorldPoint(1781, 2672, 0),
-		new WorldPoint(1780, 2674, 0),
-		new WorldPoint(1780, 2675, 0),
-		new WorldPoint(1781, 2677, 0), // STOP POINT
-		new WorldPoint(1781, 2704, 0),
-		new WorldPoint(1782, 2707, 0),
-		new WorldPoint(1786, 2711, 0),
-		new WorldPoint(1787, 2713, 0),
-		new WorldPoint(1787, 2715, 0),
-		new WorldPoint(1786, 2717, 0),
-		new WorldPoint(1784, 2719, 0),
-		new WorldPoint(1780, 2721, 0),
-		new WorldPoint(1750, 2721, 0), // STOP POINT
-		new WorldPoint(1748, 2720, 0),
-		new WorldPoint(1745, 2719, 0),
-		new WorldPoint(1743, 2717, 0),
-		new WorldPoint(1740, 2716, 0),
-		new WorldPoint(1738, 2715, 0),
-		new WorldPoint(1729, 2706, 0),
-		new WorldPoint(1727, 2705, 0),
-		new WorldPoint(1724, 2703, 0),
-		new WorldPoint(1694, 2703, 0),
-		new WorldPoint(1692, 2702, 0),
-		new WorldPoint(1687, 2697, 0),
-		new WorldPoint(1685, 2693, 0),
-		new WorldPoint(1684, 2690, 0),
-		new WorldPoint(1684, 2675, 0),
-		new WorldPoint(1681, 2669, 0),
-		new WorldPoint(1672, 2660, 0),
-		new WorldPoint(1672, 2659, 0),
-		new WorldPoint(1669, 2656, 0),
-		new WorldPoint(1668, 2654, 0), // STOP POINT
-		new WorldPoint(1668, 2638, 0),
-		new WorldPoint(1667, 2636, 0),
-		new WorldPoint(1666, 2635, 0),
-		new WorldPoint(1665, 2633, 0),
-		new WorldPoint(1659, 2630, 0),
-		new WorldPoint(1657, 2628, 0),
-		new WorldPoint(1654, 2627, 0),
-		new WorldPoint(1652, 2626, 0),
-		new WorldPoint(1649, 2625, 0),
-		new WorldPoint(1648, 2625, 0),
-		new WorldPoint(1646, 2624, 0),
-		new WorldPoint(1643, 2621, 0),
-		new WorldPoint(1643, 2616, 0),
-		new WorldPoint(1644, 2613, 0),
-		new WorldPoint(1645, 2611, 0),
-		new WorldPoint(1646, 2608, 0),
-		new WorldPoint(1647, 2606, 0),
-		new WorldPoint(1649, 2603, 0),
-		new WorldPoint(1650, 2601, 0),
-		new WorldPoint(1651, 2598, 0),
-		new WorldPoint(1651, 2597, 0),
-		new WorldPoint(1652, 2595, 0),
-		new WorldPoint(1653, 2594, 0),
-		new WorldPoint(1656, 2592, 0),
-		new WorldPoint(1658, 2591, 0),
-		new WorldPoint(1662, 2591, 0), // STOP POINT
-		new WorldPoint(1664, 2590, 0),
-		new WorldPoint(1665, 2589, 0),
-		new WorldPoint(1666, 2587, 0),
-		new WorldPoint(1667, 2584, 0),
-		new WorldPoint(1667, 2578, 0),
-		new WorldPoint(1668, 2577, 0),
-		new WorldPoint(1669, 2575, 0),
-		new WorldPoint(1670, 2574, 0),
-		new WorldPoint(1672, 2573, 0),
-		new WorldPoint(1675, 2571, 0),
-		new WorldPoint(1679, 2569, 0),
-		new WorldPoint(1693, 2569, 0),
-		new WorldPoint(1694, 2570, 0),
-		new WorldPoint(1695, 2570, 0),
-		new WorldPoint(1698, 2573, 0),
-		new WorldPoint(1700, 2574, 0),
-		new WorldPoint(1703, 2576, 0),
-		new WorldPoint(1716, 2576, 0),
-		new WorldPoint(1717, 2575, 0),
-		new WorldPoint(1719, 2574, 0),
-		new WorldPoint(1721, 2574, 0),
-		new WorldPoint(1722, 2573, 0),
-		new WorldPoint(1723, 2571, 0),
-		new WorldPoint(1724, 2570, 0),
-		new WorldPoint(1726, 2569, 0),
-		new WorldPoint(1728, 2567, 0),
-		new WorldPoint(1729, 2565, 0),
-		new WorldPoint(1731, 2564, 0),
-		new WorldPoint(1732, 2563, 0),
-		new WorldPoint(1733, 2561, 0),
-		new WorldPoint(1734, 2560, 0),
-		new WorldPoint(1735, 2558, 0),
-		new WorldPoint(1737, 2556, 0),
-		new WorldPoint(1737, 2555, 0),
-		new WorldPoint(1738, 2553, 0),
-		new WorldPoint(1745, 2546, 0),
-		new WorldPoint(1748, 2545, 0),
-		new WorldPoint(1750, 2543, 0)
-	};
-
-	public static final WorldPoint[] HADDOCK_MISTY_SEA = {
-		new WorldPoint(1521, 2758, 0), // STOP POINT
-		new WorldPoint(1524, 2752, 0),
-		new WorldPoint(1525, 2751, 0),
-		new WorldPoint(1526, 2748, 0),
-		new WorldPoint(1527, 2746, 0),
-		new WorldPoint(1534, 2739, 0),
-		new WorldPoint(1534, 2738, 0),
-		new WorldPoint(1535, 2736, 0),
-		new WorldPoint(1537, 2734, 0),
-		new WorldPoint(1538, 2732, 0),
-		new WorldPoint(1538, 2726, 0),
-		new WorldPoint(1539, 2724, 0),
-		new WorldPoint(1540, 2723, 0),
-		new WorldPoint(1544, 2721, 0),
-		new WorldPoint(1549, 2721, 0),
-		new WorldPoint(1571, 2732, 0),
-		new WorldPoint(1587, 2732, 0),
-		new WorldPoint(1595, 2728, 0),
-		new WorldPoint(1596, 2727, 0),
-		new WorldPoint(1597, 2727, 0),
-		new WorldPoint(1599, 2723, 0), // STOP POINT
-		new WorldPoint(1599, 2712, 0),
-		new WorldPoint(1595, 2708, 0),
-		new WorldPoint(1585, 2703, 0),
-		new WorldPoint(1584, 2702, 0),
-		new WorldPoint(1581, 2701, 0),
-		new WorldPoint(1552, 2701, 0),
-		new WorldPoint(1550, 2702, 0),
-		new WorldPoint(1540, 2712, 0),
-		new WorldPoint(1538, 2713, 0),
-		new WorldPoint(1536, 2713, 0),
-		new WorldPoint(1530, 2710, 0),
-		new WorldPoint(1529, 2709, 0),
-		new WorldPoint(1526, 2708, 0),
-		new WorldPoint(1523, 2705, 0),
-		new WorldPoint(1520, 2704, 0),
-		new WorldPoint(1519, 2703, 0),
-		new WorldPoint(1499, 2703, 0),
-		new WorldPoint(1493, 2706, 0),
-		new WorldPoint(1488, 2711, 0),
-		new WorldPoint(1486, 2711, 0),
-		new WorldPoint(1484, 2710, 0),
-		new WorldPoint(1484, 2709, 0),
-		new WorldPoint(1483, 2707, 0),
-		new WorldPoint(1483, 2704, 0),
-		new WorldPoint(1484, 2704, 0), // STOP POINT
-		new WorldPoint(1484, 2702, 0),
-		new WorldPoint(1485, 2700, 0),
-		new WorldPoint(1485, 2696, 0),
-		new WorldPoint(1486, 2694, 0),
-		new WorldPoint(1487, 2693, 0),
-		new WorldPoint(1489, 2692, 0),
-		new WorldPoint(1520, 2692, 0),
-		new WorldPoint(1539, 2692, 0),
-		new WorldPoint(1559, 2702, 0),
-		new WorldPoint(1562, 2705, 0),
-		new WorldPoint(1564, 2706, 0),
-		new WorldPoint(1565, 2707, 0),
-		new WorldPoint(1571, 2707, 0),
-		new WorldPoint(1575, 2705, 0),
-		new WorldPoint(1594, 2686, 0), // STOP POINT
-		new WorldPoint(1599, 2676, 0),
-		new WorldPoint(1599, 2657, 0),
-		new WorldPoint(1587, 2633, 0),
-		new WorldPoint(1587, 2629, 0), // STOP POINT
-		new WorldPoint(1586, 2627, 0),
-		new WorldPoint(1585, 2626, 0),
-		new WorldPoint(1567, 2617, 0),
-		new WorldPoint(1537, 2617, 0),
-		new WorldPoint(1523, 2617, 0),
-		new WorldPoint(1519, 2619, 0), // STOP POINT
-		new WorldPoint(1518, 2619, 0),
-		new WorldPoint(1517, 2620, 0),
-		new WorldPoint(1495, 2631, 0),
-		new WorldPoint(1485, 2631, 0),
-		new WorldPoint(1465, 2641, 0),
-		new WorldPoint(1464, 2641, 0),
-		new WorldPoint(1462, 2643, 0),
-		new WorldPoint(1460, 2647, 0),
-		new WorldPoint(1459, 2648, 0),
-		new WorldPoint(1458, 2651, 0),
-		new WorldPoint(1457, 2653, 0),
-		new WorldPoint(1457, 2656, 0),
-		new WorldPoint(1454, 2662, 0),
-		new WorldPoint(1453, 2663, 0),
-		new WorldPoint(1451, 2664, 0),
-		new WorldPoint(1447, 2664, 0),
-		new WorldPoint(1443, 2662, 0), // STOP POINT
-		new WorldPoint(1435, 2658, 0),
-		new WorldPoint(1430, 2653, 0),
-		new WorldPoint(1428, 2652, 0),
-		new WorldPoint(1413, 2652, 0),
-		new WorldPoint(1410, 2653, 0),
-		new WorldPoint(1402, 2657, 0),
-		new WorldPoint(1400, 2657, 0),
-		new WorldPoint(1399, 2658, 0),
-		new WorldPoint(1395, 2660, 0),
-		new WorldPoint(1390, 2665, 0),
-		new WorldPoint(1387, 2671, 0),
-		new WorldPoint(1387, 2674, 0), // STOP POINT
-		new WorldPoint(1387, 2692, 0),
-		new WorldPoint(1388, 2694, 0),
-		new WorldPoint(1389, 2695, 0),
-		new WorldPoint(1393, 2697, 0),
-		new WorldPoint(1394, 2698, 0),
-		new WorldPoint(1397, 2699, 0),
-		new WorldPoint(1399, 2700, 0),
-		new WorldPoint(1406, 2700, 0),
-		new WorldPoint(1408, 2701, 0),
-		new WorldPoint(1409, 2702, 0),
-		new WorldPoint(1410, 2704, 0),
-		new WorldPoint(1410, 2718, 0),
-		new WorldPoint(1409, 2720, 0), // STOP POINT
-		new WorldPoint(1408, 2722, 0),
-		new WorldPoint(1408, 2752, 0),
-		new WorldPoint(1409, 2754, 0),
-		new WorldPoint(1421, 2766, 0),
-		new WorldPoint(1425, 2768, 0),
-		new WorldPoint(1429, 2768, 0), // STOP POINT
-		new WorldPoint(1459, 2768, 0),
-		new WorldPoint(1471, 2768, 0),
-		new WorldPoint(1473, 2769, 0),
-		new WorldPoint(1474, 2770, 0),
-		new WorldPoint(1476, 2771, 0),
-		new WorldPoint(1477, 2771, 0),
-		new WorldPoint(1491, 2778, 0),
-		new WorldPoint(1503, 2778, 0),
-		new WorldPoint(1505, 2777, 0),
-		new WorldPoint(1506, 2776, 0),
-		new WorldPoint(1507, 2776, 0),
-		new WorldPoint(1508, 2774, 0),
-		new WorldPoint(1509, 2774, 0),
-		new WorldPoint(1517, 2766, 0),
-		new WorldPoint(1520, 2760, 0),
-		new WorldPoint(1521, 2759, 0),
-		new WorldPoint(1521, 2758, 0),
-	};
-
-	public static final WorldPoint[] GIANT_KRILL_SUNSET_BAY = {
-		new WorldPoint(1576, 2905, 0), // STOP POINT
-		new WorldPoint(1576, 2904, 0),
-		new WorldPoint(1577, 2903, 0),
-		new WorldPoint(1578, 2901, 0),
-		new WorldPoint(1593, 2886, 0),
-		new WorldPoint(1594, 2884, 0),
-		new WorldPoint(1594, 2882, 0),
-		new WorldPoint(1593, 2880, 0),
-		new WorldPoint(1593, 2878, 0),
-		new WorldPoint(1590, 2872, 0), // STOP POINT
-		new WorldPoint(1589, 2872, 0),
-		new WorldPoint(1589, 2871, 0),
-		new WorldPoint(1587, 2870, 0),
-		new WorldPoint(1565, 2870, 0),
-		new WorldPoint(1553, 2876, 0),
-		new WorldPoint(1552, 2876, 0),
-		new WorldPoint(1534, 2885, 0),
-		new WorldPoint(1533, 2885, 0),
-		new WorldPoint(1523, 2895, 0),
-		new WorldPoint(1523, 2896, 0), // STOP POINT
-		new WorldPoint(1522, 2896, 0),
-		new WorldPoint(1521, 2897, 0),
-		new WorldPoint(1519, 2898, 0),
-		new WorldPoint(1518, 2899, 0),
-		new WorldPoint(1514, 2899, 0),
-		new WorldPoint(1512, 2898, 0),
-		new WorldPoint(1511, 2897, 0),
-		new WorldPoint(1509, 2896, 0),
-		new WorldPoint(1508, 2895, 0),
-		new WorldPoint(1504, 2887, 0),
-		new WorldPoint(1504, 2884, 0),
-		new WorldPoint(1503, 2882, 0),
-		new WorldPoint(1502, 2881, 0),
-		new WorldPoint(1500, 2880, 0),
-		new WorldPoint(1496, 2880, 0),
-		new WorldPoint(1495, 2881, 0),
-		new WorldPoint(1494, 2883, 0),
-		new WorldPoint(1494, 2888, 0), // STOP POINT
-		new WorldPoint(1493, 2889, 0),
-		new WorldPoint(1490, 2895, 0),
-		new WorldPoint(1488, 2897, 0),
-		new WorldPoint(1487, 2899, 0),
-		new WorldPoint(1487, 2901, 0),
-		new WorldPoint(1489, 2905, 0),
-		new WorldPoint(1495, 2911, 0),
-		new WorldPoint(1497, 2915, 0),
-		new WorldPoint(1497, 2921, 0), // STOP POINT
-		new WorldPoint(1497, 2943, 0),
-		new WorldPoint(1498, 2945, 0),
-		new WorldPoint(1499, 2946, 0),
-		new WorldPoint(1499, 2947, 0),
-		new WorldPoint(1503, 2949, 0),
-		new WorldPoint(1504, 2949, 0), // STOP POINT
-		new WorldPoint(1505, 2949, 0),
-		new WorldPoint(1507, 2948, 0),
-		new WorldPoint(1510, 2945, 0),
-		new WorldPoint(1519, 2927, 0),
-		new WorldPoint(1519, 2926, 0),
-		new WorldPoint(1520, 2924, 0),
-		new WorldPoint(1522, 2922, 0),
-		new WorldPoint(1525, 2922, 0),
-		new WorldPoint(1527, 2923, 0),
-		new WorldPoint(1528, 2923, 0),
-		new WorldPoint(1530, 2924, 0),
-		new WorldPoint(1543, 2937, 0),
-		new WorldPoint(1545, 2938, 0),
-		new WorldPoint(1563, 2938, 0),
-		new WorldPoint(1567, 2936, 0),
-		new WorldPoint(1569, 2936, 0), // STOP POINT
-		new WorldPoint(1569, 2935, 0),
-		new WorldPoint(1571, 2935, 0),
-		new WorldPoint(1575, 2933, 0),
-		new WorldPoint(1577, 2931, 0),
-		new WorldPoint(1578, 2929, 0),
-		new WorldPoint(1578, 2927, 0),
-		new WorldPoint(1576, 2923, 0),
-		new WorldPoint(1576, 2922, 0),
-		new WorldPoint(1575, 2921, 0),
-		new WorldPoint(1574, 2919, 0),
-		new WorldPoint(1574, 2909, 0),
-		new WorldPoint(1576, 2905, 0),
-	};
-
-	public static final WorldPoint[] HADDOCK_ANGLERFISHS_LIGHT = {
-		new WorldPoint(2772, 2411, 0), // STOP POINT
-		new WorldPoint(2756, 2411, 0),
-		new WorldPoint(2755, 2410, 0),
-		new WorldPoint(2754, 2410, 0),
-		new WorldPoint(2742, 2398, 0),
-		new WorldPoint(2741, 2396, 0),
-		new WorldPoint(2741, 2378, 0), // STOP POINT
-		new WorldPoint(2745, 2370, 0),
-		new WorldPoint(2746, 2369, 0),
-		new WorldPoint(2746, 2367, 0),
-		new WorldPoint(2748, 2365, 0),
-		new WorldPoint(2752, 2363, 0),
-		new WorldPoint(2757, 2363, 0),
-		new WorldPoint(2759, 2362, 0),
-		new WorldPoint(2760, 2361, 0),
-		new WorldPoint(2761, 2359, 0),
-		new WorldPoint(2761, 2349, 0),
-		new WorldPoint(2760, 2348, 0),
-		new WorldPoint(2760, 2347, 0),
-		new WorldPoint(2761, 2345, 0),
-		new WorldPoint(2765, 2341, 0),
-		new WorldPoint(2767, 2340, 0),
-		new WorldPoint(2775, 2340, 0), // STOP POINT
-		new WorldPoint(2781, 2340, 0),
-		new WorldPoint(2785, 2338, 0),
-		new WorldPoint(2787, 2336, 0),
-		new WorldPoint(2790, 2330, 0),
-		new WorldPoint(2792, 2328, 0),
-		new WorldPoint(2792, 2323, 0),
-		new WorldPoint(2793, 2321, 0),
-		new WorldPoint(2794, 2320, 0),
-		new WorldPoint(2798, 2318, 0),
-		new WorldPoint(2799, 2317, 0),
-		new WorldPoint(2801, 2316, 0),
-		new WorldPoint(2804, 2313, 0),
-		new WorldPoint(2804, 2312, 0),
-		new WorldPoint(2805, 2310, 0),
-		new WorldPoint(2804, 2308, 0),
-		new WorldPoint(2802, 2306, 0),
-		new WorldPoint(2800, 2305, 0),
-		new WorldPoint(2788, 2305, 0),
-		new WorldPoint(2770, 2314, 0), // STOP POINT
-		new WorldPoint(2748, 2314, 0),
-		new WorldPoint(2746, 2313, 0),
-		new WorldPoint(2745, 2312, 0),
-		new WorldPoint(2743, 2313, 0),
-		new WorldPoint(2734, 2322, 0),
-		new WorldPoint(2730, 2324, 0),
-		new WorldPoint(2702, 2324, 0), // STOP POINT
-		new WorldPoint(2684, 2333, 0),
-		new WorldPoint(2682, 2337, 0),
-		new WorldPoint(2682, 2348, 0),
-		new WorldPoint(2684, 2352, 0),
-		new WorldPoint(2688, 2356, 0),
-		new WorldPoint(2700, 2362, 0),
-		new WorldPoint(2702, 2362, 0),
-		new WorldPoint(2704, 2363, 0),
-		new WorldPoint(2705, 2364, 0),
-		new WorldPoint(2713, 2380, 0),
-		new WorldPoint(2713, 2411, 0),
-		new WorldPoint(2713, 2420, 0), // STOP POINT
-		new WorldPoint(2714, 2421, 0),
-		new WorldPoint(2719, 2431, 0),
-		new WorldPoint(2719, 2432, 0),
-		new WorldPoint(2720, 2434, 0),
-		new WorldPoint(2726, 2440, 0),
-		new WorldPoint(2729, 2441, 0),
-		new WorldPoint(2730, 2442, 0),
-		new WorldPoint(2732, 2443, 0),
-		new WorldPoint(2760, 2443, 0),
-		new WorldPoint(2761, 2442, 0),
-		new WorldPoint(2763, 2441, 0),
-		new WorldPoint(2772, 2432, 0),
-		new WorldPoint(2775, 2431, 0),
-		new WorldPoint(2783, 2431, 0), // STOP POINT
-		new WorldPoint(2791, 2427, 0),
-		new WorldPoint(2792, 2426, 0),
-		new WorldPoint(2798, 2423, 0),
-		new WorldPoint(2808, 2413, 0),
-		new WorldPoint(2810, 2412, 0),
-		new WorldPoint(2810, 2411, 0),
-		new WorldPoint(2812, 2409, 0),
-		new WorldPoint(2823, 2387, 0),
-		new WorldPoint(2823, 2384, 0),
-		new WorldPoint(2817, 2378, 0), // STOP POINT
-		new WorldPoint(2817, 2377, 0),
-		new WorldPoint(2815, 2377, 0),
-		new WorldPoint(2813, 2376, 0),
-		new WorldPoint(2803, 2376, 0),
-		new WorldPoint(2802, 2377, 0),
-		new WorldPoint(2802, 2383, 0),
-		new WorldPoint(2791, 2405, 0),
-		new WorldPoint(2791, 2406, 0),
-		new WorldPoint(2790, 2407, 0),
-		new WorldPoint(2782, 2411, 0),
-		new WorldPoint(2772, 2411, 0),
-	};
-
-	public static final WorldPoint[] HADDOCK_THE_ONYX_CREST = {
-		new WorldPoint(3096, 2214, 0), // STOP POINT
-		new WorldPoint(3092, 2214, 0),
-		new WorldPoint(3076, 2206, 0),
-		new WorldPoint(3075, 2206, 0),
-		new WorldPoint(3059, 2198, 0), // STOP POINT
-		new WorldPoint(3037, 2176, 0),
-		new WorldPoint(3033, 2172, 0),
-		new WorldPoint(3033, 2170, 0),
-		new WorldPoint(3031, 2168, 0),
-		new WorldPoint(3029, 2167, 0),
-		new WorldPoint(3027, 2167, 0),
-		new WorldPoint(3009, 2176, 0),
-		new WorldPoint(3003, 2182, 0),
-		new WorldPoint(3002, 2184, 0),
-		new WorldPoint(3002, 2200, 0),
-		new WorldPoint(3004, 2204, 0), // STOP POINT
-		new WorldPoint(3004, 2206, 0),
-		new WorldPoint(3003, 2208, 0),
-		new WorldPoint(3002, 2209, 0),
-		new WorldPoint(3000, 2210, 0),
-		new WorldPoint(2975, 2210, 0),
-		new WorldPoint(2974, 2211, 0),
-		new WorldPoint(2968, 2214, 0),
-		new WorldPoint(2965, 2215, 0),
-		new WorldPoint(2964, 2216, 0),
-		new WorldPoint(2962, 2216, 0),
-		new WorldPoint(2959, 2219, 0),
-		new WorldPoint(2959, 2221, 0),
-		new WorldPoint(2960, 2224, 0),
-		new WorldPoint(2961, 2225, 0),
-		new WorldPoint(2963, 2226, 0),
-		new WorldPoint(2965, 2226, 0),
-		new WorldPoint(2967, 2225, 0),
-		new WorldPoint(2969, 2225, 0),
-		new WorldPoint(2975, 2222, 0), // STOP POINT
-		new WorldPoint(3005, 2222, 0),
-		new WorldPoint(3007, 2224, 0),
-		new WorldPoint(3010, 2230, 0),
-		new WorldPoint(3010, 2235, 0),
-		new WorldPoint(3011, 2237, 0),
-		new WorldPoint(3016, 2242, 0),
-		new WorldPoint(3026, 2247, 0),
-		new WorldPoint(3027, 2247, 0),
-		new WorldPoint(3028, 2248, 0),
-		new WorldPoint(3042, 2255, 0),
-		new WorldPoint(3049, 2262, 0),
-		new WorldPoint(3051, 2266, 0),
-		new WorldPoint(3048, 2272, 0),
-		new WorldPoint(3046, 2275, 0),
-		new WorldPoint(3046, 2276, 0),
-		new WorldPoint(3039, 2290, 0),
-		new WorldPoint(3024, 2305, 0),
-		new WorldPoint(3022, 2306, 0), // STOP POINT
-		new WorldPoint(3021, 2306, 0),
-		new WorldPoint(3020, 2307, 0),
-		new WorldPoint(3018, 2308, 0),
-		new WorldPoint(3008, 2308, 0),
-		new WorldPoint(3006, 2309, 0),
-		new WorldPoint(2999, 2316, 0),
-		new WorldPoint(2997, 2320, 0),
-		new WorldPoint(2991, 2326, 0),
-		new WorldPoint(2989, 2327, 0),
-		new WorldPoint(2988, 2328, 0),
-		new WorldPoint(2986, 2328, 0),
-		new WorldPoint(2984, 2327, 0),
-		new WorldPoint(2967, 2310, 0),
-		new WorldPoint(2965, 2309, 0),
-		new WorldPoint(2959, 2309, 0),
-		new WorldPoint(2951, 2313, 0), // STOP POINT
-		new WorldPoint(2947, 2315, 0),
-		new WorldPoint(2942, 2315, 0),
-		new WorldPoint(2939, 2318, 0),
-		new WorldPoint(2939, 2322, 0),
-		new WorldPoint(2940, 2325, 0),
-		new WorldPoint(2943, 2331, 0),
-		new WorldPoint(2944, 2332, 0),
-		new WorldPoint(2944, 2351, 0),
-		new WorldPoint(2946, 2355, 0),
-		new WorldPoint(2946, 2357, 0),
-		new WorldPoint(2947, 2358, 0),
-		new WorldPoint(2948, 2360, 0),
-		new WorldPoint(2949, 2361, 0),
-		new WorldPoint(2957, 2365, 0),
-		new WorldPoint(2974, 2365, 0), // STOP POINT
-		new WorldPoint(2991, 2365, 0),
-		new WorldPoint(2993, 2364, 0),
-		new WorldPoint(2994, 2363, 0),
-		new WorldPoint(2999, 2353, 0),
-		new WorldPoint(2999, 2348, 0),
-		new WorldPoint(3000, 2346, 0),
-		new WorldPoint(3001, 2343, 0),
-		new WorldPoint(3002, 2342, 0),
-		new WorldPoint(3002, 2341, 0),
-		new WorldPoint(3003, 2340, 0),
-		new WorldPoint(3005, 2339, 0),
-		new WorldPoint(3011, 2339, 0),
-		new WorldPoint(3013, 2340, 0),
-		new WorldPoint(3014, 2341, 0),
-		new WorldPoint(3015, 2341, 0),
-		new WorldPoint(3017, 2342, 0),
-		new WorldPoint(3018, 2343, 0),
-		new WorldPoint(3023, 2353, 0),
-		new WorldPoint(3024, 2354, 0),
-		new WorldPoint(3025, 2356, 0),
-		new WorldPoint(3026, 2357, 0),
-		new WorldPoint(3028, 2358, 0),
-		new WorldPoint(3030, 2358, 0),
-		new WorldPoint(3038, 2354, 0),
-		new WorldPoint(3041, 2351, 0), // STOP POINT
-		new WorldPoint(3047, 2345, 0),
-		new WorldPoint(3053, 2342, 0),
-		new WorldPoint(3054, 2342, 0),
-		new WorldPoint(3056, 2340, 0),
-		new WorldPoint(3058, 2336, 0),
-		new WorldPoint(3058, 2311, 0),
-		new WorldPoint(3062, 2303, 0),
-		new WorldPoint(3065, 2300, 0),
-		new WorldPoint(3068, 2300, 0),
-		new WorldPoint(3069, 2301, 0),
-		new WorldPoint(3071, 2302, 0),
-		new WorldPoint(3073, 2304, 0),
-		new WorldPoint(3074, 2306, 0),
-		new WorldPoint(3074, 2307, 0),
-		new WorldPoint(3075, 2308, 0),
-		new WorldPoint(3077, 2309, 0),
-		new WorldPoint(3081, 2309, 0),
-		new WorldPoint(3085, 2307, 0),
-		new WorldPoint(3087, 2307, 0),
-		new WorldPoint(3093, 2304, 0),
-		new WorldPoint(3097, 2304, 0), // STOP POINT
-		new WorldPoint(3109, 2298, 0),
-		new WorldPoint(3112, 2295, 0),
-		new WorldPoint(3113, 2292, 0),
-		new WorldPoint(3114, 2291, 0),
-		new WorldPoint(3114, 2285, 0),
-		new WorldPoint(3113, 2283, 0),
-		new WorldPoint(3112, 2282, 0),
-		new WorldPoint(3100, 2276, 0),
-		new WorldPoint(3099, 2276, 0),
-		new WorldPoint(3094, 2271, 0),
-		new WorldPoint(3089, 2261, 0),
-		new WorldPoint(3087, 2259, 0),
-		new WorldPoint(3086, 2256, 0), // STOP POINT
-		new WorldPoint(3086, 2245, 0),
-		new WorldPoint(3087, 2243, 0),
-		new WorldPoint(3099, 2231, 0),
-		new WorldPoint(3107, 2227, 0),
-		new WorldPoint(3109, 2225, 0),
-		new WorldPoint(3110, 2223, 0),
-		new WorldPoint(3110, 2221, 0),
-		new WorldPoint(3109, 2219, 0),
-		new WorldPoint(3108, 2218, 0),
-		new WorldPoint(3100, 2214, 0),
-		new WorldPoint(3096, 2214, 0),
-	};
-
-	public static final WorldPoint[] YELLOWFIN_SEA_OF_SOULS = {
-		new WorldPoint(2224, 2738, 0), // STOP POINT
-		new WorldPoint(2234, 2738, 0),
-		new WorldPoint(2236, 2737, 0),
-		new WorldPoint(2237, 2736, 0),
-		new WorldPoint(2239, 2733, 0),
-		new WorldPoint(2239, 2730, 0),
-		new WorldPoint(2238, 2728, 0),
-		new WorldPoint(2237, 2725, 0),
-		new WorldPoint(2236, 2723, 0),
-		new WorldPoint(2234, 2720, 0),
-		new WorldPoint(2232, 2716, 0),
-		new WorldPoint(2232, 2715, 0),
-		new WorldPoint(2231, 2714, 0),
-		new WorldPoint(2229, 2713, 0),
-		new WorldPoint(2199, 2713, 0),
-		new WorldPoint(2196, 2713, 0),
-		new WorldPoint(2194, 2712, 0),
-		new WorldPoint(2193, 2710, 0),
-		new WorldPoint(2191, 2707, 0), // STOP POINT
-		new WorldPoint(2191, 2702, 0),
-		new WorldPoint(2192, 2700, 0),
-		new WorldPoint(2193, 2697, 0),
-		new WorldPoint(2196, 2691, 0),
-		new WorldPoint(2196, 2690, 0),
-		new WorldPoint(2197, 2689, 0),
-		new WorldPoint(2198, 2687, 0),
-		new WorldPoint(2200, 2686, 0),
-		new WorldPoint(2203, 2684, 0),
-		new WorldPoint(2233, 2684, 0),
-		new WorldPoint(2248, 2684, 0),
-		new WorldPoint(2251, 2683, 0),
-		new WorldPoint(2253, 2681, 0),
-		new WorldPoint(2256, 2680, 0),
-		new WorldPoint(2258, 2679, 0),
-		new WorldPoint(2261, 2678, 0),
-		new WorldPoint(2263, 2676, 0),
-		new WorldPoint(2266, 2675, 0),
-		new WorldPoint(2268, 2674, 0),
-		new WorldPoint(2270, 2674, 0), // STOP POINT
-		new WorldPoint(2283, 2674, 0),
-		new WorldPoint(2285, 2675, 0),
-		new WorldPoint(2288, 2676, 0),
-		new WorldPoint(2290, 2677, 0),
-		new WorldPoint(2303, 2690, 0), // STOP POINT
-		new WorldPoint(2305, 2691, 0),
-		new WorldPoint(2308, 2692, 0),
-		new WorldPoint(2310, 2693, 0),
-		new WorldPoint(2340, 2693, 0),
-		new WorldPoint(2348, 2693, 0),
-		new WorldPoint(2351, 2692, 0),
-		new WorldPoint(2352, 2691, 0),
-		new WorldPoint(2354, 2688, 0),
-		new WorldPoint(2354, 2658, 0),
-		new WorldPoint(2354, 2651, 0), // STOP POINT
-		new WorldPoint(2354, 2621, 0),
-		new WorldPoint(2354, 2611, 0),
-		new WorldPoint(2353, 2609, 0),
-		new WorldPoint(2352, 2608, 0),
-		new WorldPoint(2352, 2607, 0),
-		new WorldPoint(2350, 2606, 0),
-		new WorldPoint(2347, 2605, 0),
-		new WorldPoint(2340, 2605, 0),
-		new WorldPoint(2339, 2606, 0),
-		new WorldPoint(2337, 2607, 0),
-		new WorldPoint(2319, 2625, 0),
-		new WorldPoint(2315, 2627, 0),
-		new WorldPoint(2312, 2628, 0),
-		new WorldPoint(2311, 2629, 0),
-		new WorldPoint(2301, 2629, 0),
-		new WorldPoint(2298, 2628, 0),
-		new WorldPoint(2297, 2627, 0),
-		new WorldPoint(2297, 2626, 0),
-		new WorldPoint(2296, 2624, 0),
-		new WorldPoint(2296, 2622, 0),
-		new WorldPoint(2297, 2620, 0),
-		new WorldPoint(2298, 2617, 0),
-		new WorldPoint(2300, 2613, 0),
-		new WorldPoint(2301, 2612, 0),
-		new WorldPoint(2303, 2608, 0),
-		new WorldPoint(2303, 2602, 0),
-		new WorldPoint(2301, 2598, 0),
-		new WorldPoint(2298, 2597, 0),
-		new WorldPoint(2296, 2596, 0),
-		new WorldPoint(2293, 2595, 0),
-		new WorldPoint(2287, 2595, 0), // STOP POINT
-		new WorldPoint(2277, 2595, 0),
-		new WorldPoint(2273, 2597, 0),
-		new WorldPoint(2270, 2598, 0),
-		new WorldPoint(2266, 2600, 0),
-		new WorldPoint(2256, 2600, 0),
-		new WorldPoint(2252, 2598, 0),
-		new WorldPoint(2249, 2597, 0),
-		new WorldPoint(2247, 2596, 0),
-		new WorldPoint(2246, 2595, 0),
-		new WorldPoint(2216, 2595, 0),
-		new WorldPoint(2188, 2595, 0),
-		new WorldPoint(2186, 2596, 0),
-		new WorldPoint(2185, 2597, 0),
-		new WorldPoint(2183, 2600, 0),
-		new WorldPoint(2183, 2602, 0),
-		new WorldPoint(2184, 2605, 0),
-		new WorldPoint(2185, 2606, 0),
-		new WorldPoint(2185, 2608, 0),
-		new WorldPoint(2186, 2609, 0),
-		new WorldPoint(2189, 2610, 0),
-		new WorldPoint(2191, 2611, 0),
-		new WorldPoint(2221, 2611, 0),
-		new WorldPoint(2224, 2611, 0), // STOP POINT
-		new WorldPoint(2236, 2611, 0),
-		new WorldPoint(2237, 2612, 0),
-		new WorldPoint(2239, 2615, 0),
-		new WorldPoint(2239, 2618, 0),
-		new WorldPoint(2238, 2620, 0),
-		new WorldPoint(2237, 2623, 0),
-		new WorldPoint(2236, 2625, 0),
-		new WorldPoint(2234, 2628, 0),
-		new WorldPoint(2232, 2632, 0),
-		new WorldPoint(2232, 2633, 0),
-		new WorldPoint(2231, 2634, 0),
-		new WorldPoint(2229, 2635, 0),
-		new WorldPoint(2199, 2635, 0),
-		new WorldPoint(2196, 2635, 0),
-		new WorldPoint(2194, 2636, 0),
-		new WorldPoint(2193, 2638, 0),
-		new WorldPoint(2191, 2641, 0), // STOP POINT
-		new WorldPoint(2191, 2646, 0),
-		new WorldPoint(2192, 2648, 0),
-		new WorldPoint(2193, 2651, 0),
-		new WorldPoint(2198, 2661, 0),
-		new WorldPoint(2199, 2662, 0),
-		new WorldPoint(2203, 2664, 0),
-		new WorldPoint(2234, 2664, 0),
-		new WorldPoint(2249, 2664, 0),
-		new WorldPoint(2251, 2666, 0),
-		new WorldPoint(2254, 2667, 0),
-		new WorldPoint(2256, 2668, 0),
-		new WorldPoint(2259, 2669, 0),
-		new WorldPoint(2261, 2671, 0),
-		new WorldPoint(2267, 2673, 0),
-		new WorldPoint(2268, 2674, 0),
-		new WorldPoint(2269, 2674, 0), // STOP POINT
-		new WorldPoint(2284, 2674, 0),
-		new WorldPoint(2285, 2673, 0),
-		new WorldPoint(2287, 2672, 0),
-		new WorldPoint(2290, 2671, 0),
-		new WorldPoint(2303, 2658, 0), // STOP POINT
-		new WorldPoint(2307, 2656, 0),
-		new WorldPoint(2310, 2655, 0),
-		new WorldPoint(2340, 2655, 0),
-		new WorldPoint(2348, 2655, 0),
-		new WorldPoint(2349, 2656, 0),
-		new WorldPoint(2351, 2657, 0),
-		new WorldPoint(2353, 2661, 0),
-		new WorldPoint(2354, 2664, 0),
-		new WorldPoint(2354, 2694, 0),
-		new WorldPoint(2354, 2696, 0), // STOP POINT
-		new WorldPoint(2354, 2726, 0),
-		new WorldPoint(2354, 2737, 0),
-		new WorldPoint(2353, 2739, 0),
-		new WorldPoint(2351, 2741, 0),
-		new WorldPoint(2347, 2743, 0),
-		new WorldPoint(2341, 2743, 0),
-		new WorldPoint(2337, 2741, 0),
-		new WorldPoint(2320, 2724, 0),
-		new WorldPoint(2316, 2722, 0),
-		new WorldPoint(2313, 2720, 0),
-		new WorldPoint(2312, 2719, 0),
-		new WorldPoint(2301, 2719, 0),
-		new WorldPoint(2299, 2720, 0),
-		new WorldPoint(2297, 2722, 0),
-		new WorldPoint(2296, 2724, 0),
-		new WorldPoint(2296, 2726, 0),
-		new WorldPoint(2297, 2729, 0),
-		new WorldPoint(2298, 2731, 0),
-		new WorldPoint(2299, 2734, 0),
-		new WorldPoint(2301, 2736, 0),
-		new WorldPoint(2303, 2740, 0),
-		new WorldPoint(2303, 2747, 0),
-		new WorldPoint(2302, 2749, 0),
-		new WorldPoint(2301, 2750, 0),
-		new WorldPoint(2299, 2751, 0),
-		new WorldPoint(2296, 2752, 0),
-		new WorldPoint(2294, 2753, 0),
-		new WorldPoint(2287, 2753, 0), // STOP POINT
-		new WorldPoint(2277, 2753, 0),
-		new WorldPoint(2273, 2751, 0),
-		new WorldPoint(2270, 2750, 0),
-		new WorldPoint(2266, 2748, 0),
-		new WorldPoint(2256, 2748, 0),
-		new WorldPoint(2254, 2749, 0),
-		new WorldPoint(2251, 2750, 0),
-		new WorldPoint(2247, 2752, 0),
-		new WorldPoint(2246, 2753, 0),
-		new WorldPoint(2214, 2753, 0),
-		new WorldPoint(2188, 2753, 0),
-		new WorldPoint(2186, 2752, 0),
-		new WorldPoint(2185, 2751, 0),
-		new WorldPoint(2183, 2748, 0),
-		new WorldPoint(2183, 2746, 0),
-		new WorldPoint(2184, 2744, 0),
-		new WorldPoint(2185, 2741, 0),
-		new WorldPoint(2185, 2740, 0),
-		new WorldPoint(2186, 2739, 0),
-		new WorldPoint(2189, 2738, 0),
-		new WorldPoint(2219, 2738, 0),
-		new WorldPoint(2224, 2738, 0),
-	};
-
-	public static final WorldPoint[] YELLOWFIN_DEEPFIN_POINT = {
-		new WorldPoint(1900, 2721, 0), // STOP POINT
-		new WorldPoint(1900, 2741, 0),
-		new WorldPoint(1901, 2742, 0),
-		new WorldPoint(1901, 2743, 0),
-		new WorldPoint(1905, 2745, 0),
-		new WorldPoint(1910, 2750, 0),
-		new WorldPoint(1911, 2752, 0),
-		new WorldPoint(1911, 2755, 0),
-		new WorldPoint(1909, 2759, 0),
-		new WorldPoint(1908, 2762, 0),
-		new WorldPoint(1906, 2765, 0),
-		new WorldPoint(1905, 2767, 0),
-		new WorldPoint(1904, 2770, 0),
-		new WorldPoint(1900, 2774, 0),
-		new WorldPoint(1898, 2775, 0),
-		new WorldPoint(1895, 2777, 0),
-		new WorldPoint(1893, 2778, 0),
-		new WorldPoint(1890, 2779, 0),
-		new WorldPoint(1888, 2780, 0),
-		new WorldPoint(1885, 2782, 0),
-		new WorldPoint(1870, 2782, 0), // STOP POINT
-		new WorldPoint(1868, 2783, 0),
-		new WorldPoint(1867, 2784, 0),
-		new WorldPoint(1865, 2787, 0),
-		new WorldPoint(1865, 2789, 0),
-		new WorldPoint(1866, 2792, 0),
-		new WorldPoint(1868, 2794, 0),
-		new WorldPoint(1869, 2797, 0),
-		new WorldPoint(1872, 2803, 0),
-		new WorldPoint(1880, 2811, 0),
-		new WorldPoint(1882, 2812, 0),
-		new WorldPoint(1895, 2812, 0),
-		new WorldPoint(1896, 2813, 0),
-		new WorldPoint(1896, 2814, 0),
-		new WorldPoint(1897, 2815, 0),
-		new WorldPoint(1899, 2818, 0),
-		new WorldPoint(1900, 2820, 0),
-		new WorldPoint(1901, 2823, 0),
-		new WorldPoint(1902, 2825, 0),
-		new WorldPoint(1902, 2829, 0),
-		new WorldPoint(1898, 2837, 0),
-		new WorldPoint(1896, 2839, 0),
-		new WorldPoint(1892, 2841, 0), // STOP POINT
-		new WorldPoint(1891, 2842, 0),
-		new WorldPoint(1890, 2844, 0),
-		new WorldPoint(1889, 2847, 0),
-		new WorldPoint(1888, 2849, 0),
-		new WorldPoint(1888, 2855, 0),
-		new WorldPoint(1886, 2859, 0),
-		new WorldPoint(1885, 2860, 0),
-		new WorldPoint(1883, 2861, 0),
-		new WorldPoint(1882, 2862, 0),
-		new WorldPoint(1881, 2864, 0),
-		new WorldPoint(1880, 2865, 0),
-		new WorldPoint(1878, 2866, 0),
-		new WorldPoint(1875, 2867, 0),
-		new WorldPoint(1873, 2869, 0),
-		new WorldPoint(1871, 2870, 0),
-		new WorldPoint(1861, 2870, 0),
-		new WorldPoint(1859, 2869, 0),
-		new WorldPoint(1858, 2868, 0),
-		new WorldPoint(1857, 2865, 0),
-		new WorldPoint(1855, 2863, 0),
-		new WorldPoint(1854, 2861, 0),
-		new WorldPoint(1854, 2854, 0),
-		new WorldPoint(1853, 2852, 0),
-		new WorldPoint(1852, 2852, 0),
-		new WorldPoint(1850, 2851, 0),
-		new WorldPoint(1846, 2851, 0),
-		new WorldPoint(1845, 2852, 0),
-		new WorldPoint(1843, 2852, 0),
-		new WorldPoint(1830, 2865, 0),
-		new WorldPoint(1828, 2866, 0),
-		new WorldPoint(1825, 2867, 0),
-		new WorldPoint(1821, 2867, 0), // STOP POINT
-		new WorldPoint(1816, 2867, 0),
-		new WorldPoint(1812, 2863, 0),
-		new WorldPoint(1811, 2861, 0),
-		new WorldPoint(1810, 2858, 0),
-		new WorldPoint(1809, 2856, 0),
-		new WorldPoint(1807, 2853, 0),
-		new WorldPoint(1807, 2847, 0),
-		new WorldPoint(1808, 2845, 0),
-		new WorldPoint(1809, 2844, 0),
-		new WorldPoint(1810, 2842, 0),
-		new WorldPoint(1812, 2841, 0),
-		new WorldPoint(1815, 2838, 0),
-		new WorldPoint(1815, 2836, 0),
-		new WorldPoint(1816, 2834, 0),
-		new WorldPoint(1817, 2831, 0),
-		new WorldPoint(1818, 2829, 0),
-		new WorldPoint(1819, 2826, 0),
-		new WorldPoint(1819, 2820, 0),
-		new WorldPoint(1818, 2818, 0),
-		new WorldPoint(1812, 2812, 0),
-		new WorldPoint(1810, 2811, 0),
-		new WorldPoint(1808, 2809, 0),
-		new WorldPoint(1805, 2808, 0),
-		new WorldPoint(1803, 2807, 0),
-		new WorldPoint(1800, 2806, 0),
-		new WorldPoint(1796, 2804, 0), // STOP POINT
-		new WorldPoint(1795, 2804, 0),
-		new WorldPoint(1793, 2803, 0),
-		new WorldPoint(1792, 2802, 0),
-		new WorldPoint(1791, 2799, 0),
-		new WorldPoint(1791, 2769, 0),
-		new WorldPoint(1791, 2762, 0),
-		new WorldPoint(1793, 2759, 0),
-		new WorldPoint(1794, 2757, 0),
-		new WorldPoint(1795, 2754, 0),
-		new WorldPoint(1797, 2750, 0),
-		new WorldPoint(1797, 2749, 0),
-		new WorldPoint(1800, 2743, 0),
-		new WorldPoint(1806, 2737, 0),
-		new WorldPoint(1807, 2737, 0),
-		new WorldPoint(1809, 2735, 0),
-		new WorldPoint(1811, 2734, 0),
-		new WorldPoint(1823, 2734, 0), // STOP POINT
-		new WorldPoint(1825, 2735, 0),
-		new WorldPoint(1826, 2736, 0),
-		new WorldPoint(1827, 2739, 0),
-		new WorldPoint(1828, 2741, 0),
-		new WorldPoint(1830, 2744, 0),
-		new WorldPoint(1831, 2746, 0),
-		new WorldPoint(1832, 2749, 0),
-		new WorldPoint(1833, 2751, 0),
-		new WorldPoint(1835, 2754, 0),
-		new WorldPoint(1836, 2756, 0),
-		new WorldPoint(1837, 2759, 0),
-		new WorldPoint(1838, 2761, 0),
-		new WorldPoint(1840, 2764, 0),
-		new WorldPoint(1840, 2770, 0),
-		new WorldPoint(1841, 2772, 0),
-		new WorldPoint(1849, 2780, 0),
-		new WorldPoint(1851, 2781, 0),
-		new WorldPoint(1854, 2782, 0),
-		new WorldPoint(1865, 2782, 0), // STOP POINT
-		new WorldPoint(1867, 2783, 0),
-		new WorldPoint(1868, 2784, 0),
-		new WorldPoint(1869, 2787, 0),
-		new WorldPoint(1870, 2789, 0),
-		new WorldPoint(1872, 2792, 0),
-		new WorldPoint(1872, 2803, 0),
-		new WorldPoint(1873, 2805, 0),
-		new WorldPoint(1877, 2809, 0),
-		new WorldPoint(1878, 2809, 0),
-		new WorldPoint(1879, 2811, 0),
-		new WorldPoint(1880, 2811, 0),
-		new WorldPoint(1882, 2812, 0),
-		new WorldPoint(1895, 2812, 0),
-		new WorldPoint(1897, 2814, 0),
-		new WorldPoint(1900, 2820, 0),
-		new WorldPoint(1901, 2823, 0),
-		new WorldPoint(1902, 2825, 0),
-		new WorldPoint(1902, 2829, 0),
-		new WorldPoint(1903, 2831, 0),
-		new WorldPoint(1907, 2835, 0),
-		new WorldPoint(1908, 2835, 0),
-		new WorldPoint(1911, 2837, 0),
-		new WorldPoint(1913, 2838, 0),
-		new WorldPoint(1916, 2839, 0),
-		new WorldPoint(1918, 2841, 0),
-		new WorldPoint(1920, 2842, 0),
-		new WorldPoint(1934, 2842, 0), // STOP POINT
-		new WorldPoint(1938, 2844, 0),
-		new WorldPoint(1944, 2850, 0),
-		new WorldPoint(1948, 2852, 0),
-		new WorldPoint(1967, 2852, 0),
-		new WorldPoint(1969, 2850, 0),
-		new WorldPoint(1970, 2848, 0),
-		new WorldPoint(1970, 2842, 0),
-		new WorldPoint(1971, 2840, 0),
-		new WorldPoint(1972, 2837, 0),
-		new WorldPoint(1975, 2834, 0),
-		new WorldPoint(1978, 2833, 0),
-		new WorldPoint(1980, 2832, 0),
-		new WorldPoint(1984, 2832, 0),
-		new WorldPoint(1986, 2833, 0),
-		new WorldPoint(1987, 2834, 0),
-		new WorldPoint(1989, 2837, 0),
-		new WorldPoint(1990, 2839, 0),
-		new WorldPoint(1991, 2842, 0),
-		new WorldPoint(1991, 2845, 0),
-		new WorldPoint(1995, 2849, 0),
-		new WorldPoint(2000, 2849, 0),
-		new WorldPoint(2004, 2847, 0),
-		new WorldPoint(2005, 2846, 0),
-		new WorldPoint(2007, 2845, 0),
-		new WorldPoint(2010, 2842, 0),
-		new WorldPoint(2011, 2839, 0),
-		new WorldPoint(2011, 2808, 0),
-		new WorldPoint(2011, 2804, 0),
-		new WorldPoint(2010, 2802, 0),
-		new WorldPoint(2009, 2801, 0),
-		new WorldPoint(2011, 2797, 0),
-		new WorldPoint(2012, 2796, 0),
-		new WorldPoint(2014, 2792, 0),
-		new WorldPoint(2014, 2787, 0), // STOP POINT
-		new WorldPoint(2014, 2778, 0),
-		new WorldPoint(2013, 2776, 0),
-		new WorldPoint(2013, 2775, 0),
-		new WorldPoint(2012, 2773, 0),
-		new WorldPoint(2011, 2772, 0),
-		new WorldPoint(2010, 2770, 0),
-		new WorldPoint(2010, 2753, 0),
-		new WorldPoint(2011, 2750, 0),
-		new WorldPoint(2011, 2749, 0),
-		new WorldPoint(2012, 2747, 0),
-		new WorldPoint(2010, 2743, 0),
-		new WorldPoint(2002, 2735, 0),
-		new WorldPoint(1999, 2734, 0),
-		new WorldPoint(1997, 2733, 0), // STOP POINT
-		new WorldPoint(1995, 2732, 0),
-		new WorldPoint(1992, 2730, 0),
-		new WorldPoint(1990, 2729, 0),
-		new WorldPoint(1987, 2728, 0),
-		new WorldPoint(1983, 2726, 0),
-		new WorldPoint(1981, 2726, 0),
-		new WorldPoint(1979, 2725, 0),
-		new WorldPoint(1971, 2717, 0),
-		new WorldPoint(1970, 2715, 0),
-		new WorldPoint(1969, 2714, 0),
-		new WorldPoint(1969, 2696, 0),
-		new WorldPoint(1970, 2695, 0),
-		new WorldPoint(1971, 2695, 0),
-		new WorldPoint(1972, 2693, 0),
-		new WorldPoint(1974, 2692, 0),
-		new WorldPoint(1978, 2688, 0),
-		new WorldPoint(1984, 2685, 0),
-		new WorldPoint(1986, 2685, 0),
-		new WorldPoint(1986, 2684, 0),
-		new WorldPoint(1987, 2683, 0),
-		new WorldPoint(1987, 2680, 0),
-		new WorldPoint(1986, 2679, 0),
-		new WorldPoint(1985, 2677, 0),
-		new WorldPoint(1985, 2676, 0),
-		new WorldPoint(1983, 2675, 0),
-		new WorldPoint(1977, 2675, 0), // STOP POINT
-		new WorldPoint(1947, 2675, 0),
-		new WorldPoint(1920, 2675, 0),
-		new WorldPoint(1917, 2676, 0),
-		new WorldPoint(1916, 2676, 0),
-		new WorldPoint(1915, 2677, 0),
-		new WorldPoint(1914, 2679, 0),
-		new WorldPoint(1912, 2680, 0),
-		new WorldPoint(1911, 2681, 0),
-		new WorldPoint(1910, 2683, 0),
-		new WorldPoint(1909, 2684, 0),
-		new WorldPoint(1907, 2687, 0),
-		new WorldPoint(1906, 2689, 0),
-		new WorldPoint(1906, 2709, 0),
-		new WorldPoint(1904, 2713, 0),
-		new WorldPoint(1902, 2716, 0),
-		new WorldPoint(1900, 2720, 0),
-		new WorldPoint(1900, 2721, 0),
-	};
-}
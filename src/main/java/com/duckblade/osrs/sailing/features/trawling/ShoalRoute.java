@@ -0,0 +1,80 @@
+package com.duckblade.osrs.sailing.features.trawling;
+
+import lombok.Getter;
+import net.runelite.api.coords.WorldPoint;
+
+/**
+ * A shoal's looping route, as parallel arrays of world tile coordinates on a single plane,
+ * along with the indices of the points where the shoal stops.
+ * <p>
+ * Arrays are shared and must not be modified.
+ */
+public final class ShoalRoute
+{
+
+	@Getter
+	private final int plane;
+	private final int[] x;
+	private final int[] y;
+	@Getter
+	private final int[] stopIndices;
+
+	ShoalRoute(int plane, int[] x, int[] y, int[] stopIndices)
+	{
+		if (x.length != y.length)
+		{
+			throw new IllegalArgumentException("x and y lengths differ: " + x.length + " != " + y.length);
+		}
+
+		this.plane = plane;
+		this.x = x;
+		this.y = y;
+		this.stopIndices = stopIndices;
+	}
+
+	public static ShoalRoute of(WorldPoint[] path, int[] stopIndices)
+	{
+		int[] x = new int[path.length];
+		int[] y = new int[path.length];
+		for (int i = 0; i < path.length; i++)
+		{
+			x[i] = path[i].getX();
+			y[i] = path[i].getY();
+		}
+		return new ShoalRoute(path.length > 0 ? path[0].getPlane() : 0, x, y, stopIndices);
+	}
+
+	public int size()
+	{
+		return x.length;
+	}
+
+	public int getX(int index)
+	{
+		return x[index];
+	}
+
+	public int getY(int index)
+	{
+		return y[index];
+	}
+
+	/**
+	 * Allocates, prefer {@link #getX(int)} and {@link #getY(int)} where that matters.
+	 */
+	public WorldPoint getPoint(int index)
+	{
+		return new WorldPoint(x[index], y[index], plane);
+	}
+
+	public WorldPoint[] toWorldPoints()
+	{
+		WorldPoint[] points = new WorldPoint[x.length];
+		for (int i = 0; i < points.length; i++)
+		{
+			points[i] = getPoint(i);
+		}
+		return points;
+	}
+
+}
@@ -0,0 +1,520 @@
+package com.duckblade.osrs.sailing.features.trawling;
+
+import com.google.common.math.IntMath;
+import java.awt.geom.Path2D;
+import java.util.Arrays;
+import lombok.Getter;
+import net.runelite.api.Client;
+import net.runelite.api.Constants;
+import net.runelite.api.Perspective;
+import net.runelite.api.Point;
+import net.runelite.api.Scene;
+import net.runelite.api.coords.LocalPoint;
+import net.runelite.api.coords.WorldPoint;
+
+/**
+ * Screen geometry of one {@link ShoalFishingArea}'s route, kept between frames for {@link ShoalPathOverlay}.
+ * <p>
+ * Long segments are split once, up front, into the pieces which may be drawn separately when only part of
+ * the segment is in the scene. Their local points are recomputed when the scene base changes,
+ * and their canvas points, along with the batched route, closing segment and arrowhead paths,
+ * whenever the view changes. Frames in between reuse everything as is.
+ * <p>
+ * On a view change only the waypoints are projected at first. A segment with both ends on the canvas is drawn
+ * straight between them, and only segments with an end off the canvas project their split points,
+ * so a route which is entirely in view costs one projection per waypoint.
+ * <p>
+ * The split route is also cut into chunks of {@value #CHUNK_SEGMENTS} segments with world bounding boxes.
+ * The chunks overlapping the loaded scene are found when the scene changes, and view changes only walk those,
+ * so that work scales with the part of the route which is in the scene rather than the whole route.
+ */
+final class ShoalRouteGeometry
+{
+
+	// segments shorter than this, in tiles, are never split
+	static final int MAX_SPLITTABLE_DISTANCE = 10;
+
+	private static final int ARROW_SPACING = 10;
+	private static final int ARROW_SIZE = 10;
+	private static final double ARROW_ANGLE = Math.PI / 4;
+
+	static final int CHUNK_SEGMENTS = 32;
+
+	/**
+	 * {@link Perspective#localToCanvas(Client, LocalPoint, int)}, replaceable in tests.
+	 */
+	@FunctionalInterface
+	interface Projection
+	{
+		Point localToCanvas(Client client, LocalPoint localPoint, int plane);
+	}
+
+	private final Projection projection;
+
+	private final int plane;
+	private final int waypointCount;
+
+	// the split route in world tiles, closed by repeating the first waypoint at the end
+	private final int[] worldX;
+	private final int[] worldY;
+	// index into the split route of each waypoint, then of the repeated first waypoint
+	private final int[] waypointIndices;
+	// waypoint starting the segment each point is on, waypointCount for the repeated first waypoint
+	private final int[] segmentIndices;
+	private final int[] stopIndices;
+
+	// world bounds of each chunk, which covers points [chunk * CHUNK_SEGMENTS, (chunk + 1) * CHUNK_SEGMENTS]
+	private final int chunkCount;
+	private final int[] chunkMinX;
+	private final int[] chunkMinY;
+	private final int[] chunkMaxX;
+	private final int[] chunkMaxY;
+	// ascending indices of the chunks overlapping the scene
+	private final int[] sceneChunks;
+	private int sceneChunkCount;
+
+	private final LocalPoint[] localPoints;
+	private int sceneBaseX = Integer.MIN_VALUE;
+	private int sceneBaseY = Integer.MIN_VALUE;
+
+	private final int[] canvasX;
+	private final int[] canvasY;
+	private final boolean[] onCanvas;
+	private int projectedViewVersion = -1;
+
+	@Getter
+	private final Path2D.Float route = new Path2D.Float();
+	@Getter
+	private final Path2D.Float closingSegment = new Path2D.Float();
+	@Getter
+	private final Path2D.Float arrowheads = new Path2D.Float();
+
+	private final int[] stopCanvasX;
+	private final int[] stopCanvasY;
+	@Getter
+	private int visibleStopCount;
+
+	ShoalRouteGeometry(ShoalRoute route)
+	{
+		this(route, Perspective::localToCanvas);
+	}
+
+	ShoalRouteGeometry(ShoalRoute route, Projection projection)
+	{
+		this.projection = projection;
+		int length = route.size();
+		this.plane = route.getPlane();
+		this.waypointCount = length;
+		this.stopIndices = route.getStopIndices();
+		this.waypointIndices = new int[length + 1];
+
+		IntList xs = new IntList(length * 2);
+		IntList ys = new IntList(length * 2);
+		for (int i = 0; i < length; i++)
+		{
+			waypointIndices[i] = xs.size;
+			xs.add(route.getX(i));
+			ys.add(route.getY(i));
+
+			if (length >= 2)
+			{
+				int next = (i + 1) % length;
+				split(route.getX(i), route.getY(i), route.getX(next), route.getY(next), xs, ys);
+			}
+		}
+		waypointIndices[length] = xs.size;
+		if (length >= 2)
+		{
+			xs.add(route.getX(0));
+			ys.add(route.getY(0));
+		}
+
+		this.worldX = xs.toArray();
+		this.worldY = ys.toArray();
+		this.segmentIndices = new int[worldX.length];
+		for (int w = 0; w < length; w++)
+		{
+			Arrays.fill(segmentIndices, waypointIndices[w], waypointIndices[w + 1], w);
+		}
+		if (length >= 2)
+		{
+			segmentIndices[waypointIndices[length]] = length;
+		}
+		this.localPoints = new LocalPoint[worldX.length];
+		this.canvasX = new int[worldX.length];
+		this.canvasY = new int[worldX.length];
+		this.onCanvas = new boolean[worldX.length];
+		this.stopCanvasX = new int[this.stopIndices.length];
+		this.stopCanvasY = new int[this.stopIndices.length];
+
+		this.chunkCount = worldX.length > 0 ? Math.max(worldX.length - 2, 0) / CHUNK_SEGMENTS + 1 : 0;
+		this.chunkMinX = new int[chunkCount];
+		this.chunkMinY = new int[chunkCount];
+		this.chunkMaxX = new int[chunkCount];
+		this.chunkMaxY = new int[chunkCount];
+		this.sceneChunks = new int[chunkCount];
+		for (int chunk = 0; chunk < chunkCount; chunk++)
+		{
+			int minX = Integer.MAX_VALUE;
+			int minY = Integer.MAX_VALUE;
+			int maxX = Integer.MIN_VALUE;
+			int maxY = Integer.MIN_VALUE;
+			for (int i = chunkStart(chunk); i <= chunkEnd(chunk); i++)
+			{
+				minX = Math.min(minX, worldX[i]);
+				minY = Math.min(minY, worldY[i]);
+				maxX = Math.max(maxX, worldX[i]);
+				maxY = Math.max(maxY, worldY[i]);
+			}
+			chunkMinX[chunk] = minX;
+			chunkMinY[chunk] = minY;
+			chunkMaxX[chunk] = maxX;
+			chunkMaxY[chunk] = maxY;
+		}
+	}
+
+	private static int chunkStart(int chunk)
+	{
+		return chunk * CHUNK_SEGMENTS;
+	}
+
+	// inclusive, and shared with the next chunk's start
+	private int chunkEnd(int chunk)
+	{
+		return Math.min((chunk + 1) * CHUNK_SEGMENTS, worldX.length - 1);
+	}
+
+	/**
+	 * Appends the points strictly between the two ends where the segment can be split,
+	 * halving on whole tile steps until the pieces are short or can't be halved evenly.
+	 */
+	private static void split(int x1, int y1, int x2, int y2, IntList xs, IntList ys)
+	{
+		int dx = x2 - x1;
+		int dy = y2 - y1;
+		if (Math.hypot(dx, dy) < MAX_SPLITTABLE_DISTANCE)
+		{
+			return;
+		}
+
+		int maxSteps = IntMath.gcd(Math.abs(dx), Math.abs(dy));
+		if (maxSteps <= 2)
+		{
+			return;
+		}
+
+		int midStep = maxSteps / 2;
+		int midX = x1 + (dx / maxSteps * midStep);
+		int midY = y1 + (dy / maxSteps * midStep);
+
+		split(x1, y1, midX, midY, xs, ys);
+		xs.add(midX);
+		ys.add(midY);
+		split(midX, midY, x2, y2, xs, ys);
+	}
+
+	/**
+	 * Rebuilds the local and canvas geometry if the scene or view changed since the last call.
+	 *
+	 * @param viewVersion the current {@link com.duckblade.osrs.sailing.features.util.ProjectionCache#getViewVersion()}
+	 */
+	void update(Client client, int viewVersion)
+	{
+		if (viewVersion == projectedViewVersion)
+		{
+			return;
+		}
+		projectedViewVersion = viewVersion;
+
+		Scene scene = client.getTopLevelWorldView().getScene();
+		if (scene.getBaseX() != sceneBaseX || scene.getBaseY() != sceneBaseY)
+		{
+			sceneBaseX = scene.getBaseX();
+			sceneBaseY = scene.getBaseY();
+			loadScene(client);
+		}
+
+		project(client);
+	}
+
+	void invalidate()
+	{
+		projectedViewVersion = -1;
+		sceneBaseX = Integer.MIN_VALUE;
+		sceneBaseY = Integer.MIN_VALUE;
+		sceneChunkCount = 0;
+		Arrays.fill(localPoints, null);
+	}
+
+	/**
+	 * Finds the chunks overlapping the scene, and computes local points for those only.
+	 * Points outside them stay off the canvas until the next scene load.
+	 */
+	private void loadScene(Client client)
+	{
+		Arrays.fill(localPoints, null);
+		Arrays.fill(onCanvas, false);
+		sceneChunkCount = 0;
+
+		// may be larger than the actual scene, LocalPoint.fromWorld has the final say for each point
+		int maxX = sceneBaseX + Constants.EXTENDED_SCENE_SIZE - 1;
+		int maxY = sceneBaseY + Constants.EXTENDED_SCENE_SIZE - 1;
+		for (int chunk = 0; chunk < chunkCount; chunk++)
+		{
+			if (chunkMaxX[chunk] < sceneBaseX || chunkMinX[chunk] > maxX ||
+				chunkMaxY[chunk] < sceneBaseY || chunkMinY[chunk] > maxY)
+			{
+				continue;
+			}
+
+			sceneChunks[sceneChunkCount++] = chunk;
+			for (int i = chunkStart(chunk); i <= chunkEnd(chunk); i++)
+			{
+				if (localPoints[i] == null)
+				{
+					localPoints[i] = LocalPoint.fromWorld(client, new WorldPoint(worldX[i], worldY[i], plane));
+				}
+			}
+		}
+	}
+
+	private void project(Client client)
+	{
+		route.reset();
+		closingSegment.reset();
+		arrowheads.reset();
+		visibleStopCount = 0;
+
+		// chunks share their end points, so each walk picks up after the last point it covered
+		int done = -1;
+		for (int c = 0; c < sceneChunkCount; c++)
+		{
+			int chunk = sceneChunks[c];
+			for (int i = Math.max(chunkStart(chunk), done + 1); i <= chunkEnd(chunk); i++)
+			{
+				int w = segmentIndices[i];
+				if (w == waypointCount)
+				{
+					// the closing point is the first waypoint again, copied below
+					continue;
+				}
+
+				if (waypointIndices[w] == i)
+				{
+					projectPoint(client, i);
+				}
+				else
+				{
+					onCanvas[i] = false;
+				}
+			}
+			done = chunkEnd(chunk);
+		}
+
+		if (waypointCount >= 2)
+		{
+			int closingEnd = waypointIndices[waypointCount];
+			onCanvas[closingEnd] = onCanvas[waypointIndices[0]];
+			canvasX[closingEnd] = canvasX[waypointIndices[0]];
+			canvasY[closingEnd] = canvasY[waypointIndices[0]];
+
+			done = -1;
+			for (int c = 0; c < sceneChunkCount; c++)
+			{
+				int chunk = sceneChunks[c];
+				for (int i = Math.max(chunkStart(chunk), done + 1); i <= chunkEnd(chunk); i++)
+				{
+					int w = segmentIndices[i];
+					if (w < waypointCount && waypointIndices[w] != i && !isStraight(w))
+					{
+						projectPoint(client, i);
+					}
+				}
+				done = chunkEnd(chunk);
+			}
+
+			appendSegments();
+		}
+
+		for (int stop : stopIndices)
+		{
+			if (stop < waypointCount && onCanvas[waypointIndices[stop]])
+			{
+				stopCanvasX[visibleStopCount] = canvasX[waypointIndices[stop]];
+				stopCanvasY[visibleStopCount] = canvasY[waypointIndices[stop]];
+				visibleStopCount++;
+			}
+		}
+	}
+
+	private void projectPoint(Client client, int i)
+	{
+		Point p = localPoints[i] != null ? projection.localToCanvas(client, localPoints[i], plane) : null;
+		onCanvas[i] = p != null;
+		if (p != null)
+		{
+			canvasX[i] = p.getX();
+			canvasY[i] = p.getY();
+		}
+	}
+
+	// both ends of the segment starting at waypoint w are on the canvas
+	private boolean isStraight(int w)
+	{
+		return onCanvas[waypointIndices[w]] && onCanvas[waypointIndices[w + 1]];
+	}
+
+	/**
+	 * Appends the segments in the scene chunks to the route, or the closing segment for the last waypoint's,
+	 * straight between their ends where both are on the canvas, otherwise the pieces which have both ends on the canvas.
+	 * Arrowheads go on every {@value #ARROW_SPACING}th segment and the closing one.
+	 */
+	private void appendSegments()
+	{
+		Path2D.Float path = route;
+		// the point the path currently ends at, if any
+		int penAt = -1;
+		for (int c = 0; c < sceneChunkCount; c++)
+		{
+			int chunk = sceneChunks[c];
+			// a chunk's end point starts a segment in the next chunk
+			for (int i = chunkStart(chunk); i < chunkEnd(chunk); i++)
+			{
+				int w = segmentIndices[i];
+				if (w == waypointCount - 1 && path != closingSegment)
+				{
+					path = closingSegment;
+					penAt = -1;
+				}
+
+				int start = waypointIndices[w];
+				int end = waypointIndices[w + 1];
+				if (i == start && ((w % ARROW_SPACING == 0 && w < waypointCount - 1) || (w == waypointCount - 1 && waypointCount > 2)))
+				{
+					appendArrowhead(start, end);
+				}
+
+				if (isStraight(w))
+				{
+					if (i == start)
+					{
+						penAt = appendLine(path, penAt, start, end);
+					}
+				}
+				else if (onCanvas[i] && onCanvas[i + 1])
+				{
+					penAt = appendLine(path, penAt, i, i + 1);
+				}
+			}
+		}
+	}
+
+	private int appendLine(Path2D.Float path, int penAt, int from, int to)
+	{
+		if (penAt != from)
+		{
+			path.moveTo(canvasX[from], canvasY[from]);
+		}
+		path.lineTo(canvasX[to], canvasY[to]);
+		return to;
+	}
+
+	private void appendArrowhead(int from, int to)
+	{
+		if (!onCanvas[from] || !onCanvas[to])
+		{
+			return;
+		}
+
+		// at the middle of the segment, pointing along it
+		int x = (canvasX[from] + canvasX[to]) / 2;
+		int y = (canvasY[from] + canvasY[to]) / 2;
+		double dirX = canvasX[to] - canvasX[from];
+		double dirY = canvasY[to] - canvasY[from];
+		double length = Math.sqrt(dirX * dirX + dirY * dirY);
+		if (length < 1)
+		{
+			return;
+		}
+		dirX /= length;
+		dirY /= length;
+
+		int tipX = (int) (x + ARROW_SIZE * 0.3 * dirX);
+		int tipY = (int) (y + ARROW_SIZE * 0.3 * dirY);
+		int leftX = (int) (x - ARROW_SIZE * (dirX * Math.cos(ARROW_ANGLE) - dirY * Math.sin(ARROW_ANGLE)));
+		int leftY = (int) (y - ARROW_SIZE * (dirY * Math.cos(ARROW_ANGLE) + dirX * Math.sin(ARROW_ANGLE)));
+		int rightX = (int) (x - ARROW_SIZE * (dirX * Math.cos(-ARROW_ANGLE) - dirY * Math.sin(-ARROW_ANGLE)));
+		int rightY = (int) (y - ARROW_SIZE * (dirY * Math.cos(-ARROW_ANGLE) + dirX * Math.sin(-ARROW_ANGLE)));
+
+		arrowheads.moveTo(tipX, tipY);
+		arrowheads.lineTo(leftX, leftY);
+		arrowheads.lineTo(rightX, rightY);
+		arrowheads.closePath();
+	}
+
+	int getStopCanvasX(int visibleStop)
+	{
+		return stopCanvasX[visibleStop];
+	}
+
+	int getStopCanvasY(int visibleStop)
+	{
+		return stopCanvasY[visibleStop];
+	}
+
+	int getPointCount()
+	{
+		return worldX.length;
+	}
+
+	WorldPoint getPoint(int index)
+	{
+		return new WorldPoint(worldX[index], worldY[index], plane);
+	}
+
+	int getWaypointIndex(int waypoint)
+	{
+		return waypointIndices[waypoint];
+	}
+
+	int getChunkCount()
+	{
+		return chunkCount;
+	}
+
+	int getSceneChunkCount()
+	{
+		return sceneChunkCount;
+	}
+
+	boolean hasLocalPoint(int index)
+	{
+		return localPoints[index] != null;
+	}
+
+	private static final class IntList
+	{
+		private int[] values;
+		private int size;
+
+		IntList(int capacity)
+		{
+			values = new int[Math.max(capacity, 4)];
+		}
+
+		void add(int value)
+		{
+			if (size == values.length)
+			{
+				values = Arrays.copyOf(values, size * 2);
+			}
+			values[size++] = value;
+		}
+
+		int[] toArray()
+		{
+			return Arrays.copyOf(values, size);
+		}
+	}
+
+}
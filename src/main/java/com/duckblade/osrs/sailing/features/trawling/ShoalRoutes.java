@@ -0,0 +1,196 @@
+package com.duckblade.osrs.sailing.features.trawling;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Shoal routes by {@link ShoalFishingArea} name, decoded once from the {@value #RESOURCE} resource.
+ * <p>
+ * Routes are traced using the {@link ShoalPathTracker} by following shoals with the player's boat:
+ * <ol>
+ * <li>Launch the client with the --developer-mode flag</li>
+ * <li>Type "::trackroutes on" in chat to enable tracing</li>
+ * <li>Follow a shoal through its complete loop</li>
+ * <li>Type "::trackroutes off" in chat, which writes the traced route into the resource in the source tree</li>
+ * <li>Add a {@link ShoalFishingArea} entry for it, using the area bounds from the log</li>
+ * </ol>
+ * <p>
+ * The format is a magic number and version, then the route count as a varint, then for each route:
+ * its name (as {@link DataOutputStream#writeUTF}), plane (one byte), point count, first point,
+ * then each point as the zigzag delta from the one before, then the stop count and stop indices,
+ * each as the delta from the one before. Every number after the plane is a varint.
+ */
+public final class ShoalRoutes
+{
+
+	static final String RESOURCE = "shoal_routes.bin";
+
+	private static final int MAGIC = 0x53484C52; // SHLR
+	private static final int VERSION = 1;
+
+	private static final Map<String, ShoalRoute> ROUTES = load();
+
+	private ShoalRoutes()
+	{
+	}
+
+	/**
+	 * @throws IllegalStateException if there is no route with that name
+	 */
+	public static ShoalRoute get(String name)
+	{
+		ShoalRoute route = ROUTES.get(name);
+		if (route == null)
+		{
+			throw new IllegalStateException("No shoal route named " + name + " in " + RESOURCE);
+		}
+		return route;
+	}
+
+	private static Map<String, ShoalRoute> load()
+	{
+		try (InputStream in = ShoalRoutes.class.getResourceAsStream(RESOURCE))
+		{
+			if (in == null)
+			{
+				throw new IllegalStateException("Missing resource " + RESOURCE);
+			}
+			return Collections.unmodifiableMap(read(in));
+		}
+		catch (IOException e)
+		{
+			throw new IllegalStateException("Failed to read " + RESOURCE, e);
+		}
+	}
+
+	/**
+	 * @return the routes by name, in the order they were written
+	 */
+	public static Map<String, ShoalRoute> read(InputStream stream) throws IOException
+	{
+		DataInputStream in = new DataInputStream(new BufferedInputStream(stream));
+		if (in.readInt() != MAGIC)
+		{
+			throw new IOException("Not a shoal route file");
+		}
+		int version = in.readUnsignedByte();
+		if (version != VERSION)
+		{
+			throw new IOException("Unsupported shoal route file version " + version);
+		}
+
+		int count = readVarInt(in);
+		Map<String, ShoalRoute> routes = new LinkedHashMap<>(count * 2);
+		for (int r = 0; r < count; r++)
+		{
+			String name = in.readUTF();
+			int plane = in.readUnsignedByte();
+
+			int[] x = new int[readVarInt(in)];
+			int[] y = new int[x.length];
+			for (int i = 0; i < x.length; i++)
+			{
+				x[i] = i == 0 ? readVarInt(in) : x[i - 1] + zigzagDecode(readVarInt(in));
+				y[i] = i == 0 ? readVarInt(in) : y[i - 1] + zigzagDecode(readVarInt(in));
+			}
+
+			int[] stopIndices = new int[readVarInt(in)];
+			for (int i = 0; i < stopIndices.length; i++)
+			{
+				stopIndices[i] = (i == 0 ? 0 : stopIndices[i - 1]) + readVarInt(in);
+			}
+
+			routes.put(name, new ShoalRoute(plane, x, y, stopIndices));
+		}
+		return routes;
+	}
+
+	/**
+	 * Stop indices must be ascending.
+	 */
+	public static void write(OutputStream stream, Map<String, ShoalRoute> routes) throws IOException
+	{
+		DataOutputStream out = new DataOutputStream(stream);
+		out.writeInt(MAGIC);
+		out.writeByte(VERSION);
+
+		writeVarInt(out, routes.size());
+		for (Map.Entry<String, ShoalRoute> entry : routes.entrySet())
+		{
+			ShoalRoute route = entry.getValue();
+			out.writeUTF(entry.getKey());
+			out.writeByte(route.getPlane());
+
+			writeVarInt(out, route.size());
+			for (int i = 0; i < route.size(); i++)
+			{
+				if (i == 0)
+				{
+					writeVarInt(out, route.getX(0));
+					writeVarInt(out, route.getY(0));
+				}
+				else
+				{
+					writeVarInt(out, zigzagEncode(route.getX(i) - route.getX(i - 1)));
+					writeVarInt(out, zigzagEncode(route.getY(i) - route.getY(i - 1)));
+				}
+			}
+
+			int[] stopIndices = route.getStopIndices();
+			writeVarInt(out, stopIndices.length);
+			for (int i = 0; i < stopIndices.length; i++)
+			{
+				int delta = stopIndices[i] - (i == 0 ? 0 : stopIndices[i - 1]);
+				if (delta < 0)
+				{
+					throw new IllegalArgumentException("Stop indices of " + entry.getKey() + " aren't ascending");
+				}
+				writeVarInt(out, delta);
+			}
+		}
+		out.flush();
+	}
+
+	private static int readVarInt(DataInputStream in) throws IOException
+	{
+		int value = 0;
+		for (int shift = 0; shift < 32; shift += 7)
+		{
+			int b = in.readUnsignedByte();
+			value |= (b & 0x7F) << shift;
+			if ((b & 0x80) == 0)
+			{
+				return value;
+			}
+		}
+		throw new IOException("Malformed varint");
+	}
+
+	private static void writeVarInt(DataOutputStream out, int value) throws IOException
+	{
+		while ((value & ~0x7F) != 0)
+		{
+			out.writeByte((value & 0x7F) | 0x80);
+			value >>>= 7;
+		}
+		out.writeByte(value);
+	}
+
+	private static int zigzagEncode(int value)
+	{
+		return (value << 1) ^ (value >> 31);
+	}
+
+	private static int zigzagDecode(int value)
+	{
+		return (value >>> 1) ^ -(value & 1);
+	}
+
+}
@@ -4,8 +4,11 @@ import com.duckblade.osrs.sailing.SailingConfig;
 import com.duckblade.osrs.sailing.features.util.BoatTracker;
 import com.duckblade.osrs.sailing.features.util.SailingUtil;
 import com.duckblade.osrs.sailing.model.Boat;
+import com.duckblade.osrs.sailing.module.GameObjectSpawnListener;
+import com.duckblade.osrs.sailing.module.PhasedTickListener;
 import com.duckblade.osrs.sailing.module.PluginLifecycleComponent;
 import com.duckblade.osrs.sailing.model.ShoalDepth;
+import com.duckblade.osrs.sailing.module.TickPhase;
 import com.google.common.collect.ImmutableSet;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
@@ -28,8 +31,9 @@ import net.runelite.api.gameval.AnimationID;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 
@@ -43,7 +47,7 @@ import static net.runelite.api.gameval.NpcID.SAILING_SHOAL_RIPPLES;
  */
 @Slf4j
 @Singleton
-public class ShoalTracker implements PluginLifecycleComponent {
+public class ShoalTracker implements PluginLifecycleComponent, GameObjectSpawnListener, PhasedTickListener {
 
     // WorldEntity config ID for moving shoals
     private static final int SHOAL_WORLD_ENTITY_CONFIG_ID = 4;
@@ -76,6 +80,7 @@ public class ShoalTracker implements PluginLifecycleComponent {
     @Getter
     private WorldEntity currentShoalEntity = null;
     private final Map<Integer, GameObject> shoalObjects = new HashMap<>();
+    private final Collection<GameObject> shoalObjectsView = Collections.unmodifiableCollection(shoalObjects.values());
     /**
      * -- GETTER --
      *  Get the current shoal location
@@ -150,10 +155,10 @@ public class ShoalTracker implements PluginLifecycleComponent {
     /**
      * Gets all current shoal GameObjects for rendering/highlighting.
      *
-     * @return a copy of the current shoal objects set
+     * @return a read-only live view of the current shoal objects, which must not be held across ticks
      */
-    public Set<GameObject> getShoalObjects() {
-        return new HashSet<>(shoalObjects.values());
+    public Collection<GameObject> getShoalObjects() {
+        return shoalObjectsView;
     }
 
     /**
@@ -261,6 +266,7 @@ public class ShoalTracker implements PluginLifecycleComponent {
 
     /**
      * Updates the shoal location and tracks movement.
+     * Already done once per tick before any {@link TickPhase#DERIVED} listeners run.
      */
     public void updateLocation() {
         updateLocationFromEntity();
@@ -293,9 +299,13 @@ public class ShoalTracker implements PluginLifecycleComponent {
         shoalDuration = TrawlingData.FishingAreas.getStopDurationForLocation(currentLocation);
     }
 
-    @SuppressWarnings("unused")
-    @Subscribe
-    public void onGameTick(GameTick e) {
+    @Override
+    public TickPhase getTickPhase() {
+        return TickPhase.TRACKERS;
+    }
+
+    @Override
+    public void onPhasedTick(GameTick e) {
         if (!hasShoal()) {
             resetMovementTracking();
             return;
@@ -385,8 +395,12 @@ public class ShoalTracker implements PluginLifecycleComponent {
         updateLocation();
     }
 
-    @SuppressWarnings("unused")
-    @Subscribe
+    @Override
+    public Set<Integer> getGameObjectIds() {
+        return SHOAL_OBJECT_IDS;
+    }
+
+    @Override
     public void onGameObjectSpawned(GameObjectSpawned e) {
         GameObject obj = e.getGameObject();
         
@@ -395,8 +409,7 @@ public class ShoalTracker implements PluginLifecycleComponent {
         }
     }
 
-    @SuppressWarnings("unused")
-    @Subscribe
+    @Override
     public void onGameObjectDespawned(GameObjectDespawned e) {
         GameObject obj = e.getGameObject();
         
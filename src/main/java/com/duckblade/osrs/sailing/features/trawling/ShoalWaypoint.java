@@ -26,6 +26,22 @@ public class ShoalWaypoint {
         this(position, false);
     }
 
+    /**
+     * Build waypoints from a route, marking its stop points.
+     */
+    public static ShoalWaypoint[] fromRoute(ShoalRoute route) {
+        ShoalWaypoint[] waypoints = new ShoalWaypoint[route.size()];
+        for (int i = 0; i < waypoints.length; i++) {
+            waypoints[i] = new ShoalWaypoint(route.getPoint(i));
+        }
+        for (int stop : route.getStopIndices()) {
+            if (stop < waypoints.length) {
+                waypoints[stop] = new ShoalWaypoint(waypoints[stop].getPosition(), true);
+            }
+        }
+        return waypoints;
+    }
+
     /**
      * Extract all positions from an array of waypoints.
      * Useful for compatibility with existing code that expects WorldPoint arrays.
@@ -26,17 +26,8 @@ class TrawlingData {
          * @return The fishing area type, or null if not in a known fishing area
          */
 		static FishingAreaType getFishingAreaType(final WorldPoint location) {
-			if (location == null) {
-				return null;
-			}
-
-			for (final var area : ShoalFishingArea.AREAS) {
-				if (area.contains(location)) {
-					return area.getShoal().getDepth();
-				}
-			}
-
-			return null;
+			final ShoalFishingArea area = FishingAreaIndex.find(location);
+			return area != null ? area.getShoal().getDepth() : null;
 		}
 
         /**
@@ -45,17 +36,8 @@ class TrawlingData {
          * @return The stop duration in ticks, or -1 if not in a known fishing area
          */
         static int getStopDurationForLocation(final WorldPoint location) {
-            if (location == null) {
-                return -1;
-            }
-
-            for (final var area : ShoalFishingArea.AREAS) {
-                if (area.contains(location)) {
-                    return area.getShoal().getStopDuration();
-                }
-            }
-
-            return -1;
+            final ShoalFishingArea area = FishingAreaIndex.find(location);
+            return area != null ? area.getShoal().getStopDuration() : -1;
         }
     }
 }
@@ -1,9 +1,9 @@
 package com.duckblade.osrs.sailing.features.trawling;
 
 import com.duckblade.osrs.sailing.SailingConfig;
-import com.duckblade.osrs.sailing.features.util.SailingUtil;
+import com.duckblade.osrs.sailing.features.util.FrameContext;
+import com.duckblade.osrs.sailing.module.ActivationScope;
 import com.duckblade.osrs.sailing.module.PluginLifecycleComponent;
-import java.util.Map;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.Client;
 import net.runelite.client.ui.overlay.OverlayPanel;
@@ -16,7 +16,6 @@ import javax.inject.Singleton;
 import java.awt.Color;
 import java.awt.Dimension;
 import java.awt.Graphics2D;
-import org.apache.commons.text.WordUtils;
 
 /**
  * Combined overlay for trawling features including net capacity and fish caught
@@ -29,12 +28,14 @@ public class TrawlingOverlay extends OverlayPanel
     private final Client client;
     private final FishCaughtTracker fishCaughtTracker;
     private final SailingConfig config;
+    private final FrameContext frameContext;
 
     @Inject
-    public TrawlingOverlay(Client client, FishCaughtTracker fishCaughtTracker, SailingConfig config) {
+    public TrawlingOverlay(Client client, FishCaughtTracker fishCaughtTracker, SailingConfig config, FrameContext frameContext) {
         this.client = client;
         this.fishCaughtTracker = fishCaughtTracker;
         this.config = config;
+        this.frameContext = frameContext;
         setPosition(OverlayPosition.TOP_LEFT);
     }
 
@@ -44,6 +45,11 @@ public class TrawlingOverlay extends OverlayPanel
         return config.trawlingShowNetCapacity() || config.trawlingShowFishCaught();
     }
 
+    @Override
+    public ActivationScope getActivationScope() {
+        return ActivationScope.SAILING;
+    }
+
     @Override
     public void startUp() {
         log.debug("TrawlingOverlay started");
@@ -56,7 +62,7 @@ public class TrawlingOverlay extends OverlayPanel
 
     @Override
     public Dimension render(Graphics2D graphics) {
-        if (!SailingUtil.isSailing(client)) {
+        if (!frameContext.isSailing()) {
             return null;
         }
 
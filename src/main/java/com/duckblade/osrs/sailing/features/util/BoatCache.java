@@ -0,0 +1,139 @@
+package com.duckblade.osrs.sailing.features.util;
+
+import com.duckblade.osrs.sailing.model.Boat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Worldview ID -> {@link Boat}, least recently used first, bounded by both boat count and estimated retained size.
+ * <p>
+ * Boats are normally removed on despawn; the bounds only matter if a despawn is missed,
+ * so a long session in busy worlds can't grow the map without limit.
+ * A fleet of bare boats reaches {@link #MAX_BOATS} first, while one averaging more than
+ * {@value #BYTE_BOUND_FACILITY_SLOTS} hooks, nets and cannons per boat reaches {@link #MAX_ESTIMATED_BYTES} first.
+ * <p>
+ * {@link #forEach} doesn't change recency, so the local player's boat can be evicted like any other.
+ * {@link BoatTracker} touches it every tick, and tracks it again if it was evicted anyway.
+ */
+@Slf4j
+final class BoatCache
+{
+
+	// rough retained size of a Boat excluding the GameObjects themselves, which belong to the client:
+	// the boat, its tier cache, and three facility lists with their initial arrays
+	static final int BOAT_BASE_BYTES = 384;
+	static final int FACILITY_SLOT_BYTES = 8;
+
+	static final int MAX_BOATS = 128;
+	static final int BYTE_BOUND_FACILITY_SLOTS = 8;
+	static final long MAX_ESTIMATED_BYTES = (long) MAX_BOATS * (BOAT_BASE_BYTES + BYTE_BOUND_FACILITY_SLOTS * FACILITY_SLOT_BYTES);
+
+	private final LinkedHashMap<Integer, Entry> boats = new LinkedHashMap<>(32, 0.75f, true);
+
+	@Getter
+	private long estimatedBytes;
+
+	private static final class Entry
+	{
+		final Boat boat;
+		int estimatedBytes;
+
+		Entry(Boat boat)
+		{
+			this.boat = boat;
+		}
+	}
+
+	Boat get(int wvId)
+	{
+		Entry entry = boats.get(wvId);
+		return entry != null ? entry.boat : null;
+	}
+
+	void put(Boat boat)
+	{
+		Entry entry = new Entry(boat);
+		Entry prev = boats.put(boat.getWorldViewId(), entry);
+		if (prev != null)
+		{
+			estimatedBytes -= prev.estimatedBytes;
+		}
+		account(entry);
+		evict();
+	}
+
+	Boat remove(int wvId)
+	{
+		Entry entry = boats.remove(wvId);
+		if (entry == null)
+		{
+			return null;
+		}
+
+		estimatedBytes -= entry.estimatedBytes;
+		return entry.boat;
+	}
+
+	/**
+	 * Re-estimates the size of a boat after its facilities changed.
+	 */
+	void update(Boat boat)
+	{
+		Entry entry = boats.get(boat.getWorldViewId());
+		if (entry == null || entry.boat != boat)
+		{
+			return;
+		}
+
+		account(entry);
+		evict();
+	}
+
+	void clear()
+	{
+		boats.clear();
+		estimatedBytes = 0;
+	}
+
+	int size()
+	{
+		return boats.size();
+	}
+
+	/**
+	 * Visits boats without changing their recency. The action must not modify the cache.
+	 */
+	void forEach(Consumer<Boat> action)
+	{
+		for (Entry entry : boats.values())
+		{
+			action.accept(entry.boat);
+		}
+	}
+
+	private void account(Entry entry)
+	{
+		Boat boat = entry.boat;
+		int bytes = BOAT_BASE_BYTES + FACILITY_SLOT_BYTES *
+			(boat.getSalvagingHooks().size() + boat.getFishingNets().size() + boat.getCannons().size());
+		estimatedBytes += bytes - entry.estimatedBytes;
+		entry.estimatedBytes = bytes;
+	}
+
+	private void evict()
+	{
+		Iterator<Map.Entry<Integer, Entry>> it = boats.entrySet().iterator();
+		while ((boats.size() > MAX_BOATS || estimatedBytes > MAX_ESTIMATED_BYTES) && it.hasNext())
+		{
+			Map.Entry<Integer, Entry> eldest = it.next();
+			it.remove();
+			estimatedBytes -= eldest.getValue().estimatedBytes;
+			log.debug("evicted boat in wv {} ({} boats, ~{} bytes tracked)", eldest.getKey(), boats.size(), estimatedBytes);
+		}
+	}
+
+}
@@ -0,0 +1,243 @@
+package com.duckblade.osrs.sailing.features.util;
+
+import com.duckblade.osrs.sailing.model.Boat;
+import com.duckblade.osrs.sailing.module.PhasedTickListener;
+import com.duckblade.osrs.sailing.module.PluginLifecycleComponent;
+import com.duckblade.osrs.sailing.module.TickPhase;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import lombok.Getter;
+import net.runelite.api.Client;
+import net.runelite.api.Perspective;
+import net.runelite.api.Scene;
+import net.runelite.api.WorldEntity;
+import net.runelite.api.coords.LocalPoint;
+import net.runelite.api.events.GameTick;
+
+/**
+ * Motion model of the local player's boat, sampled once per tick from its world entity's target location and orientation.
+ * <p>
+ * The last {@link #HISTORY_SIZE} samples are kept in a ring buffer, and filtered velocity, acceleration and turn rate
+ * are updated incrementally as each sample arrives, so every query is O(1).
+ * Positions are stored relative to the world rather than the scene, so scene base shifts don't show up as movement.
+ * The history is reset when the player stops sailing, boards another boat, or a tick is missed.
+ * <p>
+ * Units are local units (1/{@value Perspective#LOCAL_TILE_SIZE} of a tile) and JAU, per tick.
+ */
+@Singleton
+public class BoatKinematics
+	implements PluginLifecycleComponent, PhasedTickListener
+{
+
+	static final int HISTORY_SIZE = 16;
+	private static final int HISTORY_MASK = HISTORY_SIZE - 1;
+
+	// weight of the newest sample in the exponential filters
+	static final double FILTER_ALPHA = 0.5;
+
+	private static final int JAU_FULL_ROTATION = 2048;
+
+	private final Client client;
+	private final BoatTracker boatTracker;
+
+	private final int[] historyX = new int[HISTORY_SIZE];
+	private final int[] historyY = new int[HISTORY_SIZE];
+	private final int[] historyHeading = new int[HISTORY_SIZE];
+	private final int[] historyTick = new int[HISTORY_SIZE];
+	private int head = -1;
+
+	/**
+	 * Number of consecutive samples held, up to {@link #HISTORY_SIZE}.
+	 */
+	@Getter
+	private int sampleCount;
+	private int worldViewId = -1;
+
+	/**
+	 * Distance covered in the last tick, unfiltered.
+	 */
+	@Getter
+	private double speed;
+
+	@Getter
+	private double velocityX;
+	@Getter
+	private double velocityY;
+
+	/**
+	 * Filtered change in velocity magnitude per tick, negative when slowing down.
+	 */
+	@Getter
+	private double acceleration;
+
+	/**
+	 * Filtered signed change in heading per tick, positive when the heading value increases.
+	 */
+	@Getter
+	private double turnRate;
+
+	@Inject
+	public BoatKinematics(Client client, BoatTracker boatTracker)
+	{
+		this.client = client;
+		this.boatTracker = boatTracker;
+	}
+
+	@Override
+	public void shutDown()
+	{
+		reset();
+	}
+
+	@Override
+	public TickPhase getTickPhase()
+	{
+		return TickPhase.DERIVED;
+	}
+
+	@Override
+	public void onPhasedTick(GameTick e)
+	{
+		Boat boat = SailingUtil.isSailing(client) ? boatTracker.getBoat() : null;
+		if (boat == null)
+		{
+			reset();
+			return;
+		}
+
+		WorldEntity we = boat.getWorldEntity();
+		LocalPoint lp = we.getTargetLocation();
+		Scene scene = client.getTopLevelWorldView().getScene();
+		if (lp == null || scene == null)
+		{
+			reset();
+			return;
+		}
+
+		if (boat.getWorldViewId() != worldViewId)
+		{
+			reset();
+			worldViewId = boat.getWorldViewId();
+		}
+
+		record(
+			client.getTickCount(),
+			lp.getX() + scene.getBaseX() * Perspective.LOCAL_TILE_SIZE,
+			lp.getY() + scene.getBaseY() * Perspective.LOCAL_TILE_SIZE,
+			we.getTargetOrientation()
+		);
+	}
+
+	void record(int tick, int x, int y, int heading)
+	{
+		if (sampleCount > 0 && tick != historyTick[head] + 1)
+		{
+			int wvId = worldViewId;
+			reset();
+			worldViewId = wvId;
+		}
+
+		head = (head + 1) & HISTORY_MASK;
+		historyX[head] = x;
+		historyY[head] = y;
+		historyHeading[head] = heading;
+		historyTick[head] = tick;
+		if (sampleCount < HISTORY_SIZE)
+		{
+			sampleCount++;
+		}
+
+		if (sampleCount < 2)
+		{
+			return;
+		}
+
+		int prev = (head - 1) & HISTORY_MASK;
+		int dx = x - historyX[prev];
+		int dy = y - historyY[prev];
+		speed = Math.hypot(dx, dy);
+
+		double lastFilteredSpeed = Math.hypot(velocityX, velocityY);
+		int dHeading = wrapHeadingDelta(heading - historyHeading[prev]);
+		if (sampleCount == 2)
+		{
+			// seed the filters so they don't ramp up from zero
+			velocityX = dx;
+			velocityY = dy;
+			turnRate = dHeading;
+			return;
+		}
+
+		velocityX += FILTER_ALPHA * (dx - velocityX);
+		velocityY += FILTER_ALPHA * (dy - velocityY);
+		turnRate += FILTER_ALPHA * (dHeading - turnRate);
+		acceleration += FILTER_ALPHA * ((Math.hypot(velocityX, velocityY) - lastFilteredSpeed) - acceleration);
+	}
+
+	/**
+	 * Magnitude of the filtered velocity.
+	 */
+	public double getFilteredSpeed()
+	{
+		return Math.hypot(velocityX, velocityY);
+	}
+
+	/**
+	 * World x (in local units) of the sample taken {@code ticksAgo} ticks ago, where 0 is the latest.
+	 */
+	public int getX(int ticksAgo)
+	{
+		return historyX[index(ticksAgo)];
+	}
+
+	public int getY(int ticksAgo)
+	{
+		return historyY[index(ticksAgo)];
+	}
+
+	public int getHeading(int ticksAgo)
+	{
+		return historyHeading[index(ticksAgo)];
+	}
+
+	public boolean isMoving()
+	{
+		return sampleCount >= 2 && speed > 0;
+	}
+
+	private int index(int ticksAgo)
+	{
+		if (ticksAgo < 0 || ticksAgo >= sampleCount)
+		{
+			throw new IndexOutOfBoundsException("ticksAgo " + ticksAgo + " outside history of " + sampleCount);
+		}
+		return (head - ticksAgo) & HISTORY_MASK;
+	}
+
+	private void reset()
+	{
+		head = -1;
+		sampleCount = 0;
+		worldViewId = -1;
+		speed = 0;
+		velocityX = 0;
+		velocityY = 0;
+		acceleration = 0;
+		turnRate = 0;
+	}
+
+	static int wrapHeadingDelta(int delta)
+	{
+		delta %= JAU_FULL_ROTATION;
+		if (delta >= JAU_FULL_ROTATION / 2)
+		{
+			delta -= JAU_FULL_ROTATION;
+		}
+		else if (delta < -JAU_FULL_ROTATION / 2)
+		{
+			delta += JAU_FULL_ROTATION;
+		}
+		return delta;
+	}
+
+}
@@ -0,0 +1,15 @@
+package com.duckblade.osrs.sailing.features.util;
+
+import com.duckblade.osrs.sailing.model.BoatProfile;
+import lombok.Value;
+
+@Value
+public class BoatProfileChanged
+{
+
+	/**
+	 * null when the local player is not on a tracked boat
+	 */
+	BoatProfile profile;
+
+}
@@ -0,0 +1,114 @@
+package com.duckblade.osrs.sailing.features.util;
+
+import com.duckblade.osrs.sailing.model.Boat;
+import com.duckblade.osrs.sailing.model.BoatProfile;
+import com.duckblade.osrs.sailing.module.PhasedTickListener;
+import com.duckblade.osrs.sailing.module.PluginLifecycleComponent;
+import com.duckblade.osrs.sailing.module.TickPhase;
+import java.util.Arrays;
+import java.util.function.Consumer;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.api.Client;
+import net.runelite.api.GameObject;
+import net.runelite.api.events.GameTick;
+import net.runelite.client.eventbus.EventBus;
+
+/**
+ * Keeps a {@link BoatProfile} for the local player's boat, recomputed only when it changes.
+ * <p>
+ * Each tick (after {@link BoatTracker} has applied the tick's spawns and despawns) the boat's facility object ids
+ * are compared against those the current profile was built from, which covers facilities spawning, despawning
+ * and transforming in place, as well as boarding a different boat and the UIM varbit.
+ * On a change the profile is rebuilt and posted as {@link BoatProfileChanged}.
+ */
+@Slf4j
+@Singleton
+public class BoatProfileTracker
+	implements PluginLifecycleComponent, PhasedTickListener
+{
+
+	private static final int NO_BOAT = -1;
+
+	private final Client client;
+	private final BoatTracker boatTracker;
+	private final EventBus eventBus;
+
+	@Getter
+	private BoatProfile profile;
+
+	// [wvId, uim, facility ids...] the current profile was built from, and the buffer for this tick's
+	private int[] signature = new int[16];
+	private int signatureLength = NO_BOAT;
+	private int[] scratch = new int[16];
+	private int scratchLength;
+
+	private final Consumer<GameObject> appendFacilityId = o -> append(o.getId());
+
+	@Inject
+	public BoatProfileTracker(Client client, BoatTracker boatTracker, EventBus eventBus)
+	{
+		this.client = client;
+		this.boatTracker = boatTracker;
+		this.eventBus = eventBus;
+	}
+
+	@Override
+	public void shutDown()
+	{
+		profile = null;
+		signatureLength = NO_BOAT;
+	}
+
+	@Override
+	public TickPhase getTickPhase()
+	{
+		return TickPhase.DERIVED;
+	}
+
+	@Override
+	public void onPhasedTick(GameTick e)
+	{
+		Boat boat = boatTracker.getBoat();
+		boolean uim = boat != null && SailingUtil.isUim(client);
+
+		scratchLength = 0;
+		if (boat != null)
+		{
+			append(boat.getWorldViewId());
+			append(uim ? 1 : 0);
+			boat.forEachFacility(appendFacilityId);
+		}
+		else
+		{
+			scratchLength = NO_BOAT;
+		}
+
+		if (scratchLength == signatureLength &&
+			(scratchLength == NO_BOAT || Arrays.equals(scratch, 0, scratchLength, signature, 0, signatureLength)))
+		{
+			return;
+		}
+
+		int[] swap = signature;
+		signature = scratch;
+		signatureLength = scratchLength;
+		scratch = swap;
+
+		profile = boat != null ? BoatProfile.of(boat, uim) : null;
+		log.debug("boat profile changed {}", profile);
+		eventBus.post(new BoatProfileChanged(profile));
+	}
+
+	private void append(int value)
+	{
+		if (scratchLength == scratch.length)
+		{
+			scratch = Arrays.copyOf(scratch, scratch.length * 2);
+		}
+		scratch[scratchLength++] = value;
+	}
+
+}
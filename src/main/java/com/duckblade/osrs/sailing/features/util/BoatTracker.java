@@ -1,54 +1,117 @@
 package com.duckblade.osrs.sailing.features.util;
+
 import com.duckblade.osrs.sailing.model.Boat;
-import com.duckblade.osrs.sailing.model.CargoHoldTier;
-import com.duckblade.osrs.sailing.model.ChumStationTier;
-import com.duckblade.osrs.sailing.model.HelmTier;
-import com.duckblade.osrs.sailing.model.HullTier;
-import com.duckblade.osrs.sailing.model.SailTier;
-import com.duckblade.osrs.sailing.model.SalvagingHookTier;
-import com.duckblade.osrs.sailing.model.FishingNetTier;
-import com.duckblade.osrs.sailing.model.CannonTier;
-import com.duckblade.osrs.sailing.model.WindCatcherTier;
+import com.duckblade.osrs.sailing.model.FacilityLookup;
+import com.duckblade.osrs.sailing.module.GameObjectSpawnListener;
+import com.duckblade.osrs.sailing.module.PhasedTickListener;
 import com.duckblade.osrs.sailing.module.PluginLifecycleComponent;
-import java.util.HashMap;
-import java.util.Map;
+import com.duckblade.osrs.sailing.module.TickPhase;
+import com.google.common.collect.ImmutableSet;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.Client;
 import net.runelite.api.GameObject;
+import net.runelite.api.GameState;
+import net.runelite.api.Scene;
+import net.runelite.api.Tile;
 import net.runelite.api.WorldEntity;
+import net.runelite.api.WorldView;
 import net.runelite.api.events.GameObjectDespawned;
 import net.runelite.api.events.GameObjectSpawned;
+import net.runelite.api.events.GameStateChanged;
+import net.runelite.api.events.GameTick;
 import net.runelite.api.events.WorldEntityDespawned;
 import net.runelite.api.events.WorldEntitySpawned;
+import net.runelite.api.events.WorldViewLoaded;
 import net.runelite.client.eventbus.Subscribe;
 
 @Slf4j
 @Singleton
 @RequiredArgsConstructor(onConstructor_ = @Inject)
 public class BoatTracker
-	implements PluginLifecycleComponent
+	implements PluginLifecycleComponent, GameObjectSpawnListener, PhasedTickListener
 {
 
-	private final Map<Integer, Boat> trackedBoats = new HashMap<>();
+	private static final Set<Integer> FACILITY_OBJECT_IDS = IntStream.of(FacilityLookup.getObjectIds())
+		.boxed()
+		.collect(ImmutableSet.toImmutableSet());
+
+	private final BoatCache trackedBoats = new BoatCache();
 	private final Client client;
 
+	@Override
+	public void startUp()
+	{
+		// pick up boats which loaded before we were enabled without waiting on replayed spawn events
+		if (client.getGameState() != GameState.LOGGED_IN)
+		{
+			return;
+		}
+
+		for (WorldEntity we : client.getTopLevelWorldView().worldEntities())
+		{
+			trackBoat(we);
+		}
+	}
+
+	@Override
 	public void shutDown()
 	{
 		trackedBoats.clear();
 	}
 
+	@Override
+	public TickPhase getTickPhase()
+	{
+		return TickPhase.TRACKERS;
+	}
+
+	@Override
+	public void onPhasedTick(GameTick e)
+	{
+		// looking up the local boat keeps it most recently used, and picks it back up if it was evicted anyway
+		if (getBoat() == null)
+		{
+			trackLocalBoat();
+		}
+
+		int tick = client.getTickCount();
+		trackedBoats.forEach(boat ->
+		{
+			WorldEntity we = boat.getWorldEntity();
+			boat.updatePosition(we.getLocalLocation(), we.getOrientation(), tick);
+		});
+	}
+
+	@Subscribe
+	public void onGameStateChanged(GameStateChanged e)
+	{
+		// world entities aren't despawned individually when the whole scene goes away
+		if (e.getGameState() == GameState.LOGIN_SCREEN || e.getGameState() == GameState.HOPPING)
+		{
+			trackedBoats.clear();
+		}
+	}
+
 	@Subscribe
 	public void onWorldEntitySpawned(WorldEntitySpawned e)
 	{
-		WorldEntity we = e.getWorldEntity();
-		if (SailingUtil.WORLD_ENTITY_TYPE_BOAT.contains(we.getConfig().getId()))
+		trackBoat(e.getWorldEntity());
+	}
+
+	@Subscribe
+	public void onWorldViewLoaded(WorldViewLoaded e)
+	{
+		// the scene is rebuilt in place, so any objects we held for this boat are stale
+		Boat boat = getBoat(e.getWorldView().getId());
+		if (boat != null)
 		{
-			int wvId = we.getWorldView().getId();
-			log.trace("tracking boat in wv {}", wvId);
-			trackedBoats.put(wvId, new Boat(wvId, we));
+			trackBoat(boat.getWorldEntity());
 		}
 	}
 
@@ -61,7 +124,13 @@ public class BoatTracker
 		}
 	}
 
-	@Subscribe
+	@Override
+	public Set<Integer> getGameObjectIds()
+	{
+		return FACILITY_OBJECT_IDS;
+	}
+
+	@Override
 	public void onGameObjectSpawned(GameObjectSpawned e)
 	{
 		GameObject o = e.getGameObject();
@@ -71,53 +140,200 @@ public class BoatTracker
 			return;
 		}
 
-		if (HullTier.fromGameObjectId(o.getId()) != null)
+		FacilityLookup.Facility facility = FacilityLookup.lookup(o.getId());
+		if (facility == null)
+		{
+			return;
+		}
+
+		if (addFacility(boat, o, facility))
+		{
+			trackedBoats.update(boat);
+		}
+	}
+
+	private void trackLocalBoat()
+	{
+		if (!SailingUtil.isSailing(client))
 		{
-			boat.setHull(o);
-			log.trace("found hull {}={}+{} for boat in wv {}", o.getId(), boat.getHullTier(), boat.getSizeClass(), boat.getWorldViewId());
+			return;
 		}
-		if (SailTier.fromGameObjectId(o.getId()) != null)
+
+		WorldEntity we = client.getTopLevelWorldView()
+			.worldEntities()
+			.byIndex(client.getLocalPlayer().getWorldView().getId());
+		if (we != null)
 		{
-			boat.setSail(o);
-			log.trace("found sail {}={} for boat in wv {}", o.getId(), boat.getSailTier(), boat.getWorldViewId());
+			trackBoat(we);
 		}
-		if (HelmTier.fromGameObjectId(o.getId()) != null)
+	}
+
+	/**
+	 * Builds a fully populated boat from a single pass over its worldview's scene
+	 * and only then publishes it, so readers never see a boat with half its facilities.
+	 * GameObjectSpawned events which follow for the same objects are no-ops.
+	 */
+	private void trackBoat(WorldEntity we)
+	{
+		if (we.getConfig() == null || !SailingUtil.WORLD_ENTITY_TYPE_BOAT.contains(we.getConfig().getId()))
 		{
-			boat.setHelm(o);
-			log.trace("found helm {}={} for boat in wv {}", o.getId(), boat.getHelmTier(), boat.getWorldViewId());
+			return;
 		}
-		if (SalvagingHookTier.fromGameObjectId(o.getId()) != null && boat.getSalvagingHooks().add(o))
+
+		WorldView wv = we.getWorldView();
+		log.trace("tracking boat in wv {}", wv.getId());
+		Boat boat = new Boat(wv.getId(), we);
+		boat.updatePosition(we.getLocalLocation(), we.getOrientation(), client.getTickCount());
+
+		int facilities = scanFacilities(boat, wv.getScene());
+		log.trace("scanned {} facilities for boat in wv {}", facilities, wv.getId());
+		trackedBoats.put(boat);
+	}
+
+	static int scanFacilities(Boat boat, Scene scene)
+	{
+		Tile[][][] tiles = scene != null ? scene.getTiles() : null;
+		if (tiles == null)
 		{
-			log.trace("found salvaging hook {}={} for boat in wv {}", o.getId(), SalvagingHookTier.fromGameObjectId(o.getId()), boat.getWorldViewId());
+			return 0;
 		}
-		if (CargoHoldTier.fromGameObjectId(o.getId()) != null)
+
+		int found = 0;
+		for (Tile[][] plane : tiles)
 		{
-			boat.setCargoHold(o);
-			log.trace("found cargo hold {}={} for boat in wv {}", o.getId(), boat.getCargoHoldTier(), boat.getWorldViewId());
+			if (plane == null)
+			{
+				continue;
+			}
+
+			for (Tile[] column : plane)
+			{
+				if (column == null)
+				{
+					continue;
+				}
+
+				for (Tile tile : column)
+				{
+					if (tile == null)
+					{
+						continue;
+					}
+
+					GameObject[] objects = tile.getGameObjects();
+					if (objects == null)
+					{
+						continue;
+					}
+
+					for (GameObject o : objects)
+					{
+						if (o == null)
+						{
+							continue;
+						}
+
+						// objects larger than 1x1 are referenced from every tile they cover
+						FacilityLookup.Facility facility = FacilityLookup.lookup(o.getId());
+						if (facility != null && addFacility(boat, o, facility))
+						{
+							found++;
+						}
+					}
+				}
+			}
 		}
-		if (ChumStationTier.fromGameObjectId(o.getId()) != null)
+		return found;
+	}
+
+	private static boolean addFacility(Boat boat, GameObject o, FacilityLookup.Facility facility)
+	{
+		switch (facility.getKind())
 		{
-			boat.setChumStation(o);
-			log.trace("found chum station {}={} for boat in wv {}", o.getId(), boat.getChumStationTier(), boat.getWorldViewId());
+			case HULL:
+				if (boat.getHull() == o)
+				{
+					return false;
+				}
+				boat.setHull(o);
+				log.trace("found hull {}={}+{} for boat in wv {}", o.getId(), boat.getHullTier(), boat.getSizeClass(), boat.getWorldViewId());
+				return true;
+
+			case SAIL:
+				if (boat.getSail() == o)
+				{
+					return false;
+				}
+				boat.setSail(o);
+				log.trace("found sail {}={} for boat in wv {}", o.getId(), boat.getSailTier(), boat.getWorldViewId());
+				return true;
+
+			case HELM:
+				if (boat.getHelm() == o)
+				{
+					return false;
+				}
+				boat.setHelm(o);
+				log.trace("found helm {}={} for boat in wv {}", o.getId(), boat.getHelmTier(), boat.getWorldViewId());
+				return true;
+
+			case SALVAGING_HOOK:
+				if (!boat.addSalvagingHook(o))
+				{
+					return false;
+				}
+				log.trace("found salvaging hook {}={} for boat in wv {}", o.getId(), facility.getTier(), boat.getWorldViewId());
+				return true;
+
+			case CARGO_HOLD:
+				if (boat.getCargoHold() == o)
+				{
+					return false;
+				}
+				boat.setCargoHold(o);
+				log.trace("found cargo hold {}={} for boat in wv {}", o.getId(), boat.getCargoHoldTier(), boat.getWorldViewId());
+				return true;
+
+			case CHUM_STATION:
+				if (boat.getChumStation() == o)
+				{
+					return false;
+				}
+				boat.setChumStation(o);
+				log.trace("found chum station {}={} for boat in wv {}", o.getId(), boat.getChumStationTier(), boat.getWorldViewId());
+				return true;
+
+			case FISHING_NET:
+				if (!boat.addFishingNet(o))
+				{
+					return false;
+				}
+				log.trace("found fishing net {}={} for boat in wv {}", o.getId(), facility.getTier(), boat.getWorldViewId());
+				return true;
+
+			case CANNON:
+				if (!boat.addCannon(o))
+				{
+					return false;
+				}
+				log.trace("found cannon {}={} for boat in wv {}", o.getId(), facility.getTier(), boat.getWorldViewId());
+				return true;
+
+			case WIND_CATCHER:
+				if (boat.getWindCatcher() == o)
+				{
+					return false;
+				}
+				boat.setWindCatcher(o);
+				log.trace("found wind catcher {}={} for boat in wv {}", o.getId(), boat.getWindCatcherTier(), boat.getWorldViewId());
+				return true;
+
+			default:
+				return false;
 		}
-        if (FishingNetTier.fromGameObjectId(o.getId()) != null)
-        {
-            boat.getFishingNets().add(o);
-            log.trace("found fishing net {}={} for boat in wv {}", o.getId(), FishingNetTier.fromGameObjectId(o.getId()), boat.getWorldViewId());
-        }
-        if (CannonTier.fromGameObjectId(o.getId()) != null)
-        {
-            boat.getCannons().add(o);
-            log.trace("found cannon {}={} for boat in wv {}", o.getId(), CannonTier.fromGameObjectId(o.getId()), boat.getWorldViewId());
-        }
-        if (WindCatcherTier.fromGameObjectId(o.getId()) != null)
-        {
-            boat.setWindCatcher(o);
-            log.trace("found wind catcher {}={} for boat in wv {}", o.getId(), boat.getWindCatcherTier(), boat.getWorldViewId());
-        }
 	}
 
-	@Subscribe
+	@Override
 	public void onGameObjectDespawned(GameObjectDespawned e)
 	{
 		GameObject o = e.getGameObject();
@@ -142,7 +358,7 @@ public class BoatTracker
 			boat.setHelm(null);
 			log.trace("unsetting helm for boat in wv {}", boat.getWorldViewId());
 		}
-		if (boat.getSalvagingHooks().remove(o))
+		if (boat.removeSalvagingHook(o))
 		{
 			log.trace("unsetting salvaging hook for boat in wv {}", boat.getWorldViewId());
 		}
@@ -156,11 +372,11 @@ public class BoatTracker
 			boat.setChumStation(null);
 			log.trace("unsetting chum station for boat in wv {}", boat.getWorldViewId());
 		}
-		if (boat.getFishingNets().remove(o))
+		if (boat.removeFishingNet(o))
 		{
 			log.trace("unsetting fishing net for boat in wv {}", boat.getWorldViewId());
 		}
-		if (boat.getCannons().remove(o))
+		if (boat.removeCannon(o))
 		{
 			log.trace("unsetting cannon for boat in wv {}", boat.getWorldViewId());
 		}
@@ -169,6 +385,8 @@ public class BoatTracker
 			boat.setWindCatcher(null);
 			log.trace("unsetting wind catcher for boat in wv {}", boat.getWorldViewId());
 		}
+
+		trackedBoats.update(boat);
 	}
 
 	public Boat getBoat()
@@ -180,6 +398,24 @@ public class BoatTracker
 		return getBoat(client.getLocalPlayer().getWorldView().getId());
 	}
 
+	public int getTrackedBoatCount()
+	{
+		return trackedBoats.size();
+	}
+
+	public long getTrackedBoatsEstimatedBytes()
+	{
+		return trackedBoats.getEstimatedBytes();
+	}
+
+	/**
+	 * Visits every tracked boat, including other players'. The action must not call back into the tracker.
+	 */
+	public void forEachBoat(Consumer<Boat> action)
+	{
+		trackedBoats.forEach(action);
+	}
+
 	public Boat getBoat(int wvId)
 	{
 		if (wvId == -1)
@@ -0,0 +1,97 @@
+package com.duckblade.osrs.sailing.features.util;
+
+import com.duckblade.osrs.sailing.model.Boat;
+import com.duckblade.osrs.sailing.module.PluginLifecycleComponent;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import lombok.Getter;
+import net.runelite.api.Client;
+import net.runelite.api.Player;
+import net.runelite.api.coords.WorldPoint;
+import net.runelite.api.events.BeforeRender;
+import net.runelite.client.eventbus.Subscribe;
+
+/**
+ * Local player state shared by overlays, computed at most once per client frame
+ * instead of once per overlay.
+ * <p>
+ * Only valid on the client thread between {@link BeforeRender} and the end of that frame's overlay rendering,
+ * so event handlers should keep using {@link SailingUtil} and {@link BoatTracker} directly.
+ */
+@Singleton
+public class FrameContext
+	implements PluginLifecycleComponent
+{
+
+	private final Client client;
+	private final BoatTracker boatTracker;
+
+	@Getter
+	private boolean sailing;
+
+	@Getter
+	private Boat boat;
+
+	// of the local player, -1 for the top level or if there is no local player
+	@Getter
+	private int worldViewId = -1;
+
+	private boolean hasLocalPlayer;
+
+	// computed lazily, since most frames nothing asks for it
+	private WorldPoint topLevelWorldPoint;
+	private boolean topLevelWorldPointValid;
+
+	@Inject
+	public FrameContext(Client client, BoatTracker boatTracker)
+	{
+		this.client = client;
+		this.boatTracker = boatTracker;
+	}
+
+	@Override
+	public void shutDown()
+	{
+		sailing = false;
+		boat = null;
+		worldViewId = -1;
+		hasLocalPlayer = false;
+		topLevelWorldPoint = null;
+		topLevelWorldPointValid = false;
+	}
+
+	@Subscribe(priority = 1)
+	public void onBeforeRender(BeforeRender e)
+	{
+		Player player = client.getLocalPlayer();
+		topLevelWorldPoint = null;
+		topLevelWorldPointValid = false;
+		hasLocalPlayer = player != null;
+		if (player == null)
+		{
+			sailing = false;
+			boat = null;
+			worldViewId = -1;
+			return;
+		}
+
+		worldViewId = player.getWorldView().getId();
+		sailing = !player.getWorldView().isTopLevel();
+		boat = boatTracker.getBoat(worldViewId);
+	}
+
+	/**
+	 * @return the local player's location in the top level world, or null if there is no local player
+	 */
+	public WorldPoint getTopLevelWorldPoint()
+	{
+		if (!topLevelWorldPointValid)
+		{
+			topLevelWorldPoint = hasLocalPlayer ? SailingUtil.getTopLevelWorldPoint(client) : null;
+			topLevelWorldPointValid = true;
+		}
+
+		return topLevelWorldPoint;
+	}
+
+}
@@ -0,0 +1,238 @@
+package com.duckblade.osrs.sailing.features.util;
+
+import com.duckblade.osrs.sailing.module.PluginLifecycleComponent;
+import java.awt.Polygon;
+import java.util.Arrays;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import net.runelite.api.Client;
+import net.runelite.api.Perspective;
+import net.runelite.api.Scene;
+import net.runelite.api.WorldView;
+import net.runelite.api.coords.LocalPoint;
+import net.runelite.api.events.BeforeRender;
+import net.runelite.client.eventbus.Subscribe;
+
+/**
+ * Canvas polygons of static top-level tiles, reused across frames until the view changes.
+ * <p>
+ * The first lookup in each frame compares the camera position, orientation, zoom and viewport, as well as the
+ * top-level scene base and plane, against the previous frame's, and drops every cached polygon if any differ.
+ * Points in a boat's worldview move with the boat, so they are projected every time.
+ * Overlays keeping their own projected geometry can compare {@link #getViewVersion()} against the version they built it for.
+ * <p>
+ * The camera follows the boat while it moves, which changes the view nearly every frame,
+ * so this only pays off for overlays which are mostly drawn while the camera is still, like wrecks being salvaged
+ * from a stopped boat. Overlays drawn while moving, such as rapids, should project directly instead.
+ * <p>
+ * Returned polygons are shared between callers and frames, and must not be modified.
+ * Only valid on the client thread during overlay rendering.
+ */
+@Singleton
+public class ProjectionCache
+	implements PluginLifecycleComponent
+{
+
+	private static final int MAX_ENTRIES = 2048;
+
+	// marks points which project off screen, so they aren't retried every frame
+	private static final Polygon OFFSCREEN = new Polygon();
+
+	private static final int VIEW_SIGNATURE_LENGTH = 13;
+
+	private final Client client;
+
+	private final PolygonTable polygons = new PolygonTable();
+	private double[] viewSignature = new double[VIEW_SIGNATURE_LENGTH];
+	private double[] scratchSignature = new double[VIEW_SIGNATURE_LENGTH];
+	private boolean validated;
+	private int viewVersion;
+
+	@Inject
+	public ProjectionCache(Client client)
+	{
+		this.client = client;
+	}
+
+	@Override
+	public void shutDown()
+	{
+		polygons.clear();
+		validated = false;
+		viewVersion++;
+	}
+
+	@Subscribe
+	public void onBeforeRender(BeforeRender e)
+	{
+		validated = false;
+	}
+
+	/**
+	 * Cached equivalent of {@link Perspective#getCanvasTileAreaPoly(Client, LocalPoint, int)}.
+	 */
+	public Polygon getCanvasTileAreaPoly(LocalPoint lp, int size)
+	{
+		WorldView wv = client.getWorldView(lp.getWorldView());
+		if (wv == null)
+		{
+			return null;
+		}
+		return getCanvasTileAreaPoly(lp, size, size, wv.getPlane());
+	}
+
+	/**
+	 * Cached equivalent of {@link Perspective#getCanvasTileAreaPoly(Client, LocalPoint, int, int, int, int)}
+	 * with no z offset.
+	 */
+	public Polygon getCanvasTileAreaPoly(LocalPoint lp, int sizeX, int sizeY, int plane)
+	{
+		if (lp.getWorldView() != -1)
+		{
+			return Perspective.getCanvasTileAreaPoly(client, lp, sizeX, sizeY, plane, 0);
+		}
+
+		validate();
+
+		long key = key(lp, sizeX, sizeY, plane);
+		Polygon poly = polygons.get(key);
+		if (poly == null)
+		{
+			if (polygons.size() >= MAX_ENTRIES)
+			{
+				polygons.clear();
+			}
+
+			poly = Perspective.getCanvasTileAreaPoly(client, lp, sizeX, sizeY, plane, 0);
+			if (poly == null)
+			{
+				poly = OFFSCREEN;
+			}
+			polygons.put(key, poly);
+		}
+
+		return poly == OFFSCREEN ? null : poly;
+	}
+
+	/**
+	 * @return a number which changes whenever the view does, i.e. whenever projections made before may be stale
+	 */
+	public int getViewVersion()
+	{
+		validate();
+		return viewVersion;
+	}
+
+	private void validate()
+	{
+		if (validated)
+		{
+			return;
+		}
+		validated = true;
+
+		WorldView tlwv = client.getTopLevelWorldView();
+		Scene scene = tlwv.getScene();
+		double[] sig = scratchSignature;
+		sig[0] = client.getCameraFpX();
+		sig[1] = client.getCameraFpY();
+		sig[2] = client.getCameraFpZ();
+		sig[3] = client.getCameraFpPitch();
+		sig[4] = client.getCameraFpYaw();
+		sig[5] = client.getScale();
+		sig[6] = client.getViewportXOffset();
+		sig[7] = client.getViewportYOffset();
+		sig[8] = client.getViewportWidth();
+		sig[9] = client.getViewportHeight();
+		sig[10] = scene != null ? scene.getBaseX() : -1;
+		sig[11] = scene != null ? scene.getBaseY() : -1;
+		sig[12] = tlwv.getPlane();
+
+		if (!Arrays.equals(sig, viewSignature))
+		{
+			polygons.clear();
+			viewVersion++;
+			scratchSignature = viewSignature;
+			viewSignature = sig;
+		}
+	}
+
+	/**
+	 * Packs x and y into 20 bits each, the sizes into 8 bits each, and the plane into 2 bits.
+	 */
+	static long key(LocalPoint lp, int sizeX, int sizeY, int plane)
+	{
+		return ((long) (lp.getX() & 0xFFFFF) << 38) |
+			((long) (lp.getY() & 0xFFFFF) << 18) |
+			((long) (sizeX & 0xFF) << 10) |
+			((long) (sizeY & 0xFF) << 2) |
+			(plane & 0x3);
+	}
+
+	/**
+	 * Open addressing map from {@link #key} to polygon, so lookups don't box.
+	 * Entries are never removed individually, only all at once.
+	 */
+	static final class PolygonTable
+	{
+
+		// at most half full
+		private static final int CAPACITY_BITS = 12;
+		private static final int CAPACITY = 1 << CAPACITY_BITS;
+		private static final int MASK = CAPACITY - 1;
+
+		private final long[] keys = new long[CAPACITY];
+		// null marks an empty slot
+		private final Polygon[] values = new Polygon[CAPACITY];
+		private int size;
+
+		Polygon get(long key)
+		{
+			for (int i = index(key); ; i = (i + 1) & MASK)
+			{
+				Polygon value = values[i];
+				if (value == null || keys[i] == key)
+				{
+					return value;
+				}
+			}
+		}
+
+		void put(long key, Polygon value)
+		{
+			int i = index(key);
+			while (values[i] != null && keys[i] != key)
+			{
+				i = (i + 1) & MASK;
+			}
+
+			if (values[i] == null)
+			{
+				size++;
+			}
+			keys[i] = key;
+			values[i] = value;
+		}
+
+		int size()
+		{
+			return size;
+		}
+
+		void clear()
+		{
+			if (size != 0)
+			{
+				Arrays.fill(values, null);
+				size = 0;
+			}
+		}
+
+		private static int index(long key)
+		{
+			return (int) ((key * 0x9E3779B97F4A7C15L) >>> (64 - CAPACITY_BITS));
+		}
+
+	}
+
+}
@@ -0,0 +1,213 @@
+package com.duckblade.osrs.sailing.features.util;
+
+import com.duckblade.osrs.sailing.module.GameObjectSpawnListener;
+import com.duckblade.osrs.sailing.module.PluginLifecycleComponent;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.inject.Singleton;
+import net.runelite.api.GameObject;
+import net.runelite.api.NPC;
+import net.runelite.api.events.GameObjectDespawned;
+import net.runelite.api.events.GameObjectSpawned;
+import net.runelite.api.events.NpcDespawned;
+import net.runelite.api.events.NpcSpawned;
+import net.runelite.api.events.WorldViewUnloaded;
+import net.runelite.client.eventbus.Subscribe;
+
+/**
+ * Single store of the live game objects and NPCs that components are interested in,
+ * indexed by ID and by worldview.
+ * <p>
+ * Components request the IDs they care about from their constructors via {@link #trackGameObjects}
+ * and {@link #trackNpcs}, then query the registry when rendering instead of keeping their own copies.
+ * Components which render every object they track can iterate the set returned by {@link #trackGameObjects},
+ * which only ever holds live objects, rather than looking up each of their IDs every frame.
+ * The registry is always running, so it stays up to date while those components are disabled or out of scope.
+ * <p>
+ * Returned collections are live views and must not be modified.
+ */
+@Singleton
+public class SceneObjectRegistry
+	implements PluginLifecycleComponent, GameObjectSpawnListener
+{
+
+	private final Set<Integer> trackedGameObjectIds = new HashSet<>();
+	private final Set<Integer> trackedNpcIds = new HashSet<>();
+
+	// index sets are emptied rather than removed, so scene reloads don't reallocate them
+	private final Map<Integer, Set<GameObject>> gameObjectsById = new HashMap<>();
+	private final Map<Integer, Set<GameObject>> gameObjectsByWorldView = new HashMap<>();
+	// the sets handed out by trackGameObjects, by each ID they were requested for
+	private final Map<Integer, List<Set<GameObject>>> consumerSetsById = new HashMap<>();
+
+	private final Map<Integer, Set<NPC>> npcsById = new HashMap<>();
+	private final Map<Integer, Set<NPC>> npcsByWorldView = new HashMap<>();
+
+	/**
+	 * Must be called before the plugin starts, i.e. from a component constructor.
+	 *
+	 * @return a live view of the spawned game objects with any of the given IDs
+	 */
+	public Set<GameObject> trackGameObjects(Collection<Integer> ids)
+	{
+		Set<GameObject> objects = new HashSet<>();
+		for (Integer id : ids)
+		{
+			consumerSetsById.computeIfAbsent(id, k -> new ArrayList<>(1)).add(objects);
+		}
+		trackedGameObjectIds.addAll(ids);
+		return Collections.unmodifiableSet(objects);
+	}
+
+	public void trackNpcs(Collection<Integer> ids)
+	{
+		trackedNpcIds.addAll(ids);
+	}
+
+	@Override
+	public void shutDown()
+	{
+		clear(gameObjectsById);
+		clear(gameObjectsByWorldView);
+		consumerSetsById.values().forEach(sets -> sets.forEach(Set::clear));
+		clear(npcsById);
+		clear(npcsByWorldView);
+	}
+
+	@Override
+	public Set<Integer> getGameObjectIds()
+	{
+		return Collections.unmodifiableSet(trackedGameObjectIds);
+	}
+
+	@Override
+	public void onGameObjectSpawned(GameObjectSpawned e)
+	{
+		GameObject o = e.getGameObject();
+		gameObjectsById.computeIfAbsent(o.getId(), k -> new HashSet<>()).add(o);
+		gameObjectsByWorldView.computeIfAbsent(o.getWorldView().getId(), k -> new HashSet<>()).add(o);
+		for (Set<GameObject> consumerSet : consumerSetsById.getOrDefault(o.getId(), Collections.emptyList()))
+		{
+			consumerSet.add(o);
+		}
+	}
+
+	@Override
+	public void onGameObjectDespawned(GameObjectDespawned e)
+	{
+		removeGameObject(e.getGameObject());
+	}
+
+	@Subscribe
+	public void onNpcSpawned(NpcSpawned e)
+	{
+		NPC npc = e.getNpc();
+		if (trackedNpcIds.contains(npc.getId()))
+		{
+			npcsById.computeIfAbsent(npc.getId(), k -> new HashSet<>()).add(npc);
+			npcsByWorldView.computeIfAbsent(npc.getWorldView().getId(), k -> new HashSet<>()).add(npc);
+		}
+	}
+
+	@Subscribe
+	public void onNpcDespawned(NpcDespawned e)
+	{
+		NPC npc = e.getNpc();
+		Set<NPC> byId = npcsById.get(npc.getId());
+		if (byId != null && byId.remove(npc))
+		{
+			npcsByWorldView.get(npc.getWorldView().getId()).remove(npc);
+		}
+	}
+
+	@Subscribe
+	public void onWorldViewUnloaded(WorldViewUnloaded e)
+	{
+		int wvId = e.getWorldView().getId();
+
+		Set<GameObject> objects = gameObjectsByWorldView.get(wvId);
+		if (objects != null && !objects.isEmpty())
+		{
+			for (GameObject o : objects)
+			{
+				removeFromIdIndices(o);
+			}
+			objects.clear();
+		}
+
+		Set<NPC> npcs = npcsByWorldView.get(wvId);
+		if (npcs != null && !npcs.isEmpty())
+		{
+			for (NPC npc : npcs)
+			{
+				npcsById.get(npc.getId()).remove(npc);
+			}
+			npcs.clear();
+		}
+	}
+
+	public Set<GameObject> getGameObjects(int id)
+	{
+		return gameObjectsById.getOrDefault(id, Collections.emptySet());
+	}
+
+	public Set<GameObject> getGameObjectsInWorldView(int worldViewId)
+	{
+		return gameObjectsByWorldView.getOrDefault(worldViewId, Collections.emptySet());
+	}
+
+	/**
+	 * @return any tracked game object in the given worldview with one of the given IDs, or null
+	 */
+	public GameObject findGameObject(int worldViewId, Set<Integer> ids)
+	{
+		for (GameObject o : getGameObjectsInWorldView(worldViewId))
+		{
+			if (ids.contains(o.getId()))
+			{
+				return o;
+			}
+		}
+		return null;
+	}
+
+	public Set<NPC> getNpcs(int id)
+	{
+		return npcsById.getOrDefault(id, Collections.emptySet());
+	}
+
+	private void removeGameObject(GameObject o)
+	{
+		if (removeFromIdIndices(o))
+		{
+			gameObjectsByWorldView.get(o.getWorldView().getId()).remove(o);
+		}
+	}
+
+	private boolean removeFromIdIndices(GameObject o)
+	{
+		Set<GameObject> byId = gameObjectsById.get(o.getId());
+		if (byId == null || !byId.remove(o))
+		{
+			return false;
+		}
+
+		for (Set<GameObject> consumerSet : consumerSetsById.getOrDefault(o.getId(), Collections.emptyList()))
+		{
+			consumerSet.remove(o);
+		}
+		return true;
+	}
+
+	private static <K, V> void clear(Map<K, Set<V>> index)
+	{
+		index.values().forEach(Set::clear);
+	}
+
+}
@@ -1,17 +1,19 @@
 package com.duckblade.osrs.sailing.model;
 
 import com.duckblade.osrs.sailing.features.util.SailingUtil;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import lombok.AccessLevel;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Setter;
+import lombok.ToString;
 import net.runelite.api.Client;
 import net.runelite.api.GameObject;
 import net.runelite.api.WorldEntity;
+import net.runelite.api.coords.LocalPoint;
 
 @Data
 public class Boat
@@ -28,86 +30,196 @@ public class Boat
 	GameObject chumStation;
 	GameObject windCatcher;
 
+	// mutated through the add/remove methods below
+	private final FacilityList<SalvagingHookTier> salvagingHooks = new FacilityList<>(SalvagingHookTier::fromGameObjectId);
+	private final FacilityList<FishingNetTier> fishingNets = new FacilityList<>(FishingNetTier::fromGameObjectId);
+	private final FacilityList<CannonTier> cannons = new FacilityList<>(CannonTier::fromGameObjectId);
+
+	// last observed position of the boat's world entity in the top-level worldview
+	@Setter(AccessLevel.NONE)
+	private LocalPoint lastLocation;
+	@Setter(AccessLevel.NONE)
+	private int lastOrientation;
 	@Setter(AccessLevel.NONE)
-	Set<GameObject> salvagingHooks = new HashSet<>();
-    Set<GameObject> fishingNets = new HashSet<>();
-    Set<GameObject> cannons = new HashSet<>();
+	private int lastSeenTick = -1;
 
-	// these are intentionally not cached in case the object is transformed without respawning
+	// tiers are a pure function of the object's current id, so they're cached against that id rather than the object.
+	// this stays correct when an object is transformed without respawning
 	// e.g. helms have a different idle vs in-use id
+	@Getter(AccessLevel.NONE)
+	@EqualsAndHashCode.Exclude
+	@ToString.Exclude
+	private final TierCache tierCache = new TierCache();
+
 	public HullTier getHullTier()
 	{
-		return hull != null ? HullTier.fromGameObjectId(hull.getId()) : null;
+		if (hull == null)
+		{
+			return null;
+		}
+
+		tierCache.updateHull(hull.getId());
+		return tierCache.hullTier;
 	}
 
 	public SailTier getSailTier()
 	{
-		return sail != null ? SailTier.fromGameObjectId(sail.getId()) : null;
+		if (sail == null)
+		{
+			return null;
+		}
+
+		int id = sail.getId();
+		if (tierCache.sailId != id)
+		{
+			tierCache.sailId = id;
+			tierCache.sailTier = SailTier.fromGameObjectId(id);
+		}
+		return tierCache.sailTier;
 	}
 
 	public HelmTier getHelmTier()
 	{
-		return helm != null ? HelmTier.fromGameObjectId(helm.getId()) : null;
+		if (helm == null)
+		{
+			return null;
+		}
+
+		int id = helm.getId();
+		if (tierCache.helmId != id)
+		{
+			tierCache.helmId = id;
+			tierCache.helmTier = HelmTier.fromGameObjectId(id);
+		}
+		return tierCache.helmTier;
 	}
 
 	public WindCatcherTier getWindCatcherTier()
 	{
-		return windCatcher != null ? WindCatcherTier.fromGameObjectId(windCatcher.getId()) : null;
+		if (windCatcher == null)
+		{
+			return null;
+		}
+
+		int id = windCatcher.getId();
+		if (tierCache.windCatcherId != id)
+		{
+			tierCache.windCatcherId = id;
+			tierCache.windCatcherTier = WindCatcherTier.fromGameObjectId(id);
+		}
+		return tierCache.windCatcherTier;
 	}
 
+	// the tier lists allocate, prefer FacilityList.getTier outside of debug output
 	public List<SalvagingHookTier> getSalvagingHookTiers()
 	{
-		return salvagingHooks.stream()
-			.mapToInt(GameObject::getId)
-			.mapToObj(SalvagingHookTier::fromGameObjectId)
-			.collect(Collectors.toList());
+		return salvagingHooks.getTiers();
 	}
 
-    public List<FishingNetTier> getNetTiers()
-    {
-        return fishingNets.stream()
-                .mapToInt(GameObject::getId)
-                .mapToObj(FishingNetTier::fromGameObjectId)
-                .collect(Collectors.toList());
-    }
+	public List<FishingNetTier> getNetTiers()
+	{
+		return fishingNets.getTiers();
+	}
 
 	public List<CannonTier> getCannonTiers()
 	{
-		return cannons.stream()
-			.mapToInt(GameObject::getId)
-			.mapToObj(CannonTier::fromGameObjectId)
-			.collect(Collectors.toList());
+		return cannons.getTiers();
+	}
+
+	public boolean addSalvagingHook(GameObject o)
+	{
+		return salvagingHooks.add(o);
+	}
+
+	public boolean removeSalvagingHook(GameObject o)
+	{
+		return salvagingHooks.remove(o);
+	}
+
+	public boolean addFishingNet(GameObject o)
+	{
+		return fishingNets.add(o);
+	}
+
+	public boolean removeFishingNet(GameObject o)
+	{
+		return fishingNets.remove(o);
+	}
+
+	public boolean addCannon(GameObject o)
+	{
+		return cannons.add(o);
+	}
+
+	public boolean removeCannon(GameObject o)
+	{
+		return cannons.remove(o);
 	}
 
 	public CargoHoldTier getCargoHoldTier()
 	{
-		return cargoHold != null ? CargoHoldTier.fromGameObjectId(cargoHold.getId()) : null;
+		if (cargoHold == null)
+		{
+			return null;
+		}
+
+		int id = cargoHold.getId();
+		if (tierCache.cargoHoldId != id)
+		{
+			tierCache.cargoHoldId = id;
+			tierCache.cargoHoldTier = CargoHoldTier.fromGameObjectId(id);
+		}
+		return tierCache.cargoHoldTier;
 	}
 
 	public ChumStationTier getChumStationTier()
 	{
-		return chumStation != null ? ChumStationTier.fromGameObjectId(chumStation.getId()) : null;
+		if (chumStation == null)
+		{
+			return null;
+		}
+
+		int id = chumStation.getId();
+		if (tierCache.chumStationId != id)
+		{
+			tierCache.chumStationId = id;
+			tierCache.chumStationTier = ChumStationTier.fromGameObjectId(id);
+		}
+		return tierCache.chumStationTier;
 	}
 
 	public SizeClass getSizeClass()
 	{
-		return hull != null ? SizeClass.fromGameObjectId(hull.getId()) : null;
+		if (hull == null)
+		{
+			return null;
+		}
+
+		tierCache.updateHull(hull.getId());
+		return tierCache.sizeClass;
+	}
+
+	public void updatePosition(LocalPoint location, int orientation, int tick)
+	{
+		lastLocation = location;
+		lastOrientation = orientation;
+		lastSeenTick = tick;
 	}
 
-	public Set<GameObject> getAllFacilities()
+	/**
+	 * Visits every facility object currently on the boat, without allocating.
+	 */
+	public void forEachFacility(Consumer<? super GameObject> action)
 	{
-		Set<GameObject> facilities = new HashSet<>();
-		facilities.add(hull);
-		facilities.add(sail);
-		facilities.add(helm);
-		facilities.addAll(salvagingHooks);
-		facilities.add(cargoHold);
-		facilities.add(chumStation);
-    facilities.addAll(fishingNets);
-    facilities.addAll(cannons);
-    facilities.add(windCatcher);
-    facilities.addAll(fishingNets);
-		return facilities;
+		visitIfPresent(hull, action);
+		visitIfPresent(sail, action);
+		visitIfPresent(helm, action);
+		salvagingHooks.forEach(action);
+		visitIfPresent(cargoHold, action);
+		visitIfPresent(chumStation, action);
+		fishingNets.forEach(action);
+		cannons.forEach(action);
+		visitIfPresent(windCatcher, action);
 	}
 
 	public int getCargoCapacity(boolean uim)
@@ -126,10 +238,20 @@ public class Boat
 		return getCargoCapacity(SailingUtil.isUim(client));
 	}
 
-    public int getNetCapacity()
-    {
-        return fishingNets.size() * 125;
-    }
+	// resolved from the nets' current ids like the tiers, so it follows nets upgraded in place
+	public int getNetCapacity()
+	{
+		int capacity = 0;
+		for (int i = 0; i < fishingNets.size(); i++)
+		{
+			FishingNetTier tier = fishingNets.getTier(i);
+			if (tier != null)
+			{
+				capacity += tier.getCapacity();
+			}
+		}
+		return capacity;
+	}
 
 	public int getSpeedBoostDuration()
 	{
@@ -167,4 +289,44 @@ public class Boat
 			getWindCatcherTier()
 		);
 	}
+
+	private static void visitIfPresent(GameObject o, Consumer<? super GameObject> action)
+	{
+		if (o != null)
+		{
+			action.accept(o);
+		}
+	}
+
+	private static final class TierCache
+	{
+		int hullId = -1;
+		HullTier hullTier;
+		SizeClass sizeClass;
+
+		int sailId = -1;
+		SailTier sailTier;
+
+		int helmId = -1;
+		HelmTier helmTier;
+
+		int cargoHoldId = -1;
+		CargoHoldTier cargoHoldTier;
+
+		int chumStationId = -1;
+		ChumStationTier chumStationTier;
+
+		int windCatcherId = -1;
+		WindCatcherTier windCatcherTier;
+
+		void updateHull(int id)
+		{
+			if (hullId != id)
+			{
+				hullId = id;
+				hullTier = HullTier.fromGameObjectId(id);
+				sizeClass = SizeClass.fromGameObjectId(id);
+			}
+		}
+	}
 }
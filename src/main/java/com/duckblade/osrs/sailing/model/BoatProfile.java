@@ -0,0 +1,64 @@
+package com.duckblade.osrs.sailing.model;
+
+import lombok.Value;
+
+/**
+ * Immutable snapshot of the stats derived from a boat's facilities.
+ * Published as {@link com.duckblade.osrs.sailing.features.util.BoatProfileChanged}
+ * whenever the local boat's facilities or the relevant account state change.
+ */
+@Value
+public class BoatProfile
+{
+
+	int worldViewId;
+
+	SizeClass sizeClass;
+	HullTier hullTier;
+	SailTier sailTier;
+	HelmTier helmTier;
+	CargoHoldTier cargoHoldTier;
+	ChumStationTier chumStationTier;
+	WindCatcherTier windCatcherTier;
+
+	int salvagingHookCount;
+	int fishingNetCount;
+	int cannonCount;
+
+	/**
+	 * -1 if the boat has no sail
+	 */
+	int speedBoostDuration;
+	int netCapacity;
+	// already accounts for UIM
+	int cargoCapacity;
+
+	public static BoatProfile of(Boat boat, boolean uim)
+	{
+		return new BoatProfile(
+			boat.getWorldViewId(),
+			boat.getSizeClass(),
+			boat.getHullTier(),
+			boat.getSailTier(),
+			boat.getHelmTier(),
+			boat.getCargoHoldTier(),
+			boat.getChumStationTier(),
+			boat.getWindCatcherTier(),
+			boat.getSalvagingHooks().size(),
+			boat.getFishingNets().size(),
+			boat.getCannons().size(),
+			boat.getSpeedBoostDuration(),
+			boat.getNetCapacity(),
+			boat.getCargoCapacity(uim)
+		);
+	}
+
+	/**
+	 * @return whether the helm is known and at least the given tier, e.g. the minimum for a type of rapids
+	 */
+	public boolean hasHelmTier(HelmTier minTier)
+	{
+		return helmTier != null && helmTier.ordinal() >= minTier.ordinal();
+	}
+
+}
@@ -55,18 +55,7 @@ public enum CannonTier
 
 	public static CannonTier fromGameObjectId(int id)
 	{
-		for (CannonTier tier : values())
-		{
-			for (int objectId : tier.getGameObjectIds())
-			{
-				if (objectId == id)
-				{
-					return tier;
-				}
-			}
-		}
-
-		return null;
+		return FacilityLookup.getTier(id, FacilityKind.CANNON);
 	}
 
 }
\ No newline at end of file
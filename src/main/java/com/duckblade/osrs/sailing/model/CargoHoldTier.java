@@ -130,18 +130,7 @@ public enum CargoHoldTier
 
 	public static CargoHoldTier fromGameObjectId(int id)
 	{
-		for (CargoHoldTier tier : values())
-		{
-			for (int objectId : tier.getGameObjectIds())
-			{
-				if (objectId == id)
-				{
-					return tier;
-				}
-			}
-		}
-
-		return null;
+		return FacilityLookup.getTier(id, FacilityKind.CARGO_HOLD);
 	}
 
 	public int getCapacity(SizeClass sizeClass, boolean uim)
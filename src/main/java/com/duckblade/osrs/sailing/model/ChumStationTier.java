@@ -41,18 +41,7 @@ public enum ChumStationTier
 
 	public static ChumStationTier fromGameObjectId(int id)
 	{
-		for (ChumStationTier tier : values())
-		{
-			for (int objectId : tier.getGameObjectIds())
-			{
-				if (objectId == id)
-				{
-					return tier;
-				}
-			}
-		}
-
-		return null;
+		return FacilityLookup.getTier(id, FacilityKind.CHUM_STATION);
 	}
 
 }
\ No newline at end of file
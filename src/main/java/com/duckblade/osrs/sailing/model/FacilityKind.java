@@ -0,0 +1,17 @@
+package com.duckblade.osrs.sailing.model;
+
+public enum FacilityKind
+{
+
+	HULL,
+	SAIL,
+	HELM,
+	SALVAGING_HOOK,
+	CARGO_HOLD,
+	CHUM_STATION,
+	FISHING_NET,
+	CANNON,
+	WIND_CATCHER,
+	;
+
+}
@@ -0,0 +1,125 @@
+package com.duckblade.osrs.sailing.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+import net.runelite.api.GameObject;
+
+/**
+ * Array-backed set of one kind of facility on a boat, e.g. its salvaging hooks.
+ * <p>
+ * Iterate with {@link #size()} and {@link #get(int)}, or {@link #forEach(Consumer)}; neither allocates.
+ * Order is not stable across removals.
+ */
+public final class FacilityList<T>
+{
+
+	private static final int INITIAL_CAPACITY = 4;
+
+	private final IntFunction<T> tierLookup;
+
+	private GameObject[] objects = new GameObject[INITIAL_CAPACITY];
+	private int size;
+
+	FacilityList(IntFunction<T> tierLookup)
+	{
+		this.tierLookup = tierLookup;
+	}
+
+	public int size()
+	{
+		return size;
+	}
+
+	public boolean isEmpty()
+	{
+		return size == 0;
+	}
+
+	public GameObject get(int index)
+	{
+		if (index >= size)
+		{
+			throw new IndexOutOfBoundsException(index + " >= " + size);
+		}
+
+		return objects[index];
+	}
+
+	/**
+	 * @return the tier of the object at index, resolved from its current id
+	 */
+	public T getTier(int index)
+	{
+		return tierLookup.apply(get(index).getId());
+	}
+
+	public boolean contains(GameObject o)
+	{
+		return indexOf(o) != -1;
+	}
+
+	public void forEach(Consumer<? super GameObject> action)
+	{
+		for (int i = 0; i < size; i++)
+		{
+			action.accept(objects[i]);
+		}
+	}
+
+	/**
+	 * Allocates, for debug display only.
+	 */
+	public List<T> getTiers()
+	{
+		List<T> tiers = new ArrayList<>(size);
+		for (int i = 0; i < size; i++)
+		{
+			tiers.add(getTier(i));
+		}
+		return tiers;
+	}
+
+	boolean add(GameObject o)
+	{
+		if (contains(o))
+		{
+			return false;
+		}
+
+		if (size == objects.length)
+		{
+			objects = Arrays.copyOf(objects, size * 2);
+		}
+		objects[size++] = o;
+		return true;
+	}
+
+	boolean remove(GameObject o)
+	{
+		int index = indexOf(o);
+		if (index == -1)
+		{
+			return false;
+		}
+
+		objects[index] = objects[--size];
+		objects[size] = null;
+		return true;
+	}
+
+	private int indexOf(GameObject o)
+	{
+		for (int i = 0; i < size; i++)
+		{
+			if (objects[i] == o)
+			{
+				return i;
+			}
+		}
+		return -1;
+	}
+
+}
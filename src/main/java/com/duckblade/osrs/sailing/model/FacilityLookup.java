@@ -0,0 +1,180 @@
+package com.duckblade.osrs.sailing.model;
+
+import java.util.Arrays;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Precomputed game object id -> (facility kind, tier) table covering every facility tier enum.
+ * <p>
+ * Open addressing with linear probing over a power-of-two table at most half full,
+ * so a lookup is a hash and (almost always) a single probe, hit or miss.
+ */
+public final class FacilityLookup
+{
+
+	@Getter
+	@RequiredArgsConstructor
+	public static final class Facility
+	{
+		private final FacilityKind kind;
+		private final Enum<?> tier;
+	}
+
+	private static final int EMPTY = -1;
+
+	private static final int[] KEYS;
+	private static final Facility[] VALUES;
+	private static final int MASK;
+	private static final int[] OBJECT_IDS;
+
+	static
+	{
+		int count = 0;
+		Enum<?>[][] tiers = tiersByKind();
+		for (int kind = 0; kind < tiers.length; kind++)
+		{
+			for (Enum<?> tier : tiers[kind])
+			{
+				count += objectIds(FacilityKind.values()[kind], tier).length;
+			}
+		}
+
+		int capacity = Integer.highestOneBit(Math.max(count, 1) * 2 - 1) << 1;
+		KEYS = new int[capacity];
+		VALUES = new Facility[capacity];
+		MASK = capacity - 1;
+		int[] objectIds = new int[count];
+		Arrays.fill(KEYS, EMPTY);
+
+		int next = 0;
+		for (int kind = 0; kind < tiers.length; kind++)
+		{
+			for (Enum<?> tier : tiers[kind])
+			{
+				Facility facility = new Facility(FacilityKind.values()[kind], tier);
+				for (int id : objectIds(facility.getKind(), tier))
+				{
+					int slot = slot(id);
+					if (KEYS[slot] == id)
+					{
+						if (VALUES[slot].getKind() != facility.getKind())
+						{
+							throw new IllegalStateException("Object id " + id + " is both " + VALUES[slot].getTier() + " and " + tier);
+						}
+
+						// first tier wins, matching the previous linear scans
+						continue;
+					}
+
+					KEYS[slot] = id;
+					VALUES[slot] = facility;
+					objectIds[next++] = id;
+				}
+			}
+		}
+		OBJECT_IDS = Arrays.copyOf(objectIds, next);
+	}
+
+	private FacilityLookup()
+	{
+	}
+
+	/**
+	 * @return the facility kind and tier of the object id, or null if it is not a boat facility
+	 */
+	public static Facility lookup(int objectId)
+	{
+		if (objectId == EMPTY)
+		{
+			return null;
+		}
+
+		return VALUES[slot(objectId)];
+	}
+
+	public static FacilityKind getKind(int objectId)
+	{
+		Facility facility = lookup(objectId);
+		return facility != null ? facility.getKind() : null;
+	}
+
+	/**
+	 * @return the tier of the object id if it is a facility of the given kind, otherwise null
+	 */
+	@SuppressWarnings("unchecked")
+	static <T extends Enum<T>> T getTier(int objectId, FacilityKind kind)
+	{
+		Facility facility = lookup(objectId);
+		return facility != null && facility.getKind() == kind ? (T) facility.getTier() : null;
+	}
+
+	/**
+	 * @return every facility object id, do not modify
+	 */
+	public static int[] getObjectIds()
+	{
+		return OBJECT_IDS;
+	}
+
+	// the slot holding objectId, or the empty slot it would be inserted into
+	private static int slot(int objectId)
+	{
+		int slot = mix(objectId) & MASK;
+		while (KEYS[slot] != EMPTY && KEYS[slot] != objectId)
+		{
+			slot = (slot + 1) & MASK;
+		}
+		return slot;
+	}
+
+	private static int mix(int key)
+	{
+		int h = key * 0x9E3779B9;
+		return h ^ (h >>> 16);
+	}
+
+	// indexed by FacilityKind ordinal
+	private static Enum<?>[][] tiersByKind()
+	{
+		Enum<?>[][] tiers = new Enum<?>[FacilityKind.values().length][];
+		tiers[FacilityKind.HULL.ordinal()] = HullTier.values();
+		tiers[FacilityKind.SAIL.ordinal()] = SailTier.values();
+		tiers[FacilityKind.HELM.ordinal()] = HelmTier.values();
+		tiers[FacilityKind.SALVAGING_HOOK.ordinal()] = SalvagingHookTier.values();
+		tiers[FacilityKind.CARGO_HOLD.ordinal()] = CargoHoldTier.values();
+		tiers[FacilityKind.CHUM_STATION.ordinal()] = ChumStationTier.values();
+		tiers[FacilityKind.FISHING_NET.ordinal()] = FishingNetTier.values();
+		tiers[FacilityKind.CANNON.ordinal()] = CannonTier.values();
+		tiers[FacilityKind.WIND_CATCHER.ordinal()] = WindCatcherTier.values();
+		return tiers;
+	}
+
+	private static int[] objectIds(FacilityKind kind, Enum<?> tier)
+	{
+		switch (kind)
+		{
+			case HULL:
+				return ((HullTier) tier).getGameObjectIds();
+			case SAIL:
+				return ((SailTier) tier).getGameObjectIds();
+			case HELM:
+				return ((HelmTier) tier).getGameObjectIds();
+			case SALVAGING_HOOK:
+				return ((SalvagingHookTier) tier).getGameObjectIds();
+			case CARGO_HOLD:
+				return ((CargoHoldTier) tier).getGameObjectIds();
+			case CHUM_STATION:
+				return ((ChumStationTier) tier).getGameObjectIds();
+			case FISHING_NET:
+				return ((FishingNetTier) tier).getGameObjectIds();
+			case CANNON:
+				return ((CannonTier) tier).getGameObjectIds();
+			case WIND_CATCHER:
+				return ((WindCatcherTier) tier).getGameObjectIds();
+			default:
+				throw new IllegalArgumentException(String.valueOf(kind));
+		}
+	}
+
+}
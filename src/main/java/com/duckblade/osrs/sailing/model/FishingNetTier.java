@@ -37,17 +37,7 @@ public enum FishingNetTier {
 
     public static FishingNetTier fromGameObjectId(int id)
     {
-        for (FishingNetTier tier : values())
-        {
-            for (int objectId : tier.getGameObjectIds())
-            {
-                if (objectId == id)
-                {
-                    return tier;
-                }
-            }
-        }
-        return null;
+        return FacilityLookup.getTier(id, FacilityKind.FISHING_NET);
     }
 
     public int getCapacity() {
@@ -106,18 +106,7 @@ public enum HelmTier
 
 	public static HelmTier fromGameObjectId(int id)
 	{
-		for (HelmTier tier : values())
-		{
-			for (int objectId : tier.getGameObjectIds())
-			{
-				if (objectId == id)
-				{
-					return tier;
-				}
-			}
-		}
-
-		return null;
+		return FacilityLookup.getTier(id, FacilityKind.HELM);
 	}
 
 }
@@ -71,18 +71,7 @@ public enum SalvagingHookTier
 
 	public static SalvagingHookTier fromGameObjectId(int id)
 	{
-		for (SalvagingHookTier tier : values())
-		{
-			for (int objectId : tier.getGameObjectIds())
-			{
-				if (objectId == id)
-				{
-					return tier;
-				}
-			}
-		}
-
-		return null;
+		return FacilityLookup.getTier(id, FacilityKind.SALVAGING_HOOK);
 	}
 
 }
@@ -27,18 +27,7 @@ public enum WindCatcherTier
 
 	public static WindCatcherTier fromGameObjectId(int id)
 	{
-		for (WindCatcherTier tier : values())
-		{
-			for (int objectId : tier.getGameObjectIds())
-			{
-				if (objectId == id)
-				{
-					return tier;
-				}
-			}
-		}
-
-		return null;
+		return FacilityLookup.getTier(id, FacilityKind.WIND_CATCHER);
 	}
 
 }
\ No newline at end of file
@@ -0,0 +1,81 @@
+package com.duckblade.osrs.sailing.module;
+
+import com.duckblade.osrs.sailing.features.util.SailingUtil;
+import net.runelite.api.Client;
+import net.runelite.api.coords.WorldArea;
+import net.runelite.api.coords.WorldPoint;
+import net.runelite.api.gameval.VarbitID;
+
+/**
+ * Game context in which a {@link PluginLifecycleComponent} needs to be running.
+ * The {@link ComponentManager} re-evaluates scopes every game tick,
+ * starting components as they come into scope and shutting them down as they leave it,
+ * so that they aren't subscribed to events or rendering while the player is doing something else.
+ * <p>
+ * Components which leave scope are shut down as if they were disabled in config,
+ * and will have game events simulated again when they come back into scope.
+ */
+@FunctionalInterface
+public interface ActivationScope
+{
+
+	ActivationScope ALWAYS = client -> true;
+
+	ActivationScope SAILING = SailingUtil::isSailing;
+
+	ActivationScope BARRACUDA_TRIAL = client ->
+		SailingUtil.isSailing(client) && client.getVarbitValue(VarbitID.SAILING_BT_IN_TRIAL) != 0;
+
+	/**
+	 * Only ever called on the client thread.
+	 */
+	boolean isActive(Client client);
+
+	default ActivationScope and(ActivationScope other)
+	{
+		return client -> isActive(client) && other.isActive(client);
+	}
+
+	static ActivationScope inAreas(WorldArea... areas)
+	{
+		return client ->
+		{
+			if (client.getLocalPlayer() == null)
+			{
+				return false;
+			}
+
+			WorldPoint wp = SailingUtil.getTopLevelWorldPoint(client);
+			for (WorldArea area : areas)
+			{
+				if (area.contains(wp))
+				{
+					return true;
+				}
+			}
+			return false;
+		};
+	}
+
+	static ActivationScope inRegions(int... regionIds)
+	{
+		return client ->
+		{
+			if (client.getLocalPlayer() == null)
+			{
+				return false;
+			}
+
+			int regionId = SailingUtil.getTopLevelWorldPoint(client).getRegionID();
+			for (int id : regionIds)
+			{
+				if (id == regionId)
+				{
+					return true;
+				}
+			}
+			return false;
+		};
+	}
+
+}
@@ -1,13 +1,31 @@
 package com.duckblade.osrs.sailing.module;
 
 import com.duckblade.osrs.sailing.SailingConfig;
+import com.google.common.collect.HashMultimap;
+import com.google.common.collect.SetMultimap;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import net.runelite.api.Client;
+import net.runelite.api.GameState;
+import net.runelite.api.events.GameObjectDespawned;
+import net.runelite.api.events.GameObjectSpawned;
+import net.runelite.api.events.GameStateChanged;
+import net.runelite.api.events.GameTick;
 import net.runelite.client.eventbus.EventBus;
 import net.runelite.client.eventbus.Subscribe;
 import net.runelite.client.events.ConfigChanged;
@@ -29,19 +47,63 @@ import net.runelite.client.util.GameEventManager;
 public class ComponentManager
 {
 
+	private final Client client;
 	private final EventBus eventBus;
 	private final OverlayManager overlayManager;
 	private final InfoBoxManager infoBoxManager;
 	private final GameEventManager gameEventManager;
 	private final SailingConfig config;
 	private final Set<PluginLifecycleComponent> components;
+	private final ComponentProfiler profiler;
 
 	private final Map<PluginLifecycleComponent, Boolean> states = new HashMap<>();
 
+	// last results of isEnabled(config) and getActivationScope().isActive(client), both must hold to run
+	private final Map<PluginLifecycleComponent, Boolean> configStates = new HashMap<>();
+	private final Map<PluginLifecycleComponent, Boolean> scopeStates = new HashMap<>();
+	private List<PluginLifecycleComponent> scopedComponents;
+
+	// config keys read by each component's last isEnabled, and the reverse index for ConfigChanged
+	private final Map<PluginLifecycleComponent, Set<String>> configDependencies = new HashMap<>();
+	private final SetMultimap<String, PluginLifecycleComponent> configDependents = HashMultimap.create();
+	private ConfigDependencyRecorder configRecorder;
+
+	// registrations made on behalf of components while profiling, so they can be removed again
+	private final Map<PluginLifecycleComponent, List<EventBus.Subscriber>> profiledSubscribers = new HashMap<>();
+	private final Map<PluginLifecycleComponent, ProfiledOverlay> profiledOverlays = new HashMap<>();
+
+	private GameObjectDispatchTable gameObjectListeners;
+
+	// sorted by phase, then by module registration order
+	private PhasedTickListener[] phasedTickListeners;
+
 	public void onPluginStart()
 	{
+		phasedTickListeners = components.stream()
+			.filter(c -> c instanceof PhasedTickListener)
+			.map(c -> (PhasedTickListener) c)
+			.sorted(Comparator.comparing(PhasedTickListener::getTickPhase))
+			.toArray(PhasedTickListener[]::new);
+
+		gameObjectListeners = new GameObjectDispatchTable(
+			components.stream()
+				.filter(c -> c instanceof GameObjectSpawnListener)
+				.map(c -> (GameObjectSpawnListener) c)
+				.collect(Collectors.toList())
+		);
+
+		configRecorder = new ConfigDependencyRecorder(config);
+		scopedComponents = components.stream()
+			.filter(c -> c.getActivationScope() != ActivationScope.ALWAYS)
+			.collect(Collectors.toList());
+
 		eventBus.register(this);
-		components.forEach(c -> states.put(c, false));
+		components.forEach(c ->
+		{
+			states.put(c, false);
+			// scopes are only checked on the client thread, so wait for the first tick
+			scopeStates.put(c, c.getActivationScope() == ActivationScope.ALWAYS);
+		});
 		revalidateComponentStates();
 	}
 
@@ -51,6 +113,34 @@ public class ComponentManager
 		components.stream()
 			.filter(states::get)
 			.forEach(this::tryShutDown);
+
+		profiler.setEnabled(false);
+		profiler.reset();
+		configStates.clear();
+		scopeStates.clear();
+		configDependencies.clear();
+		configDependents.clear();
+	}
+
+	/**
+	 * Re-registers all running components with or without timing instrumentation.
+	 * Components are not restarted, only their EventBus subscriptions and overlays are swapped.
+	 */
+	public void setProfilingEnabled(boolean enabled)
+	{
+		if (profiler.isEnabled() == enabled)
+		{
+			return;
+		}
+
+		List<PluginLifecycleComponent> running = new ArrayList<>();
+		components.stream()
+			.filter(states::get)
+			.forEach(running::add);
+
+		running.forEach(this::unregister);
+		profiler.setEnabled(enabled);
+		running.forEach(this::register);
 	}
 
 	@Subscribe
@@ -61,31 +151,184 @@ public class ComponentManager
 			return;
 		}
 
-		revalidateComponentStates();
+		// copied since revalidating updates the index
+		List<PluginLifecycleComponent> affected = new ArrayList<>(configDependents.get(e.getKey()));
+		for (PluginLifecycleComponent c : affected)
+		{
+			revalidateConfigState(c);
+			applyState(c);
+		}
 	}
 
-	public void revalidateComponentStates()
+	// ahead of regular subscribers, so they also see this tick's tracked state
+	@Subscribe(priority = 1)
+	public void onGameTick(GameTick e)
 	{
-		components.forEach(c ->
+		revalidateComponentScopes();
+
+		boolean profiling = profiler.isEnabled();
+		for (PhasedTickListener listener : phasedTickListeners)
+		{
+			if (!states.get(listener))
+			{
+				continue;
+			}
+
+			long start = profiling ? System.nanoTime() : 0;
+			try
+			{
+				listener.onPhasedTick(e);
+			}
+			catch (Exception ex)
+			{
+				log.error("Sailing component [{}] failed to handle {} tick phase", listener.getClass().getName(), listener.getTickPhase(), ex);
+			}
+
+			if (profiling)
+			{
+				profiler.timingsFor((PluginLifecycleComponent) listener).events.record(System.nanoTime() - start);
+			}
+		}
+	}
+
+	@Subscribe
+	public void onGameStateChanged(GameStateChanged e)
+	{
+		// no ticks while logged out, so make sure nothing is left running
+		if (e.getGameState() == GameState.LOGIN_SCREEN)
+		{
+			revalidateComponentScopes();
+		}
+	}
+
+	@Subscribe
+	public void onGameObjectSpawned(GameObjectSpawned e)
+	{
+		GameObjectSpawnListener[] listeners = gameObjectListeners.get(e.getGameObject().getId());
+		if (listeners == null)
+		{
+			return;
+		}
+
+		boolean profiling = profiler.isEnabled();
+		for (GameObjectSpawnListener listener : listeners)
 		{
-			boolean shouldBeEnabled = c.isEnabled(config);
-			boolean isEnabled = states.get(c);
-			if (shouldBeEnabled == isEnabled)
+			if (!states.get(listener))
 			{
-				return;
+				continue;
 			}
 
-			if (shouldBeEnabled)
+			long start = profiling ? System.nanoTime() : 0;
+			try
 			{
-				tryStartUp(c);
+				listener.onGameObjectSpawned(e);
 			}
-			else
+			catch (Exception ex)
 			{
-				tryShutDown(c);
+				log.error("Sailing component [{}] failed to handle game object spawn", listener.getClass().getName(), ex);
 			}
+
+			if (profiling)
+			{
+				profiler.timingsFor((PluginLifecycleComponent) listener).events.record(System.nanoTime() - start);
+			}
+		}
+	}
+
+	@Subscribe
+	public void onGameObjectDespawned(GameObjectDespawned e)
+	{
+		GameObjectSpawnListener[] listeners = gameObjectListeners.get(e.getGameObject().getId());
+		if (listeners == null)
+		{
+			return;
+		}
+
+		boolean profiling = profiler.isEnabled();
+		for (GameObjectSpawnListener listener : listeners)
+		{
+			if (!states.get(listener))
+			{
+				continue;
+			}
+
+			long start = profiling ? System.nanoTime() : 0;
+			try
+			{
+				listener.onGameObjectDespawned(e);
+			}
+			catch (Exception ex)
+			{
+				log.error("Sailing component [{}] failed to handle game object despawn", listener.getClass().getName(), ex);
+			}
+
+			if (profiling)
+			{
+				profiler.timingsFor((PluginLifecycleComponent) listener).events.record(System.nanoTime() - start);
+			}
+		}
+	}
+
+	public void revalidateComponentStates()
+	{
+		components.forEach(c ->
+		{
+			revalidateConfigState(c);
+			applyState(c);
 		});
 	}
 
+	private void revalidateConfigState(PluginLifecycleComponent c)
+	{
+		Set<String> dependencies = new HashSet<>();
+		configStates.put(c, configRecorder.evaluate(c, dependencies));
+
+		Set<String> previous = configDependencies.put(c, dependencies);
+		if (previous != null)
+		{
+			previous.forEach(key -> configDependents.remove(key, c));
+		}
+		dependencies.forEach(key -> configDependents.put(key, c));
+	}
+
+	private void revalidateComponentScopes()
+	{
+		for (PluginLifecycleComponent c : scopedComponents)
+		{
+			// out-of-scope checks on disabled components would be wasted
+			if (!configStates.get(c))
+			{
+				continue;
+			}
+
+			boolean active = c.getActivationScope().isActive(client);
+			if (active != scopeStates.get(c))
+			{
+				scopeStates.put(c, active);
+				applyState(c);
+			}
+		}
+	}
+
+	private void applyState(PluginLifecycleComponent c)
+	{
+		boolean shouldBeEnabled = configStates.get(c) && scopeStates.get(c);
+		boolean isEnabled = states.get(c);
+		if (shouldBeEnabled == isEnabled)
+		{
+			return;
+		}
+
+		if (shouldBeEnabled)
+		{
+			tryStartUp(c);
+		}
+		else
+		{
+			tryShutDown(c);
+		}
+	}
+
 	private void tryStartUp(PluginLifecycleComponent component)
 	{
 		if (states.get(component))
@@ -102,17 +345,18 @@ public class ComponentManager
 		{
 			component.startUp();
 
-			eventBus.register(component);
-			if (component instanceof Overlay)
-			{
-				overlayManager.add((Overlay) component);
-			}
+			register(component);
 			if (component instanceof InfoBox)
 			{
 				infoBoxManager.addInfoBox((InfoBox) component);
 			}
 
 			gameEventManager.simulateGameEvents(component);
+			if (component instanceof GameObjectSpawnListener)
+			{
+				// spawns are routed by us rather than the EventBus, so the simulated events need forwarding too
+				gameEventManager.simulateGameEvents(new SimulatedSpawnForwarder((GameObjectSpawnListener) component));
+			}
 			states.put(component, true);
 		}
 		catch (Throwable e)
@@ -123,11 +367,7 @@ public class ComponentManager
 
 	private void tryShutDown(PluginLifecycleComponent component)
 	{
-		eventBus.unregister(component);
-		if (component instanceof Overlay)
-		{
-			overlayManager.remove((Overlay) component);
-		}
+		unregister(component);
 		if (component instanceof InfoBox)
 		{
 			infoBoxManager.removeInfoBox((InfoBox) component);
@@ -157,4 +397,120 @@ public class ComponentManager
 		}
 	}
 
+	private void register(PluginLifecycleComponent component)
+	{
+		if (!profiler.isEnabled())
+		{
+			eventBus.register(component);
+			if (component instanceof Overlay)
+			{
+				overlayManager.add((Overlay) component);
+			}
+			return;
+		}
+
+		ComponentProfiler.ComponentTimings timings = profiler.timingsFor(component);
+		profiledSubscribers.put(component, registerProfiledSubscribers(component, timings.events));
+		if (component instanceof Overlay)
+		{
+			ProfiledOverlay overlay = new ProfiledOverlay((Overlay) component, timings.render);
+			profiledOverlays.put(component, overlay);
+			overlayManager.add(overlay);
+		}
+	}
+
+	private void unregister(PluginLifecycleComponent component)
+	{
+		eventBus.unregister(component);
+		if (component instanceof Overlay)
+		{
+			overlayManager.remove((Overlay) component);
+		}
+
+		profiledSubscribers.getOrDefault(component, Collections.emptyList())
+			.forEach(eventBus::unregister);
+		profiledSubscribers.remove(component);
+
+		ProfiledOverlay overlay = profiledOverlays.remove(component);
+		if (overlay != null)
+		{
+			overlayManager.remove(overlay);
+		}
+	}
+
+	/**
+	 * Mirrors {@link EventBus#register(Object)}, but wraps each {@link Subscribe} method in a timer.
+	 */
+	@SuppressWarnings("unchecked")
+	private List<EventBus.Subscriber> registerProfiledSubscribers(PluginLifecycleComponent component, RollingTimings timings)
+	{
+		List<EventBus.Subscriber> subscribers = new ArrayList<>();
+		for (Class<?> clazz = component.getClass(); clazz != null; clazz = clazz.getSuperclass())
+		{
+			for (Method method : clazz.getDeclaredMethods())
+			{
+				Subscribe sub = method.getAnnotation(Subscribe.class);
+				if (sub == null || method.getParameterCount() != 1)
+				{
+					continue;
+				}
+
+				MethodHandle handle;
+				try
+				{
+					method.setAccessible(true);
+					handle = MethodHandles.lookup().unreflect(method).bindTo(component);
+				}
+				catch (IllegalAccessException e)
+				{
+					log.warn("Unable to profile subscriber [{}] of Sailing component [{}]", method.getName(), clazz.getName(), e);
+					continue;
+				}
+
+				Consumer<Object> timed = event ->
+				{
+					long start = System.nanoTime();
+					try
+					{
+						handle.invoke(event);
+					}
+					catch (RuntimeException | Error e)
+					{
+						throw e;
+					}
+					catch (Throwable e)
+					{
+						throw new RuntimeException(e);
+					}
+					finally
+					{
+						timings.record(System.nanoTime() - start);
+					}
+				};
+
+				Class<Object> eventClass = (Class<Object>) method.getParameterTypes()[0];
+				subscribers.add(eventBus.register(eventClass, timed, sub.priority()));
+			}
+		}
+
+		return subscribers;
+	}
+
+	@RequiredArgsConstructor
+	static class SimulatedSpawnForwarder
+	{
+
+		private final GameObjectSpawnListener listener;
+
+		@Subscribe
+		public void onGameObjectSpawned(GameObjectSpawned e)
+		{
+			if (listener.getGameObjectIds().contains(e.getGameObject().getId()))
+			{
+				listener.onGameObjectSpawned(e);
+			}
+		}
+
+	}
+
 }
@@ -0,0 +1,94 @@
+package com.duckblade.osrs.sailing.module;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javax.inject.Singleton;
+import lombok.Getter;
+import lombok.Value;
+
+/**
+ * Collects per-component event handler and overlay render timings.
+ * While profiling is disabled the {@link ComponentManager} registers components directly,
+ * so nothing in here is touched at all.
+ */
+@Singleton
+public class ComponentProfiler
+{
+
+	private final Map<PluginLifecycleComponent, ComponentTimings> timings = new HashMap<>();
+
+	@Getter
+	private boolean enabled;
+
+	void setEnabled(boolean enabled)
+	{
+		this.enabled = enabled;
+	}
+
+	ComponentTimings timingsFor(PluginLifecycleComponent component)
+	{
+		return timings.computeIfAbsent(component, c -> new ComponentTimings());
+	}
+
+	/**
+	 * Clears recorded samples without dropping the timings themselves,
+	 * since profiled subscribers and overlays hold on to them for as long as they're registered.
+	 */
+	void reset()
+	{
+		timings.values().forEach(ComponentTimings::reset);
+	}
+
+	/**
+	 * @return a summary for each component that has recorded any samples, most expensive first
+	 */
+	List<Entry> report()
+	{
+		List<Entry> entries = new ArrayList<>(timings.size());
+		timings.forEach((component, t) ->
+		{
+			RollingTimings.Summary events = t.events.summarize();
+			RollingTimings.Summary render = t.render.summarize();
+			if (events.getCount() != 0 || render.getCount() != 0)
+			{
+				entries.add(new Entry(component.getClass().getSimpleName(), events, render));
+			}
+		});
+
+		entries.sort(Comparator.comparingLong(Entry::getTotalNanos).reversed());
+		return entries;
+	}
+
+	static final class ComponentTimings
+	{
+
+		final RollingTimings events = new RollingTimings();
+		final RollingTimings render = new RollingTimings();
+
+		void reset()
+		{
+			events.reset();
+			render.reset();
+		}
+
+	}
+
+	@Value
+	static class Entry
+	{
+
+		String name;
+		RollingTimings.Summary events;
+		RollingTimings.Summary render;
+
+		public long getTotalNanos()
+		{
+			return events.getTotalNanos() + render.getTotalNanos();
+		}
+
+	}
+
+}
@@ -0,0 +1,84 @@
+package com.duckblade.osrs.sailing.module;
+
+import com.duckblade.osrs.sailing.SailingConfig;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import net.runelite.client.config.ConfigItem;
+
+/**
+ * Evaluates {@link PluginLifecycleComponent#isEnabled(SailingConfig)} against a proxy of the config
+ * which notes the key of every {@link ConfigItem} read along the way.
+ * <p>
+ * Since isEnabled only depends on the values it actually reads,
+ * a component only needs to be re-evaluated when one of the keys from its last evaluation changes.
+ * Keys skipped by a short-circuit can't change the result until a recorded key changes first.
+ */
+final class ConfigDependencyRecorder implements InvocationHandler
+{
+
+	private final SailingConfig delegate;
+	private final SailingConfig recordingConfig;
+	private final Map<Method, String> keysByMethod = new HashMap<>();
+
+	private Set<String> recording;
+
+	ConfigDependencyRecorder(SailingConfig delegate)
+	{
+		this.delegate = delegate;
+		this.recordingConfig = (SailingConfig) Proxy.newProxyInstance(
+			SailingConfig.class.getClassLoader(),
+			new Class<?>[]{SailingConfig.class},
+			this
+		);
+
+		for (Method method : SailingConfig.class.getMethods())
+		{
+			ConfigItem item = method.getAnnotation(ConfigItem.class);
+			if (item != null)
+			{
+				keysByMethod.put(method, item.keyName());
+			}
+		}
+	}
+
+	/**
+	 * @param dependencies receives the config keys read by the component
+	 */
+	boolean evaluate(PluginLifecycleComponent component, Set<String> dependencies)
+	{
+		recording = dependencies;
+		try
+		{
+			return component.isEnabled(recordingConfig);
+		}
+		finally
+		{
+			recording = null;
+		}
+	}
+
+	@Override
+	public Object invoke(Object proxy, Method method, Object[] args) throws Throwable
+	{
+		String key = keysByMethod.get(method);
+		if (key != null && recording != null)
+		{
+			recording.add(key);
+		}
+
+		try
+		{
+			return method.invoke(delegate, args);
+		}
+		catch (InvocationTargetException e)
+		{
+			throw e.getCause();
+		}
+	}
+
+}
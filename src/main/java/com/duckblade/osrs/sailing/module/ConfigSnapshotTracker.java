@@ -0,0 +1,46 @@
+package com.duckblade.osrs.sailing.module;
+
+import com.duckblade.osrs.sailing.SailingConfig;
+import com.duckblade.osrs.sailing.SailingConfigSnapshot;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import lombok.Getter;
+import net.runelite.client.eventbus.Subscribe;
+import net.runelite.client.events.ConfigChanged;
+
+/**
+ * Holds the current {@link SailingConfigSnapshot}, rebuilding it once per config change.
+ */
+@Singleton
+public class ConfigSnapshotTracker
+	implements PluginLifecycleComponent
+{
+
+	private final SailingConfig config;
+
+	@Getter
+	private volatile SailingConfigSnapshot snapshot;
+
+	@Inject
+	public ConfigSnapshotTracker(SailingConfig config)
+	{
+		this.config = config;
+		this.snapshot = SailingConfigSnapshot.of(config);
+	}
+
+	@Override
+	public void startUp()
+	{
+		snapshot = SailingConfigSnapshot.of(config);
+	}
+
+	@Subscribe
+	public void onConfigChanged(ConfigChanged e)
+	{
+		if (SailingConfig.CONFIG_GROUP.equals(e.getGroup()))
+		{
+			snapshot = SailingConfigSnapshot.of(config);
+		}
+	}
+
+}
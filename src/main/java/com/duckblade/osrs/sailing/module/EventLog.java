@@ -0,0 +1,107 @@
+package com.duckblade.osrs.sailing.module;
+
+import net.runelite.api.ChatMessageType;
+
+/**
+ * Binary format written by {@link EventRecorder}, see {@link EventLogWriter} and {@link EventLogReader}.
+ * <p>
+ * A log is a gzipped stream of a header ({@link #MAGIC}, {@link #VERSION})
+ * followed by records, each a type byte and that type's fields in big-endian order.
+ * Locations are stored as local coordinates within the given worldview,
+ * preceded by a {@link #SCENE_BASE} record whenever the top level scene has moved since the last one.
+ */
+final class EventLog
+{
+
+	static final int MAGIC = 0x53524543; // SREC
+	static final int VERSION = 2;
+
+	static final String FILE_EXTENSION = ".srec.gz";
+
+	// tick, player worldview, player x, player y
+	static final byte TICK = 1;
+	// id, worldview, x, y, plane
+	static final byte GAME_OBJECT_SPAWNED = 2;
+	static final byte GAME_OBJECT_DESPAWNED = 3;
+	// index, id, worldview, x, y
+	static final byte NPC_SPAWNED = 4;
+	static final byte NPC_DESPAWNED = 5;
+	// index, animation
+	static final byte NPC_ANIMATION = 6;
+	// varp, varbit, value
+	static final byte VARBIT_CHANGED = 7;
+	// type name, name, message
+	static final byte CHAT_MESSAGE = 8;
+	// container, item count, (id, quantity) per item
+	static final byte ITEM_CONTAINER_CHANGED = 9;
+	// worldview, config id, x, y, orientation
+	static final byte WORLD_ENTITY_SPAWNED = 10;
+	// worldview, x, y, orientation
+	static final byte WORLD_ENTITY_MOVED = 11;
+	// worldview
+	static final byte WORLD_ENTITY_DESPAWNED = 12;
+	// top level scene base x, base y (since version 2)
+	static final byte SCENE_BASE = 13;
+
+	private EventLog()
+	{
+	}
+
+	interface Visitor
+	{
+
+		default void onTick(int tick, int playerWorldViewId, int playerX, int playerY)
+		{
+		}
+
+		default void onGameObjectSpawned(int id, int worldViewId, int x, int y, int plane)
+		{
+		}
+
+		default void onGameObjectDespawned(int id, int worldViewId, int x, int y, int plane)
+		{
+		}
+
+		default void onNpcSpawned(int index, int id, int worldViewId, int x, int y)
+		{
+		}
+
+		default void onNpcDespawned(int index, int id, int worldViewId, int x, int y)
+		{
+		}
+
+		default void onNpcAnimation(int index, int animation)
+		{
+		}
+
+		default void onVarbitChanged(int varpId, int varbitId, int value)
+		{
+		}
+
+		default void onChatMessage(ChatMessageType type, String name, String message)
+		{
+		}
+
+		default void onItemContainerChanged(int containerId, int[] itemIds, int[] quantities)
+		{
+		}
+
+		default void onWorldEntitySpawned(int worldViewId, int configId, int x, int y, int orientation)
+		{
+		}
+
+		default void onWorldEntityMoved(int worldViewId, int x, int y, int orientation)
+		{
+		}
+
+		default void onWorldEntityDespawned(int worldViewId)
+		{
+		}
+
+		default void onSceneBase(int baseX, int baseY)
+		{
+		}
+
+	}
+
+}
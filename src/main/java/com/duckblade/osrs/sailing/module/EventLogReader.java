@@ -0,0 +1,141 @@
+package com.duckblade.osrs.sailing.module;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.GZIPInputStream;
+import net.runelite.api.ChatMessageType;
+
+/**
+ * Reads records in the {@link EventLog} format, passing each to a {@link EventLog.Visitor} in order.
+ */
+class EventLogReader
+	implements Closeable
+{
+
+	private final DataInputStream in;
+
+	EventLogReader(InputStream in) throws IOException
+	{
+		this.in = new DataInputStream(new BufferedInputStream(new GZIPInputStream(in)));
+
+		int magic = this.in.readInt();
+		if (magic != EventLog.MAGIC)
+		{
+			throw new IOException("Not a sailing event log");
+		}
+
+		int version = this.in.readInt();
+		if (version < 1 || version > EventLog.VERSION)
+		{
+			throw new IOException("Unsupported sailing event log version " + version);
+		}
+	}
+
+	/**
+	 * Reads the remainder of the log.
+	 *
+	 * @return the number of records read
+	 */
+	int readAll(EventLog.Visitor visitor) throws IOException
+	{
+		int records = 0;
+		while (readNext(visitor))
+		{
+			records++;
+		}
+		return records;
+	}
+
+	/**
+	 * @return false if the end of the log was reached
+	 */
+	boolean readNext(EventLog.Visitor visitor) throws IOException
+	{
+		int type = in.read();
+		if (type == -1)
+		{
+			return false;
+		}
+
+		switch (type)
+		{
+			case EventLog.TICK:
+				visitor.onTick(in.readInt(), in.readInt(), in.readInt(), in.readInt());
+				break;
+
+			case EventLog.GAME_OBJECT_SPAWNED:
+				visitor.onGameObjectSpawned(in.readInt(), in.readInt(), in.readInt(), in.readInt(), in.readByte());
+				break;
+
+			case EventLog.GAME_OBJECT_DESPAWNED:
+				visitor.onGameObjectDespawned(in.readInt(), in.readInt(), in.readInt(), in.readInt(), in.readByte());
+				break;
+
+			case EventLog.NPC_SPAWNED:
+				visitor.onNpcSpawned(in.readInt(), in.readInt(), in.readInt(), in.readInt(), in.readInt());
+				break;
+
+			case EventLog.NPC_DESPAWNED:
+				visitor.onNpcDespawned(in.readInt(), in.readInt(), in.readInt(), in.readInt(), in.readInt());
+				break;
+
+			case EventLog.NPC_ANIMATION:
+				visitor.onNpcAnimation(in.readInt(), in.readInt());
+				break;
+
+			case EventLog.VARBIT_CHANGED:
+				visitor.onVarbitChanged(in.readInt(), in.readInt(), in.readInt());
+				break;
+
+			case EventLog.CHAT_MESSAGE:
+				visitor.onChatMessage(ChatMessageType.valueOf(in.readUTF()), in.readUTF(), in.readUTF());
+				break;
+
+			case EventLog.ITEM_CONTAINER_CHANGED:
+			{
+				int containerId = in.readInt();
+				int count = in.readUnsignedShort();
+				int[] itemIds = new int[count];
+				int[] quantities = new int[count];
+				for (int i = 0; i < count; i++)
+				{
+					itemIds[i] = in.readInt();
+					quantities[i] = in.readInt();
+				}
+				visitor.onItemContainerChanged(containerId, itemIds, quantities);
+				break;
+			}
+
+			case EventLog.WORLD_ENTITY_SPAWNED:
+				visitor.onWorldEntitySpawned(in.readInt(), in.readInt(), in.readInt(), in.readInt(), in.readUnsignedShort());
+				break;
+
+			case EventLog.WORLD_ENTITY_MOVED:
+				visitor.onWorldEntityMoved(in.readInt(), in.readInt(), in.readInt(), in.readUnsignedShort());
+				break;
+
+			case EventLog.WORLD_ENTITY_DESPAWNED:
+				visitor.onWorldEntityDespawned(in.readInt());
+				break;
+
+			case EventLog.SCENE_BASE:
+				visitor.onSceneBase(in.readInt(), in.readInt());
+				break;
+
+			default:
+				throw new IOException("Unknown sailing event log record type " + type);
+		}
+
+		return true;
+	}
+
+	@Override
+	public void close() throws IOException
+	{
+		in.close();
+	}
+
+}
@@ -0,0 +1,129 @@
+package com.duckblade.osrs.sailing.module;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.GZIPOutputStream;
+import net.runelite.api.ChatMessageType;
+
+/**
+ * Writes records in the {@link EventLog} format. Not thread safe.
+ */
+class EventLogWriter
+	implements Closeable
+{
+
+	private final DataOutputStream out;
+
+	EventLogWriter(OutputStream out) throws IOException
+	{
+		this.out = new DataOutputStream(new BufferedOutputStream(new GZIPOutputStream(out)));
+		this.out.writeInt(EventLog.MAGIC);
+		this.out.writeInt(EventLog.VERSION);
+	}
+
+	void writeTick(int tick, int playerWorldViewId, int playerX, int playerY) throws IOException
+	{
+		out.writeByte(EventLog.TICK);
+		out.writeInt(tick);
+		out.writeInt(playerWorldViewId);
+		out.writeInt(playerX);
+		out.writeInt(playerY);
+	}
+
+	void writeGameObject(boolean spawned, int id, int worldViewId, int x, int y, int plane) throws IOException
+	{
+		out.writeByte(spawned ? EventLog.GAME_OBJECT_SPAWNED : EventLog.GAME_OBJECT_DESPAWNED);
+		out.writeInt(id);
+		out.writeInt(worldViewId);
+		out.writeInt(x);
+		out.writeInt(y);
+		out.writeByte(plane);
+	}
+
+	void writeNpc(boolean spawned, int index, int id, int worldViewId, int x, int y) throws IOException
+	{
+		out.writeByte(spawned ? EventLog.NPC_SPAWNED : EventLog.NPC_DESPAWNED);
+		out.writeInt(index);
+		out.writeInt(id);
+		out.writeInt(worldViewId);
+		out.writeInt(x);
+		out.writeInt(y);
+	}
+
+	void writeNpcAnimation(int index, int animation) throws IOException
+	{
+		out.writeByte(EventLog.NPC_ANIMATION);
+		out.writeInt(index);
+		out.writeInt(animation);
+	}
+
+	void writeVarbitChanged(int varpId, int varbitId, int value) throws IOException
+	{
+		out.writeByte(EventLog.VARBIT_CHANGED);
+		out.writeInt(varpId);
+		out.writeInt(varbitId);
+		out.writeInt(value);
+	}
+
+	void writeChatMessage(ChatMessageType type, String name, String message) throws IOException
+	{
+		out.writeByte(EventLog.CHAT_MESSAGE);
+		out.writeUTF(type.name());
+		out.writeUTF(name != null ? name : "");
+		out.writeUTF(message != null ? message : "");
+	}
+
+	void writeItemContainerChanged(int containerId, int[] itemIds, int[] quantities) throws IOException
+	{
+		out.writeByte(EventLog.ITEM_CONTAINER_CHANGED);
+		out.writeInt(containerId);
+		out.writeShort(itemIds.length);
+		for (int i = 0; i < itemIds.length; i++)
+		{
+			out.writeInt(itemIds[i]);
+			out.writeInt(quantities[i]);
+		}
+	}
+
+	void writeWorldEntitySpawned(int worldViewId, int configId, int x, int y, int orientation) throws IOException
+	{
+		out.writeByte(EventLog.WORLD_ENTITY_SPAWNED);
+		out.writeInt(worldViewId);
+		out.writeInt(configId);
+		out.writeInt(x);
+		out.writeInt(y);
+		out.writeShort(orientation);
+	}
+
+	void writeWorldEntityMoved(int worldViewId, int x, int y, int orientation) throws IOException
+	{
+		out.writeByte(EventLog.WORLD_ENTITY_MOVED);
+		out.writeInt(worldViewId);
+		out.writeInt(x);
+		out.writeInt(y);
+		out.writeShort(orientation);
+	}
+
+	void writeWorldEntityDespawned(int worldViewId) throws IOException
+	{
+		out.writeByte(EventLog.WORLD_ENTITY_DESPAWNED);
+		out.writeInt(worldViewId);
+	}
+
+	void writeSceneBase(int baseX, int baseY) throws IOException
+	{
+		out.writeByte(EventLog.SCENE_BASE);
+		out.writeInt(baseX);
+		out.writeInt(baseY);
+	}
+
+	@Override
+	public void close() throws IOException
+	{
+		out.close();
+	}
+
+}
@@ -0,0 +1,401 @@
+package com.duckblade.osrs.sailing.module;
+
+import com.duckblade.osrs.sailing.SailingConfig;
+import com.duckblade.osrs.sailing.SailingPlugin;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.Map;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.api.ChatMessageType;
+import net.runelite.api.Client;
+import net.runelite.api.GameObject;
+import net.runelite.api.Item;
+import net.runelite.api.NPC;
+import net.runelite.api.Player;
+import net.runelite.api.Scene;
+import net.runelite.api.WorldEntity;
+import net.runelite.api.coords.LocalPoint;
+import net.runelite.api.events.AnimationChanged;
+import net.runelite.api.events.ChatMessage;
+import net.runelite.api.events.GameObjectDespawned;
+import net.runelite.api.events.GameObjectSpawned;
+import net.runelite.api.events.GameTick;
+import net.runelite.api.events.ItemContainerChanged;
+import net.runelite.api.events.NpcDespawned;
+import net.runelite.api.events.NpcSpawned;
+import net.runelite.api.events.VarbitChanged;
+import net.runelite.api.events.WorldEntityDespawned;
+import net.runelite.api.events.WorldEntitySpawned;
+import net.runelite.client.chat.ChatMessageManager;
+import net.runelite.client.chat.QueuedMessage;
+import net.runelite.client.eventbus.Subscribe;
+
+/**
+ * Writes the game events the plugin consumes to an {@link EventLog} while {@code ::sailingrecord} is on,
+ * so sessions can be replayed offline.
+ * <p>
+ * Only changes are recorded, so varbits and containers which don't change during the recording
+ * will read as empty on replay. Start recording before the activity of interest.
+ */
+@Slf4j
+@Singleton
+public class EventRecorder
+	implements PluginLifecycleComponent
+{
+
+	private static final File RECORDINGS_DIR = new File(SailingPlugin.SAILING_DIR, "recordings");
+	private static final DateTimeFormatter FILE_NAME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd_HH-mm-ss");
+
+	private final Client client;
+	private final ChatMessageManager chatMessageManager;
+	private final SailingRecordCommand command;
+
+	// keyed by worldview, positions are the last written x, y, orientation
+	private final Map<Integer, WorldEntity> worldEntities = new HashMap<>();
+	private final Map<Integer, int[]> worldEntityPositions = new HashMap<>();
+
+	// last written top level scene base
+	private int sceneBaseX;
+	private int sceneBaseY;
+
+	private EventLogWriter writer;
+	private File file;
+
+	@Inject
+	public EventRecorder(Client client, ChatMessageManager chatMessageManager, SailingRecordCommand command)
+	{
+		this.client = client;
+		this.chatMessageManager = chatMessageManager;
+		this.command = command;
+	}
+
+	@Override
+	public boolean isEnabled(SailingConfig config)
+	{
+		return command.isRecording();
+	}
+
+	@Override
+	public void startUp()
+	{
+		if (!RECORDINGS_DIR.exists() && !RECORDINGS_DIR.mkdirs())
+		{
+			log.warn("Unable to create recordings directory at {}", RECORDINGS_DIR.getAbsolutePath());
+			return;
+		}
+
+		sceneBaseX = Integer.MIN_VALUE;
+		sceneBaseY = Integer.MIN_VALUE;
+		file = new File(RECORDINGS_DIR, LocalDateTime.now().format(FILE_NAME_FORMAT) + EventLog.FILE_EXTENSION);
+		try
+		{
+			writer = new EventLogWriter(new FileOutputStream(file));
+			sendChatMessage("Recording Sailing events to " + file.getAbsolutePath());
+		}
+		catch (IOException e)
+		{
+			log.warn("Failed to start recording to {}", file, e);
+			writer = null;
+		}
+	}
+
+	@Override
+	public void shutDown()
+	{
+		worldEntities.clear();
+		worldEntityPositions.clear();
+
+		if (writer == null)
+		{
+			return;
+		}
+
+		try
+		{
+			writer.close();
+			sendChatMessage("Sailing recording saved to " + file.getAbsolutePath());
+		}
+		catch (IOException e)
+		{
+			log.warn("Failed to finish recording to {}", file, e);
+		}
+		writer = null;
+	}
+
+	@Subscribe
+	public void onGameTick(GameTick e)
+	{
+		if (writer == null)
+		{
+			return;
+		}
+
+		try
+		{
+			writeSceneBaseIfChanged();
+			Player player = client.getLocalPlayer();
+			if (player == null)
+			{
+				writer.writeTick(client.getTickCount(), -1, 0, 0);
+			}
+			else
+			{
+				LocalPoint lp = player.getLocalLocation();
+				writer.writeTick(client.getTickCount(), player.getWorldView().getId(), lp.getX(), lp.getY());
+			}
+
+			for (Map.Entry<Integer, WorldEntity> entry : worldEntities.entrySet())
+			{
+				WorldEntity we = entry.getValue();
+				LocalPoint lp = we.getLocalLocation();
+				int[] last = worldEntityPositions.get(entry.getKey());
+				if (lp == null || (last[0] == lp.getX() && last[1] == lp.getY() && last[2] == we.getOrientation()))
+				{
+					continue;
+				}
+
+				last[0] = lp.getX();
+				last[1] = lp.getY();
+				last[2] = we.getOrientation();
+				writer.writeWorldEntityMoved(entry.getKey(), last[0], last[1], last[2]);
+			}
+		}
+		catch (IOException ex)
+		{
+			fail(ex);
+		}
+	}
+
+	@Subscribe
+	public void onGameObjectSpawned(GameObjectSpawned e)
+	{
+		writeGameObject(true, e.getGameObject());
+	}
+
+	@Subscribe
+	public void onGameObjectDespawned(GameObjectDespawned e)
+	{
+		writeGameObject(false, e.getGameObject());
+	}
+
+	@Subscribe
+	public void onNpcSpawned(NpcSpawned e)
+	{
+		writeNpc(true, e.getNpc());
+	}
+
+	@Subscribe
+	public void onNpcDespawned(NpcDespawned e)
+	{
+		writeNpc(false, e.getNpc());
+	}
+
+	@Subscribe
+	public void onAnimationChanged(AnimationChanged e)
+	{
+		if (writer == null || !(e.getActor() instanceof NPC))
+		{
+			return;
+		}
+
+		try
+		{
+			writer.writeNpcAnimation(((NPC) e.getActor()).getIndex(), e.getActor().getAnimation());
+		}
+		catch (IOException ex)
+		{
+			fail(ex);
+		}
+	}
+
+	@Subscribe
+	public void onVarbitChanged(VarbitChanged e)
+	{
+		if (writer == null)
+		{
+			return;
+		}
+
+		try
+		{
+			writer.writeVarbitChanged(e.getVarpId(), e.getVarbitId(), e.getValue());
+		}
+		catch (IOException ex)
+		{
+			fail(ex);
+		}
+	}
+
+	@Subscribe
+	public void onChatMessage(ChatMessage e)
+	{
+		if (writer == null)
+		{
+			return;
+		}
+
+		try
+		{
+			writer.writeChatMessage(e.getType(), e.getName(), e.getMessage());
+		}
+		catch (IOException ex)
+		{
+			fail(ex);
+		}
+	}
+
+	@Subscribe
+	public void onItemContainerChanged(ItemContainerChanged e)
+	{
+		if (writer == null)
+		{
+			return;
+		}
+
+		Item[] items = e.getItemContainer().getItems();
+		int[] itemIds = new int[items.length];
+		int[] quantities = new int[items.length];
+		for (int i = 0; i < items.length; i++)
+		{
+			itemIds[i] = items[i].getId();
+			quantities[i] = items[i].getQuantity();
+		}
+
+		try
+		{
+			writer.writeItemContainerChanged(e.getContainerId(), itemIds, quantities);
+		}
+		catch (IOException ex)
+		{
+			fail(ex);
+		}
+	}
+
+	@Subscribe
+	public void onWorldEntitySpawned(WorldEntitySpawned e)
+	{
+		if (writer == null)
+		{
+			return;
+		}
+
+		WorldEntity we = e.getWorldEntity();
+		int wvId = we.getWorldView().getId();
+		LocalPoint lp = we.getLocalLocation();
+		int[] position = new int[]{lp.getX(), lp.getY(), we.getOrientation()};
+		worldEntities.put(wvId, we);
+		worldEntityPositions.put(wvId, position);
+
+		try
+		{
+			writeSceneBaseIfChanged();
+			writer.writeWorldEntitySpawned(wvId, we.getConfig() != null ? we.getConfig().getId() : -1, position[0], position[1], position[2]);
+		}
+		catch (IOException ex)
+		{
+			fail(ex);
+		}
+	}
+
+	@Subscribe
+	public void onWorldEntityDespawned(WorldEntityDespawned e)
+	{
+		if (writer == null)
+		{
+			return;
+		}
+
+		int wvId = e.getWorldEntity().getWorldView().getId();
+		worldEntities.remove(wvId);
+		worldEntityPositions.remove(wvId);
+
+		try
+		{
+			writer.writeWorldEntityDespawned(wvId);
+		}
+		catch (IOException ex)
+		{
+			fail(ex);
+		}
+	}
+
+	private void writeGameObject(boolean spawned, GameObject o)
+	{
+		if (writer == null)
+		{
+			return;
+		}
+
+		try
+		{
+			writeSceneBaseIfChanged();
+			LocalPoint lp = o.getLocalLocation();
+			writer.writeGameObject(spawned, o.getId(), o.getWorldView().getId(), lp.getX(), lp.getY(), o.getPlane());
+		}
+		catch (IOException ex)
+		{
+			fail(ex);
+		}
+	}
+
+	private void writeNpc(boolean spawned, NPC npc)
+	{
+		if (writer == null)
+		{
+			return;
+		}
+
+		try
+		{
+			writeSceneBaseIfChanged();
+			LocalPoint lp = npc.getLocalLocation();
+			writer.writeNpc(spawned, npc.getIndex(), npc.getId(), npc.getWorldView().getId(), lp.getX(), lp.getY());
+		}
+		catch (IOException ex)
+		{
+			fail(ex);
+		}
+	}
+
+	// local coordinates are only meaningful against the scene base they were recorded in
+	private void writeSceneBaseIfChanged() throws IOException
+	{
+		Scene scene = client.getTopLevelWorldView().getScene();
+		if (scene.getBaseX() == sceneBaseX && scene.getBaseY() == sceneBaseY)
+		{
+			return;
+		}
+
+		sceneBaseX = scene.getBaseX();
+		sceneBaseY = scene.getBaseY();
+		writer.writeSceneBase(sceneBaseX, sceneBaseY);
+	}
+
+	private void fail(IOException ex)
+	{
+		log.warn("Failed writing recording to {}, stopping", file, ex);
+		try
+		{
+			writer.close();
+		}
+		catch (IOException ignored)
+		{
+		}
+		writer = null;
+	}
+
+	private void sendChatMessage(String message)
+	{
+		chatMessageManager.queue(QueuedMessage.builder()
+			.type(ChatMessageType.CONSOLE)
+			.value(message)
+			.build());
+	}
+
+}
@@ -0,0 +1,82 @@
+package com.duckblade.osrs.sailing.module;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Open-addressed map of game object ID -> interested {@link GameObjectSpawnListener}s.
+ * Built once from the listener declarations so that an uninteresting object costs a single probe
+ * on an int[] instead of one boxed set lookup per component.
+ */
+final class GameObjectDispatchTable
+{
+
+	// object ids are never negative
+	private static final int EMPTY = -1;
+
+	private final int[] keys;
+	private final GameObjectSpawnListener[][] values;
+	private final int mask;
+
+	GameObjectDispatchTable(Collection<? extends GameObjectSpawnListener> listeners)
+	{
+		Map<Integer, List<GameObjectSpawnListener>> byId = new LinkedHashMap<>();
+		for (GameObjectSpawnListener listener : listeners)
+		{
+			for (int id : listener.getGameObjectIds())
+			{
+				byId.computeIfAbsent(id, k -> new ArrayList<>(1)).add(listener);
+			}
+		}
+
+		// keep the load factor at or below 0.5 so probe chains stay short
+		int capacity = Integer.highestOneBit(Math.max(byId.size(), 1) * 4 - 1);
+		keys = new int[capacity];
+		values = new GameObjectSpawnListener[capacity][];
+		mask = capacity - 1;
+		Arrays.fill(keys, EMPTY);
+
+		for (Map.Entry<Integer, List<GameObjectSpawnListener>> entry : byId.entrySet())
+		{
+			int slot = slot(entry.getKey());
+			while (keys[slot] != EMPTY)
+			{
+				slot = (slot + 1) & mask;
+			}
+
+			keys[slot] = entry.getKey();
+			values[slot] = entry.getValue().toArray(new GameObjectSpawnListener[0]);
+		}
+	}
+
+	/**
+	 * @return the listeners interested in this object ID, or null if there are none
+	 */
+	GameObjectSpawnListener[] get(int objectId)
+	{
+		int slot = slot(objectId);
+		int key;
+		while ((key = keys[slot]) != EMPTY)
+		{
+			if (key == objectId)
+			{
+				return values[slot];
+			}
+			slot = (slot + 1) & mask;
+		}
+
+		return null;
+	}
+
+	private int slot(int objectId)
+	{
+		// object ids are mostly sequential, so spread them before masking
+		int h = objectId * 0x9E3779B9;
+		return (h ^ (h >>> 16)) & mask;
+	}
+
+}
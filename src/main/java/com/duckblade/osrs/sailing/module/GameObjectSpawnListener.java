@@ -0,0 +1,28 @@
+package com.duckblade.osrs.sailing.module;
+
+import java.util.Set;
+import net.runelite.api.events.GameObjectDespawned;
+import net.runelite.api.events.GameObjectSpawned;
+
+/**
+ * Implemented by components which only care about a known set of game object IDs.
+ * Instead of subscribing to every {@link GameObjectSpawned}/{@link GameObjectDespawned} on the EventBus,
+ * the {@link ComponentManager} routes each event to the listeners which declared interest in that object ID.
+ * <p>
+ * The handlers here must not be annotated with {@link net.runelite.client.eventbus.Subscribe},
+ * otherwise they will receive every event twice.
+ */
+public interface GameObjectSpawnListener
+{
+
+	/**
+	 * The game object IDs this listener should receive spawn/despawn events for.
+	 * This is only read once when the plugin starts, so it must not change afterwards.
+	 */
+	Set<Integer> getGameObjectIds();
+
+	void onGameObjectSpawned(GameObjectSpawned e);
+
+	void onGameObjectDespawned(GameObjectDespawned e);
+
+}
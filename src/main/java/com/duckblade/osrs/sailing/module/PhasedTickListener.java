@@ -0,0 +1,24 @@
+package com.duckblade.osrs.sailing.module;
+
+import net.runelite.api.events.GameTick;
+
+/**
+ * Implemented by components whose tick handling depends on state computed by other components in the same tick.
+ * Instead of subscribing to {@link GameTick} on the EventBus, where the order between subscribers is unspecified,
+ * the {@link ComponentManager} calls each listener once per tick, phase by phase in {@link TickPhase} order.
+ * <p>
+ * {@link #onPhasedTick(GameTick)} must not be annotated with {@link net.runelite.client.eventbus.Subscribe},
+ * otherwise it will run twice per tick.
+ */
+public interface PhasedTickListener
+{
+
+	/**
+	 * The phase this listener runs in.
+	 * This is only read once when the plugin starts, so it must not change afterwards.
+	 */
+	TickPhase getTickPhase();
+
+	void onPhasedTick(GameTick e);
+
+}
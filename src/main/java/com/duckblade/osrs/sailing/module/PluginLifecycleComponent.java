@@ -10,6 +10,15 @@ public interface PluginLifecycleComponent
 		return true;
 	}
 
+	/**
+	 * Further restricts when the component runs, on top of {@link #isEnabled(SailingConfig)}.
+	 * Must return the same scope every time.
+	 */
+	default ActivationScope getActivationScope()
+	{
+		return ActivationScope.ALWAYS;
+	}
+
 	default void startUp()
 	{
 	}
@@ -0,0 +1,153 @@
+package com.duckblade.osrs.sailing.module;
+
+import java.awt.Dimension;
+import java.awt.Graphics2D;
+import java.awt.Point;
+import java.awt.Rectangle;
+import java.util.List;
+import net.runelite.client.plugins.Plugin;
+import net.runelite.client.ui.overlay.Overlay;
+import net.runelite.client.ui.overlay.OverlayLayer;
+import net.runelite.client.ui.overlay.OverlayMenuEntry;
+import net.runelite.client.ui.overlay.OverlayPosition;
+
+/**
+ * Stands in for a component's overlay while profiling is enabled,
+ * timing each render call and otherwise deferring everything to the real overlay
+ * so that saved positions, bounds and menu entries are unaffected.
+ */
+final class ProfiledOverlay extends Overlay
+{
+
+	private final Overlay delegate;
+	private final RollingTimings timings;
+
+	ProfiledOverlay(Overlay delegate, RollingTimings timings)
+	{
+		this.delegate = delegate;
+		this.timings = timings;
+	}
+
+	@Override
+	public Dimension render(Graphics2D graphics)
+	{
+		long start = System.nanoTime();
+		try
+		{
+			return delegate.render(graphics);
+		}
+		finally
+		{
+			timings.record(System.nanoTime() - start);
+		}
+	}
+
+	@Override
+	public String getName()
+	{
+		return delegate.getName();
+	}
+
+	@Override
+	public Plugin getPlugin()
+	{
+		return delegate.getPlugin();
+	}
+
+	@Override
+	public OverlayPosition getPosition()
+	{
+		return delegate.getPosition();
+	}
+
+	@Override
+	public OverlayPosition getPreferredPosition()
+	{
+		return delegate.getPreferredPosition();
+	}
+
+	@Override
+	public void setPreferredPosition(OverlayPosition preferredPosition)
+	{
+		delegate.setPreferredPosition(preferredPosition);
+	}
+
+	@Override
+	public Point getPreferredLocation()
+	{
+		return delegate.getPreferredLocation();
+	}
+
+	@Override
+	public void setPreferredLocation(Point preferredLocation)
+	{
+		delegate.setPreferredLocation(preferredLocation);
+	}
+
+	@Override
+	public Dimension getPreferredSize()
+	{
+		return delegate.getPreferredSize();
+	}
+
+	@Override
+	public void setPreferredSize(Dimension preferredSize)
+	{
+		delegate.setPreferredSize(preferredSize);
+	}
+
+	@Override
+	public Rectangle getBounds()
+	{
+		return delegate.getBounds();
+	}
+
+	@Override
+	public OverlayLayer getLayer()
+	{
+		return delegate.getLayer();
+	}
+
+	@Override
+	public float getPriority()
+	{
+		return delegate.getPriority();
+	}
+
+	@Override
+	public List<Integer> getDrawHooks()
+	{
+		return delegate.getDrawHooks();
+	}
+
+	@Override
+	public List<OverlayMenuEntry> getMenuEntries()
+	{
+		return delegate.getMenuEntries();
+	}
+
+	@Override
+	public boolean isMovable()
+	{
+		return delegate.isMovable();
+	}
+
+	@Override
+	public boolean isSnappable()
+	{
+		return delegate.isSnappable();
+	}
+
+	@Override
+	public boolean isResizable()
+	{
+		return delegate.isResizable();
+	}
+
+	@Override
+	public void onMouseOver()
+	{
+		delegate.onMouseOver();
+	}
+
+}
@@ -0,0 +1,82 @@
+package com.duckblade.osrs.sailing.module;
+
+import java.util.Arrays;
+import lombok.Value;
+
+/**
+ * Fixed-size ring of the most recent timing samples, in nanoseconds.
+ * Percentiles are only computed when a summary is requested, so recording is just an array store.
+ */
+final class RollingTimings
+{
+
+	// must be a power of two
+	private static final int WINDOW = 1024;
+
+	private final long[] samples = new long[WINDOW];
+	private int next;
+	private int size;
+
+	private long count;
+	private long totalNanos;
+
+	void record(long nanos)
+	{
+		samples[next] = nanos;
+		next = (next + 1) & (WINDOW - 1);
+		if (size < WINDOW)
+		{
+			size++;
+		}
+
+		count++;
+		totalNanos += nanos;
+	}
+
+	/**
+	 * Clears all samples in place, so holders of this instance keep recording into it.
+	 */
+	void reset()
+	{
+		next = 0;
+		size = 0;
+		count = 0;
+		totalNanos = 0;
+	}
+
+	Summary summarize()
+	{
+		if (size == 0)
+		{
+			return Summary.EMPTY;
+		}
+
+		long[] sorted = Arrays.copyOf(samples, size);
+		Arrays.sort(sorted);
+		return new Summary(
+			count,
+			totalNanos,
+			sorted[(size - 1) / 2],
+			sorted[(size - 1) * 99 / 100],
+			sorted[size - 1]
+		);
+	}
+
+	/**
+	 * Percentiles and max cover the rolling window, count and total cover everything since the last reset.
+	 */
+	@Value
+	static class Summary
+	{
+
+		static final Summary EMPTY = new Summary(0, 0, 0, 0, 0);
+
+		long count;
+		long totalNanos;
+		long p50Nanos;
+		long p99Nanos;
+		long maxNanos;
+
+	}
+
+}
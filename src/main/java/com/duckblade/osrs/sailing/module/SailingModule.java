@@ -36,6 +36,7 @@ import com.duckblade.osrs.sailing.features.oceanencounters.MysteriousGlow;
 import com.duckblade.osrs.sailing.features.oceanencounters.OceanMan;
 import com.duckblade.osrs.sailing.features.salvaging.SalvagingHighlight;
 import com.duckblade.osrs.sailing.features.trawling.FishCaughtTracker;
+import com.duckblade.osrs.sailing.features.trawling.FishingAreaContext;
 import com.duckblade.osrs.sailing.features.trawling.NetDepthButtonHighlighter;
 import com.duckblade.osrs.sailing.features.trawling.NetDepthTimer;
 import com.duckblade.osrs.sailing.features.trawling.NetDepthTracker;
@@ -46,7 +47,12 @@ import com.duckblade.osrs.sailing.features.trawling.ShoalPathTrackerOverlay;
 import com.duckblade.osrs.sailing.features.trawling.ShoalPathTracker;
 import com.duckblade.osrs.sailing.features.trawling.ShoalPathTrackerCommand;
 import com.duckblade.osrs.sailing.features.trawling.ShoalPathOverlay;
+import com.duckblade.osrs.sailing.features.util.BoatKinematics;
+import com.duckblade.osrs.sailing.features.util.BoatProfileTracker;
 import com.duckblade.osrs.sailing.features.util.BoatTracker;
+import com.duckblade.osrs.sailing.features.util.FrameContext;
+import com.duckblade.osrs.sailing.features.util.ProjectionCache;
+import com.duckblade.osrs.sailing.features.util.SceneObjectRegistry;
 import com.google.common.collect.ImmutableSet;
 import com.google.inject.AbstractModule;
 import com.google.inject.Provides;
@@ -74,11 +80,14 @@ public class SailingModule extends AbstractModule
 		BarracudaSplitsChatMessage barracudaSplitsChatMessage,
 		BarracudaSplitsOverlayPanel barracudaSplitsOverlayPanel,
 		BarracudaSplitsFileWriter barracudaSplitsFileWriter,
+		BoatKinematics boatKinematics,
+		BoatProfileTracker boatProfileTracker,
 		BoatTracker boatTracker,
 		CargoHoldTracker cargoHoldTracker,
 		Castaway castaway,
 		ClueCasket clueCasket,
 		ClueTurtle clueTurtle,
+		ConfigSnapshotTracker configSnapshotTracker,
 		CourierTaskLedgerOverlay courierTaskLedgerOverlay,
 		CourierTaskTracker courierTaskTracker,
 		CourierDestinationOverlay courierDestinationOverlay,
@@ -86,6 +95,9 @@ public class SailingModule extends AbstractModule
 		CrystalExtractorHighlight crystalExtractorHighlight,
 		CurrentDuckTaskTracker currentDuckTaskTracker,
 		DeprioSailsOffHelm deprioSailsOffHelm,
+		EventRecorder eventRecorder,
+		FishingAreaContext fishingAreaContext,
+		FrameContext frameContext,
         FishCaughtTracker fishCaughtTracker,
 		GiantClam giantClam,
 		HidePortalTransitions hidePortalTransitions,
@@ -104,9 +116,14 @@ public class SailingModule extends AbstractModule
 		NavigationOverlay navigationOverlay,
 		OceanMan oceanMan,
 		PrioritizeCargoHold prioritizeCargoHold,
+		ProjectionCache projectionCache,
 		RapidsOverlay rapidsOverlay,
 		ReverseBeep reverseBeep,
+		SailingPerfCommand sailingPerfCommand,
+		SailingPerfOverlay sailingPerfOverlay,
+		SailingRecordCommand sailingRecordCommand,
 		SalvagingHighlight salvagingHighlight,
+		SceneObjectRegistry sceneObjectRegistry,
     	SeaChartMapPointManager seaChartMapPointManager,
 		SeaChartOverlay seaChartOverlay,
 		SeaChartPanelOverlay seaChartPanelOverlay,
@@ -129,11 +146,14 @@ public class SailingModule extends AbstractModule
 			.add(barracudaSplitsChatMessage)
 			.add(barracudaSplitsOverlayPanel)
 			.add(barracudaSplitsFileWriter)
+			.add(boatKinematics)
+			.add(boatProfileTracker)
 			.add(boatTracker)
             .add(cargoHoldTracker)
 			.add(castaway)
 			.add(clueCasket)
 			.add(clueTurtle)
+			.add(configSnapshotTracker)
 			.add(courierTaskLedgerOverlay)
 			.add(courierTaskTracker)
 			.add(courierDestinationOverlay)
@@ -141,6 +161,9 @@ public class SailingModule extends AbstractModule
 			.add(crystalExtractorHighlight)
 			.add(currentDuckTaskTracker)
 			.add(deprioSailsOffHelm)
+			.add(eventRecorder)
+			.add(fishingAreaContext)
+			.add(frameContext)
 			.add(giantClam)
 			.add(hidePortalTransitions)
 			.add(hideStopNavigatingDuringTrials)
@@ -160,9 +183,14 @@ public class SailingModule extends AbstractModule
 			.add(navigationOverlay)
 			.add(oceanMan)
 			.add(prioritizeCargoHold)
+			.add(projectionCache)
 			.add(rapidsOverlay)
 			.add(reverseBeep)
+			.add(sailingPerfCommand)
+			.add(sailingPerfOverlay)
+			.add(sailingRecordCommand)
 			.add(salvagingHighlight)
+			.add(sceneObjectRegistry)
 			.add(seaChartOverlay)
       		.add(seaChartMapPointManager)
 			.add(seaChartPanelOverlay)
@@ -0,0 +1,149 @@
+package com.duckblade.osrs.sailing.module;
+
+import com.google.inject.Provider;
+import java.util.List;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.api.ChatMessageType;
+import net.runelite.api.events.CommandExecuted;
+import net.runelite.client.chat.ChatMessageManager;
+import net.runelite.client.chat.QueuedMessage;
+import net.runelite.client.eventbus.Subscribe;
+
+/**
+ * ::sailingperf [on|off|reset|overlay]
+ * <p>
+ * With no arguments, prints the most expensive components since profiling was enabled.
+ */
+@Slf4j
+@Singleton
+public class SailingPerfCommand
+	implements PluginLifecycleComponent
+{
+
+	private static final String COMMAND_NAME = "sailingperf";
+	private static final int REPORT_LINES = 10;
+
+	private final ChatMessageManager chatMessageManager;
+	private final Provider<ComponentManager> componentManagerProvider;
+	private final ComponentProfiler profiler;
+
+	@Getter
+	private boolean overlayEnabled;
+
+	@Inject
+	public SailingPerfCommand(ChatMessageManager chatMessageManager, Provider<ComponentManager> componentManagerProvider, ComponentProfiler profiler)
+	{
+		this.chatMessageManager = chatMessageManager;
+		this.componentManagerProvider = componentManagerProvider;
+		this.profiler = profiler;
+	}
+
+	@Override
+	public void shutDown()
+	{
+		overlayEnabled = false;
+	}
+
+	@Subscribe
+	public void onCommandExecuted(CommandExecuted e)
+	{
+		if (!COMMAND_NAME.equalsIgnoreCase(e.getCommand()))
+		{
+			return;
+		}
+
+		String arg = e.getArguments().length == 0 ? "" : e.getArguments()[0].trim().toLowerCase();
+		switch (arg)
+		{
+			case "":
+				printReport();
+				return;
+
+			case "on":
+				componentManagerProvider.get().setProfilingEnabled(true);
+				sendChatMessage("Sailing profiling enabled");
+				return;
+
+			case "off":
+				componentManagerProvider.get().setProfilingEnabled(false);
+				sendChatMessage("Sailing profiling disabled");
+				break;
+
+			case "reset":
+				profiler.reset();
+				sendChatMessage("Sailing profiling data cleared");
+				return;
+
+			case "overlay":
+				overlayEnabled = !overlayEnabled;
+				break;
+
+			default:
+				sendChatMessage("Usage: ::" + COMMAND_NAME + " [on|off|reset|overlay]");
+				return;
+		}
+
+		componentManagerProvider.get().revalidateComponentStates();
+	}
+
+	private void printReport()
+	{
+		if (!profiler.isEnabled())
+		{
+			sendChatMessage("Sailing profiling is off, enable it with ::" + COMMAND_NAME + " on");
+			return;
+		}
+
+		List<ComponentProfiler.Entry> entries = profiler.report();
+		if (entries.isEmpty())
+		{
+			sendChatMessage("No Sailing profiling data yet");
+			return;
+		}
+
+		sendChatMessage("Sailing components (p50/p99/max):");
+		entries.stream()
+			.limit(REPORT_LINES)
+			.forEach(entry -> sendChatMessage(entry.getName() +
+				" render " + formatSummary(entry.getRender()) +
+				", events " + formatSummary(entry.getEvents())));
+	}
+
+	static String formatSummary(RollingTimings.Summary summary)
+	{
+		if (summary.getCount() == 0)
+		{
+			return "-";
+		}
+
+		return formatNanos(summary.getP50Nanos()) + "/" +
+			formatNanos(summary.getP99Nanos()) + "/" +
+			formatNanos(summary.getMaxNanos()) +
+			" (n=" + summary.getCount() + ")";
+	}
+
+	static String formatNanos(long nanos)
+	{
+		if (nanos < 1_000)
+		{
+			return nanos + "ns";
+		}
+		if (nanos < 1_000_000)
+		{
+			return String.format("%.1fus", nanos / 1_000d);
+		}
+		return String.format("%.2fms", nanos / 1_000_000d);
+	}
+
+	private void sendChatMessage(String message)
+	{
+		chatMessageManager.queue(QueuedMessage.builder()
+			.type(ChatMessageType.CONSOLE)
+			.value(message)
+			.build());
+	}
+
+}
@@ -0,0 +1,91 @@
+package com.duckblade.osrs.sailing.module;
+
+import com.duckblade.osrs.sailing.SailingConfig;
+import com.duckblade.osrs.sailing.SailingPlugin;
+import java.awt.Dimension;
+import java.awt.Graphics2D;
+import java.util.Collections;
+import java.util.List;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import net.runelite.client.ui.overlay.OverlayLayer;
+import net.runelite.client.ui.overlay.OverlayPanel;
+import net.runelite.client.ui.overlay.OverlayPosition;
+import net.runelite.client.ui.overlay.components.LineComponent;
+import net.runelite.client.ui.overlay.components.TitleComponent;
+
+@Singleton
+public class SailingPerfOverlay
+	extends OverlayPanel
+	implements PluginLifecycleComponent
+{
+
+	private static final int MAX_ROWS = 15;
+
+	// summarising sorts every sample window, no need to do that every frame
+	private static final long REFRESH_INTERVAL_MS = 1_000;
+
+	private final ComponentProfiler profiler;
+	private final SailingPerfCommand command;
+
+	private List<ComponentProfiler.Entry> entries = Collections.emptyList();
+	private long lastRefresh;
+
+	@Inject
+	public SailingPerfOverlay(SailingPlugin plugin, ComponentProfiler profiler, SailingPerfCommand command)
+	{
+		super(plugin);
+		this.profiler = profiler;
+		this.command = command;
+
+		setPreferredPosition(OverlayPosition.TOP_LEFT);
+		setLayer(OverlayLayer.ALWAYS_ON_TOP);
+		panelComponent.setPreferredSize(new Dimension(320, 0));
+	}
+
+	@Override
+	public boolean isEnabled(SailingConfig config)
+	{
+		return command.isOverlayEnabled();
+	}
+
+	@Override
+	public void shutDown()
+	{
+		entries = Collections.emptyList();
+		lastRefresh = 0;
+	}
+
+	@Override
+	public Dimension render(Graphics2D graphics)
+	{
+		if (!profiler.isEnabled())
+		{
+			return null;
+		}
+
+		long now = System.currentTimeMillis();
+		if (now - lastRefresh >= REFRESH_INTERVAL_MS)
+		{
+			entries = profiler.report();
+			lastRefresh = now;
+		}
+
+		panelComponent.getChildren().add(TitleComponent.builder()
+			.text("Sailing render p50/p99/max")
+			.build());
+
+		entries.stream()
+			.filter(entry -> entry.getRender().getCount() > 0)
+			.limit(MAX_ROWS)
+			.forEach(entry -> panelComponent.getChildren().add(LineComponent.builder()
+				.left(entry.getName())
+				.right(SailingPerfCommand.formatNanos(entry.getRender().getP50Nanos()) + " / " +
+					SailingPerfCommand.formatNanos(entry.getRender().getP99Nanos()) + " / " +
+					SailingPerfCommand.formatNanos(entry.getRender().getMaxNanos()))
+				.build()));
+
+		return super.render(graphics);
+	}
+
+}
@@ -0,0 +1,78 @@
+package com.duckblade.osrs.sailing.module;
+
+import com.google.inject.Provider;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import lombok.Getter;
+import net.runelite.api.ChatMessageType;
+import net.runelite.api.events.CommandExecuted;
+import net.runelite.client.chat.ChatMessageManager;
+import net.runelite.client.chat.QueuedMessage;
+import net.runelite.client.eventbus.Subscribe;
+
+/**
+ * ::sailingrecord [on|off]
+ * <p>
+ * With no arguments, toggles recording events for offline replay, see {@link EventRecorder}.
+ */
+@Singleton
+public class SailingRecordCommand
+	implements PluginLifecycleComponent
+{
+
+	private static final String COMMAND_NAME = "sailingrecord";
+
+	private final ChatMessageManager chatMessageManager;
+	private final Provider<ComponentManager> componentManagerProvider;
+
+	@Getter
+	private boolean recording;
+
+	@Inject
+	public SailingRecordCommand(ChatMessageManager chatMessageManager, Provider<ComponentManager> componentManagerProvider)
+	{
+		this.chatMessageManager = chatMessageManager;
+		this.componentManagerProvider = componentManagerProvider;
+	}
+
+	@Override
+	public void shutDown()
+	{
+		recording = false;
+	}
+
+	@Subscribe
+	public void onCommandExecuted(CommandExecuted e)
+	{
+		if (!COMMAND_NAME.equalsIgnoreCase(e.getCommand()))
+		{
+			return;
+		}
+
+		String arg = e.getArguments().length == 0 ? "" : e.getArguments()[0].trim().toLowerCase();
+		switch (arg)
+		{
+			case "":
+				recording = !recording;
+				break;
+
+			case "on":
+				recording = true;
+				break;
+
+			case "off":
+				recording = false;
+				break;
+
+			default:
+				chatMessageManager.queue(QueuedMessage.builder()
+					.type(ChatMessageType.CONSOLE)
+					.value("Usage: ::" + COMMAND_NAME + " [on|off]")
+					.build());
+				return;
+		}
+
+		componentManagerProvider.get().revalidateComponentStates();
+	}
+
+}
@@ -0,0 +1,25 @@
+package com.duckblade.osrs.sailing.module;
+
+/**
+ * Ordered stages of the per-tick pipeline run by the {@link ComponentManager}.
+ * Every listener in a phase has run before any listener in the next phase starts.
+ */
+public enum TickPhase
+{
+
+	/**
+	 * Reads raw client state (entities, animations, locations) into trackers.
+	 */
+	TRACKERS,
+
+	/**
+	 * Builds models derived from tracker state, e.g. timers and paths.
+	 */
+	DERIVED,
+
+	/**
+	 * Reacts to the tracked and derived state of the current tick, e.g. highlights and notifications.
+	 */
+	CONSUMERS,
+
+}
@@ -0,0 +1,82 @@
+package com.duckblade.osrs.sailing;
+
+import java.lang.management.ManagementFactory;
+import org.junit.Assert;
+import org.junit.Assume;
+
+/**
+ * Measures how many bytes a code path allocates per call on the current thread,
+ * using {@link com.sun.management.ThreadMXBean#getThreadAllocatedBytes(long)}.
+ * <p>
+ * The path is warmed up first so the JIT has a chance to scalar-replace short-lived objects,
+ * then measured over several rounds, keeping the lowest, since one-off costs (class loading, lazy init)
+ * only ever add to a round. Collaborators called inside the measured path should be real objects:
+ * Mockito records every invocation, which would dominate the measurement.
+ */
+public final class AllocationBudget
+{
+
+	static final int WARMUP_ITERATIONS = 20_000;
+	static final int MEASURED_ITERATIONS = 50_000;
+	static final int ROUNDS = 5;
+
+	private AllocationBudget()
+	{
+	}
+
+	/**
+	 * @return the bytes allocated per call of {@code path}, averaged over the cheapest round
+	 */
+	public static double measure(Runnable path)
+	{
+		com.sun.management.ThreadMXBean threads = threadMXBean();
+		long threadId = Thread.currentThread().getId();
+
+		for (int i = 0; i < WARMUP_ITERATIONS; i++)
+		{
+			path.run();
+		}
+
+		long best = Long.MAX_VALUE;
+		for (int round = 0; round < ROUNDS; round++)
+		{
+			long before = threads.getThreadAllocatedBytes(threadId);
+			for (int i = 0; i < MEASURED_ITERATIONS; i++)
+			{
+				path.run();
+			}
+			long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+			best = Math.min(best, allocated);
+		}
+
+		return (double) best / MEASURED_ITERATIONS;
+	}
+
+	/**
+	 * Fails if {@code path} allocates more than {@code bytesPerCall} bytes per call.
+	 * Skips the test on JVMs which can't measure per-thread allocation.
+	 */
+	public static void assertWithinBudget(String name, long bytesPerCall, Runnable path)
+	{
+		double perCall = measure(path);
+		Assert.assertTrue(
+			String.format("%s allocated %.1f bytes per call, budget is %d", name, perCall, bytesPerCall),
+			perCall <= bytesPerCall
+		);
+	}
+
+	private static com.sun.management.ThreadMXBean threadMXBean()
+	{
+		java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+		Assume.assumeTrue("per-thread allocation measurement unavailable", bean instanceof com.sun.management.ThreadMXBean);
+
+		com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) bean;
+		Assume.assumeTrue("per-thread allocation measurement unsupported", threads.isThreadAllocatedMemorySupported());
+		if (!threads.isThreadAllocatedMemoryEnabled())
+		{
+			threads.setThreadAllocatedMemoryEnabled(true);
+		}
+		return threads;
+	}
+
+}
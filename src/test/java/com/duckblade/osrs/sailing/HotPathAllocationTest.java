@@ -0,0 +1,242 @@
+package com.duckblade.osrs.sailing;
+
+import com.duckblade.osrs.sailing.features.charting.SeaChartOverlay;
+import com.duckblade.osrs.sailing.features.charting.SeaChartTaskIndex;
+import com.duckblade.osrs.sailing.features.charting.WeatherTaskTracker;
+import com.duckblade.osrs.sailing.features.courier.CourierDestinationOverlay;
+import com.duckblade.osrs.sailing.features.courier.CourierTaskTracker;
+import com.duckblade.osrs.sailing.features.navigation.NavigationOverlay;
+import com.duckblade.osrs.sailing.features.trawling.NetDepthTimer;
+import com.duckblade.osrs.sailing.features.trawling.ShoalOverlay;
+import com.duckblade.osrs.sailing.features.trawling.ShoalTracker;
+import com.duckblade.osrs.sailing.features.util.BoatKinematics;
+import com.duckblade.osrs.sailing.features.util.BoatTracker;
+import com.duckblade.osrs.sailing.features.util.FrameContext;
+import com.duckblade.osrs.sailing.model.Boat;
+import com.duckblade.osrs.sailing.model.CourierTask;
+import com.duckblade.osrs.sailing.model.Port;
+import com.duckblade.osrs.sailing.module.ConfigSnapshotTracker;
+import com.google.common.collect.ImmutableMap;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.Polygon;
+import java.awt.image.BufferedImage;
+import java.lang.reflect.Array;
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import net.runelite.api.Client;
+import net.runelite.api.NPC;
+import net.runelite.api.Player;
+import net.runelite.api.Point;
+import net.runelite.api.WorldEntity;
+import net.runelite.api.WorldView;
+import net.runelite.api.coords.LocalPoint;
+import net.runelite.api.events.BeforeRender;
+import net.runelite.api.events.NpcSpawned;
+import net.runelite.api.gameval.NpcID;
+import net.runelite.client.Notifier;
+import net.runelite.client.game.ItemManager;
+import net.runelite.client.ui.overlay.OverlayUtil;
+import net.runelite.client.ui.overlay.worldmap.WorldMapPointManager;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Per-frame allocation budgets for overlay render paths, see {@link AllocationBudget}.
+ * <p>
+ * Every collaborator reached from a measured path is a real instance, so the budgets cover the overlay's own garbage.
+ * Game objects reached while drawing are proxies answering from fixed values, and projection through
+ * {@link net.runelite.api.Perspective}, which needs a live client, is replaced by fixed canvas points.
+ */
+public class HotPathAllocationTest
+{
+
+	// effectively nothing, leaving room for measurement noise
+	private static final long IDLE_FRAME_BUDGET = 16;
+
+	// a couple of short-lived points or iterators, if the JIT doesn't eliminate them
+	private static final long ACTIVE_FRAME_BUDGET = 64;
+
+	private static final LocalPoint BOAT_LOCATION = new LocalPoint(6400, 6400, -1);
+	private static final Point CANVAS_POINT = new Point(32, 32);
+	private static final Polygon CANVAS_POLY = new Polygon(new int[]{24, 40, 40, 24}, new int[]{24, 24, 40, 40}, 4);
+
+	private final Client client = mock(Client.class);
+	private final SailingConfig config = mock(SailingConfig.class);
+	private final Graphics2D graphics = mock(Graphics2D.class);
+
+	// drawing on a real image, since a mocked graphics would record every call
+	private final Graphics2D canvas = new BufferedImage(64, 64, BufferedImage.TYPE_INT_ARGB).createGraphics();
+
+	private ConfigSnapshotTracker configSnapshotTracker;
+
+	@Before
+	public void setUp()
+	{
+		when(config.trawlingHighlightShoals()).thenReturn(true);
+		when(config.trawlingShoalHighlightColour()).thenReturn(Color.CYAN);
+		when(config.trawlingShowNetDepthTimer()).thenReturn(true);
+		when(config.showCharts()).thenReturn(SailingConfig.ShowChartsMode.ALL);
+		when(config.navigationOverlayMode()).thenReturn(SailingConfig.NavigationOverlayMode.ALWAYS);
+		when(config.navigationOverlaySpeed()).thenReturn(true);
+		when(config.navigationOverlayHeading()).thenReturn(true);
+		when(config.navigationOverlayColour()).thenReturn(Color.WHITE);
+		configSnapshotTracker = new ConfigSnapshotTracker(config);
+	}
+
+	@Test
+	public void testShoalOverlay_noShoal()
+	{
+		ShoalTracker shoalTracker = new ShoalTracker(client, mock(Notifier.class), config, mock(BoatTracker.class));
+		ShoalOverlay overlay = new ShoalOverlay(client, configSnapshotTracker, shoalTracker, mock(NetDepthTimer.class));
+
+		AllocationBudget.assertWithinBudget("ShoalOverlay.render", IDLE_FRAME_BUDGET, () -> overlay.render(graphics));
+	}
+
+	@Test
+	public void testShoalOverlay_shoalPresent()
+	{
+		ShoalTracker shoalTracker = new ShoalTracker(client, mock(Notifier.class), config, mock(BoatTracker.class));
+		shoalTracker.onNpcSpawned(new NpcSpawned(stub(NPC.class, ImmutableMap.of(
+			"getId", NpcID.SAILING_SHOAL_RIPPLES,
+			"getHealthRatio", -1,
+			"getLocalLocation", BOAT_LOCATION
+		))));
+
+		NetDepthTimer.TimerInfo timerInfo = new NetDepthTimer.TimerInfo(true, false, 12, false);
+		NetDepthTimer netDepthTimer = new NetDepthTimer(shoalTracker, null)
+		{
+			@Override
+			public TimerInfo getTimerInfo()
+			{
+				return timerInfo;
+			}
+		};
+		ShoalOverlay overlay = new ShoalOverlay(client, configSnapshotTracker, shoalTracker, netDepthTimer)
+		{
+			@Override
+			protected Polygon getCanvasTileAreaPoly(LocalPoint localPoint)
+			{
+				return CANVAS_POLY;
+			}
+
+			@Override
+			protected Point getCanvasTextLocation(Graphics2D graphics, LocalPoint localPoint, String text)
+			{
+				return CANVAS_POINT;
+			}
+		};
+
+		// java2d allocates while filling translucent shapes, which isn't the overlay's to save
+		long rasterisation = (long) Math.ceil(AllocationBudget.measure(() -> OverlayUtil.renderPolygon(canvas, CANVAS_POLY, Color.CYAN)));
+		AllocationBudget.assertWithinBudget("ShoalOverlay.render", rasterisation + ACTIVE_FRAME_BUDGET, () -> overlay.render(canvas));
+	}
+
+	@Test
+	public void testNavigationOverlay_notSailing()
+	{
+		FrameContext frameContext = new FrameContext(client, mock(BoatTracker.class));
+		NavigationOverlay overlay = new NavigationOverlay(mock(BoatKinematics.class), client, frameContext);
+		overlay.isEnabled(config);
+
+		AllocationBudget.assertWithinBudget("NavigationOverlay.render", IDLE_FRAME_BUDGET, () -> overlay.render(graphics));
+	}
+
+	@Test
+	public void testNavigationOverlay_sailing()
+	{
+		WorldView boatView = mock(WorldView.class);
+		when(boatView.getId()).thenReturn(5);
+		when(boatView.isTopLevel()).thenReturn(false);
+		Player player = mock(Player.class);
+		when(player.getWorldView()).thenReturn(boatView);
+		when(client.getLocalPlayer()).thenReturn(player);
+
+		WorldEntity worldEntity = stub(WorldEntity.class, ImmutableMap.of(
+			"getTargetOrientation", 512,
+			"getLocalLocation", BOAT_LOCATION,
+			"getWorldView", stub(WorldView.class, ImmutableMap.of())
+		));
+		BoatTracker boatTracker = mock(BoatTracker.class);
+		when(boatTracker.getBoat(5)).thenReturn(new Boat(5, worldEntity));
+
+		// resolved once per frame before any overlay renders
+		FrameContext frameContext = new FrameContext(client, boatTracker);
+		frameContext.onBeforeRender(new BeforeRender());
+
+		NavigationOverlay overlay = new NavigationOverlay(new BoatKinematics(client, boatTracker), client, frameContext)
+		{
+			@Override
+			protected Point localToCanvas(LocalPoint lp, int plane, int height)
+			{
+				return CANVAS_POINT;
+			}
+		};
+		overlay.isEnabled(config);
+
+		AllocationBudget.assertWithinBudget("NavigationOverlay.render", ACTIVE_FRAME_BUDGET, () -> overlay.render(canvas));
+	}
+
+	@Test
+	public void testSeaChartOverlay_nothingTracked()
+	{
+		SeaChartTaskIndex taskIndex = mock(SeaChartTaskIndex.class);
+		WeatherTaskTracker weatherTaskTracker = new WeatherTaskTracker(client, mock(ItemManager.class), mock(WorldMapPointManager.class), taskIndex, mock(BoatTracker.class));
+		SeaChartOverlay overlay = new SeaChartOverlay(client, mock(ItemManager.class), configSnapshotTracker, taskIndex, weatherTaskTracker);
+		overlay.isEnabled(config);
+
+		// iterating the empty tracked maps may cost an iterator each if the JIT doesn't eliminate them
+		AllocationBudget.assertWithinBudget("SeaChartOverlay.render", 128, () -> overlay.render(graphics));
+	}
+
+	@Test
+	public void testCourierDestinationOverlay_unrelatedItem()
+	{
+		CourierTaskTracker taskTracker = new CourierTaskTracker(client);
+		for (int slot = 0; slot < 3; slot++)
+		{
+			taskTracker.getTasks().add(new CourierTask(slot, Port.values()[0], Port.values()[1], 1000 + slot, 5, 0, 0));
+		}
+		CourierDestinationOverlay overlay = new CourierDestinationOverlay(taskTracker);
+
+		// runs for every item in every shown container each frame, almost all of which aren't cargo.
+		// the task set iterator may survive escape analysis, a stream pipeline would not fit
+		AllocationBudget.assertWithinBudget("CourierDestinationOverlay.renderItemOverlay", 64, () -> overlay.renderItemOverlay(graphics, 995, null));
+	}
+
+	/**
+	 * A proxy answering the named methods from {@code returns}, and everything else with null, zero or false.
+	 * Unlike a mock it records nothing, so calls to it don't allocate beyond what the caller does.
+	 */
+	@SuppressWarnings("unchecked")
+	private static <T> T stub(Class<T> type, Map<String, Object> returns)
+	{
+		return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) ->
+		{
+			Object value = returns.get(method.getName());
+			if (value != null)
+			{
+				return value;
+			}
+
+			Class<?> returnType = method.getReturnType();
+			if (returnType == boolean.class)
+			{
+				return method.getName().equals("equals") && proxy == args[0];
+			}
+			if (returnType == int.class)
+			{
+				return method.getName().equals("hashCode") ? System.identityHashCode(proxy) : 0;
+			}
+			if (returnType.isPrimitive() && returnType != void.class)
+			{
+				return Array.get(Array.newInstance(returnType, 1), 0);
+			}
+			return null;
+		});
+	}
+
+}
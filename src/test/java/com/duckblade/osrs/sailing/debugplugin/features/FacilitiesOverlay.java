@@ -7,6 +7,7 @@ import com.duckblade.osrs.sailing.features.util.SailingUtil;
 import com.duckblade.osrs.sailing.model.Boat;
 import com.duckblade.osrs.sailing.model.SalvagingHookTier;
 import com.duckblade.osrs.sailing.model.CannonTier;
+import com.duckblade.osrs.sailing.model.FacilityList;
 import com.duckblade.osrs.sailing.model.WindCatcherTier;
 import java.awt.Color;
 import java.awt.Dimension;
@@ -64,13 +65,15 @@ public class FacilitiesOverlay
 		renderFacility(graphics, Color.ORANGE, "helm", boat.getHelm(), boat.getHelmTier());
 		renderFacility(graphics, Color.GREEN, "cargo", boat.getCargoHold(), boat.getCargoHoldTier());
 		renderFacility(graphics, Color.MAGENTA, "windcatcher", boat.getWindCatcher(), boat.getWindCatcherTier());
-		for (GameObject hook : boat.getSalvagingHooks())
+		FacilityList<SalvagingHookTier> hooks = boat.getSalvagingHooks();
+		for (int i = 0; i < hooks.size(); i++)
 		{
-			renderFacility(graphics, Color.RED, "hook", hook, SalvagingHookTier.fromGameObjectId(hook.getId()));
+			renderFacility(graphics, Color.RED, "hook", hooks.get(i), hooks.getTier(i));
 		}
-		for (GameObject cannon : boat.getCannons())
+		FacilityList<CannonTier> cannons = boat.getCannons();
+		for (int i = 0; i < cannons.size(); i++)
 		{
-			renderFacility(graphics, Color.YELLOW, "cannon", cannon, CannonTier.fromGameObjectId(cannon.getId()));
+			renderFacility(graphics, Color.YELLOW, "cannon", cannons.get(i), cannons.getTier(i));
 		}
 
 		return null;
@@ -0,0 +1,118 @@
+package com.duckblade.osrs.sailing.features.trawling;
+
+import net.runelite.api.Client;
+import net.runelite.api.coords.WorldArea;
+import net.runelite.api.coords.WorldPoint;
+import net.runelite.client.eventbus.EventBus;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.InOrder;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+public class FishingAreaContextTest
+{
+
+	private static final WorldPoint OPEN_SEA = new WorldPoint(3000, 3000, 0);
+
+	private final EventBus eventBus = mock(EventBus.class);
+	private FishingAreaContext context;
+
+	@Before
+	public void setUp()
+	{
+		context = new FishingAreaContext(mock(Client.class), eventBus);
+	}
+
+	@Test
+	public void testEnterAndExit()
+	{
+		context.update(OPEN_SEA);
+		verifyNoInteractions(eventBus);
+		assertNull(context.getArea());
+		assertEquals(0, context.getAreas().length);
+		assertNull(context.getAreaType());
+		assertEquals(-1, context.getStopDuration());
+
+		context.update(centre(ShoalFishingArea.GREAT_SOUND));
+		verify(eventBus).post(new FishingAreaEntered(ShoalFishingArea.GREAT_SOUND));
+		assertEquals(ShoalFishingArea.GREAT_SOUND, context.getArea());
+		assertEquals(ShoalFishingArea.GREAT_SOUND.getShoal().getDepth(), context.getAreaType());
+		assertEquals(ShoalFishingArea.GREAT_SOUND.getShoal().getStopDuration(), context.getStopDuration());
+
+		context.update(OPEN_SEA);
+		verify(eventBus).post(new FishingAreaExited(ShoalFishingArea.GREAT_SOUND));
+		assertNull(context.getArea());
+	}
+
+	@Test
+	public void testMovingWithinArea()
+	{
+		WorldPoint centre = centre(ShoalFishingArea.GREAT_SOUND);
+		context.update(centre);
+		context.update(centre);
+		context.update(centre.dx(1));
+
+		verify(eventBus).post(any(FishingAreaEntered.class));
+		verify(eventBus, never()).post(any(FishingAreaExited.class));
+	}
+
+	@Test
+	public void testDirectlyBetweenAreas()
+	{
+		context.update(centre(ShoalFishingArea.GREAT_SOUND));
+		context.update(centre(ShoalFishingArea.SIMIAN_SEA));
+
+		InOrder order = inOrder(eventBus);
+		order.verify(eventBus).post(new FishingAreaEntered(ShoalFishingArea.GREAT_SOUND));
+		order.verify(eventBus).post(new FishingAreaExited(ShoalFishingArea.GREAT_SOUND));
+		order.verify(eventBus).post(new FishingAreaEntered(ShoalFishingArea.SIMIAN_SEA));
+		assertEquals(ShoalFishingArea.SIMIAN_SEA, context.getArea());
+	}
+
+	@Test
+	public void testOverlappingAreas()
+	{
+		// Deepfin Point and the Crown Jewel overlap at x 1781-1819, y 2665-2731
+		context.update(new WorldPoint(1800, 2700, 0));
+
+		verify(eventBus).post(new FishingAreaEntered(ShoalFishingArea.DEEPFIN_POINT));
+		assertEquals(ShoalFishingArea.DEEPFIN_POINT, context.getArea());
+		assertArrayEquals(new ShoalFishingArea[]{ShoalFishingArea.DEEPFIN_POINT, ShoalFishingArea.THE_CROWN_JEWEL_TEMP}, context.getAreas());
+
+		// still in the Crown Jewel once past Deepfin Point's western edge
+		context.update(new WorldPoint(1780, 2700, 0));
+		verify(eventBus).post(new FishingAreaExited(ShoalFishingArea.DEEPFIN_POINT));
+		verify(eventBus).post(new FishingAreaEntered(ShoalFishingArea.THE_CROWN_JEWEL_TEMP));
+		assertArrayEquals(new ShoalFishingArea[]{ShoalFishingArea.THE_CROWN_JEWEL_TEMP}, context.getAreas());
+	}
+
+	@Test
+	public void testShutDown()
+	{
+		context.update(centre(ShoalFishingArea.GREAT_SOUND));
+		context.shutDown();
+		assertNull(context.getArea());
+		assertEquals(0, context.getAreas().length);
+
+		// re-entered on the next start
+		context.update(centre(ShoalFishingArea.GREAT_SOUND));
+		verify(eventBus, times(2)).post(new FishingAreaEntered(ShoalFishingArea.GREAT_SOUND));
+	}
+
+	private static WorldPoint centre(ShoalFishingArea area)
+	{
+		WorldArea bounds = area.getArea();
+		return new WorldPoint(bounds.getX() + bounds.getWidth() / 2, bounds.getY() + bounds.getHeight() / 2, bounds.getPlane());
+	}
+
+}
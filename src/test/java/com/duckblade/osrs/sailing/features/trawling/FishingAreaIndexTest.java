@@ -0,0 +1,129 @@
+package com.duckblade.osrs.sailing.features.trawling;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import net.runelite.api.coords.WorldArea;
+import net.runelite.api.coords.WorldPoint;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class FishingAreaIndexTest
+{
+
+	@Test
+	public void testMatchesLinearScan_corners()
+	{
+		for (ShoalFishingArea area : ShoalFishingArea.AREAS)
+		{
+			WorldArea bounds = area.getArea();
+			int minX = bounds.getX();
+			int minY = bounds.getY();
+			int maxX = minX + bounds.getWidth() - 1;
+			int maxY = minY + bounds.getHeight() - 1;
+
+			// each corner, and the tiles just outside it
+			for (int x : new int[]{minX - 1, minX, maxX, maxX + 1})
+			{
+				for (int y : new int[]{minY - 1, minY, maxY, maxY + 1})
+				{
+					assertMatchesLinearScan(new WorldPoint(x, y, bounds.getPlane()));
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testMatchesLinearScan_random()
+	{
+		Random random = new Random(0);
+		for (int i = 0; i < 100_000; i++)
+		{
+			assertMatchesLinearScan(new WorldPoint(1000 + random.nextInt(3000), 2000 + random.nextInt(2500), 0));
+		}
+	}
+
+	@Test
+	public void testOverlappingAreas()
+	{
+		// Deepfin Point and the Crown Jewel overlap at x 1781-1819, y 2665-2731
+		WorldPoint wp = new WorldPoint(1800, 2700, 0);
+
+		assertEquals(ShoalFishingArea.DEEPFIN_POINT, FishingAreaIndex.find(wp));
+		assertArrayEquals(new ShoalFishingArea[]{ShoalFishingArea.DEEPFIN_POINT, ShoalFishingArea.THE_CROWN_JEWEL_TEMP}, FishingAreaIndex.findAll(wp));
+	}
+
+	@Test
+	public void testOtherPlane()
+	{
+		WorldArea bounds = ShoalFishingArea.AREAS[0].getArea();
+		WorldPoint wp = new WorldPoint(bounds.getX(), bounds.getY(), bounds.getPlane() + 1);
+
+		assertNull(FishingAreaIndex.find(wp));
+	}
+
+	@Test
+	public void testOutsideMap()
+	{
+		assertNull(FishingAreaIndex.find(null));
+		assertEquals(0, FishingAreaIndex.findAll(null).length);
+		assertNull(FishingAreaIndex.find(new WorldPoint(-5, -5, 0)));
+		assertNull(FishingAreaIndex.find(new WorldPoint(100_000, 100_000, 0)));
+		assertEquals(0, FishingAreaIndex.getCandidates(null).length);
+		assertEquals(0, FishingAreaIndex.getCandidates(new WorldPoint(-5, 3200, 0)).length);
+	}
+
+	@Test
+	public void testTrawlingDataDelegates()
+	{
+		for (ShoalFishingArea area : ShoalFishingArea.AREAS)
+		{
+			WorldArea bounds = area.getArea();
+			WorldPoint wp = new WorldPoint(bounds.getX() + bounds.getWidth() / 2, bounds.getY() + bounds.getHeight() / 2, bounds.getPlane());
+			ShoalFishingArea expected = linearFind(wp);
+
+			assertEquals(expected.getShoal().getDepth(), TrawlingData.FishingAreas.getFishingAreaType(wp));
+			assertEquals(expected.getShoal().getStopDuration(), TrawlingData.FishingAreas.getStopDurationForLocation(wp));
+		}
+
+		assertNull(TrawlingData.FishingAreas.getFishingAreaType(null));
+		assertEquals(-1, TrawlingData.FishingAreas.getStopDurationForLocation(null));
+	}
+
+	private static void assertMatchesLinearScan(WorldPoint wp)
+	{
+		assertEquals(wp.toString(), linearFind(wp), FishingAreaIndex.find(wp));
+
+		// the overlay renders every containing area, so the candidates can't drop or reorder any
+		List<ShoalFishingArea> containing = new ArrayList<>();
+		for (ShoalFishingArea area : FishingAreaIndex.getCandidates(wp))
+		{
+			if (area.contains(wp))
+			{
+				containing.add(area);
+			}
+		}
+		ShoalFishingArea[] expected = Arrays.stream(ShoalFishingArea.AREAS)
+			.filter(a -> a.contains(wp))
+			.toArray(ShoalFishingArea[]::new);
+		assertArrayEquals(wp.toString(), expected, containing.toArray());
+		assertArrayEquals(wp.toString(), expected, FishingAreaIndex.findAll(wp));
+	}
+
+	private static ShoalFishingArea linearFind(WorldPoint wp)
+	{
+		for (ShoalFishingArea area : ShoalFishingArea.AREAS)
+		{
+			if (area.contains(wp))
+			{
+				return area;
+			}
+		}
+		return null;
+	}
+
+}
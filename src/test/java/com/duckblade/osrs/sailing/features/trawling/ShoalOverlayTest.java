@@ -1,7 +1,9 @@
 package com.duckblade.osrs.sailing.features.trawling;
 
 import com.duckblade.osrs.sailing.SailingConfig;
+import com.duckblade.osrs.sailing.SailingConfigSnapshot;
 import com.duckblade.osrs.sailing.features.util.BoatTracker;
+import com.duckblade.osrs.sailing.module.ConfigSnapshotTracker;
 import net.runelite.api.Client;
 import org.junit.Before;
 import org.junit.Test;
@@ -25,6 +27,9 @@ public class ShoalOverlayTest {
     @Mock
     private SailingConfig config;
     
+    @Mock
+    private ConfigSnapshotTracker configSnapshotTracker;
+
     @Mock
     private ShoalTracker shoalTracker;
     
@@ -36,7 +41,10 @@ public class ShoalOverlayTest {
     @Before
     public void setUp() {
         MockitoAnnotations.initMocks(this);
-        overlay = new ShoalOverlay(client, config, shoalTracker, netDepthTimer);
+        overlay = new ShoalOverlay(client, configSnapshotTracker, shoalTracker, netDepthTimer);
+
+        // snapshot the mocked config on each read so stubs changed within a test are picked up
+        when(configSnapshotTracker.getSnapshot()).thenAnswer(invocation -> SailingConfigSnapshot.of(config));
         
         // Setup default config color
         when(config.trawlingShoalHighlightColour()).thenReturn(Color.CYAN);
@@ -0,0 +1,243 @@
+package com.duckblade.osrs.sailing.features.trawling;
+
+import java.awt.geom.Path2D;
+import java.awt.geom.PathIterator;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import net.runelite.api.Client;
+import net.runelite.api.Constants;
+import net.runelite.api.Point;
+import net.runelite.api.Scene;
+import net.runelite.api.WorldView;
+import net.runelite.api.coords.WorldPoint;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ShoalRouteGeometryTest
+{
+
+	@Test
+	public void testSplitsLongSegments()
+	{
+		WorldPoint a = new WorldPoint(3000, 3000, 0);
+		WorldPoint b = new WorldPoint(3040, 3000, 0);
+		WorldPoint c = new WorldPoint(3040, 3003, 0);
+		ShoalRouteGeometry geometry = new ShoalRouteGeometry(route(a, b, c));
+
+		// a -> b halves down to 5 tile pieces, b -> c is short, and the diagonal c -> a only has one tile step
+		int[] expectedX = {3000, 3005, 3010, 3015, 3020, 3025, 3030, 3035, 3040, 3040, 3000};
+		int[] expectedY = {3000, 3000, 3000, 3000, 3000, 3000, 3000, 3000, 3000, 3003, 3000};
+		assertEquals(expectedX.length, geometry.getPointCount());
+		for (int i = 0; i < expectedX.length; i++)
+		{
+			assertEquals(new WorldPoint(expectedX[i], expectedY[i], 0), geometry.getPoint(i));
+		}
+
+		assertEquals(0, geometry.getWaypointIndex(0));
+		assertEquals(8, geometry.getWaypointIndex(1));
+		assertEquals(9, geometry.getWaypointIndex(2));
+		// the repeated start closing the loop
+		assertEquals(10, geometry.getWaypointIndex(3));
+	}
+
+	@Test
+	public void testSplitsClosingSegment()
+	{
+		WorldPoint a = new WorldPoint(3000, 3000, 0);
+		WorldPoint b = new WorldPoint(3000, 3016, 0);
+		ShoalRouteGeometry geometry = new ShoalRouteGeometry(route(a, b));
+
+		// both directions of the two point loop split at the midpoint
+		assertEquals(5, geometry.getPointCount());
+		assertEquals(new WorldPoint(3000, 3008, 0), geometry.getPoint(1));
+		assertEquals(new WorldPoint(3000, 3008, 0), geometry.getPoint(3));
+		assertEquals(a, geometry.getPoint(4));
+	}
+
+	@Test
+	public void testChunks()
+	{
+		// 3 waypoints 5 tiles apart and the closing segment, so no splitting
+		WorldPoint[] path = {new WorldPoint(3000, 3000, 0), new WorldPoint(3005, 3000, 0), new WorldPoint(3005, 3005, 0)};
+		assertEquals(1, new ShoalRouteGeometry(route(path)).getChunkCount());
+
+		// chunks share their end points, so 64 segments fit in two
+		WorldPoint[] longPath = new WorldPoint[ShoalRouteGeometry.CHUNK_SEGMENTS * 2];
+		for (int i = 0; i < longPath.length; i++)
+		{
+			longPath[i] = new WorldPoint(3000 + i % 2, 3000 + i / 2, 0);
+		}
+		ShoalRouteGeometry geometry = new ShoalRouteGeometry(route(longPath));
+		assertEquals(longPath.length + 1, geometry.getPointCount());
+		assertEquals(2, geometry.getChunkCount());
+
+		assertEquals(1, new ShoalRouteGeometry(route(path[0])).getChunkCount());
+		assertEquals(0, new ShoalRouteGeometry(route()).getChunkCount());
+	}
+
+	@Test
+	public void testFishingAreaRoutes()
+	{
+		for (ShoalFishingArea area : ShoalFishingArea.AREAS)
+		{
+			WorldPoint[] path = area.getRoute().toWorldPoints();
+			ShoalRouteGeometry geometry = new ShoalRouteGeometry(area.getRoute());
+
+			for (int i = 0; i < path.length; i++)
+			{
+				assertEquals(area + " waypoint " + i, path[i], geometry.getPoint(geometry.getWaypointIndex(i)));
+			}
+			assertEquals(path[0], geometry.getPoint(geometry.getPointCount() - 1));
+		}
+	}
+
+	@Test
+	public void testProjectsWaypointsFirst()
+	{
+		// a 40 tile square, each side split into 8 pieces
+		WorldPoint[] square = {
+			new WorldPoint(3000, 3000, 0), new WorldPoint(3040, 3000, 0),
+			new WorldPoint(3040, 3040, 0), new WorldPoint(3000, 3040, 0),
+		};
+		int baseX = 2950;
+		int baseY = 2950;
+		Client client = client(baseX, baseY);
+
+		AtomicInteger projections = new AtomicInteger();
+		Set<WorldPoint> offCanvas = new HashSet<>();
+		ShoalRouteGeometry geometry = new ShoalRouteGeometry(route(square), (c, lp, plane) ->
+		{
+			projections.incrementAndGet();
+			WorldPoint wp = new WorldPoint(baseX + lp.getSceneX(), baseY + lp.getSceneY(), plane);
+			return offCanvas.contains(wp) ? null : new Point(lp.getSceneX() * 10, lp.getSceneY() * 10);
+		});
+		assertEquals(33, geometry.getPointCount());
+
+		// every side is drawn straight between its waypoints, and the closing point reuses the first
+		geometry.update(client, 1);
+		assertEquals(4, projections.get());
+		assertFalse(geometry.getRoute().getPathIterator(null).isDone());
+		assertFalse(geometry.getClosingSegment().getPathIterator(null).isDone());
+
+		geometry.update(client, 1);
+		assertEquals(4, projections.get());
+
+		// both sides meeting at the corner fall back to their split points
+		offCanvas.add(square[1]);
+		projections.set(0);
+		geometry.update(client, 2);
+		assertEquals(4 + 7 + 7, projections.get());
+		assertFalse(geometry.getRoute().getPathIterator(null).isDone());
+	}
+
+	@Test
+	public void testClipsToScene()
+	{
+		// out along one row and back along the next, 1 tile apart so nothing is split
+		WorldPoint[] path = new WorldPoint[96];
+		for (int i = 0; i < 48; i++)
+		{
+			path[i] = new WorldPoint(3000 + i, 3000, 0);
+			path[95 - i] = new WorldPoint(3000 + i, 3001, 0);
+		}
+		ShoalRouteGeometry geometry = new ShoalRouteGeometry(route(path), (c, lp, plane) -> null);
+		assertEquals(97, geometry.getPointCount());
+		assertEquals(3, geometry.getChunkCount());
+
+		// only the middle chunk, points [32, 64] reaching x 3031 to 3047, overlaps a scene starting at x 3033
+		geometry.update(client(3033, 2950), 1);
+		assertEquals(1, geometry.getSceneChunkCount());
+		for (int i = 0; i < geometry.getPointCount(); i++)
+		{
+			boolean inScene = i >= 32 && i <= 64 && geometry.getPoint(i).getX() >= 3033;
+			assertEquals("point " + i, inScene, geometry.hasLocalPoint(i));
+		}
+
+		// moving the scene base re-clips on the next view change
+		geometry.update(client(2990, 2950), 2);
+		assertEquals(3, geometry.getSceneChunkCount());
+		for (int i = 0; i < geometry.getPointCount(); i++)
+		{
+			assertTrue("point " + i, geometry.hasLocalPoint(i));
+		}
+
+		geometry.invalidate();
+		assertEquals(0, geometry.getSceneChunkCount());
+		assertFalse(geometry.hasLocalPoint(0));
+	}
+
+	@Test
+	public void testDrawsSceneChunks()
+	{
+		// the same out and back route as above
+		WorldPoint[] path = new WorldPoint[96];
+		for (int i = 0; i < 48; i++)
+		{
+			path[i] = new WorldPoint(3000 + i, 3000, 0);
+			path[95 - i] = new WorldPoint(3000 + i, 3001, 0);
+		}
+		AtomicInteger projections = new AtomicInteger();
+		ShoalRouteGeometry geometry = new ShoalRouteGeometry(route(path), (c, lp, plane) ->
+		{
+			projections.incrementAndGet();
+			return new Point(lp.getSceneX() * 10, lp.getSceneY() * 10);
+		});
+
+		// every chunk is in the scene, so the route is drawn across their shared points
+		geometry.update(client(2990, 2950), 1);
+		assertEquals(96, projections.get());
+		assertArrayEquals(new int[]{1, 95}, countSegments(geometry.getRoute()));
+		assertArrayEquals(new int[]{1, 1}, countSegments(geometry.getClosingSegment()));
+
+		// only the tiles of the middle chunk from x 3033 on, nothing is left over from the previous scene
+		projections.set(0);
+		geometry.update(client(3033, 2950), 2);
+		assertEquals(30, projections.get());
+		assertArrayEquals(new int[]{1, 29}, countSegments(geometry.getRoute()));
+		assertArrayEquals(new int[]{0, 0}, countSegments(geometry.getClosingSegment()));
+	}
+
+	// move to and line to segments in the path
+	private static int[] countSegments(Path2D path)
+	{
+		int[] counts = new int[2];
+		float[] coords = new float[6];
+		for (PathIterator it = path.getPathIterator(null); !it.isDone(); it.next())
+		{
+			counts[it.currentSegment(coords) == PathIterator.SEG_MOVETO ? 0 : 1]++;
+		}
+		return counts;
+	}
+
+	private static Client client(int baseX, int baseY)
+	{
+		Scene scene = mock(Scene.class);
+		when(scene.getBaseX()).thenReturn(baseX);
+		when(scene.getBaseY()).thenReturn(baseY);
+
+		WorldView topLevel = mock(WorldView.class);
+		when(topLevel.getId()).thenReturn(-1);
+		when(topLevel.getScene()).thenReturn(scene);
+		when(topLevel.getBaseX()).thenReturn(baseX);
+		when(topLevel.getBaseY()).thenReturn(baseY);
+		when(topLevel.getSizeX()).thenReturn(Constants.EXTENDED_SCENE_SIZE);
+		when(topLevel.getSizeY()).thenReturn(Constants.EXTENDED_SCENE_SIZE);
+
+		Client client = mock(Client.class);
+		when(client.getTopLevelWorldView()).thenReturn(topLevel);
+		return client;
+	}
+
+	private static ShoalRoute route(WorldPoint... path)
+	{
+		return ShoalRoute.of(path, new int[0]);
+	}
+
+}
@@ -0,0 +1,85 @@
+package com.duckblade.osrs.sailing.features.trawling;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import net.runelite.api.coords.WorldPoint;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ShoalRoutesTest
+{
+
+	@Test
+	public void testEveryAreaHasARoute()
+	{
+		for (ShoalFishingArea area : ShoalFishingArea.AREAS)
+		{
+			ShoalRoute route = area.getRoute();
+			assertTrue(area + " has no points", route.size() > 1);
+			assertTrue(area + " has no stops", route.getStopIndices().length > 0);
+			assertEquals(area + " doesn't start at a stop", 0, route.getStopIndices()[0]);
+		}
+	}
+
+	@Test
+	public void testResourceContents()
+	{
+		// spot checks against the routes as they were traced
+		ShoalRoute simianSea = ShoalFishingArea.SIMIAN_SEA.getRoute();
+		assertEquals(54, simianSea.size());
+		assertEquals(new WorldPoint(2795, 2559, 0), simianSea.getPoint(0));
+		assertEquals(new WorldPoint(2793, 2558, 0), simianSea.getPoint(1));
+		assertEquals(new WorldPoint(2787, 2588, 0), simianSea.getPoint(6));
+		assertArrayEquals(new int[]{0, 6, 12, 20, 27, 39, 49}, simianSea.getStopIndices());
+
+		ShoalRoute portRoberts = ShoalFishingArea.PORT_ROBERTS.getRoute();
+		assertEquals(58, portRoberts.size());
+		assertEquals(new WorldPoint(1845, 3290, 0), portRoberts.getPoint(0));
+		assertEquals(new WorldPoint(1847, 3317, 0), portRoberts.getPoint(1));
+		assertArrayEquals(new int[]{0, 6, 13, 22, 27, 33, 38, 45, 49}, portRoberts.getStopIndices());
+	}
+
+	@Test
+	public void testRoundTrip() throws IOException
+	{
+		Map<String, ShoalRoute> routes = new LinkedHashMap<>();
+		routes.put("EMPTY", new ShoalRoute(0, new int[0], new int[0], new int[0]));
+		routes.put("MIXED", new ShoalRoute(
+			1,
+			new int[]{3200, 3100, 3350, 0, 16383},
+			new int[]{3200, 3329, 2000, 12, 16383},
+			new int[]{0, 3, 4, 9}
+		));
+		for (ShoalFishingArea area : ShoalFishingArea.AREAS)
+		{
+			routes.put(area.name(), area.getRoute());
+		}
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		ShoalRoutes.write(out, routes);
+		Map<String, ShoalRoute> read = ShoalRoutes.read(new ByteArrayInputStream(out.toByteArray()));
+
+		assertArrayEquals(routes.keySet().toArray(), read.keySet().toArray());
+		for (Map.Entry<String, ShoalRoute> entry : routes.entrySet())
+		{
+			ShoalRoute expected = entry.getValue();
+			ShoalRoute actual = read.get(entry.getKey());
+			assertEquals(entry.getKey(), expected.getPlane(), actual.getPlane());
+			assertArrayEquals(entry.getKey(), expected.toWorldPoints(), actual.toWorldPoints());
+			assertArrayEquals(entry.getKey(), expected.getStopIndices(), actual.getStopIndices());
+		}
+	}
+
+	@Test(expected = IOException.class)
+	public void testRejectsOtherFiles() throws IOException
+	{
+		ShoalRoutes.read(new ByteArrayInputStream(new byte[]{'P', 'N', 'G', 0, 1}));
+	}
+
+}
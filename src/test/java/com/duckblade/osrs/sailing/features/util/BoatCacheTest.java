@@ -0,0 +1,156 @@
+package com.duckblade.osrs.sailing.features.util;
+
+import com.duckblade.osrs.sailing.model.Boat;
+import net.runelite.api.GameObject;
+import org.junit.Assert;
+import org.junit.Test;
+
+import static org.mockito.Mockito.mock;
+
+public class BoatCacheTest
+{
+
+	@Test
+	public void testPut_evictsLeastRecentlyUsed()
+	{
+		BoatCache cache = new BoatCache();
+		for (int wv = 0; wv < BoatCache.MAX_BOATS; wv++)
+		{
+			cache.put(new Boat(wv, null));
+		}
+
+		// touch the eldest so the next eldest is evicted instead
+		Assert.assertNotNull(cache.get(0));
+		cache.put(new Boat(BoatCache.MAX_BOATS, null));
+
+		Assert.assertEquals(BoatCache.MAX_BOATS, cache.size());
+		Assert.assertNotNull(cache.get(0));
+		Assert.assertNull(cache.get(1));
+		Assert.assertNotNull(cache.get(BoatCache.MAX_BOATS));
+	}
+
+	@Test
+	public void testEstimatedBytes_tracksFacilities()
+	{
+		BoatCache cache = new BoatCache();
+		Boat boat = new Boat(1, null);
+		cache.put(boat);
+		Assert.assertEquals(BoatCache.BOAT_BASE_BYTES, cache.getEstimatedBytes());
+
+		boat.addCannon(mock(GameObject.class));
+		boat.addCannon(mock(GameObject.class));
+		cache.update(boat);
+		Assert.assertEquals(BoatCache.BOAT_BASE_BYTES + 2 * BoatCache.FACILITY_SLOT_BYTES, cache.getEstimatedBytes());
+
+		cache.remove(1);
+		Assert.assertEquals(0, cache.getEstimatedBytes());
+		Assert.assertEquals(0, cache.size());
+	}
+
+	@Test
+	public void testPut_replacingBoatReleasesOldEstimate()
+	{
+		BoatCache cache = new BoatCache();
+		Boat old = new Boat(1, null);
+		old.addCannon(mock(GameObject.class));
+		cache.put(old);
+		cache.put(new Boat(1, null));
+
+		Assert.assertEquals(1, cache.size());
+		Assert.assertEquals(BoatCache.BOAT_BASE_BYTES, cache.getEstimatedBytes());
+	}
+
+	@Test
+	public void testUpdate_ignoresUntrackedBoat()
+	{
+		BoatCache cache = new BoatCache();
+		cache.put(new Boat(1, null));
+
+		Boat other = new Boat(1, null);
+		other.addCannon(mock(GameObject.class));
+		cache.update(other);
+
+		Assert.assertEquals(BoatCache.BOAT_BASE_BYTES, cache.getEstimatedBytes());
+	}
+
+	@Test
+	public void testEstimatedBytes_staysWithinBudget()
+	{
+		BoatCache cache = new BoatCache();
+		for (int wv = 0; wv < 10 * BoatCache.MAX_BOATS; wv++)
+		{
+			cache.put(new Boat(wv, null));
+			Assert.assertTrue(cache.getEstimatedBytes() <= BoatCache.MAX_ESTIMATED_BYTES);
+			Assert.assertTrue(cache.size() <= BoatCache.MAX_BOATS);
+		}
+	}
+
+	@Test
+	public void testPut_bareBoatsBoundByCount()
+	{
+		BoatCache cache = new BoatCache();
+		for (int wv = 0; wv <= BoatCache.MAX_BOATS; wv++)
+		{
+			cache.put(new Boat(wv, null));
+		}
+
+		Assert.assertEquals(BoatCache.MAX_BOATS, cache.size());
+		Assert.assertTrue(cache.getEstimatedBytes() < BoatCache.MAX_ESTIMATED_BYTES);
+	}
+
+	@Test
+	public void testPut_heavyBoatsBoundByBytes()
+	{
+		// twice the facilities the byte bound allows for on average
+		int facilities = 2 * BoatCache.BYTE_BOUND_FACILITY_SLOTS;
+		long boatBytes = BoatCache.BOAT_BASE_BYTES + (long) facilities * BoatCache.FACILITY_SLOT_BYTES;
+
+		BoatCache cache = new BoatCache();
+		for (int wv = 0; wv < BoatCache.MAX_BOATS; wv++)
+		{
+			cache.put(boatWithCannons(wv, facilities));
+		}
+
+		Assert.assertEquals(BoatCache.MAX_ESTIMATED_BYTES / boatBytes, cache.size());
+		Assert.assertTrue(cache.size() < BoatCache.MAX_BOATS);
+		Assert.assertTrue(cache.getEstimatedBytes() <= BoatCache.MAX_ESTIMATED_BYTES);
+		// least recently used first
+		Assert.assertNull(cache.get(0));
+		Assert.assertNotNull(cache.get(BoatCache.MAX_BOATS - 1));
+	}
+
+	@Test
+	public void testUpdate_growingBoatEvictsByBytes()
+	{
+		BoatCache cache = new BoatCache();
+		for (int wv = 0; wv < BoatCache.MAX_BOATS; wv++)
+		{
+			cache.put(new Boat(wv, null));
+		}
+
+		// the newest boat gains enough facilities to push the total over the byte bound
+		Boat grown = cache.get(BoatCache.MAX_BOATS - 1);
+		long headroom = BoatCache.MAX_ESTIMATED_BYTES - cache.getEstimatedBytes();
+		for (long i = 0; i <= headroom / BoatCache.FACILITY_SLOT_BYTES; i++)
+		{
+			grown.addCannon(mock(GameObject.class));
+		}
+		cache.update(grown);
+
+		Assert.assertEquals(BoatCache.MAX_BOATS - 1, cache.size());
+		Assert.assertNull(cache.get(0));
+		Assert.assertSame(grown, cache.get(BoatCache.MAX_BOATS - 1));
+		Assert.assertTrue(cache.getEstimatedBytes() <= BoatCache.MAX_ESTIMATED_BYTES);
+	}
+
+	private static Boat boatWithCannons(int wv, int cannons)
+	{
+		Boat boat = new Boat(wv, null);
+		for (int i = 0; i < cannons; i++)
+		{
+			boat.addCannon(mock(GameObject.class));
+		}
+		return boat;
+	}
+
+}
@@ -0,0 +1,104 @@
+package com.duckblade.osrs.sailing.features.util;
+
+import net.runelite.api.Client;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.mockito.Mockito.mock;
+
+public class BoatKinematicsTest
+{
+
+	private static final double EPSILON = 1e-9;
+
+	private BoatKinematics kinematics;
+
+	@Before
+	public void setUp()
+	{
+		kinematics = new BoatKinematics(mock(Client.class), mock(BoatTracker.class));
+	}
+
+	@Test
+	public void testRecord_constantVelocity()
+	{
+		for (int tick = 0; tick < 5; tick++)
+		{
+			kinematics.record(tick, tick * 96, tick * 128, 512);
+		}
+
+		Assert.assertEquals(160, kinematics.getSpeed(), EPSILON);
+		Assert.assertEquals(96, kinematics.getVelocityX(), EPSILON);
+		Assert.assertEquals(128, kinematics.getVelocityY(), EPSILON);
+		Assert.assertEquals(160, kinematics.getFilteredSpeed(), EPSILON);
+		Assert.assertEquals(0, kinematics.getAcceleration(), EPSILON);
+		Assert.assertEquals(0, kinematics.getTurnRate(), EPSILON);
+		Assert.assertTrue(kinematics.isMoving());
+	}
+
+	@Test
+	public void testRecord_ringBufferKeepsNewest()
+	{
+		int samples = BoatKinematics.HISTORY_SIZE + 5;
+		for (int tick = 0; tick < samples; tick++)
+		{
+			kinematics.record(tick, tick, -tick, tick);
+		}
+
+		Assert.assertEquals(BoatKinematics.HISTORY_SIZE, kinematics.getSampleCount());
+		Assert.assertEquals(samples - 1, kinematics.getX(0));
+		Assert.assertEquals(-(samples - 3), kinematics.getY(2));
+		Assert.assertEquals(samples - BoatKinematics.HISTORY_SIZE, kinematics.getHeading(BoatKinematics.HISTORY_SIZE - 1));
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void testGetX_outsideHistory()
+	{
+		kinematics.record(0, 0, 0, 0);
+		kinematics.getX(1);
+	}
+
+	@Test
+	public void testRecord_missedTickResets()
+	{
+		kinematics.record(0, 0, 0, 0);
+		kinematics.record(1, 128, 0, 0);
+		kinematics.record(5, 1024, 0, 0);
+
+		Assert.assertEquals(1, kinematics.getSampleCount());
+		Assert.assertEquals(0, kinematics.getSpeed(), EPSILON);
+		Assert.assertFalse(kinematics.isMoving());
+	}
+
+	@Test
+	public void testRecord_turnRateWrapsAround()
+	{
+		kinematics.record(0, 0, 0, 2000);
+		kinematics.record(1, 0, 0, 40);
+
+		Assert.assertEquals(88, kinematics.getTurnRate(), EPSILON);
+	}
+
+	@Test
+	public void testRecord_accelerationFollowsSpeed()
+	{
+		kinematics.record(0, 0, 0, 0);
+		kinematics.record(1, 64, 0, 0);
+		kinematics.record(2, 192, 0, 0);
+		kinematics.record(3, 384, 0, 0);
+
+		Assert.assertTrue(kinematics.getAcceleration() > 0);
+		Assert.assertEquals(192, kinematics.getSpeed(), EPSILON);
+	}
+
+	@Test
+	public void testWrapHeadingDelta()
+	{
+		Assert.assertEquals(0, BoatKinematics.wrapHeadingDelta(0));
+		Assert.assertEquals(-1024, BoatKinematics.wrapHeadingDelta(1024));
+		Assert.assertEquals(1023, BoatKinematics.wrapHeadingDelta(-1025));
+		Assert.assertEquals(-48, BoatKinematics.wrapHeadingDelta(2000));
+	}
+
+}
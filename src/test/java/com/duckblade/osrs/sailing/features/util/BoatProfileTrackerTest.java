@@ -0,0 +1,93 @@
+package com.duckblade.osrs.sailing.features.util;
+
+import com.duckblade.osrs.sailing.model.Boat;
+import com.duckblade.osrs.sailing.model.HelmTier;
+import net.runelite.api.Client;
+import net.runelite.api.GameObject;
+import net.runelite.api.events.GameTick;
+import net.runelite.api.gameval.ObjectID;
+import net.runelite.client.eventbus.EventBus;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class BoatProfileTrackerTest
+{
+
+	private final Client client = mock(Client.class);
+	private final BoatTracker boatTracker = mock(BoatTracker.class);
+	private final EventBus eventBus = mock(EventBus.class);
+
+	private BoatProfileTracker tracker;
+	private Boat boat;
+	private GameObject helm;
+
+	@Before
+	public void setUp()
+	{
+		tracker = new BoatProfileTracker(client, boatTracker, eventBus);
+
+		helm = mock(GameObject.class);
+		when(helm.getId()).thenReturn(ObjectID.SAILING_BOAT_STEERING_KANDARIN_1X3_WOOD);
+		boat = new Boat(1, null);
+		boat.setHelm(helm);
+		when(boatTracker.getBoat()).thenReturn(boat);
+	}
+
+	@Test
+	public void testOnPhasedTick_publishesOnlyOnChange()
+	{
+		tick();
+		tick();
+		tick();
+
+		verify(eventBus, times(1)).post(any(BoatProfileChanged.class));
+		Assert.assertEquals(HelmTier.BRONZE, tracker.getProfile().getHelmTier());
+	}
+
+	@Test
+	public void testOnPhasedTick_transformRepublishes()
+	{
+		tick();
+		when(helm.getId()).thenReturn(ObjectID.SAILING_BOAT_STEERING_KANDARIN_1X3_OAK);
+		tick();
+
+		verify(eventBus, times(2)).post(any(BoatProfileChanged.class));
+		Assert.assertEquals(HelmTier.IRON, tracker.getProfile().getHelmTier());
+	}
+
+	@Test
+	public void testOnPhasedTick_facilityDespawnRepublishes()
+	{
+		tick();
+		boat.setHelm(null);
+		tick();
+
+		verify(eventBus, times(2)).post(any(BoatProfileChanged.class));
+		Assert.assertNull(tracker.getProfile().getHelmTier());
+	}
+
+	@Test
+	public void testOnPhasedTick_leavingBoatPublishesNull()
+	{
+		tick();
+		when(boatTracker.getBoat()).thenReturn(null);
+		tick();
+		tick();
+
+		verify(eventBus, times(2)).post(any(BoatProfileChanged.class));
+		Assert.assertNull(tracker.getProfile());
+	}
+
+	private void tick()
+	{
+		tracker.onPhasedTick(new GameTick());
+	}
+
+}
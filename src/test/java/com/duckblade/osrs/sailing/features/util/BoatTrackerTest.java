@@ -0,0 +1,123 @@
+package com.duckblade.osrs.sailing.features.util;
+
+import com.duckblade.osrs.sailing.model.Boat;
+import com.duckblade.osrs.sailing.model.CannonTier;
+import com.duckblade.osrs.sailing.model.HelmTier;
+import net.runelite.api.Client;
+import net.runelite.api.GameObject;
+import net.runelite.api.IndexedObjectSet;
+import net.runelite.api.Player;
+import net.runelite.api.Scene;
+import net.runelite.api.Tile;
+import net.runelite.api.WorldEntity;
+import net.runelite.api.WorldEntityConfig;
+import net.runelite.api.WorldView;
+import net.runelite.api.coords.LocalPoint;
+import net.runelite.api.events.GameTick;
+import net.runelite.api.events.WorldEntityDespawned;
+import org.junit.Assert;
+import org.junit.Test;
+
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class BoatTrackerTest
+{
+
+	@Test
+	public void testScanFacilities_singlePass()
+	{
+		GameObject helm = object(HelmTier.values()[0].getGameObjectIds()[0]);
+		GameObject cannon1 = object(CannonTier.values()[0].getGameObjectIds()[0]);
+		GameObject cannon2 = object(CannonTier.values()[0].getGameObjectIds()[0]);
+		GameObject scenery = object(12345);
+
+		Tile[][][] tiles = new Tile[1][3][];
+		// the helm covers two tiles, and is referenced from both
+		tiles[0][0] = new Tile[]{tile(helm, null), tile(helm), null};
+		tiles[0][1] = new Tile[]{tile(cannon1, scenery), tile(cannon2)};
+		tiles[0][2] = null;
+
+		Scene scene = mock(Scene.class);
+		when(scene.getTiles()).thenReturn(tiles);
+
+		Boat boat = new Boat(1, null);
+		Assert.assertEquals(3, BoatTracker.scanFacilities(boat, scene));
+		Assert.assertSame(helm, boat.getHelm());
+		Assert.assertEquals(HelmTier.values()[0], boat.getHelmTier());
+		Assert.assertEquals(2, boat.getCannons().size());
+
+		// a repeat scan, or the spawn events which follow it, change nothing
+		Assert.assertEquals(0, BoatTracker.scanFacilities(boat, scene));
+		Assert.assertEquals(2, boat.getCannons().size());
+	}
+
+	@Test
+	public void testScanFacilities_unloadedScene()
+	{
+		Boat boat = new Boat(1, null);
+		Assert.assertEquals(0, BoatTracker.scanFacilities(boat, null));
+		Assert.assertEquals(0, BoatTracker.scanFacilities(boat, mock(Scene.class)));
+		Assert.assertNull(boat.getHelm());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void testOnPhasedTick_tracksUntrackedLocalBoat()
+	{
+		WorldEntityConfig config = mock(WorldEntityConfig.class);
+		when(config.getId()).thenReturn(SailingUtil.WORLD_ENTITY_TYPE_BOAT.iterator().next());
+
+		WorldView boatView = mock(WorldView.class);
+		when(boatView.getId()).thenReturn(5);
+		when(boatView.getScene()).thenReturn(mock(Scene.class));
+
+		WorldEntity we = mock(WorldEntity.class);
+		when(we.getConfig()).thenReturn(config);
+		when(we.getWorldView()).thenReturn(boatView);
+		when(we.getLocalLocation()).thenReturn(new LocalPoint(0, 0, -1));
+
+		IndexedObjectSet<WorldEntity> worldEntities = mock(IndexedObjectSet.class);
+		when(worldEntities.byIndex(5)).thenReturn(we);
+		WorldView topLevel = mock(WorldView.class);
+		doReturn(worldEntities).when(topLevel).worldEntities();
+
+		Player player = mock(Player.class);
+		when(player.getWorldView()).thenReturn(boatView);
+		Client client = mock(Client.class);
+		when(client.getLocalPlayer()).thenReturn(player);
+		when(client.getTopLevelWorldView()).thenReturn(topLevel);
+
+		// as if it had been evicted from the cache
+		BoatTracker tracker = new BoatTracker(client);
+		Assert.assertNull(tracker.getBoat());
+
+		tracker.onPhasedTick(new GameTick());
+		Boat boat = tracker.getBoat();
+		Assert.assertNotNull(boat);
+		Assert.assertSame(we, boat.getWorldEntity());
+
+		// already tracked boats are kept as is
+		tracker.onPhasedTick(new GameTick());
+		Assert.assertSame(boat, tracker.getBoat());
+
+		tracker.onWorldEntityDespawned(new WorldEntityDespawned(we));
+		Assert.assertNull(tracker.getBoat(5));
+	}
+
+	private static GameObject object(int id)
+	{
+		GameObject o = mock(GameObject.class);
+		when(o.getId()).thenReturn(id);
+		return o;
+	}
+
+	private static Tile tile(GameObject... objects)
+	{
+		Tile tile = mock(Tile.class);
+		when(tile.getGameObjects()).thenReturn(objects);
+		return tile;
+	}
+
+}
@@ -0,0 +1,160 @@
+package com.duckblade.osrs.sailing.features.util;
+
+import java.awt.Polygon;
+import java.util.HashSet;
+import java.util.Set;
+import net.runelite.api.Client;
+import net.runelite.api.Scene;
+import net.runelite.api.WorldView;
+import net.runelite.api.coords.LocalPoint;
+import net.runelite.api.events.BeforeRender;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ProjectionCacheTest
+{
+
+	private Client client;
+	private WorldView topLevel;
+	private Scene scene;
+	private ProjectionCache cache;
+
+	@Before
+	public void setUp()
+	{
+		scene = mock(Scene.class);
+		topLevel = mock(WorldView.class);
+		when(topLevel.getScene()).thenReturn(scene);
+		client = mock(Client.class);
+		when(client.getTopLevelWorldView()).thenReturn(topLevel);
+		cache = new ProjectionCache(client);
+	}
+
+	@Test
+	public void testKey_packing()
+	{
+		Assert.assertEquals(0L, ProjectionCache.key(new LocalPoint(0, 0, -1), 0, 0, 0));
+		Assert.assertEquals((1L << 38) | (2L << 18) | (3L << 10) | (4L << 2) | 1,
+			ProjectionCache.key(new LocalPoint(1, 2, -1), 3, 4, 1));
+
+		// negative coordinates stay inside their own fields
+		Assert.assertEquals(0xFFFFFL << 38, ProjectionCache.key(new LocalPoint(-1, 0, -1), 0, 0, 0));
+		Assert.assertEquals(0xFFFFFL << 18, ProjectionCache.key(new LocalPoint(0, -1, -1), 0, 0, 0));
+
+		Assert.assertEquals(3L, ProjectionCache.key(new LocalPoint(0, 0, -1), 0, 0, 3));
+	}
+
+	@Test
+	public void testKey_distinct()
+	{
+		int[] coords = {-6528, -128, -1, 0, 1, 64, 128, 13056};
+		Set<Long> keys = new HashSet<>();
+		int expected = 0;
+		for (int x : coords)
+		{
+			for (int y : coords)
+			{
+				for (int size = 1; size <= 3; size++)
+				{
+					for (int plane = 0; plane < 4; plane++)
+					{
+						keys.add(ProjectionCache.key(new LocalPoint(x, y, -1), size, size + 1, plane));
+						expected++;
+					}
+				}
+			}
+		}
+		Assert.assertEquals(expected, keys.size());
+	}
+
+	@Test
+	public void testViewVersion_stableWhileViewUnchanged()
+	{
+		int version = cache.getViewVersion();
+		Assert.assertEquals(version, cache.getViewVersion());
+		Assert.assertEquals(version, nextFrame());
+	}
+
+	@Test
+	public void testViewVersion_changesWithView()
+	{
+		int version = cache.getViewVersion();
+
+		// only checked again once per frame
+		when(client.getCameraFpYaw()).thenReturn(1.0);
+		Assert.assertEquals(version, cache.getViewVersion());
+		Assert.assertEquals(++version, nextFrame());
+
+		when(client.getCameraFpX()).thenReturn(-64.5);
+		Assert.assertEquals(++version, nextFrame());
+
+		when(client.getViewportWidth()).thenReturn(800);
+		Assert.assertEquals(++version, nextFrame());
+
+		when(scene.getBaseX()).thenReturn(3200);
+		Assert.assertEquals(++version, nextFrame());
+
+		when(topLevel.getPlane()).thenReturn(1);
+		Assert.assertEquals(++version, nextFrame());
+		Assert.assertEquals(version, nextFrame());
+
+		cache.shutDown();
+		Assert.assertEquals(++version, cache.getViewVersion());
+	}
+
+	@Test
+	public void testPolygonTable()
+	{
+		ProjectionCache.PolygonTable table = new ProjectionCache.PolygonTable();
+		Polygon a = new Polygon();
+		Polygon b = new Polygon();
+
+		long keyA = ProjectionCache.key(new LocalPoint(-128, 256, -1), 1, 1, 0);
+		long keyB = ProjectionCache.key(new LocalPoint(-128, 256, -1), 1, 1, 1);
+		Assert.assertNull(table.get(keyA));
+
+		table.put(keyA, a);
+		table.put(keyB, b);
+		Assert.assertSame(a, table.get(keyA));
+		Assert.assertSame(b, table.get(keyB));
+		Assert.assertEquals(2, table.size());
+
+		table.put(keyA, b);
+		Assert.assertSame(b, table.get(keyA));
+		Assert.assertEquals(2, table.size());
+
+		table.clear();
+		Assert.assertNull(table.get(keyA));
+		Assert.assertEquals(0, table.size());
+	}
+
+	@Test
+	public void testPolygonTable_fullToLimit()
+	{
+		// as many entries as the cache allows before clearing, with colliding low bits
+		ProjectionCache.PolygonTable table = new ProjectionCache.PolygonTable();
+		Polygon[] polygons = new Polygon[2048];
+		for (int i = 0; i < polygons.length; i++)
+		{
+			polygons[i] = new Polygon();
+			table.put(ProjectionCache.key(new LocalPoint(i * 128, 0, -1), 1, 1, 0), polygons[i]);
+		}
+
+		for (int i = 0; i < polygons.length; i++)
+		{
+			Assert.assertSame(polygons[i], table.get(ProjectionCache.key(new LocalPoint(i * 128, 0, -1), 1, 1, 0)));
+		}
+		Assert.assertNull(table.get(ProjectionCache.key(new LocalPoint(0, 128, -1), 1, 1, 0)));
+	}
+
+	private int nextFrame()
+	{
+		cache.onBeforeRender(new BeforeRender());
+		return cache.getViewVersion();
+	}
+
+}
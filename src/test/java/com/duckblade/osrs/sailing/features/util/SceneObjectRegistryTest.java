@@ -0,0 +1,168 @@
+package com.duckblade.osrs.sailing.features.util;
+
+import com.google.common.collect.ImmutableSet;
+import java.util.Set;
+import net.runelite.api.GameObject;
+import net.runelite.api.NPC;
+import net.runelite.api.WorldView;
+import net.runelite.api.events.GameObjectDespawned;
+import net.runelite.api.events.GameObjectSpawned;
+import net.runelite.api.events.NpcDespawned;
+import net.runelite.api.events.NpcSpawned;
+import net.runelite.api.events.WorldViewUnloaded;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class SceneObjectRegistryTest
+{
+
+	private SceneObjectRegistry registry;
+	private Set<GameObject> rocks;
+	private Set<GameObject> wrecks;
+
+	private WorldView topLevel;
+	private WorldView boat;
+
+	@Before
+	public void setUp()
+	{
+		registry = new SceneObjectRegistry();
+		rocks = registry.trackGameObjects(ImmutableSet.of(1, 2));
+		wrecks = registry.trackGameObjects(ImmutableSet.of(2, 3));
+		registry.trackNpcs(ImmutableSet.of(10));
+
+		topLevel = worldView(-1);
+		boat = worldView(5);
+	}
+
+	@Test
+	public void testSpawn()
+	{
+		GameObject rock = spawn(1, topLevel);
+		GameObject shared = spawn(2, topLevel);
+		GameObject wreck = spawn(3, boat);
+
+		Assert.assertEquals(ImmutableSet.of(1, 2, 3), registry.getGameObjectIds());
+		Assert.assertEquals(ImmutableSet.of(rock, shared), rocks);
+		Assert.assertEquals(ImmutableSet.of(shared, wreck), wrecks);
+		Assert.assertEquals(ImmutableSet.of(shared), registry.getGameObjects(2));
+		Assert.assertEquals(ImmutableSet.of(wreck), registry.getGameObjectsInWorldView(5));
+		Assert.assertSame(wreck, registry.findGameObject(5, ImmutableSet.of(3)));
+		Assert.assertNull(registry.findGameObject(-1, ImmutableSet.of(3)));
+	}
+
+	@Test
+	public void testDespawn()
+	{
+		GameObject rock = spawn(1, topLevel);
+		GameObject shared = spawn(2, topLevel);
+
+		despawn(shared);
+		Assert.assertEquals(ImmutableSet.of(rock), rocks);
+		Assert.assertTrue(wrecks.isEmpty());
+		Assert.assertTrue(registry.getGameObjects(2).isEmpty());
+		Assert.assertEquals(ImmutableSet.of(rock), registry.getGameObjectsInWorldView(-1));
+
+		// despawning twice, or something never spawned, is harmless
+		despawn(shared);
+		despawn(object(3, boat));
+		Assert.assertEquals(ImmutableSet.of(rock), rocks);
+	}
+
+	@Test
+	public void testWorldViewUnloaded()
+	{
+		GameObject rock = spawn(1, topLevel);
+		spawn(2, boat);
+		NPC npc = spawnNpc(10, boat);
+
+		registry.onWorldViewUnloaded(new WorldViewUnloaded(boat));
+
+		Assert.assertEquals(ImmutableSet.of(rock), rocks);
+		Assert.assertTrue(wrecks.isEmpty());
+		Assert.assertTrue(registry.getGameObjectsInWorldView(5).isEmpty());
+		Assert.assertFalse(registry.getNpcs(10).contains(npc));
+	}
+
+	@Test
+	public void testNpcs()
+	{
+		NPC tracked = spawnNpc(10, topLevel);
+		spawnNpc(11, topLevel);
+		Assert.assertEquals(ImmutableSet.of(tracked), registry.getNpcs(10));
+		Assert.assertTrue(registry.getNpcs(11).isEmpty());
+
+		registry.onNpcDespawned(new NpcDespawned(tracked));
+		Assert.assertTrue(registry.getNpcs(10).isEmpty());
+	}
+
+	@Test
+	public void testClear()
+	{
+		spawn(1, topLevel);
+		spawn(3, boat);
+		spawnNpc(10, topLevel);
+
+		registry.shutDown();
+		Assert.assertTrue(rocks.isEmpty());
+		Assert.assertTrue(wrecks.isEmpty());
+		Assert.assertTrue(registry.getGameObjects(1).isEmpty());
+		Assert.assertTrue(registry.getGameObjectsInWorldView(5).isEmpty());
+		Assert.assertTrue(registry.getNpcs(10).isEmpty());
+
+		// the handed out sets keep working afterwards
+		GameObject rock = spawn(1, topLevel);
+		Assert.assertEquals(ImmutableSet.of(rock), rocks);
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void testConsumerSetIsReadOnly()
+	{
+		rocks.clear();
+	}
+
+	private GameObject spawn(int id, WorldView wv)
+	{
+		GameObject o = object(id, wv);
+		GameObjectSpawned e = new GameObjectSpawned();
+		e.setGameObject(o);
+		registry.onGameObjectSpawned(e);
+		return o;
+	}
+
+	private void despawn(GameObject o)
+	{
+		GameObjectDespawned e = new GameObjectDespawned();
+		e.setGameObject(o);
+		registry.onGameObjectDespawned(e);
+	}
+
+	private NPC spawnNpc(int id, WorldView wv)
+	{
+		NPC npc = mock(NPC.class);
+		when(npc.getId()).thenReturn(id);
+		when(npc.getWorldView()).thenReturn(wv);
+		registry.onNpcSpawned(new NpcSpawned(npc));
+		return npc;
+	}
+
+	private static GameObject object(int id, WorldView wv)
+	{
+		GameObject o = mock(GameObject.class);
+		when(o.getId()).thenReturn(id);
+		when(o.getWorldView()).thenReturn(wv);
+		return o;
+	}
+
+	private static WorldView worldView(int id)
+	{
+		WorldView wv = mock(WorldView.class);
+		when(wv.getId()).thenReturn(id);
+		return wv;
+	}
+
+}
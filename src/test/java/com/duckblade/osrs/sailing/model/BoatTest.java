@@ -0,0 +1,132 @@
+package com.duckblade.osrs.sailing.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import net.runelite.api.GameObject;
+import net.runelite.api.gameval.ObjectID;
+import org.junit.Assert;
+import org.junit.Test;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class BoatTest
+{
+
+	@Test
+	public void testGetHelmTier_followsTransform()
+	{
+		GameObject helm = mock(GameObject.class);
+		when(helm.getId()).thenReturn(ObjectID.SAILING_BOAT_STEERING_KANDARIN_1X3_WOOD_IDLE);
+
+		Boat boat = new Boat(1, null);
+		boat.setHelm(helm);
+		Assert.assertEquals(HelmTier.BRONZE, boat.getHelmTier());
+
+		when(helm.getId()).thenReturn(ObjectID.SAILING_BOAT_STEERING_KANDARIN_1X3_OAK_IN_USE);
+		Assert.assertEquals(HelmTier.IRON, boat.getHelmTier());
+
+		when(helm.getId()).thenReturn(12345);
+		Assert.assertNull(boat.getHelmTier());
+	}
+
+	@Test
+	public void testGetHelmTier_followsRespawn()
+	{
+		GameObject bronze = mock(GameObject.class);
+		when(bronze.getId()).thenReturn(ObjectID.SAILING_BOAT_STEERING_KANDARIN_1X3_WOOD);
+		GameObject iron = mock(GameObject.class);
+		when(iron.getId()).thenReturn(ObjectID.SAILING_BOAT_STEERING_KANDARIN_1X3_OAK);
+
+		Boat boat = new Boat(1, null);
+		boat.setHelm(bronze);
+		Assert.assertEquals(HelmTier.BRONZE, boat.getHelmTier());
+
+		boat.setHelm(null);
+		Assert.assertNull(boat.getHelmTier());
+
+		boat.setHelm(iron);
+		Assert.assertEquals(HelmTier.IRON, boat.getHelmTier());
+	}
+
+	@Test
+	public void testGetSizeClass_sharesHullCache()
+	{
+		GameObject hull = mock(GameObject.class);
+		int hullId = HullTier.values()[0].getGameObjectIds()[0];
+		when(hull.getId()).thenReturn(hullId);
+
+		Boat boat = new Boat(1, null);
+		boat.setHull(hull);
+		Assert.assertEquals(SizeClass.fromGameObjectId(hullId), boat.getSizeClass());
+		Assert.assertEquals(HullTier.values()[0], boat.getHullTier());
+	}
+
+	@Test
+	public void testFishingNets_netCapacity()
+	{
+		GameObject port = mock(GameObject.class);
+		when(port.getId()).thenReturn(ObjectID.SAILING_ROPE_TRAWLING_NET_3X8_PORT);
+		GameObject starboard = mock(GameObject.class);
+		when(starboard.getId()).thenReturn(ObjectID.SAILING_HEMP_TRAWLING_NET_3X8_STARBOARD);
+
+		Boat boat = new Boat(1, null);
+		Assert.assertEquals(0, boat.getNetCapacity());
+
+		Assert.assertTrue(boat.addFishingNet(port));
+		Assert.assertFalse(boat.addFishingNet(port));
+		Assert.assertEquals(125, boat.getNetCapacity());
+
+		Assert.assertTrue(boat.addFishingNet(starboard));
+		Assert.assertEquals(250, boat.getNetCapacity());
+		Assert.assertEquals(2, boat.getFishingNets().size());
+
+		Assert.assertTrue(boat.removeFishingNet(port));
+		Assert.assertFalse(boat.removeFishingNet(port));
+		Assert.assertEquals(125, boat.getNetCapacity());
+		Assert.assertSame(starboard, boat.getFishingNets().get(0));
+		Assert.assertEquals(FishingNetTier.HEMP, boat.getFishingNets().getTier(0));
+	}
+
+	@Test
+	public void testFishingNets_netCapacityFollowsTransform()
+	{
+		GameObject net = mock(GameObject.class);
+		when(net.getId()).thenReturn(ObjectID.SAILING_ROPE_TRAWLING_NET_3X8_PORT);
+
+		Boat boat = new Boat(1, null);
+		boat.addFishingNet(net);
+		Assert.assertEquals(125, boat.getNetCapacity());
+
+		// same object, new id
+		when(net.getId()).thenReturn(12345);
+		Assert.assertEquals(0, boat.getNetCapacity());
+
+		when(net.getId()).thenReturn(ObjectID.SAILING_COTTON_TRAWLING_NET_3X8_PORT);
+		Assert.assertEquals(125, boat.getNetCapacity());
+		Assert.assertEquals(FishingNetTier.COTTON, boat.getFishingNets().getTier(0));
+	}
+
+	@Test
+	public void testForEachFacility_visitsEachOnce()
+	{
+		GameObject helm = mock(GameObject.class);
+		GameObject net = mock(GameObject.class);
+		GameObject cannon1 = mock(GameObject.class);
+		GameObject cannon2 = mock(GameObject.class);
+
+		Boat boat = new Boat(1, null);
+		boat.setHelm(helm);
+		boat.addFishingNet(net);
+		boat.addCannon(cannon1);
+		boat.addCannon(cannon2);
+
+		List<GameObject> visited = new ArrayList<>();
+		boat.forEachFacility(visited::add);
+
+		Assert.assertEquals(4, visited.size());
+		Assert.assertTrue(visited.containsAll(Arrays.asList(helm, net, cannon1, cannon2)));
+	}
+
+}
@@ -0,0 +1,93 @@
+package com.duckblade.osrs.sailing.model;
+
+import java.util.Arrays;
+import net.runelite.api.gameval.ObjectID;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class FacilityLookupTest
+{
+
+	@Test
+	public void testLookup_everyTierId()
+	{
+		for (HullTier tier : HullTier.values())
+		{
+			assertAll(FacilityKind.HULL, tier, tier.getGameObjectIds());
+		}
+		for (SailTier tier : SailTier.values())
+		{
+			assertAll(FacilityKind.SAIL, tier, tier.getGameObjectIds());
+		}
+		for (HelmTier tier : HelmTier.values())
+		{
+			assertAll(FacilityKind.HELM, tier, tier.getGameObjectIds());
+		}
+		for (SalvagingHookTier tier : SalvagingHookTier.values())
+		{
+			assertAll(FacilityKind.SALVAGING_HOOK, tier, tier.getGameObjectIds());
+		}
+		for (CargoHoldTier tier : CargoHoldTier.values())
+		{
+			assertAll(FacilityKind.CARGO_HOLD, tier, tier.getGameObjectIds());
+		}
+		for (ChumStationTier tier : ChumStationTier.values())
+		{
+			assertAll(FacilityKind.CHUM_STATION, tier, tier.getGameObjectIds());
+		}
+		for (FishingNetTier tier : FishingNetTier.values())
+		{
+			assertAll(FacilityKind.FISHING_NET, tier, tier.getGameObjectIds());
+		}
+		for (CannonTier tier : CannonTier.values())
+		{
+			assertAll(FacilityKind.CANNON, tier, tier.getGameObjectIds());
+		}
+		for (WindCatcherTier tier : WindCatcherTier.values())
+		{
+			assertAll(FacilityKind.WIND_CATCHER, tier, tier.getGameObjectIds());
+		}
+	}
+
+	@Test
+	public void testLookup_unknownIds()
+	{
+		Assert.assertNull(FacilityLookup.lookup(-1));
+		Assert.assertNull(FacilityLookup.lookup(0));
+		Assert.assertNull(FacilityLookup.lookup(12345));
+		Assert.assertNull(FacilityLookup.lookup(Integer.MAX_VALUE));
+	}
+
+	@Test
+	public void testFromGameObjectId_wrongKind()
+	{
+		Assert.assertEquals(FishingNetTier.ROPE, FishingNetTier.fromGameObjectId(ObjectID.SAILING_ROPE_TRAWLING_NET));
+		Assert.assertNull(HullTier.fromGameObjectId(ObjectID.SAILING_ROPE_TRAWLING_NET));
+		Assert.assertNull(CannonTier.fromGameObjectId(ObjectID.SAILING_ROPE_TRAWLING_NET));
+	}
+
+	@Test
+	public void testGetObjectIds_distinct()
+	{
+		int[] ids = FacilityLookup.getObjectIds();
+		Assert.assertEquals(ids.length, Arrays.stream(ids).distinct().count());
+		for (int id : ids)
+		{
+			Assert.assertNotNull(FacilityLookup.lookup(id));
+		}
+	}
+
+	private static void assertAll(FacilityKind kind, Enum<?> tier, int[] ids)
+	{
+		for (int id : ids)
+		{
+			FacilityLookup.Facility facility = FacilityLookup.lookup(id);
+			Assert.assertNotNull("no facility for " + id, facility);
+			Assert.assertEquals(kind, facility.getKind());
+			Assert.assertEquals(kind, FacilityLookup.getKind(id));
+			// a duplicated id within an enum resolves to its first tier, like the old linear scans
+			Assert.assertTrue(facility.getTier().ordinal() <= tier.ordinal());
+		}
+	}
+
+}
@@ -0,0 +1,202 @@
+package com.duckblade.osrs.sailing.module;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import lombok.Value;
+import net.runelite.api.Constants;
+import net.runelite.api.GameObject;
+import net.runelite.api.NPC;
+import net.runelite.api.Perspective;
+import net.runelite.api.Scene;
+import net.runelite.api.Tile;
+import net.runelite.api.WorldView;
+import net.runelite.api.coords.LocalPoint;
+import net.runelite.api.coords.WorldPoint;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Builds a crowded fake {@link Scene}, for checking how components scale with scene density without a client.
+ * <p>
+ * A configurable fraction of the generated game objects and NPCs use IDs from the given interesting sets,
+ * the rest use random IDs outside them. Generation is deterministic for a given seed.
+ * Objects are 1x1, on plane 0, and answer their id, worldview, local and world location and plane.
+ */
+public class BusySceneGenerator
+{
+
+	private static final int MAX_OBJECTS_PER_TILE = 5;
+	private static final int MAX_NOISE_ID = 60_000;
+
+	// arbitrary open-sea scene base
+	private static final int BASE_X = 2880;
+	private static final int BASE_Y = 2880;
+
+	private final Random random;
+	private final Set<Integer> interestingObjectIds = new HashSet<>();
+	private final Set<Integer> interestingNpcIds = new HashSet<>();
+	private double interestingFraction = 0.2;
+
+	public BusySceneGenerator(long seed)
+	{
+		this.random = new Random(seed);
+	}
+
+	public BusySceneGenerator interestingObjectIds(Collection<Integer> ids)
+	{
+		interestingObjectIds.addAll(ids);
+		return this;
+	}
+
+	public BusySceneGenerator interestingNpcIds(Collection<Integer> ids)
+	{
+		interestingNpcIds.addAll(ids);
+		return this;
+	}
+
+	public BusySceneGenerator interestingFraction(double fraction)
+	{
+		this.interestingFraction = fraction;
+		return this;
+	}
+
+	public BusyScene generate(int worldViewId, int objectCount, int npcCount)
+	{
+		int size = Constants.SCENE_SIZE;
+		if (objectCount > size * size * MAX_OBJECTS_PER_TILE)
+		{
+			throw new IllegalArgumentException("scene can't hold " + objectCount + " objects");
+		}
+
+		Scene scene = mock(Scene.class, withSettings().stubOnly());
+		WorldView wv = mock(WorldView.class, withSettings().stubOnly());
+		when(wv.getId()).thenReturn(worldViewId);
+		when(wv.isTopLevel()).thenReturn(worldViewId == -1);
+		when(wv.getScene()).thenReturn(scene);
+		when(wv.getPlane()).thenReturn(0);
+		when(scene.getBaseX()).thenReturn(BASE_X);
+		when(scene.getBaseY()).thenReturn(BASE_Y);
+
+		Integer[] objectIds = interestingObjectIds.toArray(new Integer[0]);
+		Integer[] npcIds = interestingNpcIds.toArray(new Integer[0]);
+
+		@SuppressWarnings("unchecked")
+		List<GameObject>[][] byTile = new List[size][size];
+		List<GameObject> gameObjects = new ArrayList<>(objectCount);
+		int interestingGameObjects = 0;
+		while (gameObjects.size() < objectCount)
+		{
+			int x = random.nextInt(size);
+			int y = random.nextInt(size);
+			if (byTile[x][y] == null)
+			{
+				byTile[x][y] = new ArrayList<>(MAX_OBJECTS_PER_TILE);
+			}
+			else if (byTile[x][y].size() == MAX_OBJECTS_PER_TILE)
+			{
+				continue;
+			}
+
+			boolean interesting = objectIds.length > 0 && random.nextDouble() < interestingFraction;
+			int id = interesting ? objectIds[random.nextInt(objectIds.length)] : noiseId(interestingObjectIds);
+			interestingGameObjects += interesting ? 1 : 0;
+
+			GameObject o = gameObject(id, wv, worldViewId, x, y);
+			byTile[x][y].add(o);
+			gameObjects.add(o);
+		}
+
+		Tile[][][] tiles = new Tile[Constants.MAX_Z][size][size];
+		for (int x = 0; x < size; x++)
+		{
+			for (int y = 0; y < size; y++)
+			{
+				if (byTile[x][y] != null)
+				{
+					Tile tile = mock(Tile.class, withSettings().stubOnly());
+					// the client's arrays are fixed size with empty slots
+					GameObject[] slots = byTile[x][y].toArray(new GameObject[MAX_OBJECTS_PER_TILE]);
+					when(tile.getGameObjects()).thenReturn(slots);
+					tiles[0][x][y] = tile;
+				}
+			}
+		}
+		when(scene.getTiles()).thenReturn(tiles);
+
+		List<NPC> npcs = new ArrayList<>(npcCount);
+		int interestingNpcs = 0;
+		for (int index = 0; index < npcCount; index++)
+		{
+			boolean interesting = npcIds.length > 0 && random.nextDouble() < interestingFraction;
+			int id = interesting ? npcIds[random.nextInt(npcIds.length)] : noiseId(interestingNpcIds);
+			interestingNpcs += interesting ? 1 : 0;
+			npcs.add(npc(index, id, wv, worldViewId, random.nextInt(size), random.nextInt(size)));
+		}
+
+		return new BusyScene(wv, scene, gameObjects, npcs, interestingGameObjects, interestingNpcs);
+	}
+
+	private int noiseId(Set<Integer> exclude)
+	{
+		int id;
+		do
+		{
+			id = 1 + random.nextInt(MAX_NOISE_ID);
+		}
+		while (exclude.contains(id));
+		return id;
+	}
+
+	private static GameObject gameObject(int id, WorldView wv, int worldViewId, int sceneX, int sceneY)
+	{
+		GameObject o = mock(GameObject.class, withSettings().stubOnly());
+		when(o.getId()).thenReturn(id);
+		when(o.getWorldView()).thenReturn(wv);
+		when(o.getLocalLocation()).thenReturn(localPoint(worldViewId, sceneX, sceneY));
+		when(o.getWorldLocation()).thenReturn(new WorldPoint(BASE_X + sceneX, BASE_Y + sceneY, 0));
+		when(o.getPlane()).thenReturn(0);
+		when(o.sizeX()).thenReturn(1);
+		when(o.sizeY()).thenReturn(1);
+		return o;
+	}
+
+	private static NPC npc(int index, int id, WorldView wv, int worldViewId, int sceneX, int sceneY)
+	{
+		NPC npc = mock(NPC.class, withSettings().stubOnly());
+		when(npc.getIndex()).thenReturn(index);
+		when(npc.getId()).thenReturn(id);
+		when(npc.getWorldView()).thenReturn(wv);
+		when(npc.getLocalLocation()).thenReturn(localPoint(worldViewId, sceneX, sceneY));
+		when(npc.getWorldLocation()).thenReturn(new WorldPoint(BASE_X + sceneX, BASE_Y + sceneY, 0));
+		return npc;
+	}
+
+	// takes the id rather than the mocked worldview, since it's called mid-stubbing
+	private static LocalPoint localPoint(int worldViewId, int sceneX, int sceneY)
+	{
+		int half = Perspective.LOCAL_TILE_SIZE / 2;
+		return new LocalPoint(
+			(sceneX << Perspective.LOCAL_COORD_BITS) + half,
+			(sceneY << Perspective.LOCAL_COORD_BITS) + half,
+			worldViewId
+		);
+	}
+
+	@Value
+	public static class BusyScene
+	{
+		WorldView worldView;
+		Scene scene;
+		List<GameObject> gameObjects;
+		List<NPC> npcs;
+		int interestingGameObjects;
+		int interestingNpcs;
+	}
+
+}
@@ -0,0 +1,287 @@
+package com.duckblade.osrs.sailing.module;
+
+import com.duckblade.osrs.sailing.SailingConfig;
+import com.duckblade.osrs.sailing.features.barracudatrials.LostCargoHighlighter;
+import com.duckblade.osrs.sailing.features.charting.SeaChartOverlay;
+import com.duckblade.osrs.sailing.features.charting.SeaChartTask;
+import com.duckblade.osrs.sailing.features.charting.SeaChartTaskIndex;
+import com.duckblade.osrs.sailing.features.charting.WeatherTaskTracker;
+import com.duckblade.osrs.sailing.features.courier.CourierDestinationOverlay;
+import com.duckblade.osrs.sailing.features.courier.CourierTaskTracker;
+import com.duckblade.osrs.sailing.features.navigation.RapidsOverlay;
+import com.duckblade.osrs.sailing.features.salvaging.SalvagingHighlight;
+import com.duckblade.osrs.sailing.features.trawling.ShoalTracker;
+import com.duckblade.osrs.sailing.features.util.BoatProfileTracker;
+import com.duckblade.osrs.sailing.features.util.BoatTracker;
+import com.duckblade.osrs.sailing.features.util.FrameContext;
+import com.duckblade.osrs.sailing.features.util.ProjectionCache;
+import com.duckblade.osrs.sailing.features.util.SceneObjectRegistry;
+import com.duckblade.osrs.sailing.model.Boat;
+import com.duckblade.osrs.sailing.model.FacilityLookup;
+import java.awt.Graphics2D;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.api.Client;
+import net.runelite.api.GameObject;
+import net.runelite.api.IndexedObjectSet;
+import net.runelite.api.NPC;
+import net.runelite.api.Player;
+import net.runelite.api.WorldView;
+import net.runelite.api.events.BeforeRender;
+import net.runelite.api.events.GameObjectDespawned;
+import net.runelite.api.events.GameObjectSpawned;
+import net.runelite.api.events.GameTick;
+import net.runelite.api.events.NpcDespawned;
+import net.runelite.api.events.NpcSpawned;
+import net.runelite.api.gameval.VarbitID;
+import net.runelite.client.Notifier;
+import net.runelite.client.eventbus.EventBus;
+import net.runelite.client.game.ItemManager;
+import net.runelite.client.ui.overlay.OverlayManager;
+import net.runelite.client.ui.overlay.infobox.InfoBoxManager;
+import net.runelite.client.ui.overlay.worldmap.WorldMapPointManager;
+import net.runelite.client.util.GameEventManager;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.when;
+
+/**
+ * Pushes a crowded synthetic scene (see {@link BusySceneGenerator}) through a {@link ComponentManager}'s
+ * routed spawn dispatch, the scene scan, and the render paths which can run without a client, and logs their throughput.
+ * <p>
+ * The numbers include Mockito's overhead on the fake scene, so compare them between runs rather than with the client.
+ * Object definitions aren't loaded, so overlays walk their tracked objects without projecting them
+ * through {@link net.runelite.api.Perspective}.
+ */
+@Slf4j
+public class BusySceneStressTest
+{
+
+	private static final long SEED = 0x5A11;
+	private static final int OBJECTS = 4000;
+	private static final int NPCS = 500;
+	private static final int ROUNDS = 5;
+	private static final int FRAMES_PER_ROUND = 200;
+	private static final int INVENTORY_SIZE = 28;
+
+	private final Client client = mock(Client.class);
+	private final SailingConfig config = mock(SailingConfig.class);
+	private final Graphics2D graphics = mock(Graphics2D.class);
+	private final EventBus eventBus = new EventBus();
+
+	private SceneObjectRegistry sceneObjectRegistry;
+	private SeaChartOverlay seaChartOverlay;
+	private CourierTaskTracker courierTaskTracker;
+	private CourierDestinationOverlay courierDestinationOverlay;
+	private LostCargoHighlighter lostCargoHighlighter;
+	private RapidsOverlay rapidsOverlay;
+	private Set<Integer> chartObjectIds;
+	private Set<Integer> chartNpcIds;
+
+	@Before
+	public void setUp()
+	{
+		// aboard a boat in a barracuda trial, so the scoped overlays start
+		WorldView boatView = mock(WorldView.class);
+		when(boatView.getId()).thenReturn(1);
+		when(boatView.isTopLevel()).thenReturn(false);
+		Player player = mock(Player.class);
+		when(player.getWorldView()).thenReturn(boatView);
+		when(client.getLocalPlayer()).thenReturn(player);
+		when(client.getVarbitValue(VarbitID.SAILING_BT_IN_TRIAL)).thenReturn(1);
+		WorldView topLevel = mock(WorldView.class);
+		doReturn(mock(IndexedObjectSet.class)).when(topLevel).worldEntities();
+		when(client.getTopLevelWorldView()).thenReturn(topLevel);
+
+		// every chart starts incomplete, so charted-only mode walks every tracked chart and hides it
+		when(config.showCharts()).thenReturn(SailingConfig.ShowChartsMode.CHARTED);
+		when(config.highlightRapids()).thenReturn(true);
+		when(config.barracudaHighlightLostCrates()).thenReturn(true);
+		ConfigSnapshotTracker configSnapshotTracker = new ConfigSnapshotTracker(config);
+
+		BoatTracker boatTracker = new BoatTracker(client);
+		sceneObjectRegistry = new SceneObjectRegistry();
+		FrameContext frameContext = new FrameContext(client, boatTracker);
+		// constructed for the ids it registers with the scene object registry
+		new SalvagingHighlight(client, sceneObjectRegistry, frameContext, mock(ProjectionCache.class));
+		lostCargoHighlighter = new LostCargoHighlighter(client, sceneObjectRegistry);
+		rapidsOverlay = new RapidsOverlay(client, configSnapshotTracker, frameContext, sceneObjectRegistry, mock(BoatProfileTracker.class));
+
+		// quest requirements need a live client
+		SeaChartTaskIndex taskIndex = spy(new SeaChartTaskIndex());
+		doReturn(false).when(taskIndex).hasTaskRequirement(any());
+		taskIndex.startUp();
+		WeatherTaskTracker weatherTaskTracker = new WeatherTaskTracker(client, mock(ItemManager.class), mock(WorldMapPointManager.class), taskIndex, mock(BoatTracker.class));
+		seaChartOverlay = new SeaChartOverlay(client, mock(ItemManager.class), configSnapshotTracker, taskIndex, weatherTaskTracker);
+
+		courierTaskTracker = new CourierTaskTracker(client);
+		courierDestinationOverlay = new CourierDestinationOverlay(courierTaskTracker);
+
+		ShoalTracker shoalTracker = new ShoalTracker(client, mock(Notifier.class), config, boatTracker);
+
+		Set<PluginLifecycleComponent> components = new LinkedHashSet<>(Arrays.asList(
+			boatTracker, sceneObjectRegistry, seaChartOverlay, courierTaskTracker, shoalTracker, lostCargoHighlighter, rapidsOverlay
+		));
+		ComponentManager componentManager = new ComponentManager(
+			client, eventBus, mock(OverlayManager.class), mock(InfoBoxManager.class), mock(GameEventManager.class), config, components, new ComponentProfiler()
+		);
+		componentManager.onPluginStart();
+		// scopes are first checked on a tick
+		componentManager.onGameTick(new GameTick());
+		frameContext.onBeforeRender(new BeforeRender());
+
+		// charts sharing an id are told apart by location, which the synthetic scene doesn't match
+		chartObjectIds = uniqueIds(SeaChartTask::getObjectId);
+		chartNpcIds = uniqueIds(SeaChartTask::getNpcId);
+	}
+
+	@Test
+	public void testBusyScene()
+	{
+		Set<Integer> interestingObjectIds = new HashSet<>();
+		interestingObjectIds.addAll(sceneObjectRegistry.getGameObjectIds());
+		interestingObjectIds.addAll(chartObjectIds);
+		interestingObjectIds.addAll(courierTaskTracker.getGameObjectIds());
+		interestingObjectIds.addAll(IntStream.of(FacilityLookup.getObjectIds()).boxed().collect(Collectors.toSet()));
+
+		BusySceneGenerator.BusyScene scene = new BusySceneGenerator(SEED)
+			.interestingObjectIds(interestingObjectIds)
+			.interestingNpcIds(chartNpcIds)
+			.interestingFraction(0.25)
+			.generate(-1, OBJECTS, NPCS);
+
+		long registryTracked = scene.getGameObjects().stream()
+			.filter(o -> sceneObjectRegistry.getGameObjectIds().contains(o.getId()))
+			.count();
+
+		long spawnNanos = 0;
+		long renderNanos = 0;
+		long despawnNanos = 0;
+		for (int round = 0; round < ROUNDS; round++)
+		{
+			long start = System.nanoTime();
+			spawnAll(scene);
+			spawnNanos += System.nanoTime() - start;
+
+			Assert.assertEquals(registryTracked, countRegistered(scene));
+
+			start = System.nanoTime();
+			for (int frame = 0; frame < FRAMES_PER_ROUND; frame++)
+			{
+				seaChartOverlay.render(graphics);
+				lostCargoHighlighter.render(graphics);
+				rapidsOverlay.render(graphics);
+				for (int slot = 0; slot < INVENTORY_SIZE; slot++)
+				{
+					courierDestinationOverlay.renderItemOverlay(graphics, 1000 + slot, null);
+				}
+			}
+			renderNanos += System.nanoTime() - start;
+
+			start = System.nanoTime();
+			despawnAll(scene);
+			despawnNanos += System.nanoTime() - start;
+
+			Assert.assertEquals(0, countRegistered(scene));
+		}
+
+		int events = ROUNDS * (scene.getGameObjects().size() + scene.getNpcs().size());
+		report("spawn", events, spawnNanos);
+		report("despawn", events, despawnNanos);
+		report("render frame", ROUNDS * FRAMES_PER_ROUND, renderNanos);
+	}
+
+	@Test
+	public void testBusyBoatSceneScan()
+	{
+		BusySceneGenerator.BusyScene scene = new BusySceneGenerator(SEED)
+			.interestingObjectIds(IntStream.of(FacilityLookup.getObjectIds()).boxed().collect(Collectors.toSet()))
+			.interestingFraction(0.05)
+			.generate(1, OBJECTS, 0);
+
+		long start = System.nanoTime();
+		int scans = ROUNDS * 10;
+		for (int i = 0; i < scans; i++)
+		{
+			Boat boat = new Boat(1, null);
+			int found = BoatTracker.scanFacilities(boat, scene.getScene());
+			Assert.assertTrue(found > 0);
+		}
+		report("boat scene scan (" + OBJECTS + " objects)", scans, System.nanoTime() - start);
+	}
+
+	private void spawnAll(BusySceneGenerator.BusyScene scene)
+	{
+		// game objects are routed by the ComponentManager, npcs go straight to their subscribers
+		for (GameObject o : scene.getGameObjects())
+		{
+			GameObjectSpawned e = new GameObjectSpawned();
+			e.setGameObject(o);
+			eventBus.post(e);
+		}
+
+		for (NPC npc : scene.getNpcs())
+		{
+			eventBus.post(new NpcSpawned(npc));
+		}
+	}
+
+	private void despawnAll(BusySceneGenerator.BusyScene scene)
+	{
+		for (GameObject o : scene.getGameObjects())
+		{
+			GameObjectDespawned e = new GameObjectDespawned();
+			e.setGameObject(o);
+			eventBus.post(e);
+		}
+
+		for (NPC npc : scene.getNpcs())
+		{
+			eventBus.post(new NpcDespawned(npc));
+		}
+	}
+
+	private long countRegistered(BusySceneGenerator.BusyScene scene)
+	{
+		return sceneObjectRegistry.getGameObjectsInWorldView(scene.getWorldView().getId()).size();
+	}
+
+	private static Set<Integer> uniqueIds(ToIntFunction<SeaChartTask> id)
+	{
+		Map<Integer, Integer> counts = new HashMap<>();
+		for (SeaChartTask task : SeaChartTask.values())
+		{
+			int value = id.applyAsInt(task);
+			if (value != -1)
+			{
+				counts.merge(value, 1, Integer::sum);
+			}
+		}
+
+		return counts.entrySet().stream()
+			.filter(e -> e.getValue() == 1)
+			.map(Map.Entry::getKey)
+			.collect(Collectors.toSet());
+	}
+
+	private static void report(String name, int operations, long nanos)
+	{
+		double millis = nanos / 1_000_000.0;
+		log.info("{}: {} in {} ms, {} per second", name, operations, String.format("%.1f", millis), String.format("%.0f", operations / (millis / 1000.0)));
+	}
+
+}
@@ -0,0 +1,40 @@
+package com.duckblade.osrs.sailing.module;
+
+import java.util.List;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ComponentProfilerTest
+{
+
+	private static class TestComponent implements PluginLifecycleComponent
+	{
+	}
+
+	@Test
+	public void testReset_keepsRegisteredTimings()
+	{
+		ComponentProfiler profiler = new ComponentProfiler();
+		TestComponent component = new TestComponent();
+
+		// captured once, as the profiled subscribers and overlays do when they register
+		ComponentProfiler.ComponentTimings timings = profiler.timingsFor(component);
+		timings.events.record(100);
+		timings.render.record(200);
+		Assert.assertEquals(300, profiler.report().get(0).getTotalNanos());
+
+		profiler.reset();
+		Assert.assertTrue(profiler.report().isEmpty());
+		Assert.assertSame(timings, profiler.timingsFor(component));
+
+		timings.events.record(10);
+		timings.render.record(20);
+		List<ComponentProfiler.Entry> entries = profiler.report();
+		Assert.assertEquals(1, entries.size());
+		Assert.assertEquals(1, entries.get(0).getEvents().getCount());
+		Assert.assertEquals(10, entries.get(0).getEvents().getMaxNanos());
+		Assert.assertEquals(1, entries.get(0).getRender().getCount());
+		Assert.assertEquals(30, entries.get(0).getTotalNanos());
+	}
+
+}
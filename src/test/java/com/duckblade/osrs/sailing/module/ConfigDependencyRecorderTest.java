@@ -0,0 +1,61 @@
+package com.duckblade.osrs.sailing.module;
+
+import com.duckblade.osrs.sailing.SailingConfig;
+import com.google.common.collect.ImmutableSet;
+import java.util.HashSet;
+import java.util.Set;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+public class ConfigDependencyRecorderTest
+{
+
+	@Test
+	public void testEvaluate_recordsKeyNamesOfReadItems()
+	{
+		SailingConfig config = Mockito.mock(SailingConfig.class);
+		Mockito.when(config.highlightRapids()).thenReturn(true);
+		ConfigDependencyRecorder recorder = new ConfigDependencyRecorder(config);
+
+		PluginLifecycleComponent component = new PluginLifecycleComponent()
+		{
+			@Override
+			public boolean isEnabled(SailingConfig config)
+			{
+				config.safeRapidsColor();
+				return config.highlightRapids();
+			}
+		};
+
+		Set<String> dependencies = new HashSet<>();
+		Assert.assertTrue(recorder.evaluate(component, dependencies));
+		// method name and key name differ for this item
+		Assert.assertEquals(ImmutableSet.of("highlightRapids", "safeRapidsColour"), dependencies);
+	}
+
+	@Test
+	public void testEvaluate_onlyRecordsDuringEvaluation()
+	{
+		SailingConfig config = Mockito.mock(SailingConfig.class);
+		ConfigDependencyRecorder recorder = new ConfigDependencyRecorder(config);
+
+		SailingConfig[] leaked = new SailingConfig[1];
+		PluginLifecycleComponent component = new PluginLifecycleComponent()
+		{
+			@Override
+			public boolean isEnabled(SailingConfig config)
+			{
+				leaked[0] = config;
+				return config.highlightRapids();
+			}
+		};
+
+		Set<String> dependencies = new HashSet<>();
+		Assert.assertFalse(recorder.evaluate(component, dependencies));
+
+		leaked[0].highlightLightningCloudStrikes();
+		Assert.assertEquals(ImmutableSet.of("highlightRapids"), dependencies);
+	}
+
+}
@@ -0,0 +1,174 @@
+package com.duckblade.osrs.sailing.module;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+import net.runelite.api.ChatMessageType;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class EventLogTest
+{
+
+	@Test
+	public void testRoundTrip()
+	{
+		List<String> read = new ArrayList<>();
+		EventLog.Visitor visitor = new EventLog.Visitor()
+		{
+			@Override
+			public void onTick(int tick, int playerWorldViewId, int playerX, int playerY)
+			{
+				read.add("tick " + tick + " " + playerWorldViewId + " " + playerX + " " + playerY);
+			}
+
+			@Override
+			public void onGameObjectSpawned(int id, int worldViewId, int x, int y, int plane)
+			{
+				read.add("object+ " + id + " " + worldViewId + " " + x + " " + y + " " + plane);
+			}
+
+			@Override
+			public void onGameObjectDespawned(int id, int worldViewId, int x, int y, int plane)
+			{
+				read.add("object- " + id + " " + worldViewId + " " + x + " " + y + " " + plane);
+			}
+
+			@Override
+			public void onNpcSpawned(int index, int id, int worldViewId, int x, int y)
+			{
+				read.add("npc+ " + index + " " + id + " " + worldViewId + " " + x + " " + y);
+			}
+
+			@Override
+			public void onNpcAnimation(int index, int animation)
+			{
+				read.add("anim " + index + " " + animation);
+			}
+
+			@Override
+			public void onVarbitChanged(int varpId, int varbitId, int value)
+			{
+				read.add("varbit " + varpId + " " + varbitId + " " + value);
+			}
+
+			@Override
+			public void onChatMessage(ChatMessageType type, String name, String message)
+			{
+				read.add("chat " + type + " " + name + " " + message);
+			}
+
+			@Override
+			public void onItemContainerChanged(int containerId, int[] itemIds, int[] quantities)
+			{
+				read.add("items " + containerId + " " + Arrays.toString(itemIds) + " " + Arrays.toString(quantities));
+			}
+
+			@Override
+			public void onWorldEntitySpawned(int worldViewId, int configId, int x, int y, int orientation)
+			{
+				read.add("entity+ " + worldViewId + " " + configId + " " + x + " " + y + " " + orientation);
+			}
+
+			@Override
+			public void onWorldEntityMoved(int worldViewId, int x, int y, int orientation)
+			{
+				read.add("entity> " + worldViewId + " " + x + " " + y + " " + orientation);
+			}
+
+			@Override
+			public void onWorldEntityDespawned(int worldViewId)
+			{
+				read.add("entity- " + worldViewId);
+			}
+
+			@Override
+			public void onSceneBase(int baseX, int baseY)
+			{
+				read.add("base " + baseX + " " + baseY);
+			}
+		};
+
+		byte[] log = write(writer ->
+		{
+			writer.writeTick(100, 3, 640, -128);
+			writer.writeGameObject(true, 59732, -1, 1024, 2048, 1);
+			writer.writeGameObject(false, 59732, -1, 1024, 2048, 1);
+			writer.writeNpc(true, 7, 15016, -1, 64, 64);
+			writer.writeNpcAnimation(7, 13387);
+			writer.writeVarbitChanged(4000, 19208, 3);
+			writer.writeChatMessage(ChatMessageType.GAMEMESSAGE, null, "You catch a fish.");
+			writer.writeItemContainerChanged(33733, new int[]{1, 2}, new int[]{10, 20});
+			writer.writeWorldEntitySpawned(3, 4, 6400, 6464, 1536);
+			writer.writeWorldEntityMoved(3, 6528, 6464, 1024);
+			writer.writeWorldEntityDespawned(3);
+			writer.writeSceneBase(2944, 3136);
+		});
+
+		int records = replay(log, visitor);
+
+		Assert.assertEquals(12, records);
+		Assert.assertEquals(Arrays.asList(
+			"tick 100 3 640 -128",
+			"object+ 59732 -1 1024 2048 1",
+			"object- 59732 -1 1024 2048 1",
+			"npc+ 7 15016 -1 64 64",
+			"anim 7 13387",
+			"varbit 4000 19208 3",
+			"chat GAMEMESSAGE  You catch a fish.",
+			"items 33733 [1, 2] [10, 20]",
+			"entity+ 3 4 6400 6464 1536",
+			"entity> 3 6528 6464 1024",
+			"entity- 3",
+			"base 2944 3136"
+		), read);
+	}
+
+	@Test(expected = IOException.class)
+	public void testRead_rejectsForeignData() throws IOException
+	{
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (GZIPOutputStream out = new GZIPOutputStream(bytes))
+		{
+			out.write(new byte[]{1, 2, 3, 4, 5, 6, 7, 8});
+		}
+
+		new EventLogReader(new ByteArrayInputStream(bytes.toByteArray()));
+	}
+
+	interface WriteAction
+	{
+		void write(EventLogWriter writer) throws IOException;
+	}
+
+	static byte[] write(WriteAction action)
+	{
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (EventLogWriter writer = new EventLogWriter(bytes))
+		{
+			action.write(writer);
+		}
+		catch (IOException e)
+		{
+			throw new AssertionError(e);
+		}
+		return bytes.toByteArray();
+	}
+
+	private static int replay(byte[] log, EventLog.Visitor visitor)
+	{
+		try (EventLogReader reader = new EventLogReader(new ByteArrayInputStream(log)))
+		{
+			return reader.readAll(visitor);
+		}
+		catch (IOException e)
+		{
+			throw new AssertionError(e);
+		}
+	}
+
+}
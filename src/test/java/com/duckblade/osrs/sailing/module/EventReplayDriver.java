@@ -0,0 +1,316 @@
+package com.duckblade.osrs.sailing.module;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.Getter;
+import net.runelite.api.ChatMessageType;
+import net.runelite.api.Client;
+import net.runelite.api.GameObject;
+import net.runelite.api.IndexedObjectSet;
+import net.runelite.api.Item;
+import net.runelite.api.ItemContainer;
+import net.runelite.api.NPC;
+import net.runelite.api.Player;
+import net.runelite.api.Scene;
+import net.runelite.api.WorldEntity;
+import net.runelite.api.WorldEntityConfig;
+import net.runelite.api.WorldView;
+import net.runelite.api.coords.LocalPoint;
+import net.runelite.api.events.AnimationChanged;
+import net.runelite.api.events.ChatMessage;
+import net.runelite.api.events.GameObjectDespawned;
+import net.runelite.api.events.GameObjectSpawned;
+import net.runelite.api.events.GameTick;
+import net.runelite.api.events.ItemContainerChanged;
+import net.runelite.api.events.NpcDespawned;
+import net.runelite.api.events.NpcSpawned;
+import net.runelite.api.events.VarbitChanged;
+import net.runelite.api.events.WorldEntityDespawned;
+import net.runelite.api.events.WorldEntitySpawned;
+import net.runelite.client.eventbus.EventBus;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Feeds a recorded {@link EventLog} through an {@link EventBus} as fast as possible,
+ * backed by a mocked {@link Client} which answers from the replayed state.
+ * <p>
+ * Register the components under test (or a {@link ComponentManager}) on the EventBus before replaying.
+ * The same mock instance is used for a game object/NPC/world entity from spawn to despawn,
+ * so identity comparisons in components behave as they do in game.
+ * <p>
+ * Every worldview has an empty scene. The top level scene is based at the last recorded scene base
+ * and its world entities are the ones currently spawned. Logs don't record where on its boat the player stands,
+ * so a player on a boat is placed at the boat's own location in the top level worldview.
+ */
+public class EventReplayDriver
+	implements EventLog.Visitor
+{
+
+	@Getter
+	private final Client client = mock(Client.class);
+	private final EventBus eventBus;
+
+	private final Map<Integer, Integer> varbits = new HashMap<>();
+	private final Map<Integer, ItemContainer> itemContainers = new HashMap<>();
+	private final Map<Integer, WorldView> worldViews = new HashMap<>();
+	private final Map<List<Integer>, GameObject> gameObjects = new HashMap<>();
+	private final Map<Integer, NPC> npcs = new HashMap<>();
+	private final Map<Integer, Integer> npcAnimations = new HashMap<>();
+	private final Map<Integer, WorldEntity> worldEntities = new HashMap<>();
+	private final Map<Integer, int[]> worldEntityPositions = new HashMap<>();
+
+	@Getter
+	private int tick;
+	@Getter
+	private int ticksReplayed;
+	private int playerWorldViewId = -1;
+	private LocalPoint playerLocation = new LocalPoint(0, 0, -1);
+	private int sceneBaseX;
+	private int sceneBaseY;
+
+	public EventReplayDriver(EventBus eventBus)
+	{
+		this.eventBus = eventBus;
+		WorldView topLevel = worldView(-1);
+
+		Player player = mock(Player.class);
+		when(player.getWorldView()).thenAnswer(inv -> worldView(playerWorldViewId));
+		when(player.getLocalLocation()).thenAnswer(inv -> playerLocation);
+
+		when(client.getLocalPlayer()).thenReturn(player);
+		when(client.getTickCount()).thenAnswer(inv -> tick);
+		when(client.getTopLevelWorldView()).thenReturn(topLevel);
+		when(client.getWorldView(anyInt())).thenAnswer(inv -> worldView((int) inv.getArgument(0)));
+		when(client.getVarbitValue(anyInt())).thenAnswer(inv -> varbits.getOrDefault((int) inv.getArgument(0), 0));
+		when(client.getItemContainer(anyInt())).thenAnswer(inv -> itemContainers.get((int) inv.getArgument(0)));
+	}
+
+	/**
+	 * Replays every record in the log.
+	 *
+	 * @return the number of records replayed
+	 */
+	public int replay(InputStream in) throws IOException
+	{
+		try (EventLogReader reader = new EventLogReader(in))
+		{
+			return reader.readAll(this);
+		}
+	}
+
+	@Override
+	public void onTick(int tick, int playerWorldViewId, int playerX, int playerY)
+	{
+		this.tick = tick;
+		this.playerWorldViewId = playerWorldViewId;
+		this.playerLocation = new LocalPoint(playerX, playerY, playerWorldViewId);
+		ticksReplayed++;
+		eventBus.post(new GameTick());
+	}
+
+	@Override
+	public void onGameObjectSpawned(int id, int worldViewId, int x, int y, int plane)
+	{
+		GameObject o = mock(GameObject.class);
+		WorldView wv = worldView(worldViewId);
+		when(o.getId()).thenReturn(id);
+		when(o.getWorldView()).thenReturn(wv);
+		when(o.getLocalLocation()).thenReturn(new LocalPoint(x, y, worldViewId));
+		when(o.getPlane()).thenReturn(plane);
+		gameObjects.put(Arrays.asList(id, worldViewId, x, y, plane), o);
+
+		GameObjectSpawned e = new GameObjectSpawned();
+		e.setGameObject(o);
+		eventBus.post(e);
+	}
+
+	@Override
+	public void onGameObjectDespawned(int id, int worldViewId, int x, int y, int plane)
+	{
+		GameObject o = gameObjects.remove(Arrays.asList(id, worldViewId, x, y, plane));
+		if (o == null)
+		{
+			// spawned before the recording started
+			return;
+		}
+
+		GameObjectDespawned e = new GameObjectDespawned();
+		e.setGameObject(o);
+		eventBus.post(e);
+	}
+
+	@Override
+	public void onNpcSpawned(int index, int id, int worldViewId, int x, int y)
+	{
+		NPC npc = mock(NPC.class);
+		WorldView wv = worldView(worldViewId);
+		when(npc.getIndex()).thenReturn(index);
+		when(npc.getId()).thenReturn(id);
+		when(npc.getWorldView()).thenReturn(wv);
+		when(npc.getLocalLocation()).thenReturn(new LocalPoint(x, y, worldViewId));
+		when(npc.getAnimation()).thenAnswer(inv -> npcAnimations.getOrDefault(index, -1));
+		when(npc.getHealthRatio()).thenReturn(-1);
+		npcs.put(index, npc);
+
+		eventBus.post(new NpcSpawned(npc));
+	}
+
+	@Override
+	public void onNpcDespawned(int index, int id, int worldViewId, int x, int y)
+	{
+		NPC npc = npcs.remove(index);
+		npcAnimations.remove(index);
+		if (npc != null)
+		{
+			eventBus.post(new NpcDespawned(npc));
+		}
+	}
+
+	@Override
+	public void onNpcAnimation(int index, int animation)
+	{
+		NPC npc = npcs.get(index);
+		if (npc == null)
+		{
+			return;
+		}
+
+		npcAnimations.put(index, animation);
+		AnimationChanged e = new AnimationChanged();
+		e.setActor(npc);
+		eventBus.post(e);
+	}
+
+	@Override
+	public void onVarbitChanged(int varpId, int varbitId, int value)
+	{
+		if (varbitId != -1)
+		{
+			varbits.put(varbitId, value);
+		}
+
+		VarbitChanged e = new VarbitChanged();
+		e.setVarpId(varpId);
+		e.setVarbitId(varbitId);
+		e.setValue(value);
+		eventBus.post(e);
+	}
+
+	@Override
+	public void onChatMessage(ChatMessageType type, String name, String message)
+	{
+		eventBus.post(new ChatMessage(null, type, name, message, null, 0));
+	}
+
+	@Override
+	public void onItemContainerChanged(int containerId, int[] itemIds, int[] quantities)
+	{
+		Item[] items = new Item[itemIds.length];
+		for (int i = 0; i < items.length; i++)
+		{
+			items[i] = new Item(itemIds[i], quantities[i]);
+		}
+
+		ItemContainer container = mock(ItemContainer.class);
+		when(container.getId()).thenReturn(containerId);
+		when(container.getItems()).thenReturn(items);
+		itemContainers.put(containerId, container);
+
+		eventBus.post(new ItemContainerChanged(containerId, container));
+	}
+
+	@Override
+	public void onWorldEntitySpawned(int worldViewId, int configId, int x, int y, int orientation)
+	{
+		int[] position = new int[]{x, y, orientation};
+		worldEntityPositions.put(worldViewId, position);
+
+		WorldEntityConfig config = mock(WorldEntityConfig.class);
+		when(config.getId()).thenReturn(configId);
+
+		WorldEntity we = mock(WorldEntity.class);
+		WorldView wv = worldView(worldViewId);
+		when(we.getWorldView()).thenReturn(wv);
+		when(we.getConfig()).thenReturn(config);
+		when(we.getLocalLocation()).thenAnswer(inv -> new LocalPoint(position[0], position[1], -1));
+		when(we.getTargetLocation()).thenAnswer(inv -> new LocalPoint(position[0], position[1], -1));
+		when(we.getCameraFocus()).thenAnswer(inv -> new LocalPoint(position[0], position[1], -1));
+		when(we.getOrientation()).thenAnswer(inv -> position[2]);
+		when(we.getTargetOrientation()).thenAnswer(inv -> position[2]);
+		when(we.transformToMainWorld(any(LocalPoint.class))).thenAnswer(inv -> new LocalPoint(position[0], position[1], -1));
+		worldEntities.put(worldViewId, we);
+
+		eventBus.post(new WorldEntitySpawned(we));
+	}
+
+	@Override
+	public void onWorldEntityMoved(int worldViewId, int x, int y, int orientation)
+	{
+		int[] position = worldEntityPositions.get(worldViewId);
+		if (position != null)
+		{
+			position[0] = x;
+			position[1] = y;
+			position[2] = orientation;
+		}
+	}
+
+	@Override
+	public void onWorldEntityDespawned(int worldViewId)
+	{
+		worldEntityPositions.remove(worldViewId);
+		WorldEntity we = worldEntities.remove(worldViewId);
+		if (we != null)
+		{
+			eventBus.post(new WorldEntityDespawned(we));
+		}
+	}
+
+	@Override
+	public void onSceneBase(int baseX, int baseY)
+	{
+		sceneBaseX = baseX;
+		sceneBaseY = baseY;
+	}
+
+	private WorldView worldView(int id)
+	{
+		return worldViews.computeIfAbsent(id, k ->
+		{
+			Scene scene = mock(Scene.class);
+			WorldView wv = mock(WorldView.class);
+			when(wv.getId()).thenReturn(k);
+			when(wv.isTopLevel()).thenReturn(k == -1);
+			when(wv.getScene()).thenReturn(scene);
+			if (k == -1)
+			{
+				doReturn(worldEntitySet()).when(wv).worldEntities();
+				when(scene.getBaseX()).thenAnswer(inv -> sceneBaseX);
+				when(scene.getBaseY()).thenAnswer(inv -> sceneBaseY);
+				when(wv.getBaseX()).thenAnswer(inv -> sceneBaseX);
+				when(wv.getBaseY()).thenAnswer(inv -> sceneBaseY);
+			}
+			return wv;
+		});
+	}
+
+	@SuppressWarnings("unchecked")
+	private IndexedObjectSet<WorldEntity> worldEntitySet()
+	{
+		IndexedObjectSet<WorldEntity> set = mock(IndexedObjectSet.class);
+		when(set.byIndex(anyInt())).thenAnswer(inv -> worldEntities.get((int) inv.getArgument(0)));
+		when(set.iterator()).thenAnswer(inv -> worldEntities.values().iterator());
+		when(set.stream()).thenAnswer(inv -> worldEntities.values().stream());
+		return set;
+	}
+
+}
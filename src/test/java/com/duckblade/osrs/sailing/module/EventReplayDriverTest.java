@@ -0,0 +1,180 @@
+package com.duckblade.osrs.sailing.module;
+
+import com.duckblade.osrs.sailing.SailingConfig;
+import com.duckblade.osrs.sailing.features.trawling.FishingAreaContext;
+import com.duckblade.osrs.sailing.features.trawling.FishingAreaEntered;
+import com.duckblade.osrs.sailing.features.trawling.NetDepthTracker;
+import com.duckblade.osrs.sailing.features.trawling.ShoalFishingArea;
+import com.duckblade.osrs.sailing.features.util.SailingUtil;
+import com.duckblade.osrs.sailing.model.ShoalDepth;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import net.runelite.api.Client;
+import net.runelite.api.GameObject;
+import net.runelite.api.coords.WorldArea;
+import net.runelite.api.coords.WorldPoint;
+import net.runelite.api.events.GameObjectDespawned;
+import net.runelite.api.events.GameObjectSpawned;
+import net.runelite.api.events.GameTick;
+import net.runelite.client.eventbus.EventBus;
+import net.runelite.client.eventbus.Subscribe;
+import net.runelite.client.ui.overlay.OverlayManager;
+import net.runelite.client.ui.overlay.infobox.InfoBoxManager;
+import net.runelite.client.util.GameEventManager;
+import org.junit.Assert;
+import org.junit.Test;
+
+import static org.mockito.Mockito.mock;
+
+public class EventReplayDriverTest
+{
+
+	private static final int TRAWLING_NET_PORT_VARBIT = 19208;
+
+	@Test
+	public void testReplay_varbitsVisibleToComponents() throws IOException
+	{
+		byte[] log = EventLogTest.write(writer ->
+		{
+			writer.writeVarbitChanged(-1, TRAWLING_NET_PORT_VARBIT, 3);
+			writer.writeTick(1, -1, 0, 0);
+		});
+
+		EventBus eventBus = new EventBus();
+		EventReplayDriver driver = new EventReplayDriver(eventBus);
+		NetDepthTracker tracker = new NetDepthTracker(driver.getClient());
+		eventBus.register(tracker);
+
+		int records = driver.replay(new ByteArrayInputStream(log));
+
+		Assert.assertEquals(2, records);
+		Assert.assertEquals(1, driver.getTicksReplayed());
+		Assert.assertEquals(ShoalDepth.DEEP, tracker.getPortNetDepth());
+	}
+
+	@Test
+	public void testReplay_gameObjectIdentityPreserved() throws IOException
+	{
+		byte[] log = EventLogTest.write(writer ->
+		{
+			writer.writeGameObject(true, 59732, -1, 1024, 2048, 0);
+			writer.writeTick(1, -1, 0, 0);
+			writer.writeGameObject(false, 59732, -1, 1024, 2048, 0);
+		});
+
+		List<GameObject> spawned = new ArrayList<>();
+		List<GameObject> despawned = new ArrayList<>();
+		EventBus eventBus = new EventBus();
+		eventBus.register(new Object()
+		{
+			@Subscribe
+			public void onGameObjectSpawned(GameObjectSpawned e)
+			{
+				spawned.add(e.getGameObject());
+			}
+
+			@Subscribe
+			public void onGameObjectDespawned(GameObjectDespawned e)
+			{
+				despawned.add(e.getGameObject());
+			}
+		});
+
+		new EventReplayDriver(eventBus).replay(new ByteArrayInputStream(log));
+
+		Assert.assertEquals(1, spawned.size());
+		Assert.assertEquals(1, despawned.size());
+		Assert.assertSame(spawned.get(0), despawned.get(0));
+		Assert.assertEquals(59732, spawned.get(0).getId());
+	}
+
+	@Test
+	public void testReplay_playerOnBoat() throws IOException
+	{
+		// the boat's worldview is 3, and it moves one tile east between ticks, from 3000, 3200 to 3001, 3200
+		byte[] log = EventLogTest.write(writer ->
+		{
+			writer.writeSceneBase(2944, 3136);
+			writer.writeWorldEntitySpawned(3, 4, 56 << 7, 64 << 7, 0);
+			writer.writeTick(1, 3, 640, 640);
+			writer.writeWorldEntityMoved(3, 57 << 7, 64 << 7, 0);
+			writer.writeTick(2, 3, 640, 640);
+		});
+
+		EventBus eventBus = new EventBus();
+		EventReplayDriver driver = new EventReplayDriver(eventBus);
+		Client client = driver.getClient();
+		ActivationScope scope = ActivationScope.inAreas(new WorldArea(3001, 3200, 1, 1, 0));
+
+		// the EventBus logs and swallows subscriber exceptions, so failures show up as missing entries
+		List<WorldPoint> locations = new ArrayList<>();
+		List<Boolean> inScope = new ArrayList<>();
+		eventBus.register(new Object()
+		{
+			@Subscribe
+			public void onGameTick(GameTick e)
+			{
+				if (SailingUtil.isSailing(client))
+				{
+					locations.add(SailingUtil.getTopLevelWorldPoint(client));
+					inScope.add(scope.isActive(client));
+				}
+			}
+		});
+
+		driver.replay(new ByteArrayInputStream(log));
+
+		Assert.assertEquals(2, driver.getTicksReplayed());
+		Assert.assertEquals(List.of(new WorldPoint(3000, 3200, 0), new WorldPoint(3001, 3200, 0)), locations);
+		Assert.assertEquals(List.of(false, true), inScope);
+		Assert.assertNotNull(client.getTopLevelWorldView().getScene());
+		Assert.assertNotNull(client.getWorldView(3).getScene());
+	}
+
+	@Test
+	public void testReplay_sceneBaseResolvesFishingArea() throws IOException
+	{
+		// the same local tile is open sea (2992, 3188) until the scene moves to put it in the Great Sound (1592, 3364)
+		int x = (48 << 7) + 64;
+		int y = (52 << 7) + 64;
+		byte[] log = EventLogTest.write(writer ->
+		{
+			writer.writeSceneBase(2944, 3136);
+			writer.writeTick(1, -1, x, y);
+			writer.writeSceneBase(1544, 3312);
+			writer.writeTick(2, -1, x, y);
+		});
+
+		EventBus eventBus = new EventBus();
+		EventReplayDriver driver = new EventReplayDriver(eventBus);
+		Client client = driver.getClient();
+		FishingAreaContext fishingAreaContext = new FishingAreaContext(client, eventBus);
+		ComponentManager componentManager = new ComponentManager(
+			client, eventBus, mock(OverlayManager.class), mock(InfoBoxManager.class), mock(GameEventManager.class), mock(SailingConfig.class),
+			Set.of(fishingAreaContext), new ComponentProfiler()
+		);
+		componentManager.onPluginStart();
+
+		List<Integer> ticks = new ArrayList<>();
+		List<ShoalFishingArea> entered = new ArrayList<>();
+		eventBus.register(new Object()
+		{
+			@Subscribe
+			public void onFishingAreaEntered(FishingAreaEntered e)
+			{
+				ticks.add(client.getTickCount());
+				entered.add(e.getArea());
+			}
+		});
+
+		driver.replay(new ByteArrayInputStream(log));
+
+		Assert.assertEquals(List.of(2), ticks);
+		Assert.assertEquals(List.of(ShoalFishingArea.GREAT_SOUND), entered);
+		Assert.assertEquals(ShoalFishingArea.GREAT_SOUND, fishingAreaContext.getArea());
+	}
+
+}
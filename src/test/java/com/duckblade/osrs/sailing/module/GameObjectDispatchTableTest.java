@@ -0,0 +1,87 @@
+package com.duckblade.osrs.sailing.module;
+
+import com.google.common.collect.ImmutableSet;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+import net.runelite.api.events.GameObjectDespawned;
+import net.runelite.api.events.GameObjectSpawned;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class GameObjectDispatchTableTest
+{
+
+	@Test
+	public void testGet_unknownId_returnsNull()
+	{
+		GameObjectDispatchTable table = new GameObjectDispatchTable(Collections.singletonList(listener(1, 2, 3)));
+
+		Assert.assertNull(table.get(4));
+		Assert.assertNull(table.get(0));
+	}
+
+	@Test
+	public void testGet_emptyTable_returnsNull()
+	{
+		GameObjectDispatchTable table = new GameObjectDispatchTable(Collections.emptyList());
+
+		Assert.assertNull(table.get(1));
+	}
+
+	@Test
+	public void testGet_sharedId_returnsAllListeners()
+	{
+		GameObjectSpawnListener a = listener(10, 20);
+		GameObjectSpawnListener b = listener(20, 30);
+		GameObjectDispatchTable table = new GameObjectDispatchTable(Arrays.asList(a, b));
+
+		Assert.assertArrayEquals(new GameObjectSpawnListener[]{a}, table.get(10));
+		Assert.assertArrayEquals(new GameObjectSpawnListener[]{a, b}, table.get(20));
+		Assert.assertArrayEquals(new GameObjectSpawnListener[]{b}, table.get(30));
+	}
+
+	@Test
+	public void testGet_manySequentialIds()
+	{
+		int[] ids = new int[2000];
+		for (int i = 0; i < ids.length; i++)
+		{
+			ids[i] = 50000 + i;
+		}
+
+		GameObjectSpawnListener l = listener(ids);
+		GameObjectDispatchTable table = new GameObjectDispatchTable(Collections.singletonList(l));
+
+		for (int id : ids)
+		{
+			Assert.assertArrayEquals(new GameObjectSpawnListener[]{l}, table.get(id));
+		}
+		Assert.assertNull(table.get(49999));
+		Assert.assertNull(table.get(52000));
+	}
+
+	private static GameObjectSpawnListener listener(int... ids)
+	{
+		Set<Integer> idSet = Arrays.stream(ids).boxed().collect(ImmutableSet.toImmutableSet());
+		return new GameObjectSpawnListener()
+		{
+			@Override
+			public Set<Integer> getGameObjectIds()
+			{
+				return idSet;
+			}
+
+			@Override
+			public void onGameObjectSpawned(GameObjectSpawned e)
+			{
+			}
+
+			@Override
+			public void onGameObjectDespawned(GameObjectDespawned e)
+			{
+			}
+		};
+	}
+
+}
@@ -0,0 +1,47 @@
+package com.duckblade.osrs.sailing.module;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class RollingTimingsTest
+{
+
+	@Test
+	public void testSummarize_empty()
+	{
+		Assert.assertEquals(RollingTimings.Summary.EMPTY, new RollingTimings().summarize());
+	}
+
+	@Test
+	public void testSummarize_percentiles()
+	{
+		RollingTimings timings = new RollingTimings();
+		for (int i = 100; i >= 1; i--)
+		{
+			timings.record(i);
+		}
+
+		RollingTimings.Summary summary = timings.summarize();
+		Assert.assertEquals(100, summary.getCount());
+		Assert.assertEquals(5050, summary.getTotalNanos());
+		Assert.assertEquals(50, summary.getP50Nanos());
+		Assert.assertEquals(99, summary.getP99Nanos());
+		Assert.assertEquals(100, summary.getMaxNanos());
+	}
+
+	@Test
+	public void testSummarize_windowDropsOldSamples()
+	{
+		RollingTimings timings = new RollingTimings();
+		timings.record(1_000_000);
+		for (int i = 0; i < 2048; i++)
+		{
+			timings.record(10);
+		}
+
+		RollingTimings.Summary summary = timings.summarize();
+		Assert.assertEquals(2049, summary.getCount());
+		Assert.assertEquals(10, summary.getMaxNanos());
+	}
+
+}